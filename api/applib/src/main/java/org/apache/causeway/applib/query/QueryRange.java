@@ -20,6 +20,8 @@
 
 import java.io.Serializable;
 
+import org.apache.causeway.commons.collections.Can;
+
 /**
  * To support paging of query results, specifies an offset/start instance and limits
  * the number of instances to be retrieved.
@@ -104,6 +106,21 @@ default int getEndAsInt() {
                 : Integer.MAX_VALUE;
     }
 
+    // -- SLICING
+
+    /**
+     * Returns the sub-{@link Can} of given {@code elements}, that is covered by this range,
+     * for when paging is done in memory.
+     */
+    default <T> Can<T> slice(final Can<T> elements) {
+        if(isUnconstrained()) {
+            return elements;
+        }
+        return elements.subCan(
+                (int) Math.min(getStart(), elements.size()),
+                Math.min(getEndAsInt(), elements.size()));
+    }
+
     // -- FACTORIES
 
     static QueryRange unconstrained() {
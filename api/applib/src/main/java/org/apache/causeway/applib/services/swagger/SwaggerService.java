@@ -44,4 +44,21 @@ String generateSwaggerSpec(
             final Visibility visibility,
             final Format format);
 
+    /**
+     * As per {@link #generateSwaggerSpec(Visibility, Format)}, but returned as a {@link SwaggerSpec}, also providing
+     * its gzip compressed form and an entity tag, as served by the RestfulObjects viewer.
+     *
+     * <p>
+     *     Implementations that cache their specs should override, so as to also cache the {@link SwaggerSpec}s.
+     * </p>
+     *
+     * @param visibility
+     * @param format
+     */
+    default SwaggerSpec lookupSwaggerSpec(
+            final Visibility visibility,
+            final Format format) {
+        return SwaggerSpec.of(visibility, format, generateSwaggerSpec(visibility, format));
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.swagger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * A generated OpenAPI spec, as returned by {@link SwaggerService#lookupSwaggerSpec(Visibility, Format)}; held both
+ * as text and pre-compressed (gzip), along with a strong entity tag derived from its content.
+ *
+ * @since 2.0 {@index}
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SwaggerSpec {
+
+    public static SwaggerSpec of(
+            final @NonNull Visibility visibility,
+            final @NonNull Format format,
+            final @NonNull String content) {
+        val bytes = content.getBytes(StandardCharsets.UTF_8);
+        val etag = HashUtils.tryDigest(HashAlgorithm.SHA256, bytes, 4 * 1024)
+                .valueAsNonNullElseFail()
+                .asHexString();
+        return new SwaggerSpec(visibility, format, content, gzip(bytes), etag);
+    }
+
+    private final @NonNull Visibility visibility;
+    private final @NonNull Format format;
+    private final @NonNull String content;
+
+    @Getter(AccessLevel.NONE)
+    private final @NonNull byte[] gzipped;
+
+    /**
+     * Strong entity tag (unquoted), the hex encoded SHA-256 digest of the {@link #getContent() content}.
+     */
+    private final @NonNull String etag;
+
+    /**
+     * Writes the {@link #getContent() content}, UTF-8 encoded and gzip compressed, to given {@link OutputStream}
+     * (without copying).
+     */
+    public void writeGzippedTo(final @NonNull OutputStream out) throws IOException {
+        out.write(gzipped);
+    }
+
+    public int getGzippedLength() {
+        return gzipped.length;
+    }
+
+    // -- HELPER
+
+    private static byte[] gzip(final byte[] bytes) {
+        val out = new ByteArrayOutputStream(bytes.length / 8 + 64);
+        try(val gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -18,9 +18,24 @@
  */
 package org.apache.causeway.applib.services.xmlsnapshot;
 
+import java.io.OutputStream;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.codec._DocumentFactories;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.val;
+
 /**
  * Allows an XML document to be generated capturing the data of a root entity
  * and specified related entities.
@@ -75,6 +90,31 @@ void includePathAndAnnotation(
              * Builds the Snapshot.
              */
             XmlSnapshotService.Snapshot build();
+            /**
+             * Writes the snapshot as UTF-8 encoded XML, and (unless <code>null</code>) its XSD,
+             * to the provided streams, without closing them.
+             *
+             * <p>
+             *     The default implementation serializes the documents of the {@link #build() built}
+             *     snapshot; implementations may instead stream the snapshot while traversing the
+             *     object graph, so that large snapshots need not be held in memory.
+             * </p>
+             */
+            default void writeTo(
+                    final @NonNull OutputStream xmlOut,
+                    final @Nullable OutputStream xsdOut) {
+                val snapshot = build();
+                try {
+                    val transformer = _DocumentFactories.transformer();
+                    transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+                    transformer.transform(new DOMSource(snapshot.getXmlDocument()), new StreamResult(xmlOut));
+                    if(xsdOut != null) {
+                        transformer.transform(new DOMSource(snapshot.getXsdDocument()), new StreamResult(xsdOut));
+                    }
+                } catch (TransformerException e) {
+                    throw _Exceptions.unrecoverable(e, "unable to write snapshot");
+                }
+            }
         }
     }
 
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.io.DataSink;
+import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.commons.io.DtoMapper;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes DTOs (such as {@link org.apache.causeway.schema.cmd.v2.CommandDto},
+ * {@link org.apache.causeway.schema.ixn.v2.InteractionDto} or {@link org.apache.causeway.schema.chg.v2.ChangesDto})
+ * for storage in a (character large object) database column, as used by the JDO and JPA type converters.
+ *
+ * <p>
+ *     With the {@link Format#XML} format (the default), DTOs are stored as plain XML.  With the
+ *     {@link Format#GZIP} format, the XML is gzip-compressed and then Base64 encoded, prefixed by a
+ *     {@link #GZIP_MARKER marker}; for typical command and interaction DTOs this takes up between a half and a quarter
+ *     of the space, and also reduces the amount of data sent to and from the database.
+ * </p>
+ *
+ * <p>
+ *     Decoding detects the format from the stored value itself, so that columns may contain a mix of both,
+ *     eg rows written before compression was enabled.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@UtilityClass
+public final class DtoStorageCodec {
+
+    public enum Format {
+        XML,
+        GZIP;
+    }
+
+    /**
+     * Prefix of {@link Format#GZIP} encoded values; unambiguous, as XML always starts with either
+     * white space or <code>&lt;</code>.
+     */
+    public final String GZIP_MARKER = "gz1:";
+
+    /**
+     * Encodes the given DTO using the given {@link Format format}, typically as configured.
+     */
+    @Nullable
+    public <T> String encode(
+            final @NonNull Format format,
+            final @NonNull DtoMapper<T> dtoMapper,
+            final @Nullable T dto) {
+        if(dto == null) {
+            return null;
+        }
+        switch (format) {
+        case GZIP:
+            return encodeGzip(dtoMapper, dto);
+        case XML:
+        default:
+            return dtoMapper.toString(dto);
+        }
+    }
+
+    /**
+     * Decodes the given value, in whichever {@link Format format} it was stored.
+     */
+    @Nullable
+    public <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String datastoreValue) {
+        if(datastoreValue == null) {
+            return null;
+        }
+        switch (formatOf(datastoreValue)) {
+        case GZIP:
+            return decodeGzip(dtoMapper, datastoreValue);
+        case XML:
+        default:
+            return dtoMapper.read(datastoreValue);
+        }
+    }
+
+    public Format formatOf(final @NonNull String datastoreValue) {
+        return datastoreValue.startsWith(GZIP_MARKER)
+                ? Format.GZIP
+                : Format.XML;
+    }
+
+    // -- HELPER
+
+    private <T> String encodeGzip(final DtoMapper<T> dtoMapper, final T dto) {
+        val buffer = new ByteArrayOutputStream(4 * 1024);
+        dtoMapper.write(dto, DataSink.ofOutputStreamSupplier(()->
+            new GZIPOutputStream(Base64.getEncoder().wrap(buffer), 4 * 1024) {{
+                // favor write throughput, compresses almost as well on XML
+                def.setLevel(Deflater.BEST_SPEED);
+            }}));
+        return GZIP_MARKER + new String(buffer.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    private <T> T decodeGzip(final DtoMapper<T> dtoMapper, final String datastoreValue) {
+        val base64 = datastoreValue.substring(GZIP_MARKER.length()).getBytes(StandardCharsets.ISO_8859_1);
+        return dtoMapper.read(DataSource.ofInputStreamSupplier(()->
+            new GZIPInputStream(Base64.getDecoder().wrap(new ByteArrayInputStream(base64)))));
+    }
+
+}
@@ -19,8 +19,10 @@
 package org.apache.causeway.applib.value;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
@@ -41,8 +43,9 @@
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.Value;
 import org.apache.causeway.applib.jaxb.PrimitiveJaxbAdapters;
+import org.apache.causeway.commons.functional.ThrowingSupplier;
 import org.apache.causeway.commons.functional.Try;
-import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.base._Spool;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.image._Images;
@@ -76,6 +79,14 @@
  *     </li>
  * </ul>
  *
+ * <p>
+ * The bytes are usually held in memory, but a {@link Blob} may instead be backed by a supplier of
+ * {@link InputStream}s (see {@link #ofInputStreamSupplier(String, MimeType, ThrowingSupplier, long)}
+ * and {@link #spool(String, MimeType, InputStream)}), in which case the content is only read when
+ * accessed.  Consumers able to do so should then prefer {@link #openInputStream()} or
+ * {@link #writeBytesTo(OutputStream)} over {@link #getBytes()}.
+ * </p>
+ *
  * @see Clob
  * @since 1.x {@index}
  */
@@ -134,11 +145,67 @@ public static Try<Blob> tryRead(final String name, final CommonMimeType mimeType
         return tryRead(name, mimeType, DataSource.ofFile(file));
     }
 
+    /**
+     * Returns a new {@link Blob} of given {@code name} and {@code mimeType}, whose content is not held in memory,
+     * but instead is read from a new {@link InputStream} provided by {@code content} each time it is accessed.
+     * @param name
+     * @param mimeType
+     * @param content - supplies a new {@link InputStream} on each call; its streams are closed after use
+     * @param length - number of bytes of the content, or negative if not known, in which case it is counted
+     *      (by reading through the content) when first asked for
+     * @return new {@link Blob}
+     */
+    public static Blob ofInputStreamSupplier(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull ThrowingSupplier<InputStream> content,
+            final long length) {
+        return new Blob(name, mimeType, content, length);
+    }
+
+    /**
+     * Returns a new {@link Blob} of given {@code name} and {@code mimeType}, with content read from given
+     * {@link InputStream} (to its end, but without closing it).
+     * <p>
+     * If not larger than {@code inMemoryThreshold} bytes, the content is held in memory, otherwise it is spooled
+     * to a temporary file instead, which is deleted once the resulting {@link Blob} is no longer reachable.
+     */
+    @SneakyThrows
+    public static Blob spool(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull InputStream inputStream,
+            final int inMemoryThreshold) {
+        val spooled = _Spool.spool(inputStream, inMemoryThreshold);
+        return spooled.getBytesIfInMemory()
+                .map(bytes->new Blob(name, mimeType, bytes))
+                .orElseGet(()->new Blob(name, mimeType, spooled::openInputStream, spooled.getLength()));
+    }
+
+    /**
+     * Shortcut for {@code spool(name, mimeType, inputStream, 1MiB)}
+     * @see #spool(String, MimeType, InputStream, int)
+     */
+    public static Blob spool(final String name, final MimeType mimeType, final @NonNull InputStream inputStream) {
+        return spool(name, mimeType, inputStream, _Spool.DEFAULT_IN_MEMORY_THRESHOLD);
+    }
+
      // --
 
     private final MimeType mimeType;
+    /**
+     * {@code null} if the content is not held in memory
+     */
     private final byte[] bytes;
     private final String name;
+    /**
+     * {@code null} if the content is held in memory
+     */
+    private final ThrowingSupplier<InputStream> content;
+    /**
+     * negative until known, if the content is not held in memory
+     */
+    private volatile long length;
 
     public Blob(final String name, final String primaryType, final String subtype, final byte[] bytes) {
         this(name, CommonMimeType.newMimeType(primaryType, subtype), bytes);
@@ -149,6 +216,27 @@ public Blob(final String name, final String mimeTypeBase, final byte[] bytes) {
     }
 
     public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
+        validate(name, mimeType);
+        if(bytes == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        this.name = name;
+        this.mimeType = mimeType;
+        this.bytes = bytes;
+        this.content = null;
+        this.length = bytes.length;
+    }
+
+    private Blob(final String name, final MimeType mimeType, final ThrowingSupplier<InputStream> content, final long length) {
+        validate(name, mimeType);
+        this.name = name;
+        this.mimeType = mimeType;
+        this.bytes = null;
+        this.content = content;
+        this.length = length;
+    }
+
+    private static void validate(final String name, final MimeType mimeType) {
         if(name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
@@ -158,12 +246,6 @@ public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
         if(name.contains(":")) {
             throw new IllegalArgumentException("Name cannot contain ':'");
         }
-        if(bytes == null) {
-            throw new IllegalArgumentException("Bytes cannot be null");
-        }
-        this.name = name;
-        this.mimeType = mimeType;
-        this.bytes = bytes;
     }
 
     @Override
@@ -176,8 +258,51 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * Returns the content as a byte array; if not held in memory, it is read into a new array on each call.
+     * @see #isInMemory()
+     * @see #openInputStream()
+     */
     public byte[] getBytes() {
-        return bytes;
+        return bytes != null
+                ? bytes
+                : asDataSource().bytes();
+    }
+
+    /**
+     * Whether the content is held in memory, rather than read from an {@link InputStream} when accessed.
+     */
+    public boolean isInMemory() {
+        return bytes != null;
+    }
+
+    /**
+     * Returns the number of bytes of the content, which (if not known up front) requires
+     * the content to be read through once.
+     */
+    @SneakyThrows
+    public long getLength() {
+        if(length < 0) {
+            long count = 0;
+            try(val is = openInputStream()) {
+                val buffer = new byte[16 * 1024]; int n;
+                while((n = is.read(buffer)) > -1) {
+                    count += n;
+                }
+            }
+            length = count;
+        }
+        return length;
+    }
+
+    /**
+     * Returns a new {@link InputStream} for the content, which must be closed by the caller.
+     */
+    @SneakyThrows
+    public InputStream openInputStream() {
+        return bytes != null
+                ? new ByteArrayInputStream(bytes)
+                : content.get();
     }
 
     // -- UTILITIES
@@ -200,6 +325,10 @@ public void writeBytesTo(final @Nullable OutputStream os) {
         }
         if(bytes!=null) {
             os.write(bytes);
+        } else {
+            try(val is = openInputStream()) {
+                is.transferTo(os);
+            }
         }
     }
 
@@ -229,7 +358,9 @@ public void writeTo(final @Nullable File file) {
      * @see DataSource
      */
     public DataSource asDataSource() {
-        return DataSource.ofBytes(_NullSafe.toNonNull(getBytes()));
+        return bytes != null
+                ? DataSource.ofBytes(bytes)
+                : DataSource.ofInputStreamSupplier(content);
     }
 
     /**
@@ -270,7 +401,9 @@ public Blob unZip(final @NonNull CommonMimeType resultingMimeType, final @NonNul
     // -- HASHING
 
     public Try<HashUtils.Hash> tryHash(final @NonNull HashAlgorithm hashAlgorithm) {
-        return HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024); // 4k default
+        return bytes != null
+                ? HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024) // 4k default
+                : HashUtils.tryDigest(hashAlgorithm, asDataSource(), 4*1024);
     }
 
     public String md5Hex() {
@@ -295,20 +428,50 @@ public boolean equals(final Object o) {
             return false;
         final Blob blob = (Blob) o;
         return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
-                Objects.equals(name, blob.name);
+                Objects.equals(name, blob.name) &&
+                contentEquals(blob);
     }
 
+    /**
+     * Based on the length rather than the content, so as not to have to read the latter.
+     */
     @Override
     public int hashCode() {
         int result = Objects.hash(mimeType.toString(), name);
-        result = 31 * result + Arrays.hashCode(bytes);
+        result = 31 * result + Long.hashCode(getLength());
         return result;
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getBytes().length + " bytes";
+        return getName() + " [" + getMimeType().getBaseType() + "]: " + getLength() + " bytes";
+    }
+
+    @SneakyThrows
+    private boolean contentEquals(final Blob other) {
+        if(bytes != null
+                && other.bytes != null) {
+            return Arrays.equals(bytes, other.bytes);
+        }
+        if(getLength() != other.getLength()) {
+            return false;
+        }
+        try(val is = openInputStream();
+            val otherIs = other.openInputStream()) {
+            val buffer = new byte[16 * 1024];
+            val otherBuffer = new byte[buffer.length];
+            while(true) {
+                final int n = is.readNBytes(buffer, 0, buffer.length);
+                final int otherN = otherIs.readNBytes(otherBuffer, 0, otherBuffer.length);
+                if(n != otherN
+                        || !Arrays.equals(buffer, 0, n, otherBuffer, 0, otherN)) {
+                    return false;
+                }
+                if(n < buffer.length) {
+                    return true;
+                }
+            }
+        }
     }
 
     /**
@@ -369,7 +532,7 @@ public Optional<BufferedImage> asImage() {
         }
 
         try {
-            val img = _Images.fromBytes(getBytes());
+            val img = _Images.fromBytes(bytes);
             return Optional.ofNullable(img);
         } catch (Exception e) {
             log.error("failed to read image data", e);
@@ -24,11 +24,14 @@
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 import javax.activation.MimeType;
@@ -42,7 +45,9 @@
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.Value;
 import org.apache.causeway.applib.jaxb.PrimitiveJaxbAdapters;
+import org.apache.causeway.commons.functional.ThrowingSupplier;
 import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Spool;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.io.DataSource;
 
@@ -69,6 +74,14 @@
  *     </li>
  * </ul>
  *
+ * <p>
+ * The characters are usually held in memory, but a {@link Clob} may instead be backed by a supplier of
+ * {@link Reader}s (see {@link #ofReaderSupplier(String, MimeType, ThrowingSupplier, long)}
+ * and {@link #spool(String, MimeType, Reader)}), in which case the content is only read when
+ * accessed.  Consumers able to do so should then prefer {@link #openReader()} or
+ * {@link #writeCharsTo(Writer)} over {@link #getChars()}.
+ * </p>
+ *
  * @see Blob
  * @since 1.x {@index}
  */
@@ -82,7 +95,18 @@ public final class Clob implements NamedWithMimeType {
 
     private final String name;
     private final MimeType mimeType;
+    /**
+     * {@code null} if the content is not held in memory
+     */
     private final CharSequence chars;
+    /**
+     * {@code null} if the content is held in memory
+     */
+    private final ThrowingSupplier<Reader> content;
+    /**
+     * negative until known, if the content is not held in memory
+     */
+    private volatile long length;
 
 
     // -- FACTORIES
@@ -143,6 +167,51 @@ public static Try<Clob> tryReadUtf8(final String name, final CommonMimeType mime
         return tryRead(name, mimeType, file, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Returns a new {@link Clob} of given {@code name} and {@code mimeType}, whose content is not held in memory,
+     * but instead is read from a new {@link Reader} provided by {@code content} each time it is accessed.
+     * @param name
+     * @param mimeType
+     * @param content - supplies a new {@link Reader} on each call; its readers are closed after use
+     * @param length - number of chars of the content, or negative if not known, in which case it is counted
+     *      (by reading through the content) when first asked for
+     * @return new {@link Clob}
+     */
+    public static Clob ofReaderSupplier(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull ThrowingSupplier<Reader> content,
+            final long length) {
+        return new Clob(name, mimeType, content, length);
+    }
+
+    /**
+     * Returns a new {@link Clob} of given {@code name} and {@code mimeType}, with content read from given
+     * {@link Reader} (to its end, but without closing it).
+     * <p>
+     * If not larger than {@code inMemoryThreshold} chars, the content is held in memory, otherwise it is spooled
+     * to a temporary file instead, which is deleted once the resulting {@link Clob} is no longer reachable.
+     */
+    @SneakyThrows
+    public static Clob spool(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull Reader reader,
+            final int inMemoryThreshold) {
+        val spooled = _Spool.spool(reader, inMemoryThreshold);
+        return spooled.getCharsIfInMemory()
+                .map(chars->new Clob(name, mimeType, chars))
+                .orElseGet(()->new Clob(name, mimeType, spooled::openReader, spooled.getLength()));
+    }
+
+    /**
+     * Shortcut for {@code spool(name, mimeType, reader, 1Mi)}
+     * @see #spool(String, MimeType, Reader, int)
+     */
+    public static Clob spool(final String name, final MimeType mimeType, final @NonNull Reader reader) {
+        return spool(name, mimeType, reader, _Spool.DEFAULT_IN_MEMORY_THRESHOLD);
+    }
+
     // --
 
     public Clob(final String name, final String primaryType, final String subType, final char[] chars) {
@@ -166,6 +235,27 @@ public Clob(final String name, final String mimeTypeBase, final CharSequence cha
     }
 
     public Clob(final String name, final MimeType mimeType, final CharSequence chars) {
+        validate(name, mimeType);
+        if(chars == null) {
+            throw new IllegalArgumentException("Chars cannot be null");
+        }
+        this.name = name;
+        this.mimeType = mimeType;
+        this.chars = chars;
+        this.content = null;
+        this.length = chars.length();
+    }
+
+    private Clob(final String name, final MimeType mimeType, final ThrowingSupplier<Reader> content, final long length) {
+        validate(name, mimeType);
+        this.name = name;
+        this.mimeType = mimeType;
+        this.chars = null;
+        this.content = content;
+        this.length = length;
+    }
+
+    private static void validate(final String name, final MimeType mimeType) {
         if(name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
@@ -175,12 +265,6 @@ public Clob(final String name, final MimeType mimeType, final CharSequence chars
         if(name.contains(":")) {
             throw new IllegalArgumentException("Name cannot contain ':'");
         }
-        if(chars == null) {
-            throw new IllegalArgumentException("Chars cannot be null");
-        }
-        this.name = name;
-        this.mimeType = mimeType;
-        this.chars = chars;
     }
 
     @Override
@@ -193,8 +277,51 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * Returns the content as a {@link CharSequence}; if not held in memory, it is read into a new String on each call.
+     * @see #isInMemory()
+     * @see #openReader()
+     */
     public CharSequence getChars() {
-        return chars;
+        return chars != null
+                ? chars
+                : asString();
+    }
+
+    /**
+     * Whether the content is held in memory, rather than read from a {@link Reader} when accessed.
+     */
+    public boolean isInMemory() {
+        return chars != null;
+    }
+
+    /**
+     * Returns the number of chars of the content, which (if not known up front) requires
+     * the content to be read through once.
+     */
+    @SneakyThrows
+    public long getLength() {
+        if(length < 0) {
+            long count = 0;
+            try(val reader = openReader()) {
+                val buffer = new char[16 * 1024]; int n;
+                while((n = reader.read(buffer)) > -1) {
+                    count += n;
+                }
+            }
+            length = count;
+        }
+        return length;
+    }
+
+    /**
+     * Returns a new {@link Reader} for the content, which must be closed by the caller.
+     */
+    @SneakyThrows
+    public Reader openReader() {
+        return chars != null
+                ? new StringReader(chars.toString())
+                : content.get();
     }
 
     // -- UTILITIES
@@ -215,8 +342,15 @@ public Blob toBlobUtf8() {
     }
 
     public void writeCharsTo(final Writer wr) throws IOException {
-        if(wr!=null && chars!=null){
+        if(wr==null) {
+            return;
+        }
+        if(chars!=null) {
             wr.append(chars);
+        } else {
+            try(val reader = openReader()) {
+                reader.transferTo(wr);
+            }
         }
     }
 
@@ -268,16 +402,55 @@ public boolean equals(final Object o) {
         final Clob clob = (Clob) o;
         return Objects.equals(name, clob.name) &&
                 Objects.equals(mimeType.toString(), clob.mimeType.toString()) &&
-                Objects.equals(chars, clob.chars);
+                contentEquals(clob);
     }
 
+    /**
+     * Based on the length rather than the content, so as not to have to read the latter.
+     */
     @Override public int hashCode() {
-        return Objects.hash(name, mimeType.toString(), chars);
+        return Objects.hash(name, mimeType.toString(), getLength());
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getChars().length() + " chars";
+        return getName() + " [" + getMimeType().getBaseType() + "]: " + getLength() + " chars";
+    }
+
+    @SneakyThrows
+    private boolean contentEquals(final Clob other) {
+        if(chars != null
+                && other.chars != null) {
+            return Objects.equals(chars, other.chars);
+        }
+        if(getLength() != other.getLength()) {
+            return false;
+        }
+        try(val reader = openReader();
+            val otherReader = other.openReader()) {
+            val buffer = new char[16 * 1024];
+            val otherBuffer = new char[buffer.length];
+            while(true) {
+                final int n = readFully(reader, buffer);
+                final int otherN = readFully(otherReader, otherBuffer);
+                if(n != otherN
+                        || !Arrays.equals(buffer, 0, n, otherBuffer, 0, otherN)) {
+                    return false;
+                }
+                if(n < buffer.length) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static int readFully(final Reader reader, final char[] buffer) throws IOException {
+        int total = 0, n;
+        while(total < buffer.length
+                && (n = reader.read(buffer, total, buffer.length - total)) > -1) {
+            total += n;
+        }
+        return total;
     }
 
     /**
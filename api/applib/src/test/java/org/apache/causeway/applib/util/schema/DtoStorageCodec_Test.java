@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.ParamDto;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.ValueType;
+
+import lombok.val;
+
+class DtoStorageCodec_Test {
+
+    CommandDto dto;
+
+    @BeforeEach
+    void setUp() {
+        dto = new CommandDto();
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        val target = new OidDto();
+        target.setType("simple.SimpleObject");
+        target.setId("123");
+        CommandDtoUtils.targetsFor(dto).getOid().add(target);
+
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("simple.SimpleObject#updateName");
+        for (int i = 0; i < 20; i++) {
+            val paramDto = new ParamDto();
+            paramDto.setName("param" + i);
+            paramDto.setType(ValueType.STRING);
+            paramDto.setString("value of param " + i);
+            CommandDtoUtils.parametersFor(actionDto).getParameter().add(paramDto);
+        }
+        dto.setMember(actionDto);
+    }
+
+    @Test
+    void xml_isPlainXml() {
+        val encoded = DtoStorageCodec.encode(DtoStorageCodec.Format.XML, CommandDtoUtils.dtoMapper(), dto);
+
+        assertEquals(CommandDtoUtils.dtoMapper().toString(dto), encoded);
+        assertEquals(DtoStorageCodec.Format.XML, DtoStorageCodec.formatOf(encoded));
+    }
+
+    @Test
+    void gzip_roundtrip_andSmaller() {
+        val xml = CommandDtoUtils.dtoMapper().toString(dto);
+
+        val encoded = DtoStorageCodec.encode(DtoStorageCodec.Format.GZIP, CommandDtoUtils.dtoMapper(), dto);
+
+        assertTrue(encoded.startsWith(DtoStorageCodec.GZIP_MARKER));
+        assertEquals(DtoStorageCodec.Format.GZIP, DtoStorageCodec.formatOf(encoded));
+        assertTrue(encoded.length() < xml.length() / 2, ()->encoded.length() + " vs " + xml.length());
+
+        val decoded = DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), encoded);
+        assertEquals(xml, CommandDtoUtils.dtoMapper().toString(decoded));
+    }
+
+    @Test
+    void decode_readsEitherFormat() {
+        val xml = DtoStorageCodec.encode(DtoStorageCodec.Format.XML, CommandDtoUtils.dtoMapper(), dto);
+        val gzip = DtoStorageCodec.encode(DtoStorageCodec.Format.GZIP, CommandDtoUtils.dtoMapper(), dto);
+
+        assertEquals(dto.getInteractionId(), DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), xml).getInteractionId());
+        assertEquals(dto.getInteractionId(), DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), gzip).getInteractionId());
+    }
+
+    @Test
+    void nulls() {
+        assertNull(DtoStorageCodec.encode(DtoStorageCodec.Format.GZIP, CommandDtoUtils.dtoMapper(), null));
+        assertNull(DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), null));
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.val;
+
+class Blob_spool_Test {
+
+    private byte[] bytes;
+    private String chars;
+
+    @BeforeEach
+    void setup() {
+        val rd = new Random(9999); // fixed seed - reproducible tests
+        this.bytes = new byte[16*1024];
+        rd.nextBytes(bytes);
+        this.chars = randomText(rd, 16*1024);
+    }
+
+    @Test
+    void blobBelowThreshold_isHeldInMemory() {
+        val blob = Blob.spool("name.bin", CommonMimeType.BIN.getMimeType(), new ByteArrayInputStream(bytes), bytes.length);
+        assertTrue(blob.isInMemory());
+        assertEquals(Blob.of("name.bin", CommonMimeType.BIN, bytes), blob);
+    }
+
+    @Test
+    void blobAboveThreshold_isStreamed() throws Exception {
+        val inMemory = Blob.of("name.bin", CommonMimeType.BIN, bytes);
+        val blob = Blob.spool("name.bin", CommonMimeType.BIN.getMimeType(), new ByteArrayInputStream(bytes), 1024);
+
+        assertFalse(blob.isInMemory());
+        assertEquals(bytes.length, blob.getLength());
+        assertArrayEquals(bytes, blob.getBytes());
+        assertEquals(inMemory, blob);
+        assertEquals(blob, inMemory);
+        assertEquals(inMemory.hashCode(), blob.hashCode());
+        assertEquals(inMemory.tryHash(HashAlgorithm.MD5).valueAsNonNullElseFail(),
+                blob.tryHash(HashAlgorithm.MD5).valueAsNonNullElseFail());
+
+        val out = new ByteArrayOutputStream();
+        blob.writeBytesTo(out);
+        assertArrayEquals(bytes, out.toByteArray());
+    }
+
+    @Test
+    void streamedBlobs_withDifferentContent_areNotEqual() {
+        val other = bytes.clone();
+        other[other.length - 1]++;
+        assertNotEquals(
+                Blob.spool("name.bin", CommonMimeType.BIN.getMimeType(), new ByteArrayInputStream(bytes), 1024),
+                Blob.spool("name.bin", CommonMimeType.BIN.getMimeType(), new ByteArrayInputStream(other), 1024));
+    }
+
+    @Test
+    void blobOfUnknownLength_isCountedOnDemand() {
+        val blob = Blob.ofInputStreamSupplier("name.bin", CommonMimeType.BIN.getMimeType(),
+                ()->new ByteArrayInputStream(bytes), -1);
+        assertEquals(bytes.length, blob.getLength());
+    }
+
+    @Test
+    void clobAboveThreshold_isStreamed() throws Exception {
+        val inMemory = Clob.of("name", CommonMimeType.TXT, chars);
+        val clob = Clob.spool("name.txt", CommonMimeType.TXT.getMimeType(), new StringReader(chars), 1024);
+
+        assertFalse(clob.isInMemory());
+        assertEquals(chars.length(), clob.getLength());
+        assertEquals(chars, clob.getChars().toString());
+        assertEquals(inMemory, clob);
+        assertEquals(inMemory.hashCode(), clob.hashCode());
+
+        val out = new StringWriter();
+        clob.writeCharsTo(out);
+        assertEquals(chars, out.toString());
+    }
+
+    // -- HELPER
+
+    private static String randomText(final Random rd, final int length) {
+        val sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // include some non-ASCII chars, to exercise the UTF-8 encoded spool file
+            sb.append(i % 100 == 0 ? 'ä' : (char)('a' + rd.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+}
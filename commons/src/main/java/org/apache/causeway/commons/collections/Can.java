@@ -20,6 +20,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Enumeration;
@@ -37,12 +38,12 @@
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 
@@ -146,6 +147,20 @@ default T getLastElseFail() {
         return getLast().orElseThrow(_Exceptions::noSuchElement);
     }
 
+    /**
+     * Shortcut for {@code stream().filter(predicate).findFirst()}, but without the stream pipeline.
+     * @return this Can's first element that is accepted by given {@code predicate},
+     *      or an empty Optional if no such element
+     */
+    default Optional<T> findFirst(final @NonNull Predicate<? super T> predicate) {
+        for(T element: this) {
+            if(predicate.test(element)) {
+                return Optional.of(element);
+            }
+        }
+        return Optional.empty();
+    }
+
     // -- FACTORIES
 
     /**
@@ -216,11 +231,15 @@ public static <T> Can<T> ofArray(final @Nullable T[] array) {
             return empty();
         }
 
-        val nonNullElements = Stream.of(array)
-                .filter(_NullSafe::isPresent)
-                .collect(_CanFactory.toListWithSizeUpperBound(array.length));
+        val nonNullElements = new Object[array.length];
+        int size = 0;
+        for(val element : array) {
+            if(element!=null) {
+                nonNullElements[size++] = element;
+            }
+        }
 
-        return _CanFactory.ofNonNullElements(nonNullElements);
+        return _CanFactory.ofNonNullElements(nonNullElements, size);
     }
 
 
@@ -244,11 +263,9 @@ public static <T> Can<T> ofCollection(final @Nullable Collection<T> collection)
             return empty();
         }
 
-        val nonNullElements = collection.stream()
-                .filter(_NullSafe::isPresent)
-                .collect(_CanFactory.toListWithSizeUpperBound(inputSize));
-
-        return _CanFactory.ofNonNullElements(nonNullElements);
+        return Can.<T>builder(inputSize)
+                .addAll(collection)
+                .build();
     }
 
     /**
@@ -272,14 +289,9 @@ public static <T> Can<T> ofIterable(final @Nullable Iterable<T> iterable) {
             return (Can<T>)iterable;
         }
 
-        val nonNullElements = new ArrayList<T>();
-        iterable.forEach(element->{
-            if(element!=null) {
-                nonNullElements.add(element);
-            }
-        });
-
-        return _CanFactory.ofNonNullElements(nonNullElements);
+        return Can.<T>builder()
+                .addAll(iterable)
+                .build();
     }
 
     /**
@@ -302,14 +314,11 @@ public static <T> Can<T> ofEnumeration(final @Nullable Enumeration<T> enumeratio
             return empty();
         }
 
-        val nonNullElements = new ArrayList<T>();
+        val builder = Can.<T>builder();
         while(enumeration.hasMoreElements()) {
-            val element = enumeration.nextElement();
-            if(element!=null) {
-                nonNullElements.add(element);
-            }
+            builder.add(enumeration.nextElement());
         }
-        return _CanFactory.ofNonNullElements(nonNullElements);
+        return builder.build();
     }
 
     /**
@@ -332,11 +341,9 @@ public static <T> Can<T> ofStream(final @Nullable Stream<T> stream) {
             return empty();
         }
 
-        val nonNullElements = stream
-                .filter(_NullSafe::isPresent)
-                .collect(Collectors.toCollection(()->new ArrayList<>()));
-
-        return _CanFactory.ofNonNullElements(nonNullElements);
+        val builder = Can.<T>builder();
+        stream.forEachOrdered(builder::add);
+        return builder.build();
     }
 
 //    /**
@@ -361,6 +368,88 @@ public static <T> Can<T> ofStream(final @Nullable Stream<T> stream) {
 //
 //    }
 
+    // -- BUILDER
+
+    /**
+     * Returns a new {@link Builder}, to add elements to one by one,
+     * as an alternative to collecting these into an intermediate {@link List}.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(Builder.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a new {@link Builder}, that is sized to hold {@code expectedSize} elements
+     * without growing.
+     */
+    public static <T> Builder<T> builder(final int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Mutable (and not thread-safe) builder of {@link Can}s.
+     * <p>
+     * <b>NOTE:</b> Any elements equal to {@code null} are ignored and will not be contained in the resulting {@code Can}.
+     * <p>
+     * Building reuses the empty and singleton {@link Can}s and hands over the builder's elements
+     * without copying these, if the builder was sized exactly. The builder can be added to and built again,
+     * without affecting any {@link Can}s built before.
+     *
+     * @param <T>
+     * @since 2.0 {@index}
+     */
+    public final class Builder<T> {
+
+        private static final int DEFAULT_CAPACITY = 8;
+
+        private Object[] elements;
+        private int size;
+        private boolean shared; // whether elements were handed over to a Can
+
+        private Builder(final int initialCapacity) {
+            this.elements = new Object[Math.max(0, initialCapacity)];
+        }
+
+        public Builder<T> add(final @Nullable T element) {
+            if(element==null) {
+                return this;
+            }
+            if(shared
+                    || size==elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size + (size >> 1) + 1));
+                shared = false;
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        public Builder<T> addAll(final @Nullable Iterable<? extends T> iterable) {
+            if(iterable!=null) {
+                iterable.forEach(this::add);
+            }
+            return this;
+        }
+
+        private Builder<T> addAll(final @NonNull Builder<T> other) {
+            for(int i=0; i<other.size; ++i) {
+                add(_Casts.uncheckedCast(other.elements[i]));
+            }
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Can<T> build() {
+            if(size==elements.length) {
+                shared = true;
+            }
+            return _CanFactory.ofNonNullElements(elements, size);
+        }
+
+    }
+
     // -- OPERATORS
 
     /**
@@ -419,13 +508,9 @@ default <R> Can<R> map(final @NonNull Function<? super T, R> mapper) {
             return empty();
         }
 
-        val nonNullMappedElements =
-                stream()
-                .map(mapper)
-                .filter(_NullSafe::isPresent)
-                .collect(_CanFactory.toListWithSizeUpperBound(size()));
-
-        return _CanFactory.ofNonNullElements(nonNullMappedElements);
+        val builder = Can.<R>builder(size());
+        forEach(element->builder.add(mapper.apply(element)));
+        return builder.build();
     }
 
     default <R> Can<R> flatMap(final @NonNull Function<? super T, ? extends Can<? extends R>> mapper) {
@@ -434,12 +519,14 @@ default <R> Can<R> flatMap(final @NonNull Function<? super T, ? extends Can<? ex
             return empty();
         }
 
-        return
-                stream()
-                .map(mapper)
-                .filter(_NullSafe::isPresent)
-                .flatMap(Can::stream)
-                .collect(Can.toCan());
+        val builder = Can.<R>builder(size());
+        forEach(element->{
+            val mapped = mapper.apply(element);
+            if(mapped!=null) {
+                mapped.forEach(builder::add);
+            }
+        });
+        return builder.build();
     }
 
     /**
@@ -472,10 +559,7 @@ public static <T> Can<T> concat(final @Nullable Can<T> can, final @Nullable T el
             return can;
         }
         // at this point: can is not empty and variant is not null
-        val newSize = can.size() + 1;
-        val union = can.stream().collect(Collectors.toCollection(()->new ArrayList<>(newSize)));
-        union.add(element);
-        return Can_Multiple.of(union);
+        return can.add(element);
     }
 
     // -- TRAVERSAL
@@ -777,9 +861,11 @@ default boolean isCardinalityMultiple() {
     public static <T>
     Collector<T, ?, Can<T>> toCan() {
 
-        return Collectors.collectingAndThen(
-                Collectors.toList(),
-                Can::ofCollection);
+        return Collector.<T, Builder<T>, Can<T>>of(
+                Can::builder,
+                Builder::add,
+                Builder::addAll,
+                Builder::build);
     }
 
     // -- CONVERSIONS
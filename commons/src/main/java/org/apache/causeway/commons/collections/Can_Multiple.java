@@ -19,13 +19,14 @@
 package org.apache.causeway.commons.collections;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -33,9 +34,9 @@
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -48,24 +49,38 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 
-@RequiredArgsConstructor(staticName="of")
+/**
+ * Backed by an array, that is never shared with the outside world, hence operations that do not modify
+ * the elements (eg. {@link #toList()}) do not need to copy these, and operations that do, copy these exactly once.
+ */
 final class Can_Multiple<T> implements Can<T> {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    private final Object[] elements;
 
-    private final List<T> elements;
+    private Can_Multiple(final Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @param nonNullElements - at least 2, not containing <code>null</code>, not shared with anyone else
+     * @implNote no checks for optimization (package internal use only)
+     */
+    static <T> Can_Multiple<T> ofArray(final Object[] nonNullElements) {
+        return new Can_Multiple<>(nonNullElements);
+    }
 
     @Override
     public Optional<T> getFirst() {
-        return Optional.of(elements.get(0));
+        return Optional.of(at(0));
     }
 
     @Override
     public Optional<T> getLast() {
-        return Optional.of(elements.get(size()-1));
+        return Optional.of(at(elements.length-1));
     }
 
     @Override
@@ -75,12 +90,12 @@ public Cardinality getCardinality() {
 
     @Override
     public Stream<T> stream() {
-        return elements.stream();
+        return _Casts.uncheckedCast(Arrays.stream(elements));
     }
 
     @Override
     public Stream<T> parallelStream() {
-        return elements.parallelStream();
+        return stream().parallel();
     }
 
     @Override
@@ -90,7 +105,7 @@ public Optional<T> getSingleton() {
 
     @Override
     public int size() {
-        return elements.size();
+        return elements.length;
     }
 
     @Override
@@ -98,63 +113,88 @@ public boolean contains(final @Nullable T element) {
         if(element==null) {
             return false; // Can's dont't contain null
         }
-        return elements.contains(element);
+        return indexOf(element)>=0;
     }
 
     @Override
     public Optional<T> get(final int elementIndex) {
         // we do an index out of bounds check ourselves, in order to prevent any stack-traces,
         // that pollute the heap
-        val size = size();
-        if(size==0) {
+        if(elementIndex < 0 ||  elementIndex >= elements.length) {
             return Optional.empty();
         }
-        val minIndex = 0;
-        val maxIndex = size - 1;
-        if(elementIndex < minIndex ||  elementIndex > maxIndex) {
-            return Optional.empty();
+        return Optional.of(at(elementIndex));
+    }
+
+    @Override
+    public T getElseFail(final int elementIndex) {
+        if(elementIndex < 0 ||  elementIndex >= elements.length) {
+            throw _Exceptions.noSuchElement("no element with elementIndex = %d", elementIndex);
+        }
+        return at(elementIndex);
+    }
+
+    @Override
+    public Optional<T> findFirst(final @NonNull Predicate<? super T> predicate) {
+        for(int i=0; i<elements.length; ++i) {
+            val element = this.<T>at(i);
+            if(predicate.test(element)) {
+                return Optional.of(element);
+            }
         }
-        return Optional.of(elements.get(elementIndex));
+        return Optional.empty();
     }
 
     @Override
     public Can<T> sorted(final @NonNull Comparator<? super T> c) {
-        val newElements = _Lists.<T>newArrayList(elements);
-        newElements.sort(c);
-        return Can_Multiple.of(newElements);
+        val newElements = elements.clone();
+        Arrays.sort(newElements, _Casts.<Comparator<Object>>uncheckedCast(c));
+        return new Can_Multiple<>(newElements);
     }
 
     @Override
     public Can<T> distinct() {
-        val set = new LinkedHashSet<T>(); // preserve order
-        set.addAll(elements);
-        return Can.ofCollection(set);
+        val set = new LinkedHashSet<Object>(); // preserve order
+        for(val element : elements) {
+            set.add(element);
+        }
+        return set.size()==elements.length
+                ? this // identity
+                : _CanFactory.ofNonNullElements(set.toArray());
     }
 
     @Override
     public Can<T> distinct(final @NonNull BiPredicate<T, T> equality) {
-        final int initialSize = Math.min(1024, elements.size());
-        val uniqueElements = _Lists.<T>newArrayList(initialSize);
-        elements
-        .forEach(element->{
-            if(!uniqueElements.stream().anyMatch(x->equality.test(x, element))) {
-                uniqueElements.add(element);
+        val uniqueElements = new Object[elements.length];
+        int uniqueCount = 0;
+        for(int i=0; i<elements.length; ++i) {
+            val element = this.<T>at(i);
+            boolean isDuplicate = false;
+            for(int j=0; j<uniqueCount; ++j) {
+                if(equality.test(_Casts.uncheckedCast(uniqueElements[j]), element)) {
+                    isDuplicate = true;
+                    break;
+                }
             }
-        });
-        return _CanFactory.ofNonNullElements(uniqueElements);
+            if(!isDuplicate) {
+                uniqueElements[uniqueCount++] = element;
+            }
+        }
+        return uniqueCount==elements.length
+                ? this // identity
+                : _CanFactory.ofNonNullElements(uniqueElements, uniqueCount);
     }
 
     @Override
     public Iterator<T> iterator(final int skip, final int limit) {
-        return Collections.unmodifiableList(elements).stream()
-            .skip(skip)
-            .limit(limit)
-            .iterator();
+        final int start = Math.max(0, skip);
+        final int end = (int) Math.min(elements.length, (long) start + Math.max(0, limit));
+        return new ArrayIterator<>(elements, start, end);
     }
 
     @Override
     public Iterator<T> iterator() {
-        return Collections.unmodifiableList(elements).iterator();
+        return new ArrayIterator<>(elements, 0, elements.length);
     }
 
     @Override
@@ -164,30 +204,35 @@ public Iterator<T> reverseIterator() {
             @Override public boolean hasNext() { return remainingCount>0; }
             @Override public T next() {
                 if(!hasNext()) { throw _Exceptions.noSuchElement(); }
-                return elements.get(--remainingCount);
+                return at(--remainingCount);
             }
         };
     }
 
     @Override
     public Can<T> reverse() {
-        val reverse = new ArrayList<T>(elements.size());
-        for(int i=elements.size()-1; i>=0; --i) {
-            reverse.add(elements.get(i));
+        final int n = elements.length;
+        val reverse = new Object[n];
+        for(int i=0; i<n; ++i) {
+            reverse[i] = elements[n-1-i];
         }
-        return Can_Multiple.of(reverse);
+        return new Can_Multiple<>(reverse);
     }
 
     @Override
     public Can<T> reduce(final @NonNull BinaryOperator<T> accumulator) {
-        return this.stream().reduce(accumulator)
-                .map(singleton->(Can<T>)Can_Singleton.of(singleton))
-                .orElseGet(Can::empty);
+        T result = at(0);
+        for(int i=1; i<elements.length; ++i) {
+            result = accumulator.apply(result, at(i));
+        }
+        return Can.ofSingleton(result);
     }
 
     @Override
     public void forEach(final @NonNull Consumer<? super T> action) {
-        elements.forEach(action);
+        for(int i=0; i<elements.length; ++i) {
+            action.accept(at(i));
+        }
     }
 
     @Override
@@ -195,25 +240,40 @@ public Can<T> filter(final @Nullable Predicate<? super T> predicate) {
         if(predicate==null) {
             return this; // identity
         }
-        val filteredElements =
-                stream()
-                .filter(predicate)
-                .collect(Collectors.toCollection(ArrayList::new));
-
+        val filteredElements = new Object[elements.length];
+        int filteredCount = 0;
+        for(int i=0; i<elements.length; ++i) {
+            val element = this.<T>at(i);
+            if(predicate.test(element)) {
+                filteredElements[filteredCount++] = element;
+            }
+        }
         // optimization for the case when the filter accepted all
-        if(filteredElements.size()==size()) {
+        if(filteredCount==elements.length) {
             return this; // identity
         }
-        return Can.ofCollection(filteredElements);
+        return _CanFactory.ofNonNullElements(filteredElements, filteredCount);
     }
 
+    @Override
+    public <R> Can<R> map(final @NonNull Function<? super T, R> mapper) {
+        val mappedElements = new Object[elements.length];
+        int mappedCount = 0;
+        for(int i=0; i<elements.length; ++i) {
+            val mapped = mapper.apply(at(i));
+            if(mapped!=null) {
+                mappedElements[mappedCount++] = mapped;
+            }
+        }
+        return _CanFactory.ofNonNullElements(mappedElements, mappedCount);
+    }
 
     @Override
     public <R> void zip(final @NonNull Iterable<R> zippedIn, final @NonNull BiConsumer<? super T, ? super R> action) {
         val zippedInIterator = zippedIn.iterator();
-        stream().forEach(t->{
-            action.accept(t, zippedInIterator.next());
-        });
+        for(int i=0; i<elements.length; ++i) {
+            action.accept(at(i), zippedInIterator.next());
+        }
     }
 
     @Override
@@ -224,9 +284,12 @@ public <R, Z> Can<R> zipMap(final @NonNull Iterable<Z> zippedIn, final @NonNull
 
     @Override
     public Can<T> add(final @Nullable T element) {
-        return element!=null
-                ? Can.ofStream(Stream.concat(elements.stream(), Stream.of(element))) // append
-                : this;
+        if(element==null) {
+            return this; // identity
+        }
+        val newElements = Arrays.copyOf(elements, elements.length + 1); // append
+        newElements[elements.length] = element;
+        return new Can_Multiple<>(newElements);
     }
 
     @Override
@@ -235,10 +298,12 @@ public Can<T> addAll(final @Nullable Can<T> other) {
                 || other.isEmpty()) {
             return this;
         }
-        val newElements = new ArrayList<T>(this.size() + other.size());
-        newElements.addAll(elements);
-        other.forEach(newElements::add);
-        return Can_Multiple.of(newElements);
+        val newElements = Arrays.copyOf(elements, elements.length + other.size());
+        int i = elements.length;
+        for(val element : other) {
+            newElements[i++] = element;
+        }
+        return new Can_Multiple<>(newElements);
     }
 
     @Override
@@ -246,9 +311,14 @@ public Can<T> add(final int index, final @Nullable T element) {
         if(element==null) {
             return this; // identity
         }
-        val newElements = new ArrayList<T>(elements);
-        newElements.add(index, element);
-        return Can.ofCollection(newElements);
+        if(index<0 || index>elements.length) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+elements.length);
+        }
+        val newElements = new Object[elements.length + 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        newElements[index] = element;
+        System.arraycopy(elements, index, newElements, index + 1, elements.length - index);
+        return new Can_Multiple<>(newElements);
     }
 
     @Override
@@ -256,16 +326,19 @@ public Can<T> replace(final int index, final @Nullable T element) {
         if(element==null) {
             return remove(index);
         }
-        val newElements = new ArrayList<T>(elements);
-        newElements.set(index, element);
-        return Can.ofCollection(newElements);
+        Objects.checkIndex(index, elements.length);
+        val newElements = elements.clone();
+        newElements[index] = element;
+        return new Can_Multiple<>(newElements);
     }
 
     @Override
     public Can<T> remove(final int index) {
-        val newElements = new ArrayList<T>(elements);
-        newElements.remove(index);
-        return Can.ofCollection(newElements);
+        Objects.checkIndex(index, elements.length);
+        val newElements = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+        return _CanFactory.ofNonNullElements(newElements);
     }
 
     @Override
@@ -273,9 +346,10 @@ public Can<T> remove(final @Nullable T element) {
         if(element==null) {
             return this; // identity
         }
-        val newElements = new ArrayList<T>(elements);
-        newElements.remove(element);
-        return Can.ofCollection(newElements);
+        val index = indexOf(element);
+        return index<0
+                ? this // identity
+                : remove(index);
     }
 
     @Override
@@ -284,15 +358,15 @@ public Can<T> pickByIndex(final @Nullable int... indices) {
                 ||indices.length==0) {
             return Can.empty();
         }
-        val newElements = new ArrayList<T>(indices.length);
-        final int maxIndex = size()-1;
+        val newElements = new Object[indices.length];
+        int pickCount = 0;
         for(int index:indices) {
             if(index>=0
-                    && index<=maxIndex) {
-                newElements.add(elements.get(index));
+                    && index<elements.length) {
+                newElements[pickCount++] = elements[index];
             }
         }
-        return Can.ofCollection(newElements);
+        return _CanFactory.ofNonNullElements(newElements, pickCount);
     }
 
     @Override
@@ -300,19 +374,16 @@ public Can<T> pickByIndex(final @Nullable IntStream intStream) {
         if(intStream==null) {
             return Can.empty();
         }
-        val newElements = new ArrayList<T>();
-        final int maxIndex = size()-1;
+        val builder = Can.<T>builder();
         intStream
-        .filter(index->index>=0 && index<=maxIndex)
-        .forEach(index->{
-            newElements.add(elements.get(index));
-        });
-        return _CanFactory.ofNonNullElements(newElements);
+        .filter(index->index>=0 && index<elements.length)
+        .forEach(index->builder.add(at(index)));
+        return builder.build();
     }
 
     @Override
     public Can<T> subCan(final int startInclusive) {
-        return pickByIndex(IntStream.range(startInclusive, size()));
+        return subCan(startInclusive, elements.length);
     }
 
     @Override
@@ -320,10 +391,17 @@ public Can<T> subCan(final int startInclusive, final int endExclusive) {
         final int upperBoundExclusive = endExclusive < 0
                 ? size() + endExclusive
                 : endExclusive;
-        if (startInclusive >= upperBoundExclusive) {
+        // out of bounds picking is simply ignored
+        final int from = Math.max(0, startInclusive);
+        final int to = Math.min(elements.length, upperBoundExclusive);
+        if (from >= to) {
             return Can.empty();
         }
-        return pickByIndex(IntStream.range(startInclusive, upperBoundExclusive));
+        if(from==0
+                && to==elements.length) {
+            return this; // identity
+        }
+        return _CanFactory.ofNonNullElements(Arrays.copyOfRange(elements, from, to));
     }
 
     @Override
@@ -333,9 +411,9 @@ public Can<Can<T>> partitionInnerBound(final int maxInnerSize) {
         }
         final int n = size();
         final int subCanCount = (n - 1)/maxInnerSize + 1;
-        val newElements = new ArrayList<Can<T>>(subCanCount);
-        for(int i=0; i<n; i+=maxInnerSize) {
-            newElements.add(subCan(i, i + maxInnerSize)); // index overflow is ignored
+        val newElements = new Object[subCanCount];
+        for(int i=0, j=0; i<n; i+=maxInnerSize) {
+            newElements[j++] = subCan(i, i + maxInnerSize); // index overflow is ignored
         }
         return _CanFactory.ofNonNullElements(newElements);
     }
@@ -352,14 +430,26 @@ public Can<Can<T>> partitionOuterBound(final int outerSizeYield) {
 
     @Override
     public int indexOf(final @Nullable T element) {
-        return this.elements.indexOf(element);
+        if(element==null) {
+            return -1; // Can's dont't contain null
+        }
+        for(int i=0; i<elements.length; ++i) {
+            if(element.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
     public String toString() {
-        val literal = stream()
-                .map(s->""+s)
-                .collect(Collectors.joining(", "));
+        val literal = new StringBuilder();
+        for(int i=0; i<elements.length; ++i) {
+            if(i>0) {
+                literal.append(", ");
+            }
+            literal.append(elements[i]);
+        }
         return "Can["+literal+"]";
     }
 
@@ -373,7 +463,7 @@ public boolean equals(final Object obj) {
 
     @Override
     public int hashCode() {
-        return elements.hashCode();
+        return Arrays.hashCode(elements); // same as List.hashCode()
     }
 
     @Override
@@ -387,7 +477,7 @@ public int compareTo(final @Nullable Can<T> other) {
         }
         if(other.isCardinalityOne()) {
             final int firstElementComparison = _Objects.compareNonNull(
-                    this.elements.get(0),
+                    this.at(0),
                     other.getSingletonOrFail());
             if(firstElementComparison!=0) {
                 return firstElementComparison;
@@ -425,26 +515,27 @@ public int compareTo(final @Nullable Can<T> other) {
 
     @Override
     public List<T> toList() {
-        return Collections.unmodifiableList(elements); // serializable and immutable
+        return Collections.unmodifiableList(_Casts.<List<T>>uncheckedCast(Arrays.asList(elements))); // serializable and immutable
     }
 
     @Override
     public List<T> toArrayList() {
-        return _Lists.newArrayList(elements);
+        val list = _Lists.<T>newArrayList(elements.length);
+        forEach(list::add);
+        return list;
     }
 
     @Override
     public Set<T> toSet() {
         val set = _Sets.<T>newHashSet(); // serializable
-        elements.forEach(set::add);
+        forEach(set::add);
         return Collections.unmodifiableSet(set); // serializable and immutable
     }
 
     @Override
     public Set<T> toSet(final @NonNull Consumer<T> onDuplicated) {
         val set = _Sets.<T>newHashSet(); // serializable
-        elements
-        .forEach(s->{
+        forEach(s->{
             if(!set.add(s)) {
                 onDuplicated.accept(s);
             }
@@ -455,14 +546,39 @@ public Set<T> toSet(final @NonNull Consumer<T> onDuplicated) {
     @Override
     public <C extends Collection<T>> C toCollection(final @NonNull Supplier<C> collectionFactory) {
         val collection = collectionFactory.get();
-        collection.addAll(elements);
+        forEach(collection::add);
         return collection;
     }
 
     @Override
     public T[] toArray(final @NonNull Class<T> elementType) {
         val array = _Casts.<T[]>uncheckedCast(Array.newInstance(elementType, size()));
-        return elements.toArray(array);
+        System.arraycopy(elements, 0, array, 0, elements.length);
+        return array;
+    }
+
+    // -- HELPER
+
+    private <X> X at(final int index) {
+        return _Casts.uncheckedCast(elements[index]);
+    }
+
+    private static final class ArrayIterator<T> implements Iterator<T> {
+        private final Object[] elements;
+        private final int end;
+        private int next;
+
+        ArrayIterator(final Object[] elements, final int start, final int end) {
+            this.elements = elements;
+            this.next = start;
+            this.end = end;
+        }
+
+        @Override public boolean hasNext() { return next<end; }
+        @Override public T next() {
+            if(!hasNext()) { throw _Exceptions.noSuchElement(); }
+            return _Casts.uncheckedCast(elements[next++]);
+        }
     }
 
 }
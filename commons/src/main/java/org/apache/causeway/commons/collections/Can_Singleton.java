@@ -19,7 +19,7 @@
 package org.apache.causeway.commons.collections;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,6 +33,7 @@
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -159,6 +160,18 @@ public Can<T> filter(final @Nullable Predicate<? super T> predicate) {
                 : Can.empty();
     }
 
+    @Override
+    public <R> Can<R> map(final @NonNull Function<? super T, R> mapper) {
+        return Can.ofNullable(mapper.apply(element));
+    }
+
+    @Override
+    public Optional<T> findFirst(final @NonNull Predicate<? super T> predicate) {
+        return predicate.test(element)
+                ? getSingleton()
+                : Optional.empty();
+    }
+
     @Override
     public <R> void zip(final Iterable<R> zippedIn, final BiConsumer<? super T, ? super R> action) {
         action.accept(element, zippedIn.iterator().next());
@@ -172,7 +185,7 @@ public <R, Z> Can<R> zipMap(final Iterable<Z> zippedIn, final BiFunction<? super
     @Override
     public Can<T> add(final @Nullable T element) {
         return element!=null
-                ? Can.ofStream(Stream.of(this.element, element)) // append
+                ? Can_Multiple.ofArray(new Object[] {this.element, element}) // append
                 : this;
     }
 
@@ -185,9 +198,12 @@ public Can<T> addAll(final @Nullable Can<T> other) {
         if(other.isCardinalityOne()) {
             return add(other.getSingleton().orElseThrow(_Exceptions::unexpectedCodeReach));
         }
-        val newElements = new ArrayList<T>(other.size()+1);
-        newElements.add(element);
-        other.forEach(newElements::add);
+        val newElements = new Object[other.size()+1];
+        newElements[0] = element;
+        int i = 1;
+        for(val otherElement : other) {
+            newElements[i++] = otherElement;
+        }
         return _CanFactory.ofNonNullElements(newElements);
     }
 
@@ -197,10 +213,10 @@ public Can<T> add(final int index, final @Nullable T element) {
             return this; // no-op
         }
         if(index==0) {
-            return Can.ofStream(Stream.of(element, this.element)); // insert before
+            return Can_Multiple.ofArray(new Object[] {element, this.element}); // insert before
         }
         if(index==1) {
-            return Can.ofStream(Stream.of(this.element, element)); // append
+            return Can_Multiple.ofArray(new Object[] {this.element, element}); // append
         }
         throw new IndexOutOfBoundsException(
                 "cannot add to singleton with index other than 0 or 1; got " + index);
@@ -252,10 +268,8 @@ public Can<T> pickByIndex(final @Nullable int... indices) {
         if(pickCount==1) {
             return this;
         }
-        val newElements = new ArrayList<T>(pickCount);
-        for(int i=0; i<pickCount; i++) {
-            newElements.add(element);
-        }
+        val newElements = new Object[pickCount];
+        Arrays.fill(newElements, element);
         return _CanFactory.ofNonNullElements(newElements);
     }
 
@@ -275,10 +289,8 @@ public Can<T> pickByIndex(final @Nullable IntStream intStream) {
             throw _Exceptions.illegalArgument("pickCount %d is too large to fit into an int", pickCountL);
         }
         final int pickCount = (int) pickCountL;
-        val newElements = new ArrayList<T>(pickCount);
-        for(int i=0; i<pickCount; i++) {
-            newElements.add(element);
-        }
+        val newElements = new Object[pickCount];
+        Arrays.fill(newElements, element);
         return _CanFactory.ofNonNullElements(newElements);
     }
 
@@ -18,9 +18,9 @@
  */
 package org.apache.causeway.commons.collections;
 
-import java.util.ArrayList;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+
+import org.apache.causeway.commons.internal.base._Casts;
 
 import lombok.experimental.UtilityClass;
 
@@ -34,36 +34,34 @@
 
     /**
      * @param <T> element type
-     * @param nonNullElements - not containing <code>null</code>
+     * @param nonNullElements - not containing <code>null</code>, not shared with anyone else
      * @implNote no non-null checks for optimization (package internal use only)
      */
-    <T> Can<T> ofNonNullElements(final ArrayList<T> nonNullElements) {
+    <T> Can<T> ofNonNullElements(final Object[] nonNullElements) {
+        return ofNonNullElements(nonNullElements, nonNullElements.length);
+    }
 
-        if(nonNullElements.isEmpty()) {
-            return Can.empty();
-        }
+    /**
+     * @param <T> element type
+     * @param nonNullElements - not containing <code>null</code> within the first {@code size} slots,
+     *      not shared with anyone else
+     * @param size - number of leading slots in use
+     * @implNote no non-null checks for optimization (package internal use only);
+     *      reuses the empty and singleton {@link Can}s, copies only if there are unused slots
+     */
+    <T> Can<T> ofNonNullElements(final Object[] nonNullElements, final int size) {
 
-        if(nonNullElements.size()==1) {
-            return Can.ofSingleton(nonNullElements.get(0));
+        if(size==0) {
+            return Can.empty();
         }
 
-        // let's be heap friendly, ignore below a certain threshold
-        if(nonNullElements.size()>32) {
-            nonNullElements.trimToSize();
+        if(size==1) {
+            return Can_Singleton.of(_Casts.<T>uncheckedCast(nonNullElements[0]));
         }
 
-        return Can_Multiple.of(nonNullElements);
-    }
-
-    <T> ArrayList<T> arrayListWithSizeUpperBound(final int maxSize) {
-        // this is just an optimization, to pre-allocate a reasonable list size,
-        // specifically targeted at small list sizes
-        return new ArrayList<T>(Math.min(maxSize, 1024));
-    }
-
-    <T> Collector<T, ?, ArrayList<T>> toListWithSizeUpperBound(final int maxSize) {
-        return Collectors.toCollection(()->
-                _CanFactory.arrayListWithSizeUpperBound(maxSize));
+        return Can_Multiple.ofArray(size==nonNullElements.length
+                ? nonNullElements
+                : Arrays.copyOf(nonNullElements, size));
     }
 
 }
@@ -0,0 +1,193 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.base;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Reads content into memory, as long as it does not exceed a given threshold, otherwise spools it
+ * to a temporary file instead. The file is deleted once the spooled content is no longer reachable.
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ *
+ * @since 2.0
+ */
+@UtilityClass
+public class _Spool {
+
+    /**
+     * 1 MiB
+     */
+    public static final int DEFAULT_IN_MEMORY_THRESHOLD = 1024 * 1024;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    // -- BYTES
+
+    /**
+     * Binary content, either held in memory or in a temporary file.
+     */
+    public static final class SpooledBytes {
+        private final byte[] bytes;
+        private final File file;
+        @Getter private final long length;
+
+        private SpooledBytes(final byte[] bytes, final File file, final long length) {
+            this.bytes = bytes;
+            this.file = file;
+            this.length = length;
+        }
+
+        public Optional<byte[]> getBytesIfInMemory() {
+            return Optional.ofNullable(bytes);
+        }
+
+        public InputStream openInputStream() throws IOException {
+            return bytes != null
+                    ? new ByteArrayInputStream(bytes)
+                    : new FileInputStream(file);
+        }
+    }
+
+    /**
+     * Reads the given {@link InputStream} to its end, without closing it.
+     */
+    public SpooledBytes spool(final @NonNull InputStream inputStream, final int inMemoryThreshold) throws IOException {
+        val buffer = new byte[BUFFER_SIZE];
+        val inMemory = new ByteArrayOutputStream(Math.min(inMemoryThreshold, BUFFER_SIZE));
+        int n;
+        while((n = inputStream.read(buffer)) > -1) {
+            inMemory.write(buffer, 0, n);
+            if(inMemory.size() > inMemoryThreshold) {
+                val file = createTempFile();
+                long length = inMemory.size();
+                try(val os = new FileOutputStream(file)) {
+                    inMemory.writeTo(os);
+                    while((n = inputStream.read(buffer)) > -1) {
+                        os.write(buffer, 0, n);
+                        length += n;
+                    }
+                } catch (IOException e) {
+                    file.delete();
+                    throw e;
+                }
+                val spooled = new SpooledBytes(null, file, length);
+                // the file lives as long as the spooled content does
+                CLEANER.register(spooled, file::delete);
+                return spooled;
+            }
+        }
+        val bytes = inMemory.toByteArray();
+        return new SpooledBytes(bytes, null, bytes.length);
+    }
+
+    // -- CHARACTERS
+
+    /**
+     * Character content, either held in memory or (UTF-8 encoded) in a temporary file.
+     */
+    public static final class SpooledChars {
+        private final String chars;
+        private final File file;
+        @Getter private final long length;
+
+        private SpooledChars(final String chars, final File file, final long length) {
+            this.chars = chars;
+            this.file = file;
+            this.length = length;
+        }
+
+        public Optional<String> getCharsIfInMemory() {
+            return Optional.ofNullable(chars);
+        }
+
+        public Reader openReader() throws IOException {
+            return chars != null
+                    ? new StringReader(chars)
+                    : new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the given {@link Reader} to its end, without closing it.
+     */
+    public SpooledChars spool(final @NonNull Reader reader, final int inMemoryThreshold) throws IOException {
+        val buffer = new char[BUFFER_SIZE];
+        val inMemory = new StringBuilder(Math.min(inMemoryThreshold, BUFFER_SIZE));
+        int n;
+        while((n = reader.read(buffer)) > -1) {
+            inMemory.append(buffer, 0, n);
+            if(inMemory.length() > inMemoryThreshold) {
+                val file = createTempFile();
+                long length = inMemory.length();
+                try(val writer = newUtf8Writer(file)) {
+                    writer.append(inMemory);
+                    while((n = reader.read(buffer)) > -1) {
+                        writer.write(buffer, 0, n);
+                        length += n;
+                    }
+                } catch (IOException e) {
+                    file.delete();
+                    throw e;
+                }
+                val spooled = new SpooledChars(null, file, length);
+                // the file lives as long as the spooled content does
+                CLEANER.register(spooled, file::delete);
+                return spooled;
+            }
+        }
+        val chars = inMemory.toString();
+        return new SpooledChars(chars, null, chars.length());
+    }
+
+    // -- HELPER
+
+    private File createTempFile() throws IOException {
+        return File.createTempFile("causeway-spool", ".tmp");
+    }
+
+    private Writer newUtf8Writer(final File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+    }
+
+}
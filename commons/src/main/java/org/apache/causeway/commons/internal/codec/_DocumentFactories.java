@@ -25,6 +25,7 @@
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
@@ -88,6 +89,15 @@ public XMLInputFactory xmlInputFactory() {
         return xmlInputFactory;
     }
 
+    public XMLOutputFactory xmlOutputFactory() {
+        val xmlOutputFactory = XMLOutputFactory.newInstance();
+
+        // namespaces are declared explicitly by the writer
+        xmlOutputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, false);
+
+        return xmlOutputFactory;
+    }
+
     public SAXBuilder saxBuilder() {
         /*sonar-ignore-on*/
         val builder = new SAXBuilder();
@@ -19,6 +19,9 @@
 package org.apache.causeway.commons.collections;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.stream.Stream;
@@ -27,6 +30,8 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.commons.internal.collections._Sets;
@@ -388,6 +393,63 @@ void subCan_biArg_multiCan() {
         assertEquals(Can.empty(), origin.subCan(4, 4));
     }
 
+    // -- BUILDER
+
+    @Test
+    void builder_ignoresNulls_andReusesEmptyAndSingleton() {
+        assertSame(Can.empty(), Can.<String>builder().add(null).build());
+        assertEquals(Cardinality.ONE, Can.<String>builder().add("a").add(null).build().getCardinality());
+        assertEquals(Can.of("a", "b", "c"), Can.<String>builder(1).add("a").add(null).add("b").add("c").build());
+    }
+
+    @Test
+    void builder_whenBuiltTwice_doesNotAffectPreviouslyBuiltCan() {
+        val builder = Can.<String>builder(2).add("a").add("b");
+        val first = builder.build();
+        val second = builder.add("c").build();
+        assertEquals(Can.of("a", "b"), first);
+        assertEquals(Can.of("a", "b", "c"), second);
+    }
+
+    @Test
+    void multiCan_toList_isUnmodifiable() {
+        val list = Can.of("a", "b").toList();
+        assertEquals(2, list.size());
+        assertThrows(UnsupportedOperationException.class, ()->list.add("c"));
+        _SerializationTester.assertEqualsOnRoundtrip((Serializable) list);
+    }
+
+    @Test
+    void toCan_collectsInOrder() {
+        assertEquals(Can.of(1, 2, 3), Stream.of(1, null, 2, 3).collect(Can.toCan()));
+        assertEquals(Can.of(1, 2, 3), Stream.of(1, 2, 3).parallel().collect(Can.toCan()));
+    }
+
+    @Test
+    void findFirst() {
+        assertEquals(Optional.empty(), Can.<Integer>empty().findFirst(x->true));
+        assertEquals(Optional.of(1), Can.of(1).findFirst(x->x==1));
+        assertEquals(Optional.empty(), Can.of(1).findFirst(x->x==2));
+        assertEquals(Optional.of(2), Can.of(1, 2, 3, 4).findFirst(x->x%2==0));
+        assertEquals(Optional.empty(), Can.of(1, 2, 3, 4).findFirst(x->x>4));
+    }
+
+    @Test
+    void multiCan_manipulation() {
+        final Can<Integer> origin = Can.of(1, 2, 3);
+        assertEquals(Can.of(1, 2, 3, 4), origin.add(4));
+        assertEquals(Can.of(0, 1, 2, 3), origin.add(0, 0));
+        assertEquals(Can.of(1, 9, 3), origin.replace(1, 9));
+        assertEquals(Can.of(1, 3), origin.remove(1));
+        assertEquals(Can.of(1, 3), origin.remove(Integer.valueOf(2)));
+        assertEquals(Can.of(1), Can.of(1, 2).remove(1));
+        assertEquals(Can.of(1, 2, 3, 1, 2), origin.addAll(Can.of(1, 2)));
+        assertEquals(Can.of(2, 4, 6), origin.map(x->x*2));
+        assertEquals(Can.of(2), origin.map(x->x==2 ? x : null));
+        assertThrows(IndexOutOfBoundsException.class, ()->origin.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, ()->origin.add(4, 4));
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), origin.hashCode());
+    }
 
     // -- HEPER
 
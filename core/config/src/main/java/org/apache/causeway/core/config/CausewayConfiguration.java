@@ -65,6 +65,7 @@
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import org.apache.causeway.applib.CausewayModuleApplib;
@@ -86,6 +87,7 @@
 import org.apache.causeway.applib.services.userreg.EmailNotificationService;
 import org.apache.causeway.applib.services.userreg.UserRegistrationService;
 import org.apache.causeway.applib.services.userui.UserMenu;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
@@ -222,6 +224,36 @@ public static class Shiro {
 
         }
 
+        private final AuthenticationCache authenticationCache = new AuthenticationCache();
+        @Data
+        public static class AuthenticationCache {
+            /**
+             * Whether successful authentications of stateless requests (that present username and password
+             * with every request, as with HTTP Basic Auth) are cached, such that subsequent requests presenting
+             * the same credentials do not have to be authenticated afresh.
+             * <p>
+             * Entries are keyed by a keyed hash (HMAC) of the credentials, never by the credentials themselves.
+             * If <i>SecMan</i> is in use, a user's entries are invalidated when their password, status or roles
+             * are changed through its actions.
+             *
+             * <p>
+             * Applies only to the Restful Objects viewer.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * How long a cached authentication is re-used for, regardless of how often it is hit.
+             */
+            private Duration timeToLive = Duration.ofSeconds(60);
+
+            /**
+             * Upper bound on the number of cached authentications, evicting the least recently used.
+             */
+            @Min(1)
+            private int maxEntries = 1000;
+        }
+
         private final Spring spring = new Spring();
         @Data
         public static class Spring {
@@ -1597,6 +1629,56 @@ public static class MetaModel {
              */
             private boolean filterVisibility = true;
 
+            private final TitleCache titleCache = new TitleCache();
+            @Data
+            public static class TitleCache {
+
+                /**
+                 * If enabled, the title (and icon name) of an entity is computed at most once per interaction
+                 * (request), no matter how often it is rendered, eg in table cells, breadcrumbs or drop-downs.
+                 *
+                 * <p>
+                 *     Memoized titles are discarded as soon as the entity is enlisted as changed with the
+                 *     <code>EntityChangeTracker</code>.  Note though that JPA only enlists changes on flush, so
+                 *     within the same interaction, the title of an entity modified but not yet flushed may be stale.
+                 * </p>
+                 */
+                private boolean memoizePerInteraction = false;
+
+                /**
+                 * If positive, the titles of entities are also cached across interactions, for up to this many
+                 * entities, keyed by their bookmark, version and the user's locale.
+                 *
+                 * <p>
+                 *     Only applies to entities that have a version and whose title is <i>pure</i>, that is, composed
+                 *     solely of <code>@Title</code> annotated fields of value type (so does not depend on the state of
+                 *     any other object).  Cached titles are discarded as soon as the entity is enlisted as changed
+                 *     with the <code>EntityChangeTracker</code>.
+                 * </p>
+                 */
+                private int maxEntries = 0;
+            }
+
+            private final ConsentMemo consentMemo = new ConsentMemo();
+            @Data
+            public static class ConsentMemo {
+
+                /**
+                 * If enabled, whether a member (property, collection or action) of an object is visible or usable is
+                 * evaluated at most once per interaction (request), for the same object, user, {@code Where} and
+                 * initiator; that is, any supporting <code>hideXxx()</code> and <code>disableXxx()</code> methods are
+                 * called, domain events are posted and the authorizor is consulted only once.
+                 *
+                 * <p>
+                 *     Memoized consents are discarded as soon as any property is edited or action is executed within
+                 *     the interaction.  Note though that changes made otherwise (eg. by a domain service called
+                 *     directly from a supporting method) are not detected, hence consents depending on such changes
+                 *     may be stale until the end of the interaction.
+                 * </p>
+                 */
+                private boolean memoizePerInteraction = false;
+            }
+
             private final ProgrammingModel programmingModel = new ProgrammingModel();
             @Data
             public static class ProgrammingModel {
@@ -1647,6 +1729,26 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private IntrospectionMode mode = IntrospectionMode.LAZY_UNLESS_PRODUCTION;
 
+                /**
+                 * If true, and the introspector is <i>not</i> configured to perform full introspection up-front
+                 * (see {@link #getMode()}), then bootstrapping only fully introspects what the menus, the home page
+                 * and the REST API's entry points need, namely domain services (and their menus) and any
+                 * home page view model.
+                 *
+                 * <p>
+                 *     All other known types (mixins, entities and view models) are then introspected in the
+                 *     background, by a low priority thread, followed by metamodel validation.  A request that
+                 *     needs a type not yet introspected introspects it itself, or waits for the background thread
+                 *     if that is introspecting the very same type.
+                 * </p>
+                 *
+                 * <p>
+                 *     Trades metamodel validation failures no longer being reported during bootstrap, for faster
+                 *     start-up and fewer latency spikes on first requests.
+                 * </p>
+                 */
+                private boolean warmUpInBackground = false;
+
                 /**
                  * If true, then no new specifications will be allowed to be loaded once introspection has been complete.
                  *
@@ -2084,6 +2186,31 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * In {@link Mode#READ read} mode, the locales whose translations are loaded eagerly on start-up,
+                     * rather than on first request of a user with that locale.
+                     */
+                    private List<Locale> preloadLocales = new ArrayList<>();
+
+                    /**
+                     * Whether the {@link #getPreloadLocales() preload locales} are loaded in the background, so
+                     * as not to delay start-up.  Until loaded, a request for such a locale loads its translations
+                     * itself.
+                     */
+                    private boolean preloadInBackground = true;
+
+                    /**
+                     * Classpath location (eg <code>translations</code>) of translation catalogs precompiled at
+                     * build time from <i>.po</i> files (using <code>PoCatalogCompiler</code>), each named after
+                     * its <i>.po</i> file, but with a <code>.pocat</code> suffix.
+                     *
+                     * <p>
+                     *     Precompiled catalogs take precedence over <i>.po</i> files; if {@code null} (the default),
+                     *     only <i>.po</i> files are read.
+                     * </p>
+                     */
+                    private String precompiledLocation = null;
                 }
             }
 
@@ -2165,6 +2292,48 @@ public static class EntityChangeTracker {
                  */
                 private boolean enabled = true;
             }
+
+            private final TableFetchPlan tableFetchPlan = new TableFetchPlan();
+            @Data
+            public static class TableFetchPlan {
+                /**
+                 * If enabled, entity queries (submitted through
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService}) also fetch those
+                 * referenced entities that would be rendered as columns of a standalone table of the queried type,
+                 * rather than each such reference being loaded individually when the table is rendered.
+                 *
+                 * <p>
+                 *     For JDO this is done using a fetch group, for JPA using a load graph.
+                 * </p>
+                 *
+                 * <p>
+                 *     Disabled by default, as it changes the SQL issued for all such queries, also those whose
+                 *     results are never rendered.
+                 * </p>
+                 */
+                private boolean enabled = false;
+            }
+
+            private final DtoStorage dtoStorage = new DtoStorage();
+            @Data
+            public static class DtoStorage {
+                /**
+                 * How command, interaction and changes DTOs (as persisted by the command log, execution log and
+                 * execution outbox extensions) are encoded within their (character large object) columns.
+                 *
+                 * <p>
+                 *     With <code>GZIP</code>, the XML is stored compressed, typically in a half to a quarter of the space.
+                 *     Either format can always be read, so this may be changed at any time; existing rows can be
+                 *     re-encoded using the <code>DtoStorageMigrationService</code>.
+                 * </p>
+                 */
+                private DtoStorageCodec.Format format = DtoStorageCodec.Format.XML;
+
+                /**
+                 * Number of entries re-encoded per transaction by the <code>DtoStorageMigrationService</code>.
+                 */
+                private int migrationBatchSize = 200;
+            }
         }
 
 
@@ -2790,6 +2959,30 @@ public static class Authentication {
                 private String strategyClassName = "org.apache.causeway.viewer.restfulobjects.viewer.webmodule.auth.AuthenticationStrategyBasicAuth";
             }
 
+            @Getter
+            private final Swagger swagger = new Swagger();
+            @Data
+            public static class Swagger {
+
+                /**
+                 * Whether the generated OpenAPI specs are cached (per visibility and format), until the
+                 * metamodel is reloaded.
+                 *
+                 * <p>
+                 *     Generating the spec traverses the entire metamodel, so for larger applications is expensive.
+                 *     While cached, the <code>/swagger</code> endpoints also serve the spec pre-compressed (if the
+                 *     client accepts <code>gzip</code>), and honour conditional requests (<code>If-None-Match</code>).
+                 * </p>
+                 */
+                private boolean cacheSpecs = true;
+
+                /**
+                 * If set (and specs are cached), then the OpenAPI specs are generated in the background as soon as
+                 * the metamodel has been loaded, rather than on first request.
+                 */
+                private boolean pregenerateSpecs = false;
+            }
+
             /**
              * Whether to enable the <code>x-ro-follow-links</code> support, to minimize round trips.
              *
@@ -2928,6 +3121,18 @@ public static class Wicket {
             @javax.validation.constraints.Pattern(regexp="^[/](.*[/]|)$") @NotNull @NotEmpty
             private String basePath = "/wicket/";
 
+            /**
+             * The number of choices to send to the browser at a time, for drop-downs (of parameters or properties)
+             * offering choices or auto-complete; further choices are fetched as the end user scrolls down.
+             *
+             * <p>
+             *     Auto-complete supporting methods can also take a trailing
+             *     {@link org.apache.causeway.applib.query.QueryRange} argument, to receive just the requested page.
+             * </p>
+             */
+            @Min(1)
+            private int choicesPageSize = 25;
+
             /**
              * If the end user uses a deep link to access the Wicket viewer, but is not authenticated, then this
              * configuration property determines whether to continue through to that original destination once
@@ -3334,6 +3539,103 @@ public static class DevelopmentUtilities {
                 private boolean enable = false;
             }
 
+            private final Hints hints = new Hints();
+            @Data
+            public static class Hints {
+
+                public enum Storage {
+                    /**
+                     * Hints are held in the Wicket session, in a single (bounded) session attribute.  This is the
+                     * default.
+                     */
+                    SESSION,
+                    /**
+                     * Hints are held in memory per user, outside of the Wicket session, and so do not add to the
+                     * size of the serialized session.  They are not replicated across a cluster, and are lost on
+                     * restart.
+                     */
+                    MEMORY;
+                }
+
+                /**
+                 * Where UI hints (eg the selected tab, or the view of a collection) are held.
+                 */
+                private Storage storage = Storage.SESSION;
+
+                /**
+                 * The maximum number of objects for which hints are retained, per session (or per user if
+                 * {@link #getStorage() storage} is {@link Storage#MEMORY memory}).
+                 *
+                 * <p>
+                 *     These are aged out on an MRU-LRU basis.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int maxObjects = 500;
+
+                /**
+                 * If {@link #getStorage() storage} is {@link Storage#MEMORY memory}, how long the hints of a user
+                 * are retained after their last access.
+                 */
+                private Duration timeToLive = Duration.ofHours(8);
+            }
+
+            private final PageStore pageStore = new PageStore();
+            @Data
+            public static class PageStore {
+
+                public enum Type {
+                    /**
+                     * Wicket's default page store, which writes serialized pages to files on disk.  This is the
+                     * default.
+                     */
+                    DISK,
+                    /**
+                     * Keeps serialized pages compressed and outside of the Java heap, bounded both overall and
+                     * per session.  Pages are lost on restart.
+                     */
+                    OFF_HEAP;
+                }
+
+                /**
+                 * Which store is used to hold (serialized) pages that are no longer in the current request.
+                 *
+                 * <p>
+                 *     In either case pages are written asynchronously, as per Wicket's
+                 *     <code>StoreSettings#isAsynchronous()</code>.
+                 * </p>
+                 */
+                private Type type = Type.DISK;
+
+                /**
+                 * If {@link #getType() type} is {@link Type#OFF_HEAP off-heap}, the maximum total (compressed) size
+                 * of pages held across all sessions.
+                 *
+                 * <p>
+                 *     The oldest pages are evicted first.
+                 * </p>
+                 */
+                private DataSize maxSize = DataSize.ofMegabytes(256);
+
+                /**
+                 * If {@link #getType() type} is {@link Type#OFF_HEAP off-heap}, the maximum (compressed) size of
+                 * pages held for any single session.
+                 *
+                 * <p>
+                 *     The oldest pages of the session are evicted first.
+                 * </p>
+                 */
+                private DataSize maxSizePerSession = DataSize.ofMegabytes(10);
+
+                /**
+                 * If {@link #getType() type} is {@link Type#OFF_HEAP off-heap}, the level (1 being fastest, 9 being
+                 * smallest) used to compress serialized pages.
+                 */
+                @Min(value = 1)
+                @Max(value = 9)
+                private int compressionLevel = 1;
+            }
+
             private final RememberMe rememberMe = new RememberMe();
             @Data
             public static class RememberMe {
@@ -3783,6 +4085,11 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * How long (or how many) audit trail entries are kept, before being purged.
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3872,6 +4179,15 @@ public enum OnFailurePolicy {
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
             }
+
+            /**
+             * How long (or how many) command log entries are kept, before being purged.
+             *
+             * <p>
+             *     Commands that have not yet completed (eg pending background commands) are never purged.
+             * </p>
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -3898,6 +4214,28 @@ public static class SecondaryAccess {
 
             private Integer batchSize = 10;
 
+            /**
+             * Whether to fetch the next batch of commands from the primary while the current batch is being
+             * replayed on the secondary, rather than only once it has been replayed.
+             */
+            private boolean prefetch = true;
+
+            /**
+             * Number of threads to replay commands with.
+             *
+             * <p>
+             *     With more than one, commands are partitioned by their target, so that commands on the same
+             *     target are still replayed in order, while those on different targets are replayed concurrently.
+             *     Commands with more than one target are replayed on their own.
+             * </p>
+             *
+             * <p>
+             *     Only safe if a command's changes are confined to its target, hence replayed strictly sequentially
+             *     by default.
+             * </p>
+             */
+            private int replayThreads = 1;
+
             private final QuartzSession quartzSession = new QuartzSession();
             @Data
             public static class QuartzSession {
@@ -4048,6 +4386,7 @@ public static class Cors {
         }
 
         private final ExecutionLog executionLog = new ExecutionLog();
+        @Valid
         @Data
         public static class ExecutionLog {
 
@@ -4061,16 +4400,39 @@ public static class ExecutionLog {
              */
             public enum PersistPolicy {
                 /**
-                 * Persist to the execution log.  This is the default.
+                 * Persist to the execution log, one entry at a time as each execution completes.  This is the default.
                  */
                 ENABLED,
+                /**
+                 * Persist to the execution log within the same transaction, but buffer the executions and persist
+                 * them all at once just before the transaction commits, so that the ORM can batch the inserts.
+                 *
+                 * <p>
+                 *     For JDBC batching to actually take place, it must also be enabled for the ORM, eg.
+                 *     <code>eclipselink.jdbc.batch-writing</code> or <code>datanucleus.rdbms.statementBatchLimit</code>.
+                 * </p>
+                 */
+                BATCHED,
+                /**
+                 * Buffer the executions of a transaction and, once it has committed, hand them over to a bounded
+                 * background writer that persists them in transactions of its own, off the request path.
+                 *
+                 * <p>
+                 *     Executions of transactions that roll back are discarded.  The trade-off is that entries are
+                 *     written with a delay, and are dropped (with a warning) if the writer cannot keep up; see
+                 *     {@link ExecutionLog#getAsync()}.
+                 * </p>
+                 */
+                ASYNC,
                 /**
                  * Do <i>NOT</i> persist to the execution log.
                  */
                 DISABLED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
                 public boolean isDisabled() { return this == DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
+                public boolean isAsync() { return this == ASYNC; }
             }
 
             /**
@@ -4086,6 +4448,35 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            private final Async async = new Async();
+            /**
+             * Only applies if {@link ExecutionLog#getPersist()} is {@link PersistPolicy#ASYNC}.
+             */
+            @Data
+            public static class Async {
+
+                /**
+                 * The maximum number of executions waiting to be persisted by the background writer.
+                 *
+                 * <p>
+                 *     Any further executions are dropped (rather than blocking the request), with a warning logged.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int queueCapacity = 10_000;
+
+                /**
+                 * The maximum number of entries the background writer persists within a single transaction.
+                 */
+                @Min(value = 1)
+                private int maxBatchSize = 250;
+            }
+
+            /**
+             * How long (or how many) execution log entries are kept, before being purged.
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -4103,6 +4494,25 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * Upper bound for the time (in seconds) a long-polling client may ask to wait for new entries
+                 * to arrive, when none are pending.
+                 *
+                 * <p>
+                 *     Each check while waiting is a short read-only query in its own transaction, but the request
+                 *     itself is held open, so this should be kept reasonably short.
+                 * </p>
+                 */
+                @Min(value = 0)
+                @Max(value = 300)
+                private int maxLongPollSecs = 30;
+
+                /**
+                 * While long-polling, how often (in milliseconds) to re-query the outbox for new entries.
+                 */
+                @Min(value = 10)
+                private long longPollIntervalMillis = 500;
             }
 
             /**
@@ -4115,16 +4525,27 @@ public static class RestApi {
              */
             public enum PersistPolicy {
                 /**
-                 * Persist to the outbox.  This is the default.
+                 * Persist to the outbox, one entry at a time as each execution completes.  This is the default.
                  */
                 ENABLED,
+                /**
+                 * Buffer the executions and persist them all at once just before the transaction commits, so that
+                 * the ORM can batch the inserts.  The entries are still written atomically with the business data.
+                 *
+                 * <p>
+                 *     For JDBC batching to actually take place, it must also be enabled for the ORM, eg.
+                 *     <code>eclipselink.jdbc.batch-writing</code> or <code>datanucleus.rdbms.statementBatchLimit</code>.
+                 * </p>
+                 */
+                BATCHED,
                 /**
                  * Do <i>NOT</i> persist to the outbox.
                  */
                 DISABLED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
                 public boolean isDisabled() { return this == DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
             }
 
             /**
@@ -4440,9 +4861,115 @@ public enum UserMenuMeActionPolicy {
         }
 
         private final SessionLog sessionLog = new SessionLog();
+        @Valid
         @Data
         public static class SessionLog {
             boolean autoLogoutOnRestart = true;
+
+            public enum PersistPolicy {
+                /**
+                 * Persist each login and logout synchronously, within a transaction of its own.  This is the default.
+                 */
+                ENABLED,
+                /**
+                 * Hand over logins and logouts to a bounded background writer, that persists them in batches, each
+                 * within a transaction of its own, off the request path.
+                 *
+                 * <p>
+                 *     The trade-off is that entries are written with a delay, and are dropped (with a warning) if the
+                 *     writer cannot keep up; see {@link SessionLog#getAsync()}.
+                 * </p>
+                 */
+                ASYNC;
+
+                public boolean isAsync() { return this == ASYNC; }
+            }
+
+            private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            private final Async async = new Async();
+            /**
+             * Only applies if {@link SessionLog#getPersist()} is {@link PersistPolicy#ASYNC}.
+             */
+            @Data
+            public static class Async {
+
+                /**
+                 * The maximum number of logins and logouts waiting to be persisted by the background writer.
+                 *
+                 * <p>
+                 *     Any further ones are dropped (rather than blocking the request), with a warning logged.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int queueCapacity = 10_000;
+
+                /**
+                 * The maximum number of logins and logouts the background writer persists within a single transaction.
+                 */
+                @Min(value = 1)
+                private int maxBatchSize = 250;
+            }
+
+            /**
+             * If set, then a login by a user within this duration of their previous (recorded) login is not recorded,
+             * eg <code>PT5M</code>.
+             *
+             * <p>
+             *     Intended for stateless authentication (eg. SSO for REST), where every request results in a login.
+             *     A user's login is always recorded once their previously recorded session has been logged out.
+             * </p>
+             */
+            private Duration coalesceLoginsWithin = null;
+
+            /**
+             * How long (or how many) session log entries are kept, before being purged.
+             *
+             * <p>
+             *     Sessions that are still active (not yet logged out) are never purged.
+             * </p>
+             */
+            private final LogRetention retention = new LogRetention();
+        }
+
+        /**
+         * Retention policy for one of the log extensions (command log, execution log, audit trail or
+         * session log), as applied by the <code>LogRetentionService</code>.
+         *
+         * <p>
+         *     If neither {@link #getMaxAge() maxAge} nor {@link #getMaxEntries() maxEntries} is set (the default),
+         *     then entries are kept forever.  If both are set, then whichever purges more entries wins.
+         * </p>
+         */
+        @Data
+        public static class LogRetention {
+
+            /**
+             * Entries older than this are purged, eg <code>P90D</code>.
+             */
+            private Duration maxAge = null;
+
+            /**
+             * Only (about) this many of the most recent entries are kept, any older ones are purged.
+             */
+            private Integer maxEntries = null;
+
+            /**
+             * Number of entries purged per transaction, to keep locks (and the transaction log) short-lived.
+             */
+            private int batchSize = 500;
+
+            /**
+             * If set, then entries are first archived as gzip-compressed
+             * <a href="https://github.com/ndjson/ndjson-spec">NDJSON</a> (one JSON object per line) into a new file
+             * in this directory, before being purged.
+             */
+            private String archiveDirectory = null;
+
+            public boolean isEnabled() {
+                return maxAge != null
+                        || maxEntries != null;
+            }
         }
 
     }
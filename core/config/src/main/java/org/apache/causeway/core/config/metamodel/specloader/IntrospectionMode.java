@@ -64,4 +64,13 @@ public static boolean isFullIntrospect(CausewayConfiguration configuration, Caus
         return introspectionMode.isFullIntrospect(causewaySystemEnvironment.getDeploymentType());
     }
 
+    /**
+     * Whether types not needed to serve the first requests are introspected in the background, after
+     * bootstrapping, which only ever applies if not {@link #isFullIntrospect(CausewayConfiguration, CausewaySystemEnvironment) full}.
+     */
+    public static boolean isWarmUpInBackground(CausewayConfiguration configuration, CausewaySystemEnvironment causewaySystemEnvironment) {
+        return configuration.getCore().getMetaModel().getIntrospector().isWarmUpInBackground()
+                && !isFullIntrospect(configuration, causewaySystemEnvironment);
+    }
+
 }
@@ -55,6 +55,7 @@
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorForDomainObjects;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorRegistry;
 import org.apache.causeway.core.metamodel.services.columnorder.ColumnOrderTxtFileServiceDefault;
+import org.apache.causeway.core.metamodel.services.consent.ConsentMemoDefault;
 import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
 import org.apache.causeway.core.metamodel.services.exceprecog.ExceptionRecognizerForRecoverableException;
 import org.apache.causeway.core.metamodel.services.grid.GridLoaderServiceDefault;
@@ -68,6 +69,7 @@
 import org.apache.causeway.core.metamodel.services.registry.ServiceRegistryDefault;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceDefault;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceUsingTxtFile;
+import org.apache.causeway.core.metamodel.services.title.TitleCacheDefault;
 import org.apache.causeway.core.metamodel.services.title.TitleServiceDefault;
 import org.apache.causeway.core.metamodel.specloader.ProgrammingModelServiceDefault;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoaderDefault;
@@ -181,6 +183,7 @@
 
         // @Service's
         ColumnOrderTxtFileServiceDefault.class,
+        ConsentMemoDefault.class,
         ExceptionRecognizerForRecoverableException.class,
         GridLoaderServiceDefault.class,
         GridMarshallerServiceBootstrap.class,
@@ -198,6 +201,7 @@
         SpecificationLoaderDefault.class,
         TableColumnOrderServiceDefault.class,
         TableColumnOrderServiceUsingTxtFile.class,
+        TitleCacheDefault.class,
         TitleServiceDefault.class,
 
         // @Repository's
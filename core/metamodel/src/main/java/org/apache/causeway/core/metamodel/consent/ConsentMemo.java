@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.consent;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Memoizes the visibility and usability {@link Consent}s of object members, so these are evaluated at most once per
+ * interaction (for the same target, member, {@link Where} and {@link InteractionInitiatedBy}), no matter how often
+ * the member is rendered.
+ *
+ * <p>
+ *     Memoized consents are to be {@link #invalidate() invalidated} whenever a property is edited or an action is
+ *     executed.
+ * </p>
+ *
+ * @since 2.0
+ */
+public interface ConsentMemo {
+
+    Consent visibilityOf(
+            @NonNull ManagedObject target,
+            @NonNull ObjectMember member,
+            @NonNull InteractionInitiatedBy interactionInitiatedBy,
+            @NonNull Where where,
+            @NonNull Supplier<Consent> consentSupplier);
+
+    Consent usabilityOf(
+            @NonNull ManagedObject target,
+            @NonNull ObjectMember member,
+            @NonNull InteractionInitiatedBy interactionInitiatedBy,
+            @NonNull Where where,
+            @NonNull Supplier<Consent> consentSupplier);
+
+    /**
+     * Discards all consents memoized for the current interaction, because any object might have changed.
+     */
+    void invalidate();
+
+    /**
+     * Hits and misses of the memo, so far in the current interaction (if any).
+     */
+    Optional<Statistics> currentStatistics();
+
+    // -- STATISTICS
+
+    @Value
+    public static class Statistics {
+
+        /** Consents served from the memo. */
+        long hits;
+
+        /** Consents that had to be evaluated. */
+        long misses;
+
+        /** How often the memo was discarded, because of a property edit or action execution. */
+        long invalidations;
+
+        public double getHitRate() {
+            final long lookups = hits + misses;
+            return lookups == 0
+                    ? 0.
+                    : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits %d, misses %d (hit rate %.1f%%), invalidations %d",
+                    hits, misses, 100. * getHitRate(), invalidations);
+        }
+    }
+
+    // -- NOOP
+
+    public static ConsentMemo noop() {
+        return new ConsentMemo() {
+            @Override
+            public Consent visibilityOf(final ManagedObject target, final ObjectMember member,
+                    final InteractionInitiatedBy interactionInitiatedBy, final Where where,
+                    final Supplier<Consent> consentSupplier) {
+                return consentSupplier.get();
+            }
+            @Override
+            public Consent usabilityOf(final ManagedObject target, final ObjectMember member,
+                    final InteractionInitiatedBy interactionInitiatedBy, final Where where,
+                    final Supplier<Consent> consentSupplier) {
+                return consentSupplier.get();
+            }
+            @Override
+            public void invalidate() {
+            }
+            @Override
+            public Optional<Statistics> currentStatistics() {
+                return Optional.empty();
+            }
+        };
+    }
+
+}
@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -40,6 +42,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * Indicates that this class is managed by a persistence context.
@@ -142,6 +145,20 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * As per {@link #fetchByBookmark(Bookmark)}, but for many {@link Bookmark}s at once,
+     * such that implementations may fetch these in bulk.
+     * <p>
+     * Those not found are not contained in the result.
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        val pojoByBookmark = new HashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        return pojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
     void persist(Object pojo);
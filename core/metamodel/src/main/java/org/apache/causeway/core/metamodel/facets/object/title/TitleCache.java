@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.title;
+
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.NonNull;
+
+/**
+ * Memoizes the titles (and icon names) of entities, so these are not recomputed every time the entity is rendered.
+ *
+ * <p>
+ *     Memoized values are to be {@link #invalidate(ManagedObject) invalidated} by the entity change tracker.
+ * </p>
+ *
+ * @since 2.0
+ */
+public interface TitleCache {
+
+    String titleOf(@NonNull ManagedObject object, @NonNull TitleFacet titleFacet, @NonNull Supplier<String> titleSupplier);
+
+    @Nullable
+    String iconNameOf(@NonNull ManagedObject object, @NonNull Supplier<String> iconNameSupplier);
+
+    /**
+     * Discards any title or icon name memoized for given entity, because it has changed (or is about to).
+     */
+    void invalidate(@NonNull ManagedObject entity);
+
+    // -- NOOP
+
+    public static TitleCache noop() {
+        return new TitleCache() {
+            @Override
+            public String titleOf(final ManagedObject object, final TitleFacet titleFacet, final Supplier<String> titleSupplier) {
+                return titleSupplier.get();
+            }
+            @Override
+            public String iconNameOf(final ManagedObject object, final Supplier<String> iconNameSupplier) {
+                return iconNameSupplier.get();
+            }
+            @Override
+            public void invalidate(final ManagedObject entity) {
+            }
+        };
+    }
+
+}
@@ -46,4 +46,14 @@ default String title(final ManagedObject targetAdapter) {
                 .build());
     }
 
+    /**
+     * Whether the title depends solely on the (value typed) state of the target object itself,
+     * so that it only ever changes along with the target object's version.
+     *
+     * @see TitleCache
+     */
+    default boolean isPure() {
+        return false;
+    }
+
 }
@@ -33,6 +33,8 @@
 @Value @Builder
 public class TitleRenderRequest {
 
+    private static final Predicate<ManagedObject> SKIP_NONE = _Predicates.alwaysFalse();
+
     public static TitleRenderRequest forObject(final ManagedObject object) {
         return TitleRenderRequest.builder()
         .object(object)
@@ -52,7 +54,15 @@ public static TitleRenderRequest forObject(final ManagedObject object) {
      * the title of the parent (context) object.
      */
     @Builder.Default
-    private final @NonNull Predicate<ManagedObject> skipTitlePartEvaluator =
-        _Predicates.alwaysFalse();
+    private final @NonNull Predicate<ManagedObject> skipTitlePartEvaluator = SKIP_NONE;
+
+    /**
+     * Whether the title does not depend on the context in which it is rendered,
+     * hence may be memoized.
+     */
+    public boolean isContextFree() {
+        return feature == null
+                && skipTitlePartEvaluator == SKIP_NONE;
+    }
 
 }
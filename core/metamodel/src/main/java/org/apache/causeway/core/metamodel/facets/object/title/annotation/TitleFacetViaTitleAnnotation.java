@@ -27,6 +27,7 @@
 
 import org.apache.causeway.applib.annotation.Title;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.compare._Comparators;
@@ -39,12 +40,14 @@
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MessageTemplate;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.Evaluators;
+import org.apache.causeway.core.metamodel.facets.Evaluators.FieldEvaluator;
 import org.apache.causeway.core.metamodel.facets.Evaluators.MethodEvaluator;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleFacetAbstract;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleRenderRequest;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.validator.ValidationFailure;
 
 import lombok.AccessLevel;
@@ -88,6 +91,9 @@ public static Optional<TitleFacet> create(
     @Getter private final Can<TitleComponent> components;
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
 
+    // resolved lazily, as the specifications of the title parts might not yet be loaded at construction time
+    private final _Lazy<Boolean> pure = _Lazy.threadSafe(this::allComponentsAreValueFields);
+
     protected TitleFacetViaTitleAnnotation(final Can<TitleComponent> components, final FacetHolder holder) {
         super(holder);
         this.components = components;
@@ -165,6 +171,16 @@ public String title(final TitleRenderRequest titleRenderRequest) {
         }
     }
 
+    /**
+     * A title solely composed of {@link Title}-annotated fields of value types is pure, being just a function
+     * of the entity's persisted state; whereas a title-part provided by a method (or by a referenced object)
+     * might depend on anything.
+     */
+    @Override
+    public boolean isPure() {
+        return pure.get();
+    }
+
     @Override
     public void visitAttributes(final BiConsumer<String, Object> visitor) {
         super.visitAttributes(visitor);
@@ -182,6 +198,16 @@ private String titleOf(final ManagedObject adapter) {
         return adapter.getTitle();
     }
 
+    private boolean allComponentsAreValueFields() {
+        return components.stream()
+                .map(TitleComponent::getTitleEvaluator)
+                .allMatch(evaluator->evaluator instanceof FieldEvaluator
+                        && getSpecificationLoader()
+                            .specForType(((FieldEvaluator) evaluator).getField().getType())
+                            .map(ObjectSpecification::isValue)
+                            .orElse(false));
+    }
+
     private static String abbreviated(final String str, final int maxLength) {
         return str.length() < maxLength ? str : str.substring(0, maxLength - 3) + "...";
     }
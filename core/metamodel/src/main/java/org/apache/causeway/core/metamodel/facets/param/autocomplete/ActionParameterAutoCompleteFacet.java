@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.facets.param.autocomplete;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
@@ -31,6 +32,9 @@
  * In the standard Apache Causeway Programming Model, corresponds to invoking the
  * <tt>autoCompleteNXxx(..., String)</tt> support method for an action (where N is the 0-based
  * parameter number).
+ * <p>
+ * The support method may also accept a trailing {@link QueryRange} argument,
+ * <tt>autoCompleteNXxx(..., String, QueryRange)</tt>, to page through the matches.
  */
 public interface ActionParameterAutoCompleteFacet extends Facet {
 
@@ -40,6 +44,32 @@ public Can<ManagedObject> autoComplete(
             Can<ManagedObject> pendingArgs,
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
+
+    /**
+     * As {@link #autoComplete(ObjectSpecification, ManagedObject, Can, String, InteractionInitiatedBy)},
+     * but only returning the matches within given {@link QueryRange}.
+     * <p>
+     * Unless {@link #isPaged() paged}, slices the complete list of matches.
+     */
+    public default Can<ManagedObject> autoComplete(
+            final ObjectSpecification requiredSpec,
+            final ManagedObject inObject,
+            final Can<ManagedObject> pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return range.slice(
+                autoComplete(requiredSpec, inObject, pendingArgs, searchArg, interactionInitiatedBy));
+    }
+
+    /**
+     * Whether the auto-completion honors a {@link QueryRange} natively,
+     * rather than the matches being sliced in memory.
+     */
+    public default boolean isPaged() {
+        return false;
+    }
+
     /**
      * The minimum number of characters that need to be entered.
      */
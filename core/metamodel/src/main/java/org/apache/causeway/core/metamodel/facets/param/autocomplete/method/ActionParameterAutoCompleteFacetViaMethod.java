@@ -21,6 +21,7 @@
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedConstructor;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
@@ -49,6 +50,7 @@
     private final ResolvedType paramSupportReturnType;
     private final int minLength;
     private final Optional<ResolvedConstructor> patConstructor;
+    @Getter(onMethod_ = {@Override}) private final boolean paged;
 
     public ActionParameterAutoCompleteFacetViaMethod(
             final ResolvedMethod method,
@@ -61,6 +63,8 @@ public ActionParameterAutoCompleteFacetViaMethod(
         this.paramSupportReturnType = paramSupportReturnType;
         this.minLength = MinLengthUtil.determineMinLength(method);
         this.patConstructor = patConstructor;
+        this.paged = method.paramCount() > 0
+                && QueryRange.class.equals(method.paramType(method.paramCount() - 1));
     }
 
     @Override
@@ -80,10 +84,25 @@ public Can<ManagedObject> autoComplete(
             final Can<ManagedObject> pendingArgs,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return autoComplete(elementSpec, owningAdapter, pendingArgs, searchArg,
+                QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Can<ManagedObject> autoComplete(
+            final ObjectSpecification elementSpec,
+            final ManagedObject owningAdapter,
+            final Can<ManagedObject> pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstElseFail();
-        final Object collectionOrArray = MmInvokeUtils
-                .invokeWithSearchArg(patConstructor, method, owningAdapter, pendingArgs, searchArg);
+        final Object collectionOrArray = paged
+                ? MmInvokeUtils
+                    .invokeWithSearchArgAndRange(patConstructor, method, owningAdapter, pendingArgs, searchArg, range)
+                : MmInvokeUtils
+                    .invokeWithSearchArg(patConstructor, method, owningAdapter, pendingArgs, searchArg);
         if (collectionOrArray == null) {
             return Can.empty();
         }
@@ -91,7 +110,9 @@ public Can<ManagedObject> autoComplete(
                 .adaptMultipleOfTypeThenFilterByVisibility(
                         elementSpec, collectionOrArray, interactionInitiatedBy);
 
-        return visibleChoices;
+        return paged
+                ? visibleChoices
+                : range.slice(visibleChoices);
     }
 
     @Override
@@ -102,6 +123,7 @@ public void visitAttributes(final BiConsumer<String, Object> visitor) {
                 .map(CollectionSemantics::name)
                 .orElse("NONE"));
         visitor.accept("minLength", minLength);
+        visitor.accept("paged", paged);
     }
 
 }
@@ -20,6 +20,7 @@
 
 import javax.inject.Inject;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MemberSupportPrefix;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
@@ -34,9 +35,14 @@
 
     @Inject
     public ActionParameterAutoCompleteFacetViaMethodFactory(final MetaModelContext mmc) {
-        super(mmc, MemberSupportPrefix.AUTO_COMPLETE, searchOptions->
-            searchOptions
-            .additionalParamTypes(Can.of(String.class)));
+        super(mmc, MemberSupportPrefix.AUTO_COMPLETE, Can.of(
+                // paged variant takes precedence
+                searchOptions->
+                    searchOptions
+                    .additionalParamTypes(Can.of(String.class, QueryRange.class)),
+                searchOptions->
+                    searchOptions
+                    .additionalParamTypes(Can.of(String.class))));
     }
 
     @Override
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.facets.param.support;
 
+import java.util.BitSet;
 import java.util.function.UnaryOperator;
 
 import org.apache.causeway.commons.collections.Can;
@@ -38,8 +39,8 @@
 public abstract class ActionParameterSupportFacetFactoryAbstract
 extends MemberAndPropertySupportFacetFactoryAbstract {
 
-    private final UnaryOperator<ParamSupportingMethodSearchRequest.ParamSupportingMethodSearchRequestBuilder>
-        searchRefiner;
+    private final Can<UnaryOperator<ParamSupportingMethodSearchRequest.ParamSupportingMethodSearchRequestBuilder>>
+        searchRefiners;
 
     protected ActionParameterSupportFacetFactoryAbstract(
             final @NonNull MetaModelContext mmc,
@@ -51,8 +52,19 @@ protected ActionParameterSupportFacetFactoryAbstract(
             final @NonNull MetaModelContext mmc,
             final @NonNull MemberSupportPrefix memberSupportPrefix,
             final @NonNull UnaryOperator<ParamSupportingMethodSearchRequestBuilder> searchRefiner) {
+        this(mmc, memberSupportPrefix, Can.ofSingleton(searchRefiner));
+    }
+
+    /**
+     * @param searchRefiners - searches in order, any parameter having a supporting method found
+     *      by an earlier search is not considered by later ones
+     */
+    protected ActionParameterSupportFacetFactoryAbstract(
+            final @NonNull MetaModelContext mmc,
+            final @NonNull MemberSupportPrefix memberSupportPrefix,
+            final @NonNull Can<UnaryOperator<ParamSupportingMethodSearchRequestBuilder>> searchRefiners) {
         super(mmc, FeatureType.ACTIONS_ONLY, memberSupportPrefix);
-        this.searchRefiner = searchRefiner;
+        this.searchRefiners = searchRefiners;
     }
 
     @Override
@@ -68,23 +80,35 @@ public final void process(final ProcessMethodContext processMethodContext) {
         val methodNameCandidates = memberSupportPrefix.getMethodNamePrefixes()
                 .flatMap(processMethodContext::parameterSupportCandidates);
 
-        val searchRequest = searchRefiner
-                .apply(
-                        ParameterSupport.ParamSupportingMethodSearchRequest.builder()
-                        .processMethodContext(processMethodContext)
-                        .paramIndexToMethodNameProviders(methodNameCandidates)
-                        // default, can be overwritten
-                        .searchAlgorithms(Can.of(SearchAlgorithm.PAT, SearchAlgorithm.SWEEP))
-                        .returnTypePattern(memberSupportPrefix.getSupportMethodReturnType()))
-                .build();
-
-        ParameterSupport.findParamSupportingMethods(searchRequest, searchResult -> {
-            processMethodContext.removeMethod(searchResult.getSupportingMethod());
-            val paramIndex = searchResult.getParamIndex();
-            // add facets directly to parameters, not to actions
-            val paramAsHolder = parameters.getElseFail(paramIndex);
-            onSearchResult(paramAsHolder, searchResult);
-        });
+        val paramIndexesFound = new BitSet(parameters.size());
+
+        for(val searchRefiner : searchRefiners) {
+
+            val searchRequest = searchRefiner
+                    .apply(
+                            ParameterSupport.ParamSupportingMethodSearchRequest.builder()
+                            .processMethodContext(processMethodContext)
+                            .paramIndexToMethodNameProviders(methodNameCandidates)
+                            // default, can be overwritten
+                            .searchAlgorithms(Can.of(SearchAlgorithm.PAT, SearchAlgorithm.SWEEP))
+                            .returnTypePattern(memberSupportPrefix.getSupportMethodReturnType()))
+                    .build();
+
+            val paramIndexesFoundBefore = (BitSet) paramIndexesFound.clone();
+
+            ParameterSupport.findParamSupportingMethods(searchRequest, searchResult -> {
+                // also if superseded, so not to be picked up as a member (or reported as orphaned) itself
+                processMethodContext.removeMethod(searchResult.getSupportingMethod());
+                val paramIndex = searchResult.getParamIndex();
+                if(paramIndexesFoundBefore.get(paramIndex)) {
+                    return; // already found by an earlier search
+                }
+                paramIndexesFound.set(paramIndex);
+                // add facets directly to parameters, not to actions
+                val paramAsHolder = parameters.getElseFail(paramIndex);
+                onSearchResult(paramAsHolder, searchResult);
+            });
+        }
 
     }
 
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.object;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +27,7 @@
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedConstructor;
@@ -91,16 +93,36 @@ public static Object invokeNoAutofit(
     public static Object invokeWithSearchArg(
             final Optional<ResolvedConstructor> patConstructor,
             final MethodFacade methodFacade, final ManagedObject owningAdapter, final Can<ManagedObject> pendingArgs, final String searchArg) {
+        return invokeWithAdditionalArgs(patConstructor, methodFacade, owningAdapter, pendingArgs,
+                Collections.singletonList(searchArg));
+    }
+
+    /**
+     * As {@link #invokeWithSearchArg(Optional, MethodFacade, ManagedObject, Can, String)},
+     * for supporting methods that also accept a {@link QueryRange}.
+     */
+    public static Object invokeWithSearchArgAndRange(
+            final Optional<ResolvedConstructor> patConstructor,
+            final MethodFacade methodFacade, final ManagedObject owningAdapter, final Can<ManagedObject> pendingArgs,
+            final String searchArg, final QueryRange range) {
+        return invokeWithAdditionalArgs(patConstructor, methodFacade, owningAdapter, pendingArgs,
+                Arrays.asList(searchArg, range));
+    }
+
+    private static Object invokeWithAdditionalArgs(
+            final Optional<ResolvedConstructor> patConstructor,
+            final MethodFacade methodFacade, final ManagedObject owningAdapter, final Can<ManagedObject> pendingArgs,
+            final List<Object> additionalArgs) {
         final Object collectionOrArray = patConstructor.isPresent()
                 ? invokeWithPAT(
                         patConstructor.get(),
                         methodFacade.asMethodForIntrospection(),
                         owningAdapter, pendingArgs,
-                        Collections.singletonList(searchArg))
+                        additionalArgs)
                 : invokeAutofit(
                         methodFacade.asMethodElseFail().method(),
                         owningAdapter, pendingArgs,
-                        Collections.singletonList(searchArg));
+                        additionalArgs);
         return collectionOrArray;
     }
 
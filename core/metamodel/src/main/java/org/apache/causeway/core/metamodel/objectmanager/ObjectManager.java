@@ -18,8 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -30,6 +33,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
@@ -148,6 +152,35 @@ default ManagedObject loadObjectElseFail(final @NonNull Bookmark bookmark) {
         return adapter;
     }
 
+    /**
+     * As per {@link #loadObjectElseFail(Bookmark)}, but for many {@link Bookmark}s at once,
+     * such that entities of the same type are fetched in bulk.
+     *
+     * @return the objects, in the order of given bookmarks
+     * @see EntityFacet#fetchByBookmarks(Can)
+     */
+    default Can<ManagedObject> loadObjectsElseFail(final @NonNull Can<Bookmark> bookmarks) {
+        val specLoader = getMetaModelContext().getSpecificationLoader();
+        val entityByBookmark = new HashMap<Bookmark, ManagedObject>();
+        bookmarks.stream()
+            .collect(Collectors.groupingBy(Bookmark::getLogicalTypeName, LinkedHashMap::new, Collectors.toList()))
+            .forEach((logicalTypeName, bookmarksOfType)->{
+                if(bookmarksOfType.size() < 2) {
+                    return;
+                }
+                specLoader.specForLogicalTypeName(logicalTypeName)
+                    .filter(ObjectSpecification::isEntity)
+                    .ifPresent(spec->
+                        spec.entityFacetElseFail().fetchByBookmarks(Can.ofCollection(bookmarksOfType))
+                            .forEach((bookmark, pojo)->
+                                entityByBookmark.put(bookmark, ManagedObject.entity(spec, pojo, Optional.of(bookmark)))));
+            });
+        // not fetched in bulk, or not found (in which case fails)
+        return bookmarks.map(bookmark->
+            Optional.ofNullable(entityByBookmark.get(bookmark))
+                .orElseGet(()->loadObjectElseFail(bookmark)));
+    }
+
     /**
      * Resolves injection-points for the result. (Handles service injection.)
      */
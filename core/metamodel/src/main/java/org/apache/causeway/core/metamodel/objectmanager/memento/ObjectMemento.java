@@ -33,6 +33,7 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.resources._Serializables;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
 import lombok.val;
@@ -78,27 +79,36 @@ static Optional<ArrayList<ObjectMemento>> unpack(final ObjectMemento memento) {
         return Optional.ofNullable(((ObjectMementoCollection)memento).unwrapList());
     }
 
+    /**
+     * Uses the compact {@link ObjectMementoCodec} encoding.
+     */
     @Nullable
     static String enstringToUrlBase64(final @Nullable ObjectMemento memento) {
         val base64UrlEncodedMemento = memento!=null
                 ? _Strings.ofBytes(
                     _Bytes.asUrlBase64.apply(
-                            _Serializables.write(memento)),
+                            ObjectMementoCodec.encode(memento)),
                     StandardCharsets.US_ASCII)
                 : null;
         return base64UrlEncodedMemento;
     }
 
+    /**
+     * Also accepts (legacy) Java serialized mementos.
+     */
     @Nullable
     static ObjectMemento destringFromUrlBase64(final @Nullable String base64UrlEncodedMemento) {
         try {
-            return _Strings.isNotEmpty(base64UrlEncodedMemento)
-                    && !NULL_ID.equals(base64UrlEncodedMemento)
-                    ? _Serializables.read(
-                            ObjectMemento.class,
-                            _Bytes.ofUrlBase64.apply(
-                                    base64UrlEncodedMemento.getBytes(StandardCharsets.US_ASCII)))
-                    : null;
+            if(_Strings.isEmpty(base64UrlEncodedMemento)
+                    || NULL_ID.equals(base64UrlEncodedMemento)) {
+                return null;
+            }
+            val bytes = _Bytes.ofUrlBase64.apply(
+                    base64UrlEncodedMemento.getBytes(StandardCharsets.US_ASCII));
+            return ObjectMementoCodec.isEncoded(bytes)
+                    ? ObjectMementoCodec.decode(bytes,
+                            MetaModelContext.instanceElseFail().getSpecificationLoader())
+                    : _Serializables.read(ObjectMemento.class, bytes);
         } catch (Exception e) {
             return null; // map to null if anything goes wrong
         }
@@ -0,0 +1,258 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager.memento;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.objectmanager.memento._Recreatable.RecreateStrategy;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Compact binary encoding of {@link ObjectMemento}s, as used for their URL (and select2 option) ids
+ * and - by means of a serialization proxy - for Java serialization, eg. when Wicket stores its pages.
+ * <p>
+ * Other than Java serialization, there are no class descriptors: logical types are referenced by name,
+ * bookmarks by their identifier (and hint-id), along with the title.
+ * <p>
+ * The encoding starts with a version byte, that never collides with the magic of a Java serialization stream,
+ * followed by the memento, each memento starting with a tag byte:
+ * <ul>
+ * <li>{@link ObjectMementoForScalar}: logical type name, bookmark's logical type name (if different),
+ *      identifier, hint-id (optional), title (optional)</li>
+ * <li>{@link ObjectMementoForEmpty}: logical type name</li>
+ * <li>{@link ObjectMementoCollection}: logical type name, size, then each of its elements (in turn tagged)</li>
+ * </ul>
+ * Strings are UTF-8 prefixed with their (var-int) length.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+public final class ObjectMementoCodec {
+
+    // Java serialization streams start with 0xACED
+    private static final byte VERSION_1 = (byte) 0xC1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_SCALAR_LOOKUP = 1;
+    private static final byte TAG_SCALAR_VALUE = 2;
+    private static final byte TAG_EMPTY = 3;
+    private static final byte TAG_COLLECTION = 4;
+
+    public byte[] encode(final @NonNull ObjectMemento memento) {
+        val bytes = new ByteArrayOutputStream(64);
+        try(val out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION_1);
+            write(out, memento);
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e, "failed to encode %s", memento);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param specificationLoader - to resolve logical types by name
+     * @throws IllegalArgumentException - if not in a format as produced by {@link #encode(ObjectMemento)},
+     *      or referencing logical types not known to the meta-model
+     */
+    public ObjectMemento decode(
+            final @NonNull byte[] encoded,
+            final @NonNull SpecificationLoader specificationLoader) {
+        if(!isEncoded(encoded)) {
+            throw _Exceptions.illegalArgument("not an encoded ObjectMemento");
+        }
+        try(val in = new DataInputStream(new ByteArrayInputStream(encoded, 1, encoded.length - 1))) {
+            return read(in, specificationLoader);
+        } catch (IOException e) {
+            throw _Exceptions.illegalArgument("malformed ObjectMemento encoding: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether given bytes (likely) were produced by {@link #encode(ObjectMemento)}, as opposed to eg.
+     * Java serialization.
+     */
+    public boolean isEncoded(final @Nullable byte[] bytes) {
+        return bytes != null
+                && bytes.length > 1
+                && bytes[0] == VERSION_1;
+    }
+
+    // -- SERIALIZATION PROXY
+
+    /**
+     * Replaces an {@link ObjectMemento} on Java serialization (by means of {@code writeReplace()}),
+     * resolving to an equivalent memento on de-serialization.
+     */
+    @RequiredArgsConstructor
+    static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] encoded;
+
+        SerializedForm(final ObjectMemento memento) {
+            this(encode(memento));
+        }
+
+        private Object readResolve() {
+            return decode(encoded, MetaModelContext.instanceElseFail().getSpecificationLoader());
+        }
+    }
+
+    // -- HELPER
+
+    private void write(final DataOutputStream out, final @Nullable ObjectMemento memento) throws IOException {
+        if(memento == null) {
+            out.writeByte(TAG_NULL);
+        } else if(memento instanceof ObjectMementoForScalar) {
+            val scalar = (ObjectMementoForScalar) memento;
+            val logicalTypeName = scalar.getLogicalTypeName();
+            val bookmark = scalar.getBookmark();
+            out.writeByte(scalar.recreateStrategy == RecreateStrategy.VALUE
+                    ? TAG_SCALAR_VALUE
+                    : TAG_SCALAR_LOOKUP);
+            writeString(out, logicalTypeName);
+            writeString(out, Objects.equals(logicalTypeName, bookmark.getLogicalTypeName())
+                    ? null // same as logical type (the common case)
+                    : bookmark.getLogicalTypeName());
+            writeString(out, bookmark.getIdentifier());
+            writeString(out, bookmark.getHintId());
+            writeString(out, scalar.getTitle());
+        } else if(memento instanceof ObjectMementoForEmpty) {
+            out.writeByte(TAG_EMPTY);
+            writeString(out, memento.getLogicalTypeName());
+        } else if(memento instanceof ObjectMementoCollection) {
+            val collection = (ObjectMementoCollection) memento;
+            val elements = collection.unwrapList();
+            out.writeByte(TAG_COLLECTION);
+            writeString(out, collection.getLogicalTypeName());
+            writeVarInt(out, elements.size());
+            for(val element : elements) {
+                write(out, element);
+            }
+        } else {
+            throw _Exceptions.unsupportedOperation("cannot encode ObjectMemento of type %s",
+                    memento.getClass().getName());
+        }
+    }
+
+    private ObjectMemento read(
+            final DataInputStream in,
+            final SpecificationLoader specificationLoader) throws IOException {
+        val tag = in.readByte();
+        switch (tag) {
+        case TAG_NULL:
+            return null;
+        case TAG_SCALAR_LOOKUP:
+        case TAG_SCALAR_VALUE: {
+            val logicalType = specificationLoader.lookupLogicalTypeElseFail(readString(in));
+            val bookmarkLogicalTypeName = readString(in);
+            val bookmark = Bookmark
+                    .forLogicalTypeNameAndIdentifier(
+                            bookmarkLogicalTypeName != null
+                                ? bookmarkLogicalTypeName
+                                : logicalType.getLogicalTypeName(),
+                            readString(in))
+                    .withHintId(readString(in));
+            val title = readString(in);
+            return ObjectMementoForScalar.decoded(
+                    logicalType,
+                    tag == TAG_SCALAR_VALUE
+                        ? RecreateStrategy.VALUE
+                        : RecreateStrategy.LOOKUP,
+                    title,
+                    bookmark);
+        }
+        case TAG_EMPTY:
+            return new ObjectMementoForEmpty(
+                    specificationLoader.lookupLogicalTypeElseFail(readString(in)));
+        case TAG_COLLECTION: {
+            val logicalType = specificationLoader.lookupLogicalTypeElseFail(readString(in));
+            final int size = readVarInt(in);
+            val elements = new ArrayList<ObjectMemento>(size);
+            for (int i = 0; i < size; i++) {
+                elements.add(read(in, specificationLoader));
+            }
+            return ObjectMementoCollection.of(elements, logicalType);
+        }
+        default:
+            throw new IOException("unknown tag " + tag);
+        }
+    }
+
+    /** length + 1 first, such that zero denotes {@code null} */
+    private void writeString(final DataOutputStream out, final @Nullable String string) throws IOException {
+        if(string == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        val utf8 = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length + 1);
+        out.write(utf8);
+    }
+
+    private @Nullable String readString(final DataInputStream in) throws IOException {
+        final int lengthPlusOne = readVarInt(in);
+        if(lengthPlusOne == 0) {
+            return null;
+        }
+        val utf8 = new byte[lengthPlusOne - 1];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        int remaining = value;
+        while((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 32; shift += 7) {
+            val b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed var-int");
+    }
+
+}
@@ -55,4 +55,10 @@ public ArrayList<ObjectMemento> unwrapList() {
         return getContainer();
     }
 
+    // -- SERIALIZATION
+
+    private Object writeReplace() {
+        return new ObjectMementoCodec.SerializedForm(this);
+    }
+
 }
@@ -50,4 +50,10 @@ public Bookmark getBookmark() {
         return Bookmark.empty(logicalType);
     }
 
+    // -- SERIALIZATION
+
+    private Object writeReplace() {
+        return new ObjectMementoCodec.SerializedForm(this);
+    }
+
 }
@@ -59,6 +59,17 @@ static ObjectMementoForScalar createPersistent(
         return new ObjectMementoForScalar(bookmark, specificationLoader);
     }
 
+    /**
+     * As recovered by the {@link ObjectMementoCodec}.
+     */
+    static ObjectMementoForScalar decoded(
+            final @NonNull LogicalType logicalType,
+            final @NonNull _Recreatable.RecreateStrategy recreateStrategy,
+            final @Nullable String title,
+            final @NonNull Bookmark bookmark) {
+        return new ObjectMementoForScalar(logicalType, recreateStrategy, title, bookmark);
+    }
+
     // --
 
     @Getter(onMethod_ = {@Override}) final LogicalType logicalType;
@@ -91,6 +102,17 @@ private ObjectMementoForScalar(
                 : _Recreatable.RecreateStrategy.LOOKUP;
     }
 
+    private ObjectMementoForScalar(
+            final LogicalType logicalType,
+            final _Recreatable.RecreateStrategy recreateStrategy,
+            final String title,
+            final Bookmark bookmark) {
+        this.logicalType = logicalType;
+        this.recreateStrategy = recreateStrategy;
+        this.title = title;
+        this.bookmark = bookmark;
+    }
+
     private ObjectMementoForScalar(final @NonNull ManagedObject adapter) {
 
         this.logicalType = adapter.getLogicalType();
@@ -158,4 +180,10 @@ public boolean equals(final Object other) {
         return recreateStrategy.equals(this, (ObjectMementoForScalar) other);
     }
 
+    // -- SERIALIZATION
+
+    private Object writeReplace() {
+        return new ObjectMementoCodec.SerializedForm(this);
+    }
+
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.metamodel.services;
 
+import java.util.Map;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -29,6 +31,7 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
@@ -37,6 +40,8 @@
 import lombok.val;
 
 /**
+ * Injects services into domain objects, using an {@link _InjectionPlan} per domain class
+ * (as computed on first injection), else falling back to Spring's autowiring.
  *
  * @since 2.0
  *
@@ -52,6 +57,8 @@ public class ServiceInjectorDefault implements ServiceInjector {
 
     private final AutowireCapableBeanFactory autowireCapableBeanFactory;
 
+    private final Map<Class<?>, _InjectionPlan> injectionPlans = _Maps.newConcurrentHashMap();
+
     @Override
     public <T> T injectServicesInto(final @Nullable T domainObject) {
 
@@ -72,6 +79,11 @@ public <T> T injectServicesInto(final @Nullable T domainObject) {
     }
 
     private <T> void injectInto(final @NonNull T domainObject) {
+        val injectionPlan = injectionPlans.computeIfAbsent(domainObject.getClass(), _InjectionPlan::forClass);
+        if(injectionPlan.isPlannable()) {
+            injectionPlan.injectInto(domainObject, autowireCapableBeanFactory);
+            return;
+        }
         autowireCapableBeanFactory.autowireBeanProperties(
                 domainObject,
                 AutowireCapableBeanFactory.AUTOWIRE_NO,
@@ -0,0 +1,284 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Sets;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * The injection points of a domain class, as {@code AutowiredAnnotationBeanPostProcessor} would discover them
+ * (<code>@Inject</code> or <code>@Autowired</code> fields and methods, superclasses first), computed once per class.
+ * <p>
+ * Dependencies are resolved through the bean factory (so qualifiers, {@code Optional}, {@code Provider},
+ * collections etc. all behave the same as with Spring's autowiring); resolved singletons are memoized per
+ * injection point, and written using {@link MethodHandle}s.
+ * <p>
+ * Classes with injection points that are handled by other post processors (<code>@Value</code>,
+ * <code>@Resource</code>, <code>@PersistenceContext</code>, ...) are not planned, but left to Spring.
+ */
+final class _InjectionPlan {
+
+    /**
+     * If the returned plan is not {@link #isPlannable() plannable}, the caller has to fall back to Spring.
+     */
+    static _InjectionPlan forClass(final @NonNull Class<?> domainClass) {
+        val userClass = ClassUtils.getUserClass(domainClass);
+        if(!isPlannable(userClass)) {
+            return NOT_PLANNABLE;
+        }
+        val injectionPoints = _Lists.<InjectionPoint>newArrayList();
+        collectInjectionPoints(userClass, injectionPoints);
+        return injectionPoints.isEmpty()
+                ? EMPTY
+                : new _InjectionPlan(true, injectionPoints.toArray(new InjectionPoint[0]));
+    }
+
+    private static final _InjectionPlan NOT_PLANNABLE = new _InjectionPlan(false, new InjectionPoint[0]);
+    private static final _InjectionPlan EMPTY = new _InjectionPlan(true, new InjectionPoint[0]);
+
+    private final boolean plannable;
+    private final InjectionPoint[] injectionPoints;
+
+    private _InjectionPlan(final boolean plannable, final InjectionPoint[] injectionPoints) {
+        this.plannable = plannable;
+        this.injectionPoints = injectionPoints;
+    }
+
+    boolean isPlannable() {
+        return plannable;
+    }
+
+    void injectInto(final @NonNull Object pojo, final @NonNull AutowireCapableBeanFactory beanFactory) {
+        for (val injectionPoint : injectionPoints) {
+            injectionPoint.injectInto(pojo, beanFactory);
+        }
+    }
+
+    // -- INJECTION POINTS
+
+    private static abstract class InjectionPoint {
+        abstract void injectInto(Object pojo, AutowireCapableBeanFactory beanFactory);
+    }
+
+    private static final class FieldInjectionPoint extends InjectionPoint {
+        private final Dependency dependency;
+        private final MethodHandle setter;
+
+        @SneakyThrows
+        FieldInjectionPoint(final Field field, final boolean required) {
+            ReflectionUtils.makeAccessible(field);
+            this.dependency = new Dependency(new DependencyDescriptor(field, required));
+            this.setter = MethodHandles.lookup().unreflectSetter(field);
+        }
+
+        @Override
+        @SneakyThrows
+        void injectInto(final Object pojo, final AutowireCapableBeanFactory beanFactory) {
+            val value = dependency.resolve(beanFactory);
+            if(value != null) {
+                setter.invoke(pojo, value);
+            }
+        }
+    }
+
+    private static final class MethodInjectionPoint extends InjectionPoint {
+        private final Dependency[] dependencies;
+        private final boolean required;
+        private final MethodHandle method;
+
+        @SneakyThrows
+        MethodInjectionPoint(final Method method, final boolean required) {
+            ReflectionUtils.makeAccessible(method);
+            this.required = required;
+            this.dependencies = new Dependency[method.getParameterCount()];
+            for (int i = 0; i < dependencies.length; i++) {
+                val methodParam = new MethodParameter(method, i);
+                this.dependencies[i] = new Dependency(new DependencyDescriptor(methodParam, required));
+            }
+            this.method = MethodHandles.lookup().unreflect(method);
+        }
+
+        @Override
+        @SneakyThrows
+        void injectInto(final Object pojo, final AutowireCapableBeanFactory beanFactory) {
+            val args = new Object[dependencies.length + 1];
+            args[0] = pojo;
+            for (int i = 0; i < dependencies.length; i++) {
+                val arg = dependencies[i].resolve(beanFactory);
+                if(arg == null
+                        && !required) {
+                    return; // same as Spring: an optional method is not called, unless all arguments resolve
+                }
+                args[i + 1] = arg;
+            }
+            method.invokeWithArguments(args);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Dependency {
+        private final DependencyDescriptor descriptor;
+        /** the resolved singleton, if any */
+        private volatile Object memoized;
+
+        Object resolve(final AutowireCapableBeanFactory beanFactory) {
+            val memoized = this.memoized;
+            if(memoized != null) {
+                return memoized;
+            }
+            final Set<String> autowiredBeanNames = new LinkedHashSet<>(1);
+            val value = beanFactory.resolveDependency(descriptor, null, autowiredBeanNames, null);
+            if(value != null
+                    && !autowiredBeanNames.isEmpty()
+                    && autowiredBeanNames.stream().allMatch(beanName->
+                        beanFactory.containsBean(beanName) && beanFactory.isSingleton(beanName))) {
+                this.memoized = value;
+            }
+            return value;
+        }
+    }
+
+    // -- DISCOVERY
+
+    private static final Set<String> AUTOWIRED_ANNOTATION_TYPES = _Sets.of(
+            Autowired.class.getName(),
+            "javax.inject.Inject",
+            "jakarta.inject.Inject");
+
+    /**
+     * Annotations that are processed by other bean post processors than {@code AutowiredAnnotationBeanPostProcessor};
+     * any of these present prevents the class from being planned.
+     */
+    private static final Set<String> UNPLANNABLE_ANNOTATION_TYPES = _Sets.of(
+            "org.springframework.beans.factory.annotation.Value",
+            "javax.annotation.Resource",
+            "jakarta.annotation.Resource",
+            "javax.ejb.EJB",
+            "javax.xml.ws.WebServiceRef",
+            "javax.persistence.PersistenceContext",
+            "javax.persistence.PersistenceUnit",
+            "jakarta.persistence.PersistenceContext",
+            "jakarta.persistence.PersistenceUnit");
+
+    private static boolean isPlannable(final Class<?> userClass) {
+        for(Class<?> cls = userClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (val field : cls.getDeclaredFields()) {
+                if(isAnnotatedWithAnyOf(field, UNPLANNABLE_ANNOTATION_TYPES)) {
+                    return false;
+                }
+            }
+            for (val method : cls.getDeclaredMethods()) {
+                if(isAnnotatedWithAnyOf(method, UNPLANNABLE_ANNOTATION_TYPES)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mirrors {@code AutowiredAnnotationBeanPostProcessor#buildAutowiringMetadata}.
+     */
+    private static void collectInjectionPoints(final Class<?> userClass, final List<InjectionPoint> injectionPoints) {
+        Class<?> targetClass = userClass;
+        do {
+            final List<InjectionPoint> currInjectionPoints = new ArrayList<>();
+
+            ReflectionUtils.doWithLocalFields(targetClass, field->{
+                val autowired = findAutowiredAnnotation(field);
+                if(autowired == null
+                        || Modifier.isStatic(field.getModifiers())) {
+                    return;
+                }
+                currInjectionPoints.add(new FieldInjectionPoint(field, isRequired(autowired)));
+            });
+
+            ReflectionUtils.doWithLocalMethods(targetClass, method->{
+                val bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+                if(!BridgeMethodResolver.isVisibilityBridgeMethodPair(method, bridgedMethod)) {
+                    return;
+                }
+                val autowired = findAutowiredAnnotation(bridgedMethod);
+                if(autowired == null
+                        || Modifier.isStatic(method.getModifiers())
+                        || !method.equals(ClassUtils.getMostSpecificMethod(method, userClass))) {
+                    return;
+                }
+                currInjectionPoints.add(new MethodInjectionPoint(bridgedMethod, isRequired(autowired)));
+            });
+
+            injectionPoints.addAll(0, currInjectionPoints);
+            targetClass = targetClass.getSuperclass();
+        }
+        while (targetClass != null && targetClass != Object.class);
+    }
+
+    private static AnnotationAttributes findAutowiredAnnotation(final AccessibleObject accessibleObject) {
+        for (val annotationType : AUTOWIRED_ANNOTATION_TYPES) {
+            val attributes = AnnotatedElementUtils.getMergedAnnotationAttributes(
+                    accessibleObject, annotationType);
+            if(attributes != null) {
+                return attributes;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRequired(final AnnotationAttributes autowired) {
+        return !autowired.containsKey("required")
+                || autowired.getBoolean("required");
+    }
+
+    private static boolean isAnnotatedWithAnyOf(final AccessibleObject accessibleObject, final Set<String> annotationTypes) {
+        for (final Annotation annotation : accessibleObject.getDeclaredAnnotations()) {
+            if(annotationTypes.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
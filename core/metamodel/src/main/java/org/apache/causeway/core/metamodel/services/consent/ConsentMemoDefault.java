@@ -0,0 +1,281 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.consent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.InteractionScope;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.consent.Consent;
+import org.apache.causeway.core.metamodel.consent.ConsentMemo;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Default implementation of {@link ConsentMemo}, as configured by
+ * {@link CausewayConfiguration.Core.MetaModel.ConsentMemo}: consents are memoized for the duration of the current
+ * interaction, keyed by target (its bookmark if an attached entity, its identity otherwise), member, {@link Where},
+ * {@link InteractionInitiatedBy} and whether visibility or usability.
+ * <p>
+ * Consents are only memoized for the {@link InteractionContext} (user) the interaction's memo was created with,
+ * so are not shared with nested interaction layers, eg. run as another user. Nor are consents memoized (or served
+ * from the memo) while an action or property edit is executing, as the objects involved are then subject to change.
+ *
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".ConsentMemoDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class ConsentMemoDefault implements ConsentMemo {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final Provider<InteractionLayerTracker> interactionLayerTrackerProvider;
+    private final Provider<Memo> memoProvider;
+
+    private final LongAdder totalHits = new LongAdder();
+    private final LongAdder totalMisses = new LongAdder();
+    private final LongAdder totalInvalidations = new LongAdder();
+
+    @Override
+    public Consent visibilityOf(
+            final @NonNull ManagedObject target,
+            final @NonNull ObjectMember member,
+            final @NonNull InteractionInitiatedBy interactionInitiatedBy,
+            final @NonNull Where where,
+            final @NonNull Supplier<Consent> consentSupplier) {
+        return consentOf(ConsentType.VISIBILITY, target, member, interactionInitiatedBy, where, consentSupplier);
+    }
+
+    @Override
+    public Consent usabilityOf(
+            final @NonNull ManagedObject target,
+            final @NonNull ObjectMember member,
+            final @NonNull InteractionInitiatedBy interactionInitiatedBy,
+            final @NonNull Where where,
+            final @NonNull Supplier<Consent> consentSupplier) {
+        return consentOf(ConsentType.USABILITY, target, member, interactionInitiatedBy, where, consentSupplier);
+    }
+
+    @Override
+    public void invalidate() {
+        if(!isEnabled()) {
+            return;
+        }
+        if(!interactionLayerTrackerProvider.get().currentInteraction().isPresent()) {
+            return;
+        }
+        memoProvider.get().invalidate();
+        totalInvalidations.increment();
+    }
+
+    @Override
+    public Optional<Statistics> currentStatistics() {
+        return interactionLayerTrackerProvider.get().currentInteraction().isPresent()
+                ? memoProvider.get().statistics()
+                : Optional.empty();
+    }
+
+    /**
+     * Hits and misses of the memo, accumulated over all interactions since start-up.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(totalHits.sum(), totalMisses.sum(), totalInvalidations.sum());
+    }
+
+    // -- HELPER
+
+    enum ConsentType {
+        VISIBILITY,
+        USABILITY
+    }
+
+    @Value
+    static class Key {
+        final @NonNull ConsentType consentType;
+        final @NonNull Object target;
+        final @NonNull Identifier memberIdentifier;
+        final @NonNull InteractionInitiatedBy interactionInitiatedBy;
+        final @NonNull Where where;
+    }
+
+    /**
+     * Equal only to itself, for targets other than attached entities (whose bookmark may be expensive to compute,
+     * as for view models, or not available at all).
+     */
+    @RequiredArgsConstructor
+    static final class IdentityOf {
+        final Object pojo;
+        @Override public boolean equals(final Object obj) {
+            return obj instanceof IdentityOf
+                    && ((IdentityOf) obj).pojo == pojo;
+        }
+        @Override public int hashCode() {
+            return System.identityHashCode(pojo);
+        }
+    }
+
+    /**
+     * The memo of the current interaction, bound to the {@link InteractionContext} it is first used with.
+     */
+    @Component
+    @Named(CausewayModuleCoreMetamodel.NAMESPACE + ".ConsentMemoDefault.Memo")
+    @InteractionScope
+    static class Memo implements DisposableBean {
+
+        private final Map<Key, Consent> consentByKey = _Maps.newConcurrentHashMap();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+        private InteractionContext interactionContext;
+
+        @Override
+        public void destroy() {
+            consentByKey.clear();
+        }
+
+        synchronized boolean isBoundTo(final @NonNull InteractionContext interactionContext) {
+            if(this.interactionContext == null) {
+                this.interactionContext = interactionContext;
+            }
+            return this.interactionContext == interactionContext;
+        }
+
+        Consent lookup(final Key key) {
+            val memoized = consentByKey.get(key);
+            (memoized != null ? hits : misses).increment();
+            return memoized;
+        }
+
+        void memoize(final Key key, final Consent consent) {
+            consentByKey.put(key, consent);
+        }
+
+        void invalidate() {
+            consentByKey.clear();
+            invalidations.increment();
+        }
+
+        Optional<Statistics> statistics() {
+            return interactionContext != null
+                    ? Optional.of(new Statistics(hits.sum(), misses.sum(), invalidations.sum()))
+                    : Optional.empty();
+        }
+    }
+
+    private boolean isEnabled() {
+        return causewayConfiguration.getCore().getMetaModel().getConsentMemo().isMemoizePerInteraction();
+    }
+
+    private Consent consentOf(
+            final ConsentType consentType,
+            final ManagedObject target,
+            final ObjectMember member,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final Supplier<Consent> consentSupplier) {
+
+        val memo = memo().orElse(null);
+        val targetKey = memo != null
+                ? targetKeyOf(target)
+                : null;
+        if(targetKey == null) {
+            return consentSupplier.get();
+        }
+        val key = new Key(consentType, targetKey, member.getFeatureIdentifier(), interactionInitiatedBy, where);
+        val memoized = memo.lookup(key);
+        if(memoized != null) {
+            totalHits.increment();
+            return memoized;
+        }
+        totalMisses.increment();
+        val consent = consentSupplier.get();
+        if(consent != null) {
+            memo.memoize(key, consent);
+        }
+        return consent;
+    }
+
+    private Optional<Memo> memo() {
+        if(!isEnabled()) {
+            return Optional.empty();
+        }
+        val interactionLayerTracker = interactionLayerTrackerProvider.get();
+        val interactionContext = interactionLayerTracker.currentInteractionContext().orElse(null);
+        if(interactionContext == null) {
+            return Optional.empty();
+        }
+        val isExecuting = interactionLayerTracker.currentInteraction()
+                .map(interaction->interaction.getCurrentExecution() != null)
+                .orElse(true);
+        if(isExecuting) {
+            return Optional.empty();
+        }
+        val memo = memoProvider.get();
+        return memo.isBoundTo(interactionContext)
+                ? Optional.of(memo)
+                : Optional.empty();
+    }
+
+    @Nullable
+    private static Object targetKeyOf(final ManagedObject target) {
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(target)
+                || target.getSpecialization().isPacked()) {
+            return null;
+        }
+        if(target.getSpecialization().isEntity()) {
+            val entityState = target.getEntityState();
+            return entityState.isAttached()
+                    || entityState.isHollow()
+                        ? target.getBookmark().orElse(null)
+                        : null;
+        }
+        return new IdentityOf(target.getPojo());
+    }
+
+}
@@ -42,16 +42,29 @@ public final class PropertyChangeRecordId {
     public static PropertyChangeRecordId of(
             final @NonNull ManagedObject entity,
             final @NonNull OneToOneAssociation property) {
-        return new PropertyChangeRecordId(entity, property);
+        return new PropertyChangeRecordId(entity, ManagedObjects.bookmarkElseFail(entity), property);
     }
+
+    /**
+     * Variant of {@link #of(ManagedObject, OneToOneAssociation)}, that reuses an already known
+     * {@link Bookmark} of the entity, rather than having to look it up again for each property.
+     */
+    public static PropertyChangeRecordId of(
+            final @NonNull ManagedObject entity,
+            final @NonNull Bookmark bookmark,
+            final @NonNull OneToOneAssociation property) {
+        return new PropertyChangeRecordId(entity, bookmark, property);
+    }
+
     private PropertyChangeRecordId(
             final ManagedObject entity,
+            final Bookmark bookmark,
             final OneToOneAssociation property) {
 
         // these exposed as a convenience
         this.entity = entity;
         this.property = property;
-        this.bookmark = ManagedObjects.bookmarkElseFail(entity);
+        this.bookmark = bookmark;
 
         // these are the key
         this.bookmarkStr = bookmark.toString();
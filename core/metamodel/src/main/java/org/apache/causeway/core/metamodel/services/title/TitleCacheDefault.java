@@ -0,0 +1,266 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.title;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.InteractionScope;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.locale.UserLocale;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleCache;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Default implementation of {@link TitleCache}, as configured by
+ * {@link CausewayConfiguration.Core.MetaModel.TitleCache}: titles (and icon names) of attached entities are
+ * memoized for the duration of the current interaction, and titles of entities that have both a version and a
+ * {@link TitleFacet#isPure() pure} title also across interactions.
+ *
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".TitleCacheDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class TitleCacheDefault implements TitleCache {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final Provider<InteractionLayerTracker> interactionLayerTrackerProvider;
+    private final Provider<Memo> memoProvider;
+
+    /**
+     * Titles cached across interactions; bounded only roughly, by discarding all of them when full,
+     * which is cheap and (given they are keyed by version) never yields a stale title.
+     */
+    private final Map<Bookmark, VersionedTitle> titleByBookmark = _Maps.newConcurrentHashMap();
+
+    @Override
+    public String titleOf(
+            final @NonNull ManagedObject object,
+            final @NonNull TitleFacet titleFacet,
+            final @NonNull Supplier<String> titleSupplier) {
+
+        if(!isEnabled()) {
+            return titleSupplier.get();
+        }
+        val bookmark = bookmarkIfAttachedEntity(object);
+        if(bookmark == null) {
+            return titleSupplier.get();
+        }
+        val memo = memo().orElse(null);
+        if(memo != null) {
+            val memoized = memo.lookupTitle(bookmark);
+            if(memoized != null) {
+                return memoized;
+            }
+        }
+        val title = cachedTitleOf(object, bookmark, titleFacet, titleSupplier);
+        if(memo != null
+                && title != null) {
+            memo.memoizeTitle(bookmark, title);
+        }
+        return title;
+    }
+
+    @Override
+    public String iconNameOf(
+            final @NonNull ManagedObject object,
+            final @NonNull Supplier<String> iconNameSupplier) {
+
+        if(!config().isMemoizePerInteraction()) {
+            return iconNameSupplier.get();
+        }
+        val bookmark = bookmarkIfAttachedEntity(object);
+        val memo = bookmark != null
+                ? memo().orElse(null)
+                : null;
+        if(memo == null) {
+            return iconNameSupplier.get();
+        }
+        // icon names may be null, hence Optional
+        val memoized = memo.lookupIconName(bookmark);
+        if(memoized != null) {
+            return memoized.orElse(null);
+        }
+        val iconName = iconNameSupplier.get();
+        memo.memoizeIconName(bookmark, Optional.ofNullable(iconName));
+        return iconName;
+    }
+
+    @Override
+    public void invalidate(final @NonNull ManagedObject entity) {
+        if(!isEnabled()) {
+            return;
+        }
+        val bookmark = entity.getBookmark().orElse(null);
+        if(bookmark == null) {
+            return;
+        }
+        titleByBookmark.remove(bookmark);
+        memo().ifPresent(memo->memo.invalidate(bookmark));
+    }
+
+    // -- HELPER
+
+    /**
+     * The memo of the current interaction.
+     */
+    @Component
+    @Named(CausewayModuleCoreMetamodel.NAMESPACE + ".TitleCacheDefault.Memo")
+    @InteractionScope
+    static class Memo implements DisposableBean {
+
+        private final Map<Bookmark, String> titleByBookmark = _Maps.newConcurrentHashMap();
+        private final Map<Bookmark, Optional<String>> iconNameByBookmark = _Maps.newConcurrentHashMap();
+
+        @Override
+        public void destroy() {
+            titleByBookmark.clear();
+            iconNameByBookmark.clear();
+        }
+
+        String lookupTitle(final Bookmark bookmark) {
+            return titleByBookmark.get(bookmark);
+        }
+
+        void memoizeTitle(final Bookmark bookmark, final String title) {
+            titleByBookmark.put(bookmark, title);
+        }
+
+        Optional<String> lookupIconName(final Bookmark bookmark) {
+            return iconNameByBookmark.get(bookmark);
+        }
+
+        void memoizeIconName(final Bookmark bookmark, final Optional<String> iconName) {
+            iconNameByBookmark.put(bookmark, iconName);
+        }
+
+        void invalidate(final Bookmark bookmark) {
+            titleByBookmark.remove(bookmark);
+            iconNameByBookmark.remove(bookmark);
+        }
+    }
+
+    @Value
+    static class VersionedTitle {
+        final @NonNull Object version;
+        final @Nullable UserLocale locale;
+        final @NonNull String title;
+    }
+
+    private CausewayConfiguration.Core.MetaModel.TitleCache config() {
+        return causewayConfiguration.getCore().getMetaModel().getTitleCache();
+    }
+
+    /**
+     * Whether titles are memoized or cached at all; checked first, so that otherwise not even the bookmark
+     * is computed.
+     */
+    private boolean isEnabled() {
+        val config = config();
+        return config.isMemoizePerInteraction()
+                || config.getMaxEntries() > 0;
+    }
+
+    private Optional<Memo> memo() {
+        if(!config().isMemoizePerInteraction()
+                || !interactionLayerTrackerProvider.get().currentInteraction().isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(memoProvider.get());
+    }
+
+    private String cachedTitleOf(
+            final ManagedObject entity,
+            final Bookmark bookmark,
+            final TitleFacet titleFacet,
+            final Supplier<String> titleSupplier) {
+
+        val maxEntries = config().getMaxEntries();
+        if(maxEntries <= 0
+                || !titleFacet.isPure()) {
+            return titleSupplier.get();
+        }
+        val version = entity.getSpecification().lookupFacet(EntityFacet.class)
+                .map(entityFacet->entityFacet.versionOf(entity.getPojo()))
+                .orElse(null);
+        if(version == null) {
+            return titleSupplier.get();
+        }
+        val locale = interactionLayerTrackerProvider.get().currentInteractionContext()
+                .map(InteractionContext::getLocale)
+                .orElse(null);
+
+        val cached = titleByBookmark.get(bookmark);
+        if(cached != null
+                && cached.getVersion().equals(version)
+                && Objects.equals(cached.getLocale(), locale)) {
+            return cached.getTitle();
+        }
+        val title = titleSupplier.get();
+        if(title != null) {
+            if(titleByBookmark.size() >= maxEntries) {
+                titleByBookmark.clear();
+            }
+            titleByBookmark.put(bookmark, new VersionedTitle(version, locale, title));
+        }
+        return title;
+    }
+
+    @Nullable
+    private static Bookmark bookmarkIfAttachedEntity(final ManagedObject object) {
+        if(!object.getSpecialization().isEntity()) {
+            return null;
+        }
+        val entityState = object.getEntityState();
+        return entityState.isAttached()
+                || entityState.isHollow()
+                    ? object.getBookmark().orElse(null)
+                    : null;
+    }
+
+}
@@ -24,6 +24,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.annotation.Domain;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Refs;
 import org.apache.causeway.core.metamodel.consent.Consent;
@@ -135,6 +136,16 @@ Can<ManagedObject> getAutoComplete(
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * As {@link #getAutoComplete(ParameterNegotiationModel, String, InteractionInitiatedBy)},
+     * but only returning the matches within given {@link QueryRange}.
+     */
+    Can<ManagedObject> getAutoComplete(
+            ParameterNegotiationModel pendingArgs,
+            String searchArg,
+            QueryRange range,
+            InteractionInitiatedBy interactionInitiatedBy);
+
 
 
     int getAutoCompleteMinLength();
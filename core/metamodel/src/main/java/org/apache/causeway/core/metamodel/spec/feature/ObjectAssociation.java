@@ -178,7 +178,11 @@ static Where whereContextFor(final Identifier memberIdentifier) {
          */
         public static Predicate<ObjectAssociation> visibleAccordingToHiddenFacet(
                 final Identifier memberIdentifier) {
-            val whereContext = whereContextFor(memberIdentifier);
+            return visibleAccordingToHiddenFacet(whereContextFor(memberIdentifier));
+        }
+
+        public static Predicate<ObjectAssociation> visibleAccordingToHiddenFacet(
+                final Where whereContext) {
             return (final ObjectAssociation assoc) -> assoc.lookupFacet(HiddenFacet.class)
                     .map(WhereValueFacet.class::cast)
                     .map(WhereValueFacet::where)
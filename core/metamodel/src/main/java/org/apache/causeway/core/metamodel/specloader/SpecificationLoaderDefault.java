@@ -23,7 +23,10 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -41,6 +44,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.HomePage;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.id.LogicalType;
@@ -79,6 +83,7 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.causeway.core.metamodel.specloader.postprocessor.PostProcessor;
+import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionLocks;
 import org.apache.causeway.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.causeway.core.metamodel.specloader.validator.ValidationFailure;
 import org.apache.causeway.core.metamodel.specloader.validator.ValidationFailures;
@@ -142,6 +147,18 @@
     @Getter @Setter
     private boolean metamodelFullyIntrospected = false;
 
+    /**
+     * Only ever set if in {@link #isWarmUpInBackground() background warm-up} mode, while there are types left
+     * to be introspected after bootstrapping.
+     */
+    private ExecutorService warmUpExecutor;
+
+    /**
+     * Used by all specs if in {@link #isWarmUpInBackground() background warm-up} mode, each guarding its own
+     * introspection against concurrent requests.
+     */
+    private final IntrospectionLocks introspectionLocks = new IntrospectionLocks();
+
     @Inject
     public SpecificationLoaderDefault(
             final ProgrammingModelService programmingModelService,
@@ -262,6 +279,8 @@ public void createMetaModel() {
 
         val domainObjectSpecs = _Lists.<ObjectSpecification>newArrayList();
         val mixinSpecs = _Lists.<ObjectSpecification>newArrayList();
+        val deferredSpecs = _Lists.<ObjectSpecification>newArrayList();
+        val isWarmUpInBackground = isWarmUpInBackground();
 
         causewayBeanTypeRegistry.streamIntrospectableTypes()
         .forEach(typeMeta->{
@@ -276,7 +295,11 @@ public void createMetaModel() {
 
             val sort = typeMeta.getBeanSort();
 
-            if(sort.isManagedBeanAny() || sort.isEntity() || sort.isViewModel() ) {
+            if(isWarmUpInBackground
+                    && !isNeededByEntryPoints(typeMeta)
+                    && (sort.isEntity() || sort.isViewModel() || sort.isMixin())) {
+                deferredSpecs.add(spec);
+            } else if(sort.isManagedBeanAny() || sort.isEntity() || sort.isViewModel() ) {
                 domainObjectSpecs.add(spec);
             } else if(sort.isMixin()) {
                 mixinSpecs.add(spec);
@@ -320,8 +343,13 @@ public void createMetaModel() {
             introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
         }
 
-        log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        if(isWarmUpInBackground) {
+            // validators introspect all types, so are deferred also
+            warmUpInBackground(Can.ofCollection(deferredSpecs));
+        } else {
+            log.info(" - running remaining validators");
+            _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
@@ -343,6 +371,7 @@ public ValidationFailures getOrAssessValidationResult() {
 
     @Override
     public void disposeMetaModel() {
+        stopWarmUp();
         waitForValidationToFinish();
         logicalTypeResolver.clear();
         cache.clear();
@@ -381,6 +410,81 @@ private boolean isFullIntrospect() {
         return IntrospectionMode.isFullIntrospect(causewayConfiguration, causewaySystemEnvironment);
     }
 
+    /**
+     * @return whether types not needed to serve the first requests are to be introspected in the background,
+     * dependent on current deployment mode and configuration
+     */
+    private boolean isWarmUpInBackground() {
+        return IntrospectionMode.isWarmUpInBackground(causewayConfiguration, causewaySystemEnvironment);
+    }
+
+    // -- WARM-UP
+
+    /**
+     * Domain services provide the menus and the REST API's entry points, hence these along with any
+     * home page view model are introspected during bootstrapping.
+     */
+    private static boolean isNeededByEntryPoints(final CausewayBeanMetaData typeMeta) {
+        return typeMeta.getBeanSort().isManagedBeanAny()
+                || typeMeta.getCorrespondingClass().isAnnotationPresent(HomePage.class);
+    }
+
+    /**
+     * Fully introspects given specs on a single low priority thread, mixins first (as these contribute to the
+     * others), then runs the validators.
+     * <p>
+     * Each spec is introspected holding its own lock (see {@link IntrospectionLocks}), so that requests only ever
+     * wait for the spec they need, if that happens to be introspected by the warm-up thread at the time.
+     */
+    private void warmUpInBackground(final Can<ObjectSpecification> specs) {
+        log.info(" - deferring introspection of {} types (and validation) to background warm-up", specs.size());
+
+        warmUpExecutor = Executors.newSingleThreadExecutor(runnable->{
+            val thread = new Thread(runnable, "causeway-metamodel-warmup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        val warmUpSpecs = specs.filter(spec->spec.getBeanSort().isMixin())
+                .addAll(specs.filter(spec->!spec.getBeanSort().isMixin()));
+
+        warmUpExecutor.execute(()->{
+            val stopWatch = _Timing.now();
+            for (val spec : warmUpSpecs) {
+                if(Thread.currentThread().isInterrupted()) {
+                    log.info("Metamodel warm-up interrupted");
+                    return;
+                }
+                try {
+                    spec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+                } catch (Exception ex) {
+                    log.warn("Metamodel warm-up failed to introspect {}", spec.getFullIdentifier(), ex);
+                }
+            }
+
+            val validationResult = getOrAssessValidationResult();
+            stopWatch.stop();
+            log.info("Metamodel warm-up of {} types completed in {} ms.", warmUpSpecs.size(), stopWatch.getMillis());
+
+            if(validationResult.hasFailures()) {
+                log.error("### Validation FAILED, failure count: {}", validationResult.getNumberOfFailures());
+                validationResult.forEach(failure->log.error("# " + failure.getMessage()));
+            }
+        });
+        warmUpExecutor.shutdown(); // accepts no further tasks, terminates once warmed up
+    }
+
+    @SneakyThrows
+    private void stopWarmUp() {
+        if(warmUpExecutor == null) {
+            return;
+        }
+        warmUpExecutor.shutdownNow();
+        warmUpExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        warmUpExecutor = null;
+    }
+
     // -- SPEC LOADING
 
     @Override
@@ -634,7 +738,8 @@ private ObjectSpecification createSpecification(final CausewayBeanMetaData typeM
                         metaModelContext,
                         facetProcessor,
                         postProcessor,
-                        classSubstitutorRegistry);
+                        classSubstitutorRegistry,
+                        isWarmUpInBackground() ? introspectionLocks : null);
 
         return objectSpec;
     }
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.val;
+
+/**
+ * Provides a lock per spec, held while introspecting that spec, so that other threads (eg. the metamodel's
+ * background warm-up) never see a spec in one of its interim states, yet only ever wait for the very spec
+ * they need.
+ * <p>
+ * Introspection recurses into other specs, so two threads may each hold the lock of one spec while needing the
+ * other's.  Rather than deadlock, a thread does not wait for a spec whose introspecting thread is (directly or
+ * transitively) waiting for it.  It sees that spec in its interim state instead, just as when recursing into a
+ * spec being introspected by the same thread.  The spec is not modified meanwhile, as the thread introspecting it
+ * is blocked.
+ *
+ * @since 2.0
+ */
+public final class IntrospectionLocks {
+
+    /**
+     * The lock each blocked thread is waiting for, so that cycles can be detected before blocking.
+     */
+    private final Map<Thread, SpecLock> waitingFor = new HashMap<>();
+
+    public SpecLock newLock() {
+        return new SpecLock();
+    }
+
+    /**
+     * Reentrant, as introspection may recurse into this same spec; interim states guard against infinite loops.
+     */
+    public final class SpecLock extends ReentrantLock {
+
+        private static final long serialVersionUID = 1L;
+
+        private SpecLock() {
+        }
+
+        /**
+         * Acquires this lock, waiting if need be, unless the thread holding it is waiting for the current thread.
+         *
+         * @return whether acquired, hence must be {@link #unlock() unlocked}
+         */
+        public boolean lockUnlessWaitedFor() {
+            if(tryLock()) {
+                return true;
+            }
+            val current = Thread.currentThread();
+            synchronized(waitingFor) {
+                if(isWaitedForBy(current)) {
+                    return false;
+                }
+                waitingFor.put(current, this);
+            }
+            try {
+                lock();
+            } finally {
+                synchronized(waitingFor) {
+                    waitingFor.remove(current);
+                }
+            }
+            return true;
+        }
+
+        // -- HELPER
+
+        /**
+         * Follows the owners of the locks they are waiting for, to see whether that leads back to given thread.
+         */
+        private boolean isWaitedForBy(final Thread thread) {
+            val visited = new HashSet<Thread>();
+            Thread owner = getOwner();
+            while(owner != null
+                    && visited.add(owner)) {
+                if(owner == thread) {
+                    return true;
+                }
+                val awaited = waitingFor.get(owner);
+                if(awaited == null) {
+                    return false;
+                }
+                owner = awaited.getOwner();
+            }
+            return false;
+        }
+    }
+
+}
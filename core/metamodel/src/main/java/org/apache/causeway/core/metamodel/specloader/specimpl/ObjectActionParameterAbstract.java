@@ -23,6 +23,7 @@
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.exceptions.unrecoverable.DomainModelException;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.commons.ClassExtensions;
@@ -187,6 +188,15 @@ public Can<ManagedObject> getAutoComplete(
             final ParameterNegotiationModel pendingArgs,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return getAutoComplete(pendingArgs, searchArg, QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Can<ManagedObject> getAutoComplete(
+            final ParameterNegotiationModel pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         val autoCompleteFacet = getFacet(ActionParameterAutoCompleteFacet.class);
         if (autoCompleteFacet == null) {
@@ -200,6 +210,7 @@ public Can<ManagedObject> getAutoComplete(
                         pendingArgs.getActionTarget(),
                         pendingArgs.getParamValues(),
                         searchArg,
+                        range,
                         interactionInitiatedBy);
         checkChoicesOrAutoCompleteType(getSpecificationLoader(), visibleChoices, paramSpec);
 
@@ -27,8 +27,10 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.services.iactn.InteractionProvider;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.consent.Consent;
+import org.apache.causeway.core.metamodel.consent.ConsentMemo;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
@@ -68,6 +70,10 @@
     @Getter(onMethod_ = {@Override}) private final @NonNull FeatureType featureType;
     @Getter private final @NonNull FacetedMethod facetedMethod;
 
+    // looked up lazily, as not yet available during introspection
+    private final _Lazy<ConsentMemo> consentMemo =
+            _Lazy.threadSafe(()->getServiceRegistry().lookupService(ConsentMemo.class).orElseGet(ConsentMemo::noop));
+
     // -- CONSTRUCTOR
 
     protected ObjectMemberAbstract(
@@ -205,6 +211,8 @@ public boolean isAlwaysHidden() {
     /**
      * Loops over all {@link HidingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none hide the member.
+     * <p>
+     * The consent may be memoized for the current interaction, see {@link ConsentMemo}.
      */
     @Override
     public Consent isVisible(
@@ -212,8 +220,10 @@ public Consent isVisible(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
 
-        val visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
+        return consentMemo.get().visibilityOf(target, this, interactionInitiatedBy, where, ()->{
+            val visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
+            return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
+        });
     }
 
     // -- Disabled (or enabled)
@@ -235,6 +245,8 @@ protected abstract UsabilityContext createUsableInteractionContext(
     /**
      * Loops over all {@link DisablingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none disables the member.
+     * <p>
+     * The consent may be memoized for the current interaction, see {@link ConsentMemo}.
      */
     @Override
     public Consent isUsable(
@@ -242,8 +254,10 @@ public Consent isUsable(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
 
-        val usabilityContext = createUsableInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isUsableResult(this, usabilityContext).createConsent();
+        return consentMemo.get().usabilityOf(target, this, interactionInitiatedBy, where, ()->{
+            val usabilityContext = createUsableInteractionContext(target, interactionInitiatedBy, where);
+            return InteractionUtils.isUsableResult(this, usabilityContext).createConsent();
+        });
     }
 
     // -- PREDICATES
@@ -26,6 +26,7 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.Identifier;
@@ -70,6 +71,7 @@
 import org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet.Contributing;
 import org.apache.causeway.core.metamodel.facets.object.navparent.NavigableParentFacet;
 import org.apache.causeway.core.metamodel.facets.object.parented.ParentedCollectionFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleCache;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleRenderRequest;
 import org.apache.causeway.core.metamodel.facets.object.value.ValueFacet;
@@ -196,7 +198,18 @@ public Can<ObjectSpecification> snapshot() {
     private AliasedFacet aliasedFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+
+    /**
+     * If not {@code null}, held while introspecting this spec, so that other threads (eg. the metamodel's
+     * background warm-up) wait for just this spec to be introspected, rather than see it in one of its
+     * interim states.
+     */
+    private final @Nullable IntrospectionLocks.SpecLock introspectionLock;
+
+    // looked up lazily, as not yet available during introspection
+    private final _Lazy<TitleCache> titleCache =
+            _Lazy.threadSafe(()->getServiceRegistry().lookupService(TitleCache.class).orElseGet(TitleCache::noop));
 
 
     // -- Constructor
@@ -206,7 +219,8 @@ protected ObjectSpecificationAbstract(
             final String shortName,
             final BeanSort beanSort,
             final FacetProcessor facetProcessor,
-            final PostProcessor postProcessor) {
+            final PostProcessor postProcessor,
+            final @Nullable IntrospectionLocks introspectionLocks) {
 
         super(facetProcessor.getMetaModelContext(), Identifier.classIdentifier(logicalType));
 
@@ -218,6 +232,9 @@ protected ObjectSpecificationAbstract(
 
         this.facetProcessor = facetProcessor;
         this.postProcessor = postProcessor;
+        this.introspectionLock = introspectionLocks != null
+                ? introspectionLocks.newLock()
+                : null;
     }
 
     // -- Stuff immediately derivable from class
@@ -259,6 +276,27 @@ public void introspectUpTo(final IntrospectionState upTo) {
             return; // optimization
         }
 
+        if(introspectionLock == null) {
+            doIntrospectUpTo(upTo);
+            return;
+        }
+
+        if(!introspectionLock.lockUnlessWaitedFor()) {
+            return; // being introspected by a thread waiting for us, so (as when recursing) see its interim state
+        }
+        try {
+            doIntrospectUpTo(upTo);
+        } finally {
+            introspectionLock.unlock();
+        }
+    }
+
+    private void doIntrospectUpTo(final IntrospectionState upTo) {
+
+        if(!isLessThan(upTo)) {
+            return; // introspected concurrently, while waiting for the lock
+        }
+
         if(log.isDebugEnabled()) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
@@ -449,7 +487,11 @@ public final Optional<ViewModelFacet> viewmodelFacet() {
     @Override
     public String getTitle(final TitleRenderRequest titleRenderRequest) {
         if (titleFacet != null) {
-            val titleString = titleFacet.title(titleRenderRequest);
+            // titles depending on the rendering context are never memoized
+            val titleString = titleRenderRequest.isContextFree()
+                    ? titleCache.get().titleOf(titleRenderRequest.getObject(), titleFacet,
+                            ()->titleFacet.title(titleRenderRequest))
+                    : titleFacet.title(titleRenderRequest);
             if (!_Strings.isEmpty(titleString)) {
                 return titleString;
             }
@@ -466,7 +508,7 @@ public String getIconName(final ManagedObject domainObject) {
             _Assert.assertEquals(domainObject.getSpecification(), this);
         }
         return iconFacet != null
-                ? iconFacet.iconName(domainObject)
+                ? titleCache.get().iconNameOf(domainObject, ()->iconFacet.iconName(domainObject))
                 : null;
     }
 
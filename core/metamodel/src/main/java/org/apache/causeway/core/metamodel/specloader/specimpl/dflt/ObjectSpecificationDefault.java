@@ -64,6 +64,7 @@
 import org.apache.causeway.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.causeway.core.metamodel.specloader.postprocessor.PostProcessor;
 import org.apache.causeway.core.metamodel.specloader.specimpl.FacetedMethodsBuilder;
+import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionLocks;
 import org.apache.causeway.core.metamodel.specloader.specimpl.ObjectActionDefault;
 import org.apache.causeway.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract;
 import org.apache.causeway.core.metamodel.specloader.specimpl.OneToManyAssociationDefault;
@@ -94,12 +95,13 @@ public ObjectSpecificationDefault(
             final MetaModelContext mmc,
             final FacetProcessor facetProcessor,
             final PostProcessor postProcessor,
-            final ClassSubstitutorRegistry classSubstitutorRegistry) {
+            final ClassSubstitutorRegistry classSubstitutorRegistry,
+            final @Nullable IntrospectionLocks introspectionLocks) {
 
         super(typeMeta.getCorrespondingClass(),
                 typeMeta.getLogicalType(),
                 typeMeta.getLogicalType().getLogicalTypeSimpleName(),
-                typeMeta.getBeanSort(), facetProcessor, postProcessor);
+                typeMeta.getBeanSort(), facetProcessor, postProcessor, introspectionLocks);
 
         this.isVetoedForInjection = typeMeta.getManagedBy().isVetoedForInjection();
         this.classSubstitutorRegistry = classSubstitutorRegistry;
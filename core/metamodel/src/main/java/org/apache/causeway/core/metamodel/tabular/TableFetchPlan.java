@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.tablecol.TableColumnVisibilityService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * The properties of an entity type that are rendered as columns of a table (for given {@link Where} context)
+ * and that reference other entities.
+ * <p>
+ * Rendering such a table would otherwise load each referenced entity individually (if not yet loaded);
+ * persistence mechanisms may instead fetch these along with the entities being queried.
+ *
+ * @since 2.0 {@index}
+ */
+@Value
+public class TableFetchPlan {
+
+    public static TableFetchPlan forElementType(
+            final @NonNull ObjectSpecification elementType,
+            final @NonNull Where whereContext) {
+
+        val elementClass = elementType.getCorrespondingClass();
+        val columnVisibilityServices = elementType.getServiceRegistry()
+                .select(TableColumnVisibilityService.class);
+
+        val references = elementType.streamProperties(MixedIn.EXCLUDED)
+                .filter(ObjectAssociation.Predicates.visibleAccordingToHiddenFacet(whereContext))
+                .filter(prop->prop.getElementType().isEntity())
+                .filter(prop->columnVisibilityServices.stream()
+                        .noneMatch(service->service.hides(elementClass, prop.getId())))
+                .collect(Can.toCan());
+
+        return new TableFetchPlan(elementType, whereContext, references);
+    }
+
+    private final @NonNull ObjectSpecification elementType;
+    private final @NonNull Where whereContext;
+    private final @NonNull Can<OneToOneAssociation> references;
+
+    public boolean isEmpty() {
+        return references.isEmpty();
+    }
+
+    /**
+     * The ids of the {@link #getReferences() references},
+     * which correspond to the names of the persistent fields/attributes.
+     */
+    public Can<String> getReferenceIds() {
+        return references.map(OneToOneAssociation::getId);
+    }
+
+}
@@ -23,6 +23,7 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
@@ -30,6 +31,7 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
@@ -128,6 +130,14 @@ private DataTableInternal(
             final ManagedMember managedMember,
             final Where where,
             final Can<ManagedObject> elements) {
+        this(managedMember, where, ()->elements);
+    }
+
+    private DataTableInternal(
+            // we need access to the owner in support of imperative title and referenced column detection
+            final ManagedMember managedMember,
+            final Where where,
+            final Supplier<Can<ManagedObject>> elementsSupplier) {
 
         val elementType = managedMember.getElementType();
         //val mmc = elementType.getMetaModelContext();
@@ -139,7 +149,7 @@ private DataTableInternal(
         this.searchArgument = _Bindables.forValue("");
         this.columnSort = _Bindables.forValue(null);
 
-        this.dataElements = _Observables.lazy(()->elements
+        this.dataElements = _Observables.lazy(()->elementsSupplier.get()
                 //.map(mmc::injectServicesInto) // I believe is redundant, has major performance impact
                 //.filter(this::ignoreHidden) // I believe is redundant, has major performance impact
                 );
@@ -367,16 +377,6 @@ public DataTable export() {
                     .collect(Can.toCan()));
     }
 
-    // used internally for serialization
-    private DataTable exportAll() {
-        return new DataTable(
-                getElementType(),
-                getTitle().getValue(),
-                getDataColumns().getValue()
-                    .map(DataColumn::getAssociationMetaModel),
-                getDataElements().getValue());
-    }
-
     // -- MEMENTO
 
     @Override
@@ -390,6 +390,24 @@ public Memento createMemento() {
      * Either originates from a <i>Collection</i> or an <i>Action</i>'s
      * non-scalar result.
      * <p>
+     * Holds only what is required to reproduce the table, not the table itself:
+     * <ul>
+     * <li>a <i>Collection</i>'s elements are not memoized at all,
+     * but re-derived from the owner on recreation</li>
+     * <li>an <i>Action</i>'s result (which cannot be re-derived without
+     * invoking the action again) is memoized as element bookmarks only,
+     * and reloaded in bulk;
+     * unless any of its elements cannot be bookmarked, in which case the elements
+     * are held as they are (these do not survive serialization)</li>
+     * <li>search argument, column sort and selection, the latter as bookmarks
+     * of the selected elements, such that it survives changes to the
+     * underlying collection;
+     * unless any of the selected elements cannot be bookmarked, in which case
+     * the selection is held as row indexes</li>
+     * </ul>
+     * Elements are loaded lazily, that is, not before the recreated table
+     * is actually rendered (or its selection is restored).
+     * <p>
      * Responsibility for recreation of the owner is with the caller
      * to allow for simpler object graph reconstruction (shared owner).
      */
@@ -400,20 +418,41 @@ public static class Memento implements DataTableMemento {
         static Memento create(
                 final @NonNull DataTableInternal tableInteractive) {
 
-            return new Memento(
-                    tableInteractive.managedMember.getIdentifier(),
+            val featureId = tableInteractive.managedMember.getIdentifier();
+            final Can<ManagedObject> elements = featureId.getType().isPropertyOrCollection()
+                    ? null // re-derived from owner
+                    : tableInteractive.getDataElements().getValue();
+            final Can<Bookmark> elementBookmarks = elements != null
+                    ? bookmarksOf(elements).orElse(null)
+                    : null;
+            val memento = new Memento(
+                    featureId,
                     tableInteractive.where,
-                    tableInteractive.exportAll(),
+                    elementBookmarks,
+                    elementBookmarks == null
+                        ? elements
+                        : null,
                     tableInteractive.searchArgument.getValue(),
-                    tableInteractive.getSelectedRowIndexes());
+                    tableInteractive.columnSort.getValue(),
+                    null,
+                    null);
+            memento.memoizeSelection(tableInteractive);
+            return memento;
         }
 
         private final @NonNull Identifier featureId;
         private final @NonNull Where where;
-        private final @NonNull DataTable dataTable;
+        /** {@code null} for collections, or if not all elements can be bookmarked */
+        private final @Nullable Can<Bookmark> elementBookmarks;
+        /** only set for action results, if not all elements can be bookmarked */
+        private final transient @Nullable Can<ManagedObject> elements;
 
         private @Nullable String searchArgument;
-        private @NonNull Set<Integer> selectedRowIndexes;
+        private @Nullable ColumnSort columnSort;
+        /** {@code null} if not all selected elements can be bookmarked */
+        private @Nullable Can<Bookmark> selectedElementBookmarks;
+        /** only set, if not all selected elements can be bookmarked */
+        private @Nullable Set<Integer> selectedRowIndexes;
 
         @Override
         public DataTableInternal getDataTableModel(final ManagedObject owner) {
@@ -425,28 +464,50 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
 
             val memberId = featureId.getMemberLogicalName();
 
-            final ManagedMember managedMember = featureId.getType().isPropertyOrCollection()
-                    ? CollectionInteraction.start(owner, memberId, where)
-                        .getManagedCollection().orElseThrow()
-                    : ActionInteraction.start(owner, memberId, where)
+            final DataTableInternal dataTableInteractive;
+            if(featureId.getType().isPropertyOrCollection()) {
+                val managedCollection = CollectionInteraction.start(owner, memberId, where)
+                        .getManagedCollection().orElseThrow();
+                dataTableInteractive = new DataTableInternal(managedCollection, where,
+                        ()->managedCollection
+                            .streamElements()
+                            .collect(Can.toCan()));
+            } else {
+                val managedAction = ActionInteraction.start(owner, memberId, where)
                         .getManagedActionElseFail();
-
-            var dataTableInteractive = new DataTableInternal(managedMember, where,
-                    dataTable.streamDataElements()
-                    .peek(obj->{
-                        if(obj.getSpecialization().isViewmodel()) {
-                            // make sure any referenced entities are made live if currently hollow
-                            ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
-                        }
-                    })
-                    .collect(Can.toCan()));
+                if(elementBookmarks == null
+                        && elements == null) {
+                    throw _Exceptions.illegalState(
+                            "cannot recreate result table of action %s from memento, "
+                            + "as not all of its elements can be bookmarked, "
+                            + "hence these did not survive serialization", featureId);
+                }
+                val objectManager = managedAction.getMetaModel().getObjectManager();
+                dataTableInteractive = new DataTableInternal(managedAction, where,
+                        ()->elementBookmarks != null
+                            ? objectManager.loadObjectsElseFail(elementBookmarks)
+                                .map(obj->{
+                                    if(obj.getSpecialization().isViewmodel()) {
+                                        // make sure any referenced entities are made live if currently hollow
+                                        ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
+                                    }
+                                    return obj;
+                                })
+                            : elements);
+            }
 
             dataTableInteractive.searchArgument.setValue(searchArgument);
-            dataTableInteractive.doProgrammaticToggle(()->{
-                dataTableInteractive.dataRows.getValue().stream()
-                    .filter(dataRow->selectedRowIndexes.contains(dataRow.getRowIndex()))
-                    .forEach(dataRow->dataRow.getSelectToggle().setValue(true));
-            });
+            dataTableInteractive.columnSort.setValue(columnSort);
+            if(selectedElementBookmarks != null
+                    && selectedElementBookmarks.isNotEmpty()) {
+                val selected = selectedElementBookmarks.toSet();
+                toggleSelected(dataTableInteractive, dataRow->dataRow.getRowElement().getBookmark()
+                        .map(selected::contains)
+                        .orElse(false));
+            } else if(selectedRowIndexes != null
+                    && !selectedRowIndexes.isEmpty()) {
+                toggleSelected(dataTableInteractive, dataRow->selectedRowIndexes.contains(dataRow.getRowIndex()));
+            }
             return dataTableInteractive;
         }
 
@@ -455,11 +516,43 @@ public void setupBindings(final DataTableInteractive tableInteractive) {
             tableInteractive.getSearchArgument().addListener((e, o, searchArg)->{
                 this.searchArgument = searchArg;
             });
+            tableInteractive.getColumnSort().addListener((e, o, sort)->{
+                this.columnSort = sort;
+            });
             ((DataTableInternal)tableInteractive).selectionChanges.addListener((e, o, n)->{
-                this.selectedRowIndexes = tableInteractive.getSelectedRowIndexes();
+                memoizeSelection(tableInteractive);
             });
         }
 
+        // -- HELPER
+
+        private void memoizeSelection(final DataTableInteractive tableInteractive) {
+            this.selectedElementBookmarks = bookmarksOf(tableInteractive.getSelected()).orElse(null);
+            this.selectedRowIndexes = selectedElementBookmarks == null
+                    ? tableInteractive.getSelectedRowIndexes()
+                    : null;
+        }
+
+        private static void toggleSelected(
+                final DataTableInternal dataTableInteractive,
+                final Predicate<DataRow> isSelected) {
+            dataTableInteractive.doProgrammaticToggle(()->{
+                dataTableInteractive.dataRows.getValue().stream()
+                    .filter(isSelected)
+                    .forEach(dataRow->dataRow.getSelectToggle().setValue(true));
+            });
+        }
+
+        /**
+         * @return empty, if any of given elements cannot be bookmarked
+         */
+        private static Optional<Can<Bookmark>> bookmarksOf(final Can<ManagedObject> elements) {
+            val bookmarks = elements.map(element->element.getBookmark().orElse(null));
+            return bookmarks.size() == elements.size()
+                    ? Optional.of(bookmarks)
+                    : Optional.empty();
+        }
+
     }
 
 }
@@ -95,6 +95,10 @@
  *      snapshot.include(&quot;orders/product&quot;);
  *      Element customerAsXml = snapshot.toXml();
  * </pre>
+ *
+ * <p>
+ * For large graphs, consider the {@link XmlSnapshotWriter} instead, which streams the XML
+ * rather than building up DOM documents.
  */
 @Log4j2
 public class XmlSnapshot implements Snapshot {
@@ -171,7 +175,7 @@ public XmlSnapshot(final ManagedObject rootAdapter, final XmlSchema schema) {
 
     }
 
-    private List<String> getPathsFor(final Object object) {
+    static List<String> getPathsFor(final Object object) {
         if (!(object instanceof SnapshottableWithInclusions)) {
             return Collections.emptyList();
         }
@@ -0,0 +1,630 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.util.snapshot;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.codec._DocumentFactories;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.facetapi.FacetUtil;
+import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
+import org.apache.causeway.core.metamodel.facets.object.value.ValueSerializer.Format;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Streaming counterpart of {@link XmlSnapshot}: traverses the object graph from the specified root
+ * (following the included paths) and writes each element to an {@link XMLStreamWriter} as soon as it is
+ * visited, rather than first building up W3C DOM documents.
+ *
+ * <p>
+ * Produces the same XML as {@link XmlSnapshot}.  While traversing, only the structure of the schema is
+ * gathered (which is bounded by the types and paths involved, not by the number of objects); the XSD is
+ * written from this once the XML is complete.  If no XSD output is provided, schema generation is skipped
+ * altogether.
+ *
+ * <pre>
+ *      new XmlSnapshotWriter(customer)
+ *          .include(&quot;orders/product&quot;)
+ *          .writeTo(xmlOut, xsdOut);
+ * </pre>
+ *
+ * <p>
+ * A writer can only be written once.
+ */
+@Log4j2
+public class XmlSnapshotWriter {
+
+    private final ManagedObject rootObject;
+    private final XmlSchema schema;
+
+    /**
+     * the included paths, merged into a tree keyed by field name
+     */
+    private final IncludeNode includes = new IncludeNode();
+
+    private final Map<ManagedObject, String> viewModelFakeOids = _Maps.newHashMap();
+
+    private XMLStreamWriter xml;
+    private boolean written = false;
+
+    /**
+     * Start a snapshot at the root object, using own namespace manager.
+     */
+    public XmlSnapshotWriter(final ManagedObject rootObject) {
+        this(rootObject, new XmlSchema());
+    }
+
+    /**
+     * Start a snapshot at the root object, using supplied namespace manager.
+     */
+    public XmlSnapshotWriter(final @NonNull ManagedObject rootObject, final @NonNull XmlSchema schema) {
+        this.rootObject = rootObject;
+        this.schema = schema;
+        XmlSnapshot.getPathsFor(rootObject.getPojo()).forEach(this::include);
+    }
+
+    public XmlSnapshotWriter include(final String path) {
+        return include(path, null);
+    }
+
+    public XmlSnapshotWriter include(final String path, final @Nullable String annotation) {
+        IncludeNode node = includes;
+        for (final StringTokenizer tok = new StringTokenizer(path, "/"); tok.hasMoreTokens();) {
+            node = node.children.computeIfAbsent(tok.nextToken(), __ -> new IncludeNode());
+        }
+        if (annotation != null
+                && node != includes) {
+            node.annotation = annotation;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the snapshot as UTF-8 encoded XML to <code>xmlOut</code> and, unless <code>null</code>,
+     * the corresponding schema to <code>xsdOut</code>.  Neither stream is closed.
+     */
+    public void writeTo(final @NonNull OutputStream xmlOut, final @Nullable OutputStream xsdOut) {
+        val outputFactory = _DocumentFactories.xmlOutputFactory();
+        try {
+            val xmlWriter = outputFactory.createXMLStreamWriter(xmlOut, "UTF-8");
+            val xsdWriter = xsdOut != null
+                    ? outputFactory.createXMLStreamWriter(xsdOut, "UTF-8")
+                    : null;
+            writeTo(xmlWriter, xsdWriter);
+            xmlWriter.close();
+            if (xsdWriter != null) {
+                xsdWriter.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw _Exceptions.unrecoverable(e, "unable to write snapshot");
+        }
+    }
+
+    /**
+     * Writes the snapshot as an XML document to <code>xmlWriter</code> and, unless <code>null</code>,
+     * the corresponding schema to <code>xsdWriter</code>.
+     */
+    public void writeTo(
+            final @NonNull XMLStreamWriter xmlWriter,
+            final @Nullable XMLStreamWriter xsdWriter) throws XMLStreamException {
+
+        if (written) {
+            throw new IllegalStateException("Snapshot has already been written.");
+        }
+        written = true;
+
+        val spec = rootObject.getSpecification();
+        val fullyQualifiedClassName = spec.getFullIdentifier();
+        schema.setUri(fullyQualifiedClassName); // derive URI from fully qualified name
+
+        val xsRootElement = xsdWriter != null
+                ? new XsClassElement(spec, false)
+                : null;
+
+        this.xml = xmlWriter;
+        xml.writeStartDocument("UTF-8", "1.0");
+        writeObject(rootObject, includes, xsRootElement, xsdWriter != null
+                ? fullyQualifiedClassName + ".xsd"
+                : null);
+        xml.writeEndDocument();
+        xml.flush();
+
+        if (xsdWriter != null) {
+            new XsdWriter(xsdWriter).write(xsRootElement);
+        }
+    }
+
+    // -- XML
+
+    /**
+     * @param schemaLocationFileName - only for the root element, and only if a schema is written
+     */
+    private void writeObject(
+            final ManagedObject object,
+            final IncludeNode includes,
+            final @Nullable XsClassElement xsElement,
+            final @Nullable String schemaLocationFileName) throws XMLStreamException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("writeObject({})", object.getTitle());
+        }
+
+        final ObjectSpecification spec = object.getSpecification();
+
+        xml.writeStartElement(schema.getPrefix(), spec.getShortIdentifier(), schema.getUri());
+        if (object == rootObject) {
+            xml.writeNamespace(schema.getPrefix(), schema.getUri());
+            xml.writeNamespace(CausewaySchema.NS_PREFIX, CausewaySchema.NS_URI);
+            if (schemaLocationFileName != null) {
+                xml.writeNamespace(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI);
+                xml.writeAttribute(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI, "schemaLocation",
+                        schema.getUri() + " " + schemaLocationFileName);
+            }
+        }
+        writeCausewayAttribute("fqn", spec.getFullIdentifier());
+        writeCausewayAttribute("singular", spec.getSingularName());
+        writeCausewayAttribute("plural", "");
+        writeCausewayAttribute("feature", CausewaySchema.FEATURE_CLASS);
+        writeCausewayAttribute("oid", oidAsString(object));
+        writeCausewayTitle(object.getTitle());
+
+        final List<ObjectAssociation> fields = spec.streamAssociations(MixedIn.INCLUDED)
+                .collect(Collectors.toList());
+        for (final ObjectAssociation field : fields) {
+            writeField(object, field, includes.children.get(field.getId()), xsElement);
+        }
+
+        xml.writeEndElement();
+    }
+
+    private void writeField(
+            final ManagedObject object,
+            final ObjectAssociation field,
+            final @Nullable IncludeNode include,
+            final @Nullable XsClassElement xsElement) throws XMLStreamException {
+
+        final String fieldName = field.getId();
+
+        if (field.getElementType().isValue()) {
+
+            final ObjectSpecification fieldSpec = field.getElementType();
+            // skip fields of type XmlValue
+            if (fieldSpec.getFullIdentifier() != null && fieldSpec.getFullIdentifier().endsWith("XmlValue")) {
+                return;
+            }
+            final OneToOneAssociation valueAssociation = ((OneToOneAssociation) field);
+            if (valueAssociation.isExcludedFromSnapshots()) {
+                return;
+            }
+
+            writeStartField(fieldName, include);
+            String datatype = "";
+            try {
+                val value = valueAssociation.get(object, InteractionInitiatedBy.FRAMEWORK);
+                datatype = CausewaySchema.NS_PREFIX + ":" + value.getSpecification().getShortIdentifier();
+
+                writeCausewayAttribute("feature", CausewaySchema.FEATURE_VALUE);
+                writeCausewayAttribute("datatype", datatype);
+
+                // value as JSON
+                @SuppressWarnings("unchecked")
+                val valueStr = fieldSpec.valueFacetElseFail()
+                        .enstring(Format.JSON, value.getPojo());
+
+                if (_Strings.isNotEmpty(valueStr)) {
+                    xml.writeCharacters(valueStr);
+                } else {
+                    writeCausewayAttribute("isEmpty", "" + true);
+                }
+            } catch (final XMLStreamException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                log.warn("writeField: {}: getField() threw exception - skipping XML generation", fieldName);
+            }
+            xml.writeEndElement();
+
+            if (xsElement != null) {
+                xsElement.field(fieldName, valueAssociation, CausewaySchema.FEATURE_VALUE, null, datatype);
+            }
+
+        } else if (field instanceof OneToOneAssociation) {
+
+            final OneToOneAssociation oneToOneAssociation = ((OneToOneAssociation) field);
+            final XsFieldElement xsFieldElement = xsElement != null
+                    ? xsElement.field(fieldName, oneToOneAssociation, CausewaySchema.FEATURE_REFERENCE,
+                            oneToOneAssociation.getElementType().getFullIdentifier(), null)
+                    : null;
+
+            writeStartField(fieldName, include);
+            ManagedObject referencedObject = null;
+            try {
+                referencedObject = oneToOneAssociation.get(object, InteractionInitiatedBy.FRAMEWORK);
+
+                writeCausewayAttribute("feature", CausewaySchema.FEATURE_REFERENCE);
+                writeCausewayAttribute("type", schema.getPrefix() + ":" + object.getSpecification().getFullIdentifier());
+
+                if (!ManagedObjects.isNullOrUnspecifiedOrEmpty(referencedObject)) {
+                    writeCausewayTitle(referencedObject.getTitle());
+                } else {
+                    writeCausewayAttribute("isEmpty", "" + true);
+                }
+            } catch (final XMLStreamException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                log.warn("writeField: {}: getAssociation() threw exception - skipping XML generation", fieldName);
+            }
+
+            if (include != null
+                    && !ManagedObjects.isNullOrUnspecifiedOrEmpty(referencedObject)
+                    && !oneToOneAssociation.isExcludedFromSnapshots()
+                    // not a value
+                    && field.getElementType().streamAssociations(MixedIn.INCLUDED).findAny().isPresent()) {
+                writeObject(referencedObject, include,
+                        xsFieldElement != null ? xsFieldElement.element(referencedObject.getSpecification()) : null,
+                        null);
+            }
+            xml.writeEndElement();
+
+        } else if (field instanceof OneToManyAssociation) {
+
+            final OneToManyAssociation oneToManyAssociation = (OneToManyAssociation) field;
+            final String referencedClassName = oneToManyAssociation.getElementType().getFullIdentifier();
+            final XsFieldElement xsFieldElement = xsElement != null
+                    ? xsElement.field(fieldName, oneToManyAssociation, CausewaySchema.FEATURE_COLLECTION,
+                            referencedClassName, null)
+                    : null;
+
+            writeStartField(fieldName, include);
+            ManagedObject collection = null;
+            try {
+                collection = oneToManyAssociation.get(object, InteractionInitiatedBy.FRAMEWORK);
+
+                writeCausewayAttribute("feature", CausewaySchema.FEATURE_COLLECTION);
+                writeCausewayAttribute("type", schema.getPrefix() + ":" + referencedClassName);
+                writeCausewayAttribute("size", "" + CollectionFacet.elementCount(collection));
+            } catch (final XMLStreamException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                log.warn("writeField: {}: get(obj) threw exception - skipping XML generation", fieldName);
+            }
+
+            if (include != null
+                    && collection != null) {
+                final Iterator<ManagedObject> elements = CollectionFacet.streamAdapters(collection).iterator();
+                while (elements.hasNext()) {
+                    final ManagedObject element = elements.next();
+                    writeObject(element, include,
+                            xsFieldElement != null ? xsFieldElement.element(element.getSpecification()) : null,
+                            null);
+                }
+            }
+            xml.writeEndElement();
+
+        } else {
+            if (log.isInfoEnabled()) {
+                log.info("writeField: {} is unknown type; ignored", fieldName);
+            }
+        }
+    }
+
+    private void writeStartField(final String fieldName, final @Nullable IncludeNode include) throws XMLStreamException {
+        // scoped by namespace of class of containing object
+        xml.writeStartElement(schema.getPrefix(), fieldName, schema.getUri());
+        if (include != null
+                && include.annotation != null) {
+            writeCausewayAttribute("annotation", CausewaySchema.NS_PREFIX + ":" + include.annotation);
+        }
+    }
+
+    private void writeCausewayAttribute(final String localName, final String value) throws XMLStreamException {
+        xml.writeAttribute(CausewaySchema.NS_PREFIX, CausewaySchema.NS_URI, localName, value);
+    }
+
+    private void writeCausewayTitle(final @Nullable String title) throws XMLStreamException {
+        xml.writeStartElement(CausewaySchema.NS_PREFIX, "title", CausewaySchema.NS_URI);
+        if (title != null) {
+            xml.writeCharacters(title);
+        }
+        xml.writeEndElement();
+    }
+
+    private String oidAsString(final ManagedObject adapter) {
+        if (adapter.getPojo() instanceof ViewModel) {
+            // return a fake oid for view models, as per XmlSnapshot
+            return viewModelFakeOids.computeIfAbsent(adapter,
+                    __ -> "viewmodel-fakeoid-" + UUID.randomUUID().toString());
+        }
+        return ManagedObjects.stringifyElseFail(adapter);
+    }
+
+    // -- INCLUDED PATHS
+
+    private static final class IncludeNode {
+        final Map<String, IncludeNode> children = new LinkedHashMap<>();
+        /**
+         * applied to the field's element, if a path ends here
+         */
+        String annotation;
+    }
+
+    // -- XSD
+
+    /**
+     * The structure of an <code>xs:element</code> representing a class; gathered while traversing,
+     * so the XSD describes every element written (rather than just the first of each type).
+     */
+    private static final class XsClassElement {
+        final ObjectSpecification spec;
+        final boolean withCardinality;
+        final Map<String, XsFieldElement> fields = new LinkedHashMap<>();
+
+        XsClassElement(final ObjectSpecification spec, final boolean withCardinality) {
+            this.spec = spec;
+            this.withCardinality = withCardinality;
+        }
+
+        XsFieldElement field(
+                final String fieldName,
+                final ObjectAssociation association,
+                final String feature,
+                final @Nullable String referencedClassName,
+                final @Nullable String datatype) {
+            return fields.computeIfAbsent(fieldName,
+                    __ -> new XsFieldElement(fieldName, association, feature, referencedClassName, datatype));
+        }
+    }
+
+    /**
+     * The structure of an <code>xs:element</code> representing a value, reference or collection.
+     */
+    @RequiredArgsConstructor
+    private static final class XsFieldElement {
+        final String fieldName;
+        final ObjectAssociation association;
+        final String feature;
+        final String referencedClassName;
+        /**
+         * for values only, as per the first value written
+         */
+        final String datatype;
+        final Map<String, XsClassElement> elements = new LinkedHashMap<>();
+
+        XsClassElement element(final ObjectSpecification spec) {
+            return elements.computeIfAbsent(spec.getShortIdentifier(), __ -> new XsClassElement(spec, true));
+        }
+    }
+
+    /**
+     * Writes the same schema as {@link XmlSchema} builds for {@link XmlSnapshot}.
+     */
+    @RequiredArgsConstructor
+    private final class XsdWriter {
+
+        private final XMLStreamWriter xsd;
+
+        void write(final XsClassElement rootElement) throws XMLStreamException {
+            xsd.writeStartDocument("UTF-8", "1.0");
+            xsd.writeStartElement(XsMetaModel.W3_ORG_XS_PREFIX, "schema", XsMetaModel.W3_ORG_XS_URI);
+            xsd.writeNamespace(XsMetaModel.W3_ORG_XS_PREFIX, XsMetaModel.W3_ORG_XS_URI);
+            xsd.writeNamespace(CausewaySchema.NS_PREFIX, CausewaySchema.NS_URI);
+            xsd.writeNamespace(schema.getPrefix(), schema.getUri());
+            xsd.writeAttribute("elementFormDefault", "qualified");
+            xsd.writeAttribute("targetNamespace", schema.getUri());
+
+            writeEmptyXsElement("import");
+            xsd.writeAttribute("namespace", CausewaySchema.NS_URI);
+            xsd.writeAttribute("schemaLocation", CausewaySchema.DEFAULT_LOCATION);
+
+            writeClassElement(rootElement);
+
+            xsd.writeEndElement();
+            xsd.writeEndDocument();
+            xsd.flush();
+        }
+
+        private void writeClassElement(final XsClassElement element) throws XMLStreamException {
+            writeStartXsElementElement(element.spec.getShortIdentifier(), element.withCardinality);
+            writeStartComplexType();
+            writeStartXsElement("sequence");
+
+            writeCausewayElementRef("title");
+            val extensions = FacetUtil.getFacetsByType(element.spec);
+            if (extensions.size() > 0) {
+                writeExtensionsElement(extensions, false);
+            }
+            for (final XsFieldElement field : element.fields.values()) {
+                writeFieldElement(field);
+            }
+
+            xsd.writeEndElement(); // sequence
+            writeCausewayAttributeRef("feature", CausewaySchema.FEATURE_CLASS, true);
+            writeCausewayAttributeRef("oid", null, true);
+            writeCausewayAttributeRef("fqn", null, true);
+            writeCausewayAttributeRef("singular", null, true);
+            writeCausewayAttributeRef("plural", null, true);
+            writeCausewayAttributeRef("annotation", null, true);
+            xsd.writeEndElement(); // complexType
+            xsd.writeEndElement(); // element
+        }
+
+        private void writeFieldElement(final XsFieldElement field) throws XMLStreamException {
+            writeStartXsElementElement(field.fieldName, true);
+            writeStartComplexType();
+            writeStartXsElement("sequence");
+
+            val extensions = FacetUtil.getFacetsByType(field.association);
+            switch (field.feature) {
+            case CausewaySchema.FEATURE_VALUE:
+                if (extensions.size() > 0) {
+                    writeExtensionsElement(extensions, false);
+                }
+                break;
+            case CausewaySchema.FEATURE_REFERENCE:
+                writeCausewayElementRef("title");
+                if (extensions.size() > 0) {
+                    // the optional sequence holding the referenced element is that of the extensions
+                    writeExtensionsElement(extensions, true);
+                } else {
+                    writeEmptyXsElement("sequence");
+                    writeXsCardinality(0, 1);
+                }
+                break;
+            default:
+                writeCausewayElementRef("oids");
+                if (extensions.size() > 0) {
+                    writeExtensionsElement(extensions, false);
+                }
+                break;
+            }
+            for (final XsClassElement element : field.elements.values()) {
+                writeClassElement(element);
+            }
+
+            xsd.writeEndElement(); // sequence
+            writeCausewayAttributeRef("feature", field.feature, true);
+            switch (field.feature) {
+            case CausewaySchema.FEATURE_VALUE:
+                writeCausewayAttributeRef("datatype", field.datatype, true);
+                writeCausewayAttributeRef("isEmpty", null, true);
+                break;
+            case CausewaySchema.FEATURE_REFERENCE:
+                writeCausewayAttributeRef("type", "app:" + field.referencedClassName, false);
+                writeCausewayAttributeRef("isEmpty", null, true);
+                break;
+            default:
+                writeCausewayAttributeRef("type", "app:" + field.referencedClassName, false);
+                writeCausewayAttributeRef("size", null, true);
+                break;
+            }
+            writeCausewayAttributeRef("annotation", null, true);
+            xsd.writeEndElement(); // complexType
+            xsd.writeEndElement(); // element
+        }
+
+        private <T> void writeExtensionsElement(
+                final XmlSchema.ExtensionData<T> extensions,
+                final boolean optionalSequence) throws XMLStreamException {
+            writeStartXsElementElement("causeway-extensions", true);
+            writeStartComplexType();
+            writeStartXsElement("sequence");
+            if (optionalSequence) {
+                writeXsCardinality(0, 1);
+            }
+            final XMLStreamException[] failure = { null }; // fast non-thread-safe value reference
+            extensions.visit((final Class<T> extensionClass, final T extensionObject) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    writeEmptyXsElement("element");
+                    xsd.writeAttribute("name", "x-" + shortName(extensionClass.getName()));
+                    xsd.writeAttribute("minOccurs", "0");
+                    xsd.writeAttribute("maxOccurs", "unbounded");
+                    xsd.writeAttribute("default", extensionObject.toString());
+                } catch (final XMLStreamException ex) {
+                    failure[0] = ex;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            xsd.writeEndElement(); // sequence
+            xsd.writeEndElement(); // complexType
+            xsd.writeEndElement(); // element
+        }
+
+        private void writeStartXsElementElement(final String name, final boolean withCardinality) throws XMLStreamException {
+            writeStartXsElement("element");
+            xsd.writeAttribute("name", name);
+            if (withCardinality) {
+                writeXsCardinality(0, Integer.MAX_VALUE);
+            }
+        }
+
+        private void writeStartComplexType() throws XMLStreamException {
+            writeStartXsElement("complexType");
+            xsd.writeAttribute("mixed", "true");
+        }
+
+        private void writeCausewayElementRef(final String causewayElementRef) throws XMLStreamException {
+            writeEmptyXsElement("element");
+            xsd.writeAttribute("ref", CausewaySchema.NS_PREFIX + ":" + causewayElementRef);
+            writeXsCardinality(0, 1);
+        }
+
+        private void writeCausewayAttributeRef(
+                final String causewayAttributeRef,
+                final @Nullable String value,
+                final boolean useFixed) throws XMLStreamException {
+            writeEmptyXsElement("attribute");
+            xsd.writeAttribute("ref", CausewaySchema.NS_PREFIX + ":" + causewayAttributeRef);
+            if (value != null) {
+                xsd.writeAttribute(useFixed ? "fixed" : "default", value);
+            }
+        }
+
+        private void writeXsCardinality(final int minOccurs, final int maxOccurs) throws XMLStreamException {
+            xsd.writeAttribute("minOccurs", "" + minOccurs);
+            xsd.writeAttribute("maxOccurs", maxOccurs == Integer.MAX_VALUE ? "unbounded" : "" + maxOccurs);
+        }
+
+        private void writeStartXsElement(final String localName) throws XMLStreamException {
+            xsd.writeStartElement(XsMetaModel.W3_ORG_XS_PREFIX, localName, XsMetaModel.W3_ORG_XS_URI);
+        }
+
+        private void writeEmptyXsElement(final String localName) throws XMLStreamException {
+            xsd.writeEmptyElement(XsMetaModel.W3_ORG_XS_PREFIX, localName, XsMetaModel.W3_ORG_XS_URI);
+        }
+
+        private String shortName(final String className) {
+            final int lastPeriodIdx = className.lastIndexOf('.');
+            return lastPeriodIdx < 0
+                    ? className
+                    : className.substring(lastPeriodIdx + 1);
+        }
+    }
+
+}
@@ -25,9 +25,11 @@
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.facets.FacetFactoryTestAbstract;
@@ -204,4 +206,66 @@ public void someAction(final int x, final long y) {}
         });
     }
 
+    @Test
+    void installsPagedParameterAutoCompleteMethodAndRemovesMethod() {
+        val facetFactory = new ActionParameterAutoCompleteFacetViaMethodFactory(getMetaModelContext());
+
+        @SuppressWarnings("unused")
+        class Customer {
+            public void someAction(final int x, final long y) {}
+            public List<Integer> autoComplete0SomeAction(final String searchArg, final QueryRange range) { return Collections.emptyList();}
+            public List<Long> autoComplete1SomeAction(final String searchArg) { return Collections.emptyList();}
+        }
+
+        final ResolvedMethod autoComplete0Method = findMethodExactOrFail(Customer.class, "autoComplete0SomeAction", new Class[] {String.class, QueryRange.class});
+        final ResolvedMethod autoComplete1Method = findMethodExactOrFail(Customer.class, "autoComplete1SomeAction", new Class[] {String.class});
+
+        actionScenario(Customer.class, "someAction", (processMethodContext, facetHolder, facetedMethod) -> {
+            //when
+            facetFactory.process(processMethodContext);
+            //then
+            final Facet facet0 = facetedMethod.getParameters().getElseFail(0).getFacet(ActionParameterAutoCompleteFacet.class);
+            assertTrue(facet0 instanceof ActionParameterAutoCompleteFacetViaMethod);
+            final ActionParameterAutoCompleteFacetViaMethod actionAutoCompleteFacetViaMethod0 = (ActionParameterAutoCompleteFacetViaMethod) facet0;
+            assertMethodEqualsFirstIn(autoComplete0Method, actionAutoCompleteFacetViaMethod0);
+            assertTrue(actionAutoCompleteFacetViaMethod0.isPaged());
+            assertMethodWasRemoved(autoComplete0Method);
+
+            final Facet facet1 = facetedMethod.getParameters().getElseFail(1).getFacet(ActionParameterAutoCompleteFacet.class);
+            assertTrue(facet1 instanceof ActionParameterAutoCompleteFacetViaMethod);
+            final ActionParameterAutoCompleteFacetViaMethod actionAutoCompleteFacetViaMethod1 = (ActionParameterAutoCompleteFacetViaMethod) facet1;
+            assertMethodEqualsFirstIn(autoComplete1Method, actionAutoCompleteFacetViaMethod1);
+            assertFalse(actionAutoCompleteFacetViaMethod1.isPaged());
+            assertMethodWasRemoved(autoComplete1Method);
+        });
+    }
+
+    @Test
+    void installsPagedParameterAutoCompleteMethod_inPreferenceToPlainOne_andRemovesBoth() {
+        val facetFactory = new ActionParameterAutoCompleteFacetViaMethodFactory(getMetaModelContext());
+
+        @SuppressWarnings("unused")
+        class Customer {
+            public void someAction(final int x, final long y) {}
+            public List<Integer> autoComplete0SomeAction(final String searchArg) { return Collections.emptyList();}
+            public List<Integer> autoComplete0SomeAction(final String searchArg, final QueryRange range) { return Collections.emptyList();}
+        }
+
+        final ResolvedMethod plainMethod = findMethodExactOrFail(Customer.class, "autoComplete0SomeAction", new Class[] {String.class});
+        final ResolvedMethod pagedMethod = findMethodExactOrFail(Customer.class, "autoComplete0SomeAction", new Class[] {String.class, QueryRange.class});
+
+        actionScenario(Customer.class, "someAction", (processMethodContext, facetHolder, facetedMethod) -> {
+            //when
+            facetFactory.process(processMethodContext);
+            //then
+            final Facet facet0 = facetedMethod.getParameters().getElseFail(0).getFacet(ActionParameterAutoCompleteFacet.class);
+            assertTrue(facet0 instanceof ActionParameterAutoCompleteFacetViaMethod);
+            final ActionParameterAutoCompleteFacetViaMethod actionAutoCompleteFacetViaMethod0 = (ActionParameterAutoCompleteFacetViaMethod) facet0;
+            assertMethodEqualsFirstIn(pagedMethod, actionAutoCompleteFacetViaMethod0);
+            assertTrue(actionAutoCompleteFacetViaMethod0.isPaged());
+            assertMethodWasRemoved(pagedMethod);
+            assertMethodWasRemoved(plainMethod);
+        });
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager.memento;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Title;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.valuesemantics.BigDecimalValueSemantics;
+import org.apache.causeway.core.metamodel.valuesemantics.UUIDValueSemantics;
+
+import lombok.AllArgsConstructor;
+import lombok.val;
+
+class ObjectMementoCodecTest implements HasMetaModelContext {
+
+    @BeforeEach
+    void setUp() {
+        MetaModelContext_forTesting.builder()
+            .singleton(Mockito.mock(MemberExecutorService.class))
+            .build()
+            .withValueSemantics(new BigDecimalValueSemantics())
+            .withValueSemantics(new UUIDValueSemantics());
+    }
+
+    @Named("ObjectMementoCodecTest.Customer")
+    @AllArgsConstructor
+    public static class Customer implements ViewModel {
+
+        @Title
+        private final String name;
+
+        @Override
+        public String viewModelMemento() {
+            return name;
+        }
+
+    }
+
+    @Test
+    void roundtrip_viewModel() {
+        val memento = mementoOf(new Customer("cus-1"));
+
+        val encoded = ObjectMementoCodec.encode(memento);
+        assertTrue(ObjectMementoCodec.isEncoded(encoded));
+
+        val decoded = (ObjectMementoForScalar) ObjectMementoCodec.decode(encoded, getSpecificationLoader());
+        assertEquals(memento, decoded);
+        assertEquals(memento.getLogicalType(), decoded.getLogicalType());
+        assertEquals(memento.getTitle(), decoded.getTitle());
+        assertEquals("cus-1", ((Customer) decoded.reconstructObject(getMetaModelContext()).getPojo()).name);
+    }
+
+    @Test
+    void roundtrip_values() {
+        for(val pojo : Can.<Object>of(new BigDecimal("0.01"), UUID.randomUUID())) {
+            val memento = mementoOf(pojo);
+            val decoded = (ObjectMementoForScalar) ObjectMementoCodec.decode(
+                    ObjectMementoCodec.encode(memento), getSpecificationLoader());
+            assertEquals(memento, decoded);
+            assertEquals(pojo, decoded.reconstructObject(getMetaModelContext()).getPojo());
+        }
+    }
+
+    @Test
+    void roundtrip_emptyAndCollection() {
+        val logicalType = mementoOf(new Customer("cus-1")).getLogicalType();
+        val elements = new ArrayList<ObjectMemento>();
+        elements.add(mementoOf(new Customer("cus-1")));
+        elements.add(new ObjectMementoForEmpty(logicalType));
+        elements.add(null);
+
+        val decoded = (ObjectMementoCollection) ObjectMementoCodec.decode(
+                ObjectMementoCodec.encode(ObjectMemento.pack(elements, logicalType)), getSpecificationLoader());
+
+        assertEquals(logicalType, decoded.getLogicalType());
+        assertEquals(3, decoded.unwrapList().size());
+        assertEquals(elements.get(0), decoded.unwrapList().get(0));
+        assertEquals(logicalType, decoded.unwrapList().get(1).getLogicalType());
+        assertNull(decoded.unwrapList().get(2));
+    }
+
+    @Test
+    void urlBase64_isCompact_andAcceptsJavaSerialized() {
+        val memento = mementoOf(new Customer("cus-1"));
+
+        val id = ObjectMemento.enstringToUrlBase64(memento);
+        // logical type name, identifier and title, but no class descriptors
+        assertTrue(id.length() < 120, ()->"id not compact: " + id);
+        assertEquals(memento, ObjectMemento.destringFromUrlBase64(id));
+        assertNull(ObjectMemento.destringFromUrlBase64(ObjectMemento.NULL_ID));
+        assertFalse(ObjectMementoCodec.isEncoded(new byte[] {(byte)0xAC, (byte)0xED}));
+    }
+
+    @Test
+    void javaSerialization_usesCodec() {
+        val memento = mementoOf(new Customer("cus-1"));
+        val afterRoundtrip = _SerializationTester.roundtrip(memento);
+        assertEquals(memento, afterRoundtrip);
+        assertEquals(memento.getTitle(), afterRoundtrip.getTitle());
+    }
+
+    // -- HELPER
+
+    private ObjectMementoForScalar mementoOf(final Object pojo) {
+        return ObjectMementoForScalar.create(getObjectManager().adapt(pojo)).orElseThrow();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services;
+
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.core.config.CausewayModuleCoreConfig;
+import org.apache.causeway.core.config.beans.CausewayBeanFactoryPostProcessorForSpring;
+
+import lombok.Getter;
+import lombok.val;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = {
+        CausewayBeanFactoryPostProcessorForSpring.class,
+        CausewayModuleCoreConfig.class,
+        ServiceInjectorDefault.class,
+        ServiceInjectorDefaultTest_usingPlans.Producers.class,
+},
+properties = {
+        "test.injector.greeting=hello"
+})
+@DirtiesContext(classMode = ClassMode.BEFORE_CLASS)
+class ServiceInjectorDefaultTest_usingPlans {
+
+    @Configuration
+    static class Producers {
+
+        @Bean
+        A singletonA() {
+            return new A();
+        }
+
+        @Bean @Scope("prototype")
+        P prototypeP() {
+            return new P();
+        }
+
+    }
+
+    // -- SCENARIO
+
+    static class A { }
+    static class P { }
+    static class Missing { }
+
+    static abstract class Base {
+        @Inject @Getter private A baseA;
+    }
+
+    static class Planned extends Base {
+        @Inject @Getter private Optional<A> optionalA;
+        @Inject @Getter private P p;
+        @Autowired(required = false) @Getter private Missing missing;
+        @Getter private A setterA;
+        @Getter private int setterCalls;
+
+        @Inject
+        void setSetterA(final A a) {
+            this.setterA = a;
+            this.setterCalls++;
+        }
+
+        @Autowired(required = false)
+        void setMissing(final Missing missing) {
+            this.setterCalls++;
+        }
+    }
+
+    static class NotPlanned {
+        @Inject @Getter private A a;
+        @Value("${test.injector.greeting}") @Getter private String greeting;
+    }
+
+    // -- TESTS
+
+    @Inject private ServiceInjector injector;
+    @Inject private A singletonA;
+
+    @Test
+    void fields_and_methods_are_injected() {
+
+        val planned = injector.injectServicesInto(new Planned());
+
+        assertSame(singletonA, planned.getBaseA());
+        assertSame(singletonA, planned.getOptionalA().orElseThrow());
+        assertSame(singletonA, planned.getSetterA());
+        assertNotNull(planned.getP());
+        assertNull(planned.getMissing());
+        // optional setter not called, as its argument does not resolve
+        assertEquals(1, planned.getSetterCalls());
+    }
+
+    @Test
+    void only_singletons_are_memoized() {
+
+        val first = injector.injectServicesInto(new Planned());
+        val second = injector.injectServicesInto(new Planned());
+
+        assertSame(first.getBaseA(), second.getBaseA());
+        assertNotSame(first.getP(), second.getP());
+    }
+
+    @Test
+    void falls_back_to_spring_if_not_plannable() {
+
+        assertTrue(_InjectionPlan.forClass(Planned.class).isPlannable());
+        assertTrue(!_InjectionPlan.forClass(NotPlanned.class).isPlannable());
+
+        val notPlanned = injector.injectServicesInto(new NotPlanned());
+
+        assertSame(singletonA, notPlanned.getA());
+        assertEquals("hello", notPlanned.getGreeting());
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.consent;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.consent.Consent;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.consent.Veto;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+class ConsentMemoDefaultTest {
+
+    private CausewayConfiguration causewayConfiguration;
+    private InteractionLayerTracker interactionLayerTracker;
+    private Interaction interaction;
+    private ConsentMemoDefault.Memo memoOfInteraction;
+    private ConsentMemoDefault consentMemo;
+
+    private ManagedObject viewModel;
+    private ObjectMember member;
+
+    private AtomicInteger evaluations;
+    private Supplier<Consent> consentSupplier;
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = new CausewayConfiguration(null, null);
+        interactionLayerTracker = Mockito.mock(InteractionLayerTracker.class);
+        interaction = Mockito.mock(Interaction.class);
+        when(interactionLayerTracker.currentInteraction()).thenReturn(Optional.of(interaction));
+        when(interactionLayerTracker.currentInteractionContext()).thenReturn(Optional.of(userContext("sven")));
+        memoOfInteraction = new ConsentMemoDefault.Memo();
+        consentMemo = new ConsentMemoDefault(causewayConfiguration, ()->interactionLayerTracker, ()->memoOfInteraction);
+
+        viewModel = Mockito.mock(ManagedObject.class);
+        when(viewModel.getSpecialization()).thenReturn(ManagedObject.Specialization.VIEWMODEL);
+        when(viewModel.getPojo()).thenReturn(new Object());
+
+        member = Mockito.mock(ObjectMember.class);
+        when(member.getFeatureIdentifier()).thenReturn(Identifier.propertyIdentifier(
+                LogicalType.fqcn(Object.class), "name"));
+
+        evaluations = new AtomicInteger();
+        consentSupplier = ()->{
+            evaluations.incrementAndGet();
+            return new Veto("hidden #" + evaluations.get());
+        };
+    }
+
+    @Test
+    void disabledByDefault() {
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.OBJECT_FORMS);
+
+        assertEquals(2, evaluations.get());
+        assertEquals(Optional.empty(), consentMemo.currentStatistics());
+    }
+
+    @Test
+    void memoizedPerInteraction_untilInvalidated() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+
+        final Consent first = visibility(Where.OBJECT_FORMS);
+        assertSame(first, visibility(Where.OBJECT_FORMS));
+        assertEquals(1, evaluations.get());
+
+        consentMemo.invalidate();
+
+        visibility(Where.OBJECT_FORMS);
+        assertEquals(2, evaluations.get());
+
+        final ConsentMemoDefault.Statistics statistics = consentMemo.currentStatistics().orElseThrow();
+        assertEquals(1, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(1, statistics.getInvalidations());
+    }
+
+    @Test
+    void keyedByWhereAndConsentType() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.ALL_TABLES);
+        consentMemo.usabilityOf(viewModel, member, InteractionInitiatedBy.USER, Where.OBJECT_FORMS, consentSupplier);
+
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    void notShared_withNestedLayerOfAnotherUser() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+        visibility(Where.OBJECT_FORMS);
+
+        when(interactionLayerTracker.currentInteractionContext()).thenReturn(Optional.of(userContext("dick")));
+
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.OBJECT_FORMS);
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    void notMemoized_whileExecuting() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+        visibility(Where.OBJECT_FORMS);
+
+        Mockito.<Execution<?, ?>>when(interaction.getCurrentExecution()).thenReturn(Mockito.mock(Execution.class));
+
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.OBJECT_FORMS);
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    void notShared_withNextInteraction() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+        visibility(Where.OBJECT_FORMS);
+
+        memoOfInteraction = new ConsentMemoDefault.Memo();
+
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.OBJECT_FORMS);
+        assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    void notMemoized_whenNotInInteraction() {
+        causewayConfiguration.getCore().getMetaModel().getConsentMemo().setMemoizePerInteraction(true);
+        when(interactionLayerTracker.currentInteraction()).thenReturn(Optional.empty());
+
+        visibility(Where.OBJECT_FORMS);
+        visibility(Where.OBJECT_FORMS);
+        assertEquals(2, evaluations.get());
+    }
+
+    // -- HELPER
+
+    private Consent visibility(final Where where) {
+        return consentMemo.visibilityOf(viewModel, member, InteractionInitiatedBy.USER, where, consentSupplier);
+    }
+
+    private static InteractionContext userContext(final String userName) {
+        return InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName));
+    }
+
+}
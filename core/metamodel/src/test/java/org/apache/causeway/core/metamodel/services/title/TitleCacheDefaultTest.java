@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.title;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class TitleCacheDefaultTest {
+
+    private CausewayConfiguration causewayConfiguration;
+    private InteractionLayerTracker interactionLayerTracker;
+    private TitleCacheDefault.Memo memoOfInteraction;
+    private TitleCacheDefault titleCache;
+
+    private ManagedObject entity;
+    private EntityFacet entityFacet;
+    private TitleFacet titleFacet;
+    private Object pojo;
+
+    private AtomicInteger titleComputations;
+    private Supplier<String> titleSupplier;
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = new CausewayConfiguration(null, null);
+        interactionLayerTracker = Mockito.mock(InteractionLayerTracker.class);
+        when(interactionLayerTracker.currentInteraction()).thenReturn(Optional.of(Mockito.mock(Interaction.class)));
+        memoOfInteraction = new TitleCacheDefault.Memo();
+        titleCache = new TitleCacheDefault(causewayConfiguration, ()->interactionLayerTracker, ()->memoOfInteraction);
+
+        pojo = new Object();
+        entityFacet = Mockito.mock(EntityFacet.class);
+        val spec = Mockito.mock(ObjectSpecification.class);
+        when(spec.lookupFacet(EntityFacet.class)).thenReturn(Optional.of(entityFacet));
+
+        entity = Mockito.mock(ManagedObject.class);
+        when(entity.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(entity.getEntityState()).thenReturn(EntityState.ATTACHED);
+        when(entity.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("simple.SimpleObject", "1")));
+        when(entity.getSpecification()).thenReturn(spec);
+        when(entity.getPojo()).thenReturn(pojo);
+
+        titleFacet = Mockito.mock(TitleFacet.class);
+        when(titleFacet.isPure()).thenReturn(true);
+
+        titleComputations = new AtomicInteger();
+        titleSupplier = ()->"Title #" + titleComputations.incrementAndGet();
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+
+        // not even the bookmark is computed
+        verify(entity, never()).getBookmark();
+    }
+
+    @Test
+    void memoizedPerInteraction_untilInvalidated() {
+        causewayConfiguration.getCore().getMetaModel().getTitleCache().setMemoizePerInteraction(true);
+
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+
+        titleCache.invalidate(entity);
+
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+    }
+
+    @Test
+    void memoizedPerInteraction_notSharedWithNextInteraction() {
+        causewayConfiguration.getCore().getMetaModel().getTitleCache().setMemoizePerInteraction(true);
+
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+
+        memoOfInteraction = new TitleCacheDefault.Memo();
+
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+    }
+
+    @Test
+    void notMemoized_whenNotAttached() {
+        causewayConfiguration.getCore().getMetaModel().getTitleCache().setMemoizePerInteraction(true);
+        when(entity.getEntityState()).thenReturn(EntityState.DETACHED);
+
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+    }
+
+    @Test
+    void cachedAcrossInteractions_keyedByVersion() {
+        causewayConfiguration.getCore().getMetaModel().getTitleCache().setMaxEntries(10);
+        when(entityFacet.versionOf(pojo)).thenReturn(1L);
+
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+
+        when(entityFacet.versionOf(pojo)).thenReturn(2L);
+
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+    }
+
+    @Test
+    void notCachedAcrossInteractions_whenImpure() {
+        causewayConfiguration.getCore().getMetaModel().getTitleCache().setMaxEntries(10);
+        when(entityFacet.versionOf(pojo)).thenReturn(1L);
+        when(titleFacet.isPure()).thenReturn(false);
+
+        assertEquals("Title #1", titleCache.titleOf(entity, titleFacet, titleSupplier));
+        assertEquals("Title #2", titleCache.titleOf(entity, titleFacet, titleSupplier));
+    }
+
+}
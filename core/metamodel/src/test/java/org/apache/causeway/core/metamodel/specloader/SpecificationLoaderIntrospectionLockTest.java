@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.core.config.metamodel.specloader.IntrospectionMode;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class SpecificationLoaderIntrospectionLockTest
+implements HasMetaModelContext {
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+        @Property @Getter @Setter private List<Order> orders;
+        @Action public Order placeOrder(final Order template) { return template; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Order {
+        @Property @Getter @Setter private Customer customer;
+        @Action public Customer transferTo(final Customer customer) { return customer; }
+    }
+
+    @Getter
+    private MetaModelContext metaModelContext;
+
+    @BeforeEach
+    void setUp() {
+        val mmc = MetaModelContext_forTesting.builder()
+                .singleton(Mockito.mock(MemberExecutorService.class))
+                .build();
+        val introspector = mmc.getConfiguration().getCore().getMetaModel().getIntrospector();
+        introspector.setMode(IntrospectionMode.LAZY);
+        introspector.setWarmUpInBackground(true);
+        metaModelContext = mmc;
+    }
+
+    @AfterEach
+    void tearDown() {
+        metaModelContext.getSpecificationLoader().disposeMetaModel();
+    }
+
+    @RepeatedTest(10)
+    void warmUp_racingWithRequest_onSpecsReferencingEachOther_shouldNotDeadlock() throws Exception {
+
+        // given
+        val customerSpec = getSpecificationLoader().loadSpecification(Customer.class, IntrospectionState.TYPE_INTROSPECTED);
+        val orderSpec = getSpecificationLoader().loadSpecification(Order.class, IntrospectionState.TYPE_INTROSPECTED);
+        val barrier = new CyclicBarrier(2);
+
+        // when - the warm-up and a request introspect the same specs, in opposite order
+        val warmUp = CompletableFuture.runAsync(()->introspectFully(barrier, customerSpec, orderSpec));
+        val request = CompletableFuture.runAsync(()->introspectFully(barrier, orderSpec, customerSpec));
+
+        // then - both complete, neither deadlocking on the other
+        CompletableFuture.allOf(warmUp, request).get(5, TimeUnit.SECONDS);
+
+        assertEquals(Customer.class, orderSpec.getAssociationElseFail("customer").getElementType().getCorrespondingClass());
+        assertEquals(Order.class, customerSpec.getAssociationElseFail("orders").getElementType().getCorrespondingClass());
+        assertEquals("placeOrder", customerSpec.getActionElseFail("placeOrder").getId());
+        assertEquals("transferTo", orderSpec.getActionElseFail("transferTo").getId());
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static void introspectFully(final CyclicBarrier barrier, final ObjectSpecification... specs) {
+        barrier.await(5, TimeUnit.SECONDS);
+        for (val spec : specs) {
+            spec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionLocks.SpecLock;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class IntrospectionLocksTest {
+
+    IntrospectionLocks introspectionLocks;
+    SpecLock customerLock;
+    SpecLock orderLock;
+
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        introspectionLocks = new IntrospectionLocks();
+        customerLock = introspectionLocks.newLock();
+        orderLock = introspectionLocks.newLock();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void otherSpec_beingIntrospected_doesNotBlock() throws Exception {
+        holdOnOtherThread(customerLock).get(5, TimeUnit.SECONDS);
+
+        val acquired = CompletableFuture.supplyAsync(orderLock::lockUnlessWaitedFor)
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(acquired);
+    }
+
+    @Test
+    void sameSpec_beingIntrospected_blocksUntilDone() throws Exception {
+        holdOnOtherThread(customerLock).get(5, TimeUnit.SECONDS);
+
+        val acquiring = CompletableFuture.supplyAsync(customerLock::lockUnlessWaitedFor);
+        Thread.sleep(200L);
+        assertFalse(acquiring.isDone());
+
+        release.countDown();
+        assertTrue(acquiring.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void specsNeedingEachOther_doNotDeadlock() throws Exception {
+        val customerHeld = new CountDownLatch(1);
+        val orderHeld = new CountDownLatch(1);
+
+        // holds customer, then needs order
+        val warmUp = CompletableFuture.supplyAsync(()->{
+            customerLock.lock();
+            try {
+                customerHeld.countDown();
+                await(orderHeld);
+                val acquired = orderLock.lockUnlessWaitedFor();
+                if(acquired) {
+                    orderLock.unlock();
+                }
+                return acquired;
+            } finally {
+                customerLock.unlock();
+            }
+        });
+
+        // holds order, then needs customer
+        val request = CompletableFuture.supplyAsync(()->{
+            orderLock.lock();
+            try {
+                orderHeld.countDown();
+                await(customerHeld);
+                waitUntilQueued(orderLock);
+                return customerLock.lockUnlessWaitedFor();
+            } finally {
+                orderLock.unlock();
+            }
+        });
+
+        // the request sees customer's interim state rather than waiting; the warm-up then gets order
+        assertFalse(request.get(5, TimeUnit.SECONDS));
+        assertTrue(warmUp.get(5, TimeUnit.SECONDS));
+    }
+
+    // -- HELPER
+
+    private CompletableFuture<Void> holdOnOtherThread(final SpecLock lock) {
+        val held = new CompletableFuture<Void>();
+        CompletableFuture.runAsync(()->{
+            lock.lock();
+            try {
+                held.complete(null);
+                await(release);
+            } finally {
+                lock.unlock();
+            }
+        });
+        return held;
+    }
+
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static void waitUntilQueued(final SpecLock lock) {
+        while(!lock.hasQueuedThreads()) {
+            Thread.sleep(10L);
+        }
+    }
+
+}
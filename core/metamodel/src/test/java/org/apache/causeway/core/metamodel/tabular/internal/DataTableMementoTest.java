@@ -0,0 +1,176 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.val;
+
+class DataTableMementoTest implements HasMetaModelContext {
+
+    @BeforeEach
+    void setUp() {
+        // refreshing view models (once reloaded) recreates these from their bookmark
+        val factoryService = Mockito.mock(FactoryService.class);
+        when(factoryService.viewModel(eq(Customer.class), any(Bookmark.class)))
+            .thenAnswer(invocation->new Customer(invocation.<Bookmark>getArgument(1).getIdentifier()));
+
+        MetaModelContext_forTesting.builder()
+            .singleton(Mockito.mock(MemberExecutorService.class))
+            .transactionService(Mockito.mock(TransactionService.class))
+            .factoryService(factoryService)
+            .build();
+    }
+
+    @Named("DataTableMementoTest.Owner")
+    @NoArgsConstructor
+    public static class Owner implements ViewModel {
+        public Owner(final String memento) { }
+        @Override public String viewModelMemento() { return "owner"; }
+        @Action public List<Customer> customers() { return List.of(); }
+        @Action public List<Row> rows() { return List.of(); }
+    }
+
+    @Named("DataTableMementoTest.Customer")
+    @AllArgsConstructor
+    public static class Customer implements ViewModel {
+        @Property @Getter @Setter private String memento;
+        @Override public String viewModelMemento() { return memento; }
+    }
+
+    /** cannot be bookmarked */
+    @AllArgsConstructor
+    public static class Row {
+        @Property @Getter @Setter private String name;
+    }
+
+    @Test
+    void actionResult_ofBookmarkableElements_survivesSerialization() {
+        val owner = getObjectManager().adapt(new Owner());
+        val table = actionResultTable(owner, "customers", Customer.class,
+                new Customer("cus-1"), new Customer("cus-2"), new Customer("cus-3"));
+        select(table, 1);
+        table.getSearchArgument().setValue("cus");
+
+        val memento = _SerializationTester.roundtrip(table.createMemento());
+        val recreated = memento.getDataTableModel(owner);
+
+        assertEquals(List.of("cus-1", "cus-2", "cus-3"), elementsOf(recreated, Customer::getMemento));
+        assertEquals(List.of("cus-2"), selectedOf(recreated, Customer::getMemento));
+        assertEquals("cus", recreated.getSearchArgument().getValue());
+    }
+
+    @Test
+    void actionResult_ofElementsNotBookmarkable_isHeldAsIs() {
+        val owner = getObjectManager().adapt(new Owner());
+        val table = actionResultTable(owner, "rows", Row.class,
+                new Row("row-1"), new Row("row-2"));
+        select(table, 0);
+
+        val memento = table.createMemento();
+        memento.setupBindings(table);
+        select(table, 1);
+        val recreated = memento.getDataTableModel(owner);
+
+        assertEquals(List.of("row-1", "row-2"), elementsOf(recreated, Row::getName));
+        assertEquals(List.of("row-1", "row-2"), selectedOf(recreated, Row::getName));
+        assertEquals(Set.of(0, 1), recreated.getSelectedRowIndexes());
+    }
+
+    @Test
+    void actionResult_ofElementsNotBookmarkable_cannotBeRecreatedAfterSerialization() {
+        val owner = getObjectManager().adapt(new Owner());
+        val table = actionResultTable(owner, "rows", Row.class,
+                new Row("row-1"));
+
+        val memento = _SerializationTester.roundtrip(table.createMemento());
+
+        assertThrows(IllegalStateException.class, ()->memento.getDataTableModel(owner));
+    }
+
+    // -- HELPER
+
+    private DataTableInteractive actionResultTable(
+            final ManagedObject owner, final String actionId, final Class<?> elementType, final Object... elements) {
+        val action = owner.getSpecification().getActionElseFail(actionId);
+        val elementSpec = getSpecificationLoader().specForTypeElseFail(elementType);
+        val actionResult = ManagedObject.packed(elementSpec,
+                Can.ofArray(elements).map(getObjectManager()::adapt));
+        return DataTableInteractive.forAction(ManagedAction.of(owner, action, Where.NOT_SPECIFIED), actionResult);
+    }
+
+    private static void select(final DataTableInteractive table, final int rowIndex) {
+        table.lookupDataRow(rowIndex).orElseThrow().getSelectToggle().setValue(true);
+    }
+
+    private static <T> List<String> elementsOf(
+            final DataTableInteractive table, final Function<T, String> toString) {
+        return pojosOf(table.getDataElements().getValue(), toString);
+    }
+
+    private static <T> List<String> selectedOf(
+            final DataTableInteractive table, final Function<T, String> toString) {
+        return pojosOf(table.getDataRowsSelected().getValue().map(DataRow::getRowElement), toString);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<String> pojosOf(
+            final Can<ManagedObject> elements, final Function<T, String> toString) {
+        return elements.stream()
+                .map(element->toString.apply((T) element.getPojo()))
+                .collect(Collectors.toList());
+    }
+
+}
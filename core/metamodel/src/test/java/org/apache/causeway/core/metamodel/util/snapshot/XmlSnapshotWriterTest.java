@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.util.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Named;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Collection;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.commons.internal.codec._DocumentFactories;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class XmlSnapshotWriterTest implements HasMetaModelContext {
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var memberExecutorService = Mockito.mock(MemberExecutorService.class);
+        MetaModelContext_forTesting.builder()
+            .singleton(memberExecutorService)
+            .build();
+    }
+
+    @Named("XmlSnapshotWriterTest.Address")
+    @AllArgsConstructor
+    public static class Address implements ViewModel {
+        @Property @Getter @Setter
+        private String city;
+
+        @Override
+        public String viewModelMemento() {
+            return city;
+        }
+    }
+
+    @Named("XmlSnapshotWriterTest.Order")
+    @AllArgsConstructor
+    public static class Order implements ViewModel {
+        @Property @Getter @Setter
+        private String number;
+
+        @Override
+        public String viewModelMemento() {
+            return number;
+        }
+    }
+
+    @Named("XmlSnapshotWriterTest.Customer")
+    public static class Customer implements ViewModel {
+        @Property @Getter @Setter
+        private String name = "Fred";
+        @Property @Getter @Setter
+        private Address address = new Address("London");
+        @Collection @Getter @Setter
+        private List<Order> orders = new ArrayList<>(List.of(new Order("1"), new Order("2")));
+
+        @Override
+        public String viewModelMemento() {
+            return name;
+        }
+    }
+
+    @Test
+    void shouldWriteSameXmlAndXsdAsDomSnapshot() {
+        val customer = adapt(new Customer());
+
+        val domSnapshot = new XmlSnapshot(customer);
+        domSnapshot.include("address", "home");
+        domSnapshot.include("orders");
+
+        val xmlOut = new ByteArrayOutputStream();
+        val xsdOut = new ByteArrayOutputStream();
+        new XmlSnapshotWriter(customer)
+            .include("address", "home")
+            .include("orders")
+            .writeTo(xmlOut, xsdOut);
+
+        val xmlDoc = parse(xmlOut);
+        assertEqualDocuments(domSnapshot.getXmlDocument(), xmlDoc);
+        assertEqualDocuments(domSnapshot.getXsdDocument(), parse(xsdOut));
+
+        assertEquals(2, xmlDoc.getElementsByTagNameNS("*", "Order").getLength());
+        assertEquals(1, xmlDoc.getElementsByTagNameNS("*", "Address").getLength());
+    }
+
+    @Test
+    void shouldSkipSchema_whenNoXsdOutput() {
+        val xmlOut = new ByteArrayOutputStream();
+        new XmlSnapshotWriter(adapt(new Customer()))
+            .writeTo(xmlOut, null);
+
+        val rootElement = parse(xmlOut).getDocumentElement();
+        assertEquals("Customer", rootElement.getLocalName());
+        assertFalse(rootElement.hasAttributeNS(XsMetaModel.W3_ORG_XSI_URI, "schemaLocation"));
+    }
+
+    @Test
+    void shouldOnlyBeWrittenOnce() {
+        val writer = new XmlSnapshotWriter(adapt(new Customer()));
+        writer.writeTo(new ByteArrayOutputStream(), null);
+
+        assertThrows(IllegalStateException.class, ()->writer.writeTo(new ByteArrayOutputStream(), null));
+    }
+
+    // -- HELPER
+
+    private ManagedObject adapt(final Object pojo) {
+        return getObjectManager().adapt(pojo);
+    }
+
+    private static Document parse(final ByteArrayOutputStream out) {
+        return _DocumentFactories.parseDocument(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compares the serialized documents; view models are given random (fake) OIDs, so these are ignored.
+     */
+    private static void assertEqualDocuments(final Document expected, final Document actual) {
+        removeOids(expected);
+        removeOids(actual);
+        assertEquals(asString(expected), asString(actual));
+    }
+
+    private static void removeOids(final Document document) {
+        final NodeList elements = document.getElementsByTagNameNS("*", "*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            ((Element) elements.item(i)).removeAttributeNS(CausewaySchema.NS_URI, "oid");
+        }
+    }
+
+    @SneakyThrows
+    private static String asString(final Document document) {
+        val writer = new StringWriter();
+        _DocumentFactories.transformer().transform(new DOMSource(document), new StreamResult(writer));
+        return writer.toString();
+    }
+
+}
@@ -20,6 +20,7 @@
     exports org.apache.causeway.core.runtimeservices;
     exports org.apache.causeway.core.runtimeservices.bookmarks;
     exports org.apache.causeway.core.runtimeservices.command;
+    exports org.apache.causeway.core.runtimeservices.dtostorage;
     exports org.apache.causeway.core.runtimeservices.email;
     exports org.apache.causeway.core.runtimeservices.eventbus;
     exports org.apache.causeway.core.runtimeservices.executor;
@@ -36,6 +37,7 @@
     exports org.apache.causeway.core.runtimeservices.publish;
     exports org.apache.causeway.core.runtimeservices.recognizer;
     exports org.apache.causeway.core.runtimeservices.recognizer.dae;
+    exports org.apache.causeway.core.runtimeservices.retention;
     exports org.apache.causeway.core.runtimeservices.routing;
     exports org.apache.causeway.core.runtimeservices.scratchpad;
     exports org.apache.causeway.core.runtimeservices.serializing;
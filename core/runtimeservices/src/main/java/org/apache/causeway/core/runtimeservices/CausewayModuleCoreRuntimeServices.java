@@ -32,6 +32,7 @@
 import org.apache.causeway.core.runtimeservices.command.CommandDtoFactoryDefault;
 import org.apache.causeway.core.runtimeservices.command.CommandExecutorServiceDefault;
 import org.apache.causeway.core.runtimeservices.command.SchemaValueMarshallerDefault;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigrationService;
 import org.apache.causeway.core.runtimeservices.email.EmailServiceDefault;
 import org.apache.causeway.core.runtimeservices.eventbus.EventBusServiceSpring;
 import org.apache.causeway.core.runtimeservices.executor.MemberExecutorServiceDefault;
@@ -57,6 +58,7 @@
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
+import org.apache.causeway.core.runtimeservices.retention.LogRetentionService;
 import org.apache.causeway.core.runtimeservices.routing.RoutingServiceDefault;
 import org.apache.causeway.core.runtimeservices.scratchpad.ScratchpadDefault;
 import org.apache.causeway.core.runtimeservices.serializing.SerializingAdapterDefault;
@@ -84,6 +86,7 @@
         CommandDtoFactoryDefault.class,
         CommandExecutorServiceDefault.class,
         CommandPublisherDefault.class,
+        DtoStorageMigrationService.class,
         EmailNotificationServiceDefault.class,
         EmailServiceDefault.class,
         EntityChangesPublisherDefault.class,
@@ -100,6 +103,7 @@
         JaxbServiceDefault.class,
         LanguageProviderDefault.class,
         LocaleChoiceProviderDefault.class,
+        LogRetentionService.class,
         MemberExecutorServiceDefault.class,
         MenuBarsLoaderServiceDefault.class,
         MenuBarsMarshallerServiceBootstrap.class,
@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.dtostorage;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+
+/**
+ * SPI for the {@link DtoStorageMigrationService}, implemented by the repositories of those log extensions that
+ * persist DTOs (command log and execution log), so that their existing entries can be re-encoded
+ * in the currently configured {@link DtoStorageCodec.Format format}.
+ *
+ * @param <E> - the type of log entry
+ *
+ * @since 2.0 {@index}
+ */
+public interface DtoStorageMigratable<E> {
+
+    /**
+     * Name of this log, as used for reporting, eg <code>commandLog</code>.
+     */
+    String getLogName();
+
+    /**
+     * Returns up to {@code limit} entries with a timestamp at or before the given {@code cutoff}, most recent first,
+     * whose DTO(s) are not (yet) stored in the given {@link DtoStorageCodec.Format format}.
+     *
+     * <p>
+     *     Implementations select on the stored value (ie on the {@link DtoStorageCodec#GZIP_MARKER}), so that entries
+     *     already in the target format are neither loaded nor written again.
+     * </p>
+     */
+    List<E> findNotStoredAsAtOrBefore(DtoStorageCodec.Format format, Timestamp cutoff, int limit);
+
+    Timestamp timestampOf(E entry);
+
+    /**
+     * Writes the DTO(s) of the given entry again, using the currently configured format, either directly or
+     * (by marking them as modified) when the transaction is flushed.
+     */
+    void reencodeDtos(E entry);
+
+}
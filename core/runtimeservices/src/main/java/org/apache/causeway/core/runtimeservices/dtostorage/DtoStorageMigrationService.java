@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.dtostorage;
+
+import java.sql.Timestamp;
+import java.util.concurrent.Callable;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Re-encodes the entries of all {@link DtoStorageMigratable}s (as provided by the command log and execution log
+ * extensions) in the configured {@link DtoStorageCodec.Format format}, on demand, eg after changing that format.
+ *
+ * <p>
+ *     Only entries not yet stored in that format are re-encoded, in batches, each in its own (short) transaction,
+ *     most recent first.  This may therefore safely be interrupted and run again.
+ * </p>
+ *
+ * <p>
+ *     Intended to be run once in the background, eg by the <code>MigrateDtoStorageJob</code> provided by the
+ *     command log extension.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".DtoStorageMigrationService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class DtoStorageMigrationService {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final ServiceRegistry serviceRegistry;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final ClockService clockService;
+
+    /**
+     * Re-encodes the entries of all {@link DtoStorageMigratable}s, returning the total number of entries.
+     */
+    public long migrateAll() {
+        return serviceRegistry.select(DtoStorageMigratable.class).stream()
+                .mapToLong(this::migrate)
+                .sum();
+    }
+
+    /**
+     * Re-encodes all entries of the given {@link DtoStorageMigratable} not yet stored in the configured format,
+     * returning their number.
+     */
+    public <E> long migrate(final @NonNull DtoStorageMigratable<E> migratable) {
+        val startedAt = System.nanoTime();
+        val format = dtoStorageConfig().getFormat();
+        val batchSize = Math.max(1, dtoStorageConfig().getMigrationBatchSize());
+
+        Timestamp cutoff = clockService.getClock().nowAsJavaSqlTimestamp();
+        long migrated = 0;
+        while(true) {
+            final Timestamp batchCutoff = cutoff;
+            val batch = inTransaction(()->{
+                val entries = migratable.findNotStoredAsAtOrBefore(format, batchCutoff, batchSize);
+                entries.forEach(migratable::reencodeDtos);
+                transactionService.flushTransaction();
+                return entries;
+            });
+            migrated += batch.size();
+            if(batch.size() < batchSize) {
+                break;
+            }
+            val oldest = migratable.timestampOf(batch.get(batch.size() - 1));
+            // entries sharing the oldest timestamp and not yet re-encoded are picked up by the next batch,
+            // unless the whole batch shares it, in which case we must move on
+            cutoff = oldest.before(batchCutoff)
+                    ? oldest
+                    : new Timestamp(oldest.getTime() - 1);
+        }
+
+        log.info("{}: re-encoded {} entries as {}, took {}ms",
+                migratable.getLogName(), migrated, format,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return migrated;
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Persistence.Commons.DtoStorage dtoStorageConfig() {
+        return causewayConfiguration.getPersistence().getCommons().getDtoStorage();
+    }
+
+    private <T> T inTransaction(final Callable<T> callable) {
+        return interactionService.callAnonymous(()->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, callable)
+                .ifFailureFail()
+                .valueAsNonNullElseFail());
+    }
+
+}
@@ -46,6 +46,7 @@
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MessageTemplate;
 import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
+import org.apache.causeway.core.metamodel.consent.ConsentMemo;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.execution.ActionExecutor;
 import org.apache.causeway.core.metamodel.execution.InteractionInternal;
@@ -103,6 +104,7 @@
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
     private final Provider<CommandPublisher> commandPublisherProvider;
+    private final ConsentMemo consentMemo;
 
     private MetricsService metricsService() {
         return metricsServiceProvider.get();
@@ -172,6 +174,9 @@ private ManagedObject invokeActionInternally(
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
         interaction.execute(actionExecutor, actionInvocation, clockService, metricsService(), commandPublisherProvider.get(), command);
 
+        // any object might have changed, so memoized visibility/usability no longer applies (also to the result)
+        consentMemo.invalidate();
+
         // handle any exceptions
         val priorExecution = interaction.getPriorExecutionOrThrowIfAnyException(actionInvocation);
 
@@ -270,6 +275,8 @@ private ManagedObject setOrClearPropertyInternally(
         val targetPojo = interaction.execute(propertyModifier, propertyEdit, clockService, metricsService(),
                 commandPublisherProvider.get(), command);
 
+        consentMemo.invalidate();
+
         // handle any exceptions
         final Execution<?, ?> priorExecution = interaction.getPriorExecution();
 
@@ -0,0 +1,184 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Immutable translations of a single locale, keyed first by (interned) context, then by <tt>msgId</tt>, so that
+ * looking up a translation requires no key to be allocated.
+ *
+ * <p>
+ *     Either parsed from the lines of a <i>.po</i> file, or read from its binary form as written by
+ *     {@link #writeTo(OutputStream)} (see {@link PoCatalogCompiler}).
+ * </p>
+ */
+final class PoCatalog {
+
+    /**
+     * Suffix of precompiled catalogs, replacing the <tt>.po</tt> suffix of the file compiled.
+     */
+    static final String SUFFIX = ".pocat";
+
+    private static final int MAGIC = 0x504f4331; // "POC1"
+
+    private static final PoCatalog EMPTY = new PoCatalog(Collections.emptyMap());
+
+    private final Map<String, Map<String, String>> translationByMsgIdByContext;
+
+    private PoCatalog(final Map<String, Map<String, String>> translationByMsgIdByContext) {
+        this.translationByMsgIdByContext = translationByMsgIdByContext;
+    }
+
+    static PoCatalog parse(final @NonNull List<String> lines) {
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
+        Block block = new Block();
+        for (final String line : lines) {
+            block = block.parseLine(line, translationsByKey);
+        }
+        return of(translationsByKey);
+    }
+
+    static PoCatalog of(final @NonNull Map<ContextAndMsgId, String> translationsByKey) {
+        final Map<String, Map<String, String>> translationByMsgIdByContext = new HashMap<>();
+        translationsByKey.forEach((key, translation)->
+            put(translationByMsgIdByContext, key.getContext(), key.getMsgId(), translation));
+        return seal(translationByMsgIdByContext);
+    }
+
+    /**
+     * @return the translation of the <tt>msgId</tt> within given context, or {@code null} if there is none
+     */
+    @Nullable
+    String lookup(final @Nullable String context, final @Nullable String msgId) {
+        if(msgId == null) {
+            return null;
+        }
+        val translationByMsgId = translationByMsgIdByContext.get(context != null ? context : "");
+        return translationByMsgId != null
+                ? translationByMsgId.get(msgId)
+                : null;
+    }
+
+    int size() {
+        return translationByMsgIdByContext.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    boolean isEmpty() {
+        return translationByMsgIdByContext.isEmpty();
+    }
+
+    // -- BINARY FORM
+
+    void writeTo(final OutputStream outputStream) throws IOException {
+        val out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(translationByMsgIdByContext.size());
+        for (val contextEntry : translationByMsgIdByContext.entrySet()) {
+            writeString(out, contextEntry.getKey());
+            out.writeInt(contextEntry.getValue().size());
+            for (val entry : contextEntry.getValue().entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+        out.flush();
+    }
+
+    static PoCatalog readFrom(final InputStream inputStream) throws IOException {
+        val in = new DataInputStream(new BufferedInputStream(inputStream));
+        if(in.readInt() != MAGIC) {
+            throw new IOException("not a precompiled translation catalog");
+        }
+        final Map<String, Map<String, String>> translationByMsgIdByContext = new HashMap<>();
+        final int contextCount = in.readInt();
+        for (int i = 0; i < contextCount; i++) {
+            val context = readString(in);
+            final int translationCount = in.readInt();
+            for (int j = 0; j < translationCount; j++) {
+                put(translationByMsgIdByContext, context, readString(in), readString(in));
+            }
+        }
+        return seal(translationByMsgIdByContext);
+    }
+
+    // -- HELPER
+
+    /**
+     * Translations are trimmed once, up front; blank ones are treated as missing.
+     */
+    private static void put(
+            final Map<String, Map<String, String>> translationByMsgIdByContext,
+            final String context,
+            final String msgId,
+            final String translation) {
+        if(translation == null) {
+            return;
+        }
+        val trimmed = translation.trim();
+        if(_Strings.isNullOrEmpty(trimmed)) {
+            return;
+        }
+        translationByMsgIdByContext
+            .computeIfAbsent(context.intern(), __->new HashMap<>())
+            .put(msgId, trimmed);
+    }
+
+    private static PoCatalog seal(final Map<String, Map<String, String>> translationByMsgIdByContext) {
+        if(translationByMsgIdByContext.isEmpty()) {
+            return EMPTY;
+        }
+        translationByMsgIdByContext.replaceAll((context, translationByMsgId)->Map.copyOf(translationByMsgId));
+        return new PoCatalog(Map.copyOf(translationByMsgIdByContext));
+    }
+
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        val bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        val bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.val;
+
+/**
+ * Precompiles <i>.po</i> files into binary translation catalogs, to be picked up by the {@link TranslationServicePo}
+ * in place of the <i>.po</i> files, if <code>causeway.core.runtime-services.translation.po.precompiled-location</code>
+ * is configured.
+ *
+ * <p>
+ *     Intended to be run at build time, eg using the <code>exec-maven-plugin</code>:
+ * </p>
+ * <pre>
+ * &lt;mainClass&gt;org.apache.causeway.core.runtimeservices.i18n.po.PoCatalogCompiler&lt;/mainClass&gt;
+ * &lt;arguments&gt;
+ *     &lt;argument&gt;${project.basedir}/src/main/webapp/WEB-INF&lt;/argument&gt;
+ *     &lt;argument&gt;${project.build.outputDirectory}/translations&lt;/argument&gt;
+ * &lt;/arguments&gt;
+ * </pre>
+ *
+ * @since 2.0 {@index}
+ */
+public final class PoCatalogCompiler {
+
+    private PoCatalogCompiler() {}
+
+    /**
+     * @param args - the directory to read the <i>.po</i> files from, and the directory to write the catalogs to
+     */
+    public static void main(final String[] args) throws IOException {
+        if(args.length != 2) {
+            System.err.println("usage: PoCatalogCompiler <po-directory> <catalog-directory>");
+            System.exit(1);
+        }
+        val compiled = compile(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(String.format("precompiled %d translation catalog(s) into %s", compiled.size(), args[1]));
+    }
+
+    /**
+     * Compiles each <i>.po</i> file of the source directory into a catalog of the same name in the target
+     * directory, its suffix replaced by {@value PoCatalog#SUFFIX}.
+     *
+     * @return the catalogs written
+     */
+    public static List<Path> compile(final Path poDirectory, final Path catalogDirectory) throws IOException {
+        Files.createDirectories(catalogDirectory);
+        final List<Path> poFiles;
+        try(val files = Files.list(poDirectory)) {
+            poFiles = files
+                    .filter(file->file.getFileName().toString().endsWith(".po"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        val catalogFiles = new ArrayList<Path>(poFiles.size());
+        for (val poFile : poFiles) {
+            val poFileName = poFile.getFileName().toString();
+            val catalogFile = catalogDirectory.resolve(
+                    poFileName.substring(0, poFileName.length() - ".po".length()) + PoCatalog.SUFFIX);
+            val catalog = PoCatalog.parse(Files.readAllLines(poFile, StandardCharsets.UTF_8));
+            try(val out = Files.newOutputStream(catalogFile)) {
+                catalog.writeTo(out);
+            }
+            catalogFiles.add(catalogFile);
+        }
+        return catalogFiles;
+    }
+
+}
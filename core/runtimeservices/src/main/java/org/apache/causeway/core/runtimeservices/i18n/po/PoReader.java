@@ -18,13 +18,20 @@
  */
 package org.apache.causeway.core.runtimeservices.i18n.po;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.services.i18n.LanguageProvider;
 import org.apache.causeway.applib.services.i18n.Mode;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
@@ -34,18 +41,29 @@
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Sets;
+import org.apache.causeway.commons.internal.context._Context;
+import org.apache.causeway.commons.internal.resources._Resources;
 
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Reads translations into an immutable {@link PoCatalog} per locale, loaded on first request of that locale
+ * unless {@link #preload(Collection, boolean) preloaded}.
+ *
+ * <p>
+ *     The catalogs are published as a whole, so that {@link #clearCache() reloading} them does not disturb
+ *     concurrent lookups.
+ * </p>
+ */
 @Log4j2
 class PoReader extends PoAbstract {
 
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    private volatile Map<Locale, PoCatalog> catalogByLocale = _Maps.newConcurrentHashMap();
+    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newConcurrentHashMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -65,7 +83,9 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final LanguageProvider languageProvider;
 
-    private List<String> fallback;
+    private final Optional<String> precompiledLocation;
+
+    private volatile List<String> fallback;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -74,6 +94,7 @@ public PoReader(final TranslationServicePo translationServicePo) {
             log.warn("No TranslationsResolver available");
         }
         languageProvider = translationServicePo.getLanguageProvider();
+        precompiledLocation = translationServicePo.getPrecompiledLocation();
     }
 
     // -- init, shutdown
@@ -89,6 +110,25 @@ void init() {
         }
     }
 
+    /**
+     * Loads the catalogs of given locales up front, optionally in the background.
+     */
+    void preload(final Collection<Locale> locales, final boolean inBackground) {
+        if(locales.isEmpty()) {
+            return;
+        }
+        final Runnable preloader = ()->locales.forEach(this::catalogFor);
+        if(inBackground) {
+            CompletableFuture.runAsync(preloader)
+                .exceptionally(ex->{
+                    log.warn("Failed to preload translations for {}", locales, ex);
+                    return null;
+                });
+        } else {
+            preloader.run();
+        }
+    }
+
     @Override
     public String translate(final TranslationContext context, final String msgId) {
         if(translationsResolver == null) {
@@ -114,10 +154,16 @@ String translate(final TranslationContext context, final String msgId, final Str
         return translate(context, msgIdToUse, type);
     }
 
+    /**
+     * Re-reads the translations of all locales loaded so far, then publishes them at once; until then,
+     * the previous catalogs remain in use.
+     */
     void clearCache() {
-        translationByKeyByLocale.clear();
-        usesFallbackByLocale.clear();
         init();
+        final Map<Locale, PoCatalog> reloaded = _Maps.newConcurrentHashMap();
+        catalogByLocale.keySet()
+            .forEach(locale->reloaded.put(locale, loadCatalog(locale)));
+        catalogByLocale = reloaded;
     }
 
     private String translate(final TranslationContext context, final String msgId, final ContextAndMsgId.Type type) {
@@ -136,19 +182,17 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final PoCatalog catalog = catalogFor(targetLocale);
 
         // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        final String translation = catalog.lookup(context.getName(), msgId);
+        if (translation != null) {
             return translation;
         }
 
         // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
+        final String translationNoContext = catalog.lookup("", msgId);
+        if (translationNoContext != null) {
             return translationNoContext;
         }
 
@@ -160,42 +204,55 @@ private String translate(final TranslationContext context, final String msgId, f
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
         final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
         if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
 
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private PoCatalog catalogFor(final Locale locale) {
+        return catalogByLocale.computeIfAbsent(locale, this::loadCatalog);
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+    private PoCatalog loadCatalog(final Locale locale) {
+        return readPrecompiled(locale)
+                .orElseGet(()->PoCatalog.parse(readPo(locale)));
     }
 
-
     /**
-     * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
+     * Precompiled catalogs, if any, take precedence over .po files, the search for them following the same
+     * (locale specific, then fallback) order.
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
-        final List<String> contents = readPo(locale);
+    private Optional<PoCatalog> readPrecompiled(final Locale locale) {
+        if(!precompiledLocation.isPresent()) {
+            return Optional.empty();
+        }
+        for (final String candidate : candidates(locale)) {
+            val catalog = readPrecompiledElseNull(candidate);
+            if(catalog != null) {
+                usesFallbackByLocale.put(locale, false);
+                return Optional.of(catalog);
+            }
+        }
+        val fallbackCatalog = readPrecompiledElseNull(basename);
+        if(fallbackCatalog != null) {
+            usesFallbackByLocale.put(locale, true);
+            return Optional.of(fallbackCatalog);
+        }
+        return Optional.empty();
+    }
 
-        Block block = new Block();
-        for (final String line : contents) {
-            block = block.parseLine(line, translationsByKey);
+    @Nullable
+    private PoCatalog readPrecompiledElseNull(final String candidate) {
+        val resourcePath = _Resources.combinePath(precompiledLocation.get(), candidate + PoCatalog.SUFFIX);
+        try(final InputStream inputStream = _Context.getDefaultClassLoader().getResourceAsStream(resourcePath)) {
+            return inputStream != null
+                    ? PoCatalog.readFrom(inputStream)
+                    : null;
+        } catch (final IOException ex) {
+            log.warn("Failed to read precompiled translations from {}", resourcePath, ex);
+            return null;
         }
     }
 
@@ -214,28 +271,34 @@ protected List<String> readPo(final Locale locale) {
     }
 
     private List<String> readPoElseNull(final Locale locale) {
+        for (final String candidate : candidates(locale)) {
+            val lines = readUrl(candidate + ".po");
+            if(!lines.isEmpty()) {
+                return lines;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return names (without suffix) of the files to search for translations of given locale, in order
+     */
+    private List<String> candidates(final Locale locale) {
         final String country = locale.getCountry().toUpperCase(Locale.ROOT);
         final String language = locale.getLanguage().toLowerCase(Locale.ROOT);
 
         final List<String> candidates = _Lists.newArrayList();
         if(!_Strings.isNullOrEmpty(language)) {
             if(!_Strings.isNullOrEmpty(country)) {
-                candidates.add(basename + DASH       + language + UNDERSCORE + country+ ".po");
-                candidates.add(basename + DASH       + language + DASH       + country+ ".po");
-                candidates.add(basename + UNDERSCORE + language + UNDERSCORE + country+ ".po");
-                candidates.add(basename + UNDERSCORE + language + DASH       + country+ ".po");
+                candidates.add(basename + DASH       + language + UNDERSCORE + country);
+                candidates.add(basename + DASH       + language + DASH       + country);
+                candidates.add(basename + UNDERSCORE + language + UNDERSCORE + country);
+                candidates.add(basename + UNDERSCORE + language + DASH       + country);
             }
-            candidates.add(basename + DASH + language + ".po");
-            candidates.add(basename + UNDERSCORE + language + ".po");
+            candidates.add(basename + DASH + language);
+            candidates.add(basename + UNDERSCORE + language);
         }
-
-        for (final String candidate : candidates) {
-            val lines = readUrl(candidate);
-            if(!lines.isEmpty()) {
-                return lines;
-            }
-        }
-        return null;
+        return candidates;
     }
 
     private List<String> readUrl(final String candidate) {
@@ -55,7 +55,7 @@
 @Qualifier("Po")
 public class TranslationServicePo implements TranslationService {
 
-    private PoAbstract po;
+    private volatile PoAbstract po;
     private Runnable onShutdown;
 
     /**
@@ -92,6 +92,8 @@ public void init() {
         // switch to read mode
         final PoReader poReader = new PoReader(this);
         poReader.init();
+        val poConfig = configuration.getCore().getRuntimeServices().getTranslation().getPo();
+        poReader.preload(poConfig.getPreloadLocales(), poConfig.isPreloadInBackground());
         po = poReader;
 
         if(!systemEnvironment.isUnitTesting()) {
@@ -189,4 +191,9 @@ Can<TranslationsResolver> getTranslationsResolver() {
         return translationsResolvers.get();
     }
 
+    Optional<String> getPrecompiledLocation() {
+        return Optional.ofNullable(
+                configuration.getCore().getRuntimeServices().getTranslation().getPo().getPrecompiledLocation());
+    }
+
 }
@@ -0,0 +1,291 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Purges the entries of all {@link PurgeableLog}s (as provided by the command log, execution log, audit trail and
+ * session log extensions) according to their configured
+ * {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.LogRetention retention} policy.
+ *
+ * <p>
+ *     Entries are removed in batches, oldest first and each in its own (short) transaction, so as not to hold locks
+ *     on the log tables for long.  Each batch is deleted by key, using set-based deletes.  If an archive directory
+ *     is configured, the entries of each batch are first appended (as gzip-compressed NDJSON) to an archive file;
+ *     should a batch's transaction then fail, its entries might be archived again when next purged.
+ * </p>
+ *
+ * <p>
+ *     Intended to be called periodically, eg by the <code>PurgeLogsJob</code> provided by the command log
+ *     extension.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".LogRetentionService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class LogRetentionService {
+
+    /**
+     * Upper bound for the number of keys in a single set-based delete, as some databases limit the size of an
+     * <code>IN</code> list.
+     */
+    private static final int MAX_KEYS_PER_DELETE = 500;
+
+    private static final DateTimeFormatter ARCHIVE_FILE_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ServiceRegistry serviceRegistry;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final ClockService clockService;
+
+    /**
+     * Purges all {@link PurgeableLog}s that have a retention policy configured.
+     */
+    public Can<PurgeReport> purgeAll() {
+        return serviceRegistry.select(PurgeableLog.class)
+                .filter(purgeableLog->purgeableLog.getRetention().isEnabled())
+                .map(this::purge);
+    }
+
+    /**
+     * Purges the given {@link PurgeableLog} according to its retention policy; a no-op if none is configured.
+     */
+    public <E> PurgeReport purge(final @NonNull PurgeableLog<E> purgeableLog) {
+        val startedAt = System.nanoTime();
+        val retention = purgeableLog.getRetention();
+
+        val cutoffIfAny = inTransaction(()->cutoff(purgeableLog, retention));
+        if(cutoffIfAny.isEmpty()) {
+            return report(purgeableLog, 0, 0, null, startedAt);
+        }
+        val cutoff = cutoffIfAny.get();
+        val batchSize = Math.max(1, retention.getBatchSize());
+
+        try(val archive = new Archive(archiveFileFor(purgeableLog, retention))) {
+            long purged = 0;
+            int batches = 0;
+            while(true) {
+                val batch = inTransaction(()->purgeBatch(purgeableLog, cutoff, batchSize, archive));
+                purged += batch.getPurged();
+                batches++;
+                if(batch.getFound() < batchSize
+                        || batch.getPurged() == 0) {
+                    break;
+                }
+            }
+            val report = report(purgeableLog, purged, batches, archive.getFileIfWritten(), startedAt);
+            log.info("{}", report);
+            return report;
+        }
+    }
+
+    // -- HELPER
+
+    @lombok.Value
+    private static class BatchResult {
+        private final int found;
+        private final int purged;
+    }
+
+    private <T> T inTransaction(final Callable<T> callable) {
+        return interactionService.callAnonymous(()->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, callable)
+                .ifFailureFail()
+                .valueAsNonNullElseFail());
+    }
+
+    /**
+     * Entries at or before the returned timestamp are to be purged; whichever of the age and count based policies
+     * purges more wins.
+     */
+    private <E> Optional<Timestamp> cutoff(
+            final PurgeableLog<E> purgeableLog,
+            final CausewayConfiguration.Extensions.LogRetention retention) {
+        final Optional<Timestamp> byAge = Optional.ofNullable(retention.getMaxAge())
+                .map(maxAge->new Timestamp(clockService.getClock().nowAsInstant().minus(maxAge).toEpochMilli()));
+        final Optional<Timestamp> byCount = Optional.ofNullable(retention.getMaxEntries())
+                .flatMap(maxEntries->purgeableLog.findTimestampOfNthMostRecent(Math.max(0, maxEntries) + 1));
+        if(byAge.isPresent()
+                && byCount.isPresent()) {
+            return Optional.of(byAge.get().after(byCount.get()) ? byAge.get() : byCount.get());
+        }
+        return byAge.isPresent()
+                ? byAge
+                : byCount;
+    }
+
+    private <E> BatchResult purgeBatch(
+            final PurgeableLog<E> purgeableLog,
+            final Timestamp cutoff,
+            final int batchSize,
+            final Archive archive) {
+        val entries = purgeableLog.findPurgeableAtOrBefore(cutoff, batchSize);
+        archive.append(entries, purgeableLog);
+        int purged = 0;
+        for (val keys : Can.ofCollection(entries).partitionInnerBound(MAX_KEYS_PER_DELETE)) {
+            purged += purgeableLog.deleteAll(keys.toList());
+        }
+        return new BatchResult(entries.size(), purged);
+    }
+
+    private PurgeReport report(
+            final PurgeableLog<?> purgeableLog,
+            final long purged,
+            final int batches,
+            final @Nullable File archiveFile,
+            final long startedAtNanos) {
+        return PurgeReport.of(purgeableLog.getLogName(), purged, batches, archiveFile,
+                Duration.ofNanos(System.nanoTime() - startedAtNanos));
+    }
+
+    private @Nullable File archiveFileFor(
+            final PurgeableLog<?> purgeableLog,
+            final CausewayConfiguration.Extensions.LogRetention retention) {
+        return _Strings.isNotEmpty(retention.getArchiveDirectory())
+                ? new File(retention.getArchiveDirectory(),
+                        purgeableLog.getLogName()
+                        + "-" + ARCHIVE_FILE_SUFFIX.format(clockService.getClock().nowAsInstant())
+                        + ".ndjson.gz")
+                : null;
+    }
+
+    /**
+     * Lazily opened, so that no (empty) archive file is created if there is nothing to purge.
+     */
+    @RequiredArgsConstructor
+    private static class Archive implements AutoCloseable {
+
+        private final @Nullable File file;
+        private FileOutputStream out;
+
+        /**
+         * Each batch is appended as a gzip member of its own, finished and synced to disk before the batch is deleted.
+         * Concatenated members are still a valid gzip file, so everything archived so far remains readable even if
+         * the purge is interrupted.
+         */
+        @SneakyThrows
+        <E> void append(final List<E> entries, final PurgeableLog<E> purgeableLog) {
+            if(file == null
+                    || entries.isEmpty()) {
+                return;
+            }
+            val member = new ByteArrayOutputStream();
+            try(val writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(member), StandardCharsets.UTF_8))) {
+                for (E entry : entries) {
+                    writer.write(JsonUtils.toStringUtf8(toJson(purgeableLog.toArchiveRecord(entry))));
+                    writer.write('\n');
+                }
+            }
+            if(out == null) {
+                file.getParentFile().mkdirs();
+                out = new FileOutputStream(file);
+            }
+            out.write(member.toByteArray());
+            // entries are about to be deleted, so make sure they have been written
+            out.getFD().sync();
+        }
+
+        @Nullable File getFileIfWritten() {
+            return out != null ? file : null;
+        }
+
+        @Override
+        public void close() {
+            if(out == null) {
+                return;
+            }
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.error("failed to close archive file {}", file, e);
+            }
+        }
+
+        private static Map<String, Object> toJson(final Map<String, Object> record) {
+            val json = new LinkedHashMap<String, Object>();
+            record.forEach((key, value)->json.put(key, toJsonValue(value)));
+            return json;
+        }
+
+        private static Object toJsonValue(final @Nullable Object value) {
+            if(value == null
+                    || value instanceof String
+                    || value instanceof Number
+                    || value instanceof Boolean) {
+                return value;
+            }
+            if(value instanceof Date) {
+                return ((Date) value).toInstant().toString();
+            }
+            return value.toString();
+        }
+    }
+
+}
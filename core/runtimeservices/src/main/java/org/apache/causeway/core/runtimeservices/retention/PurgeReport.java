@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Value;
+
+/**
+ * Outcome of purging a single {@link PurgeableLog}, as returned by the {@link LogRetentionService}.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class PurgeReport {
+
+    private final String logName;
+
+    /**
+     * Number of entries purged (and archived, if configured).
+     */
+    private final long purged;
+
+    /**
+     * Number of transactions (batches) used.
+     */
+    private final int batches;
+
+    private final @Nullable File archiveFile;
+
+    private final Duration took;
+
+    public Optional<File> getArchiveFile() {
+        return Optional.ofNullable(archiveFile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: purged %d entries in %d batches, took %dms%s",
+                logName, purged, batches, took.toMillis(),
+                archiveFile!=null
+                    ? ", archived to " + archiveFile.getAbsolutePath()
+                    : "");
+    }
+
+}
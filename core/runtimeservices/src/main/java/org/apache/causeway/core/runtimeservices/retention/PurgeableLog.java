@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+/**
+ * SPI for the {@link LogRetentionService}, implemented by the repositories of the log extensions
+ * (command log, execution log, audit trail and session log), so that their entries can be purged in batches,
+ * optionally archiving them beforehand.
+ *
+ * @param <E> - the type of log entry
+ *
+ * @since 2.0 {@index}
+ */
+public interface PurgeableLog<E> {
+
+    /**
+     * Name of this log, as used for reporting and as the prefix of any archive files, eg <code>commandLog</code>.
+     */
+    String getLogName();
+
+    /**
+     * The retention policy of this log, as configured.
+     */
+    CausewayConfiguration.Extensions.LogRetention getRetention();
+
+    /**
+     * The timestamp of the n-th most recent entry (counting from 1), if there are at least that many entries.
+     */
+    Optional<Timestamp> findTimestampOfNthMostRecent(int n);
+
+    /**
+     * Returns up to {@code limit} of the oldest entries with a timestamp at or before the given {@code cutoff},
+     * oldest first, excluding any that may not be purged (eg. commands not yet completed).
+     *
+     * <p>
+     *     Entries that may not be purged must be excluded by the query itself (rather than filtered afterwards),
+     *     so that they never fill a batch and thereby stop the purge.
+     * </p>
+     */
+    List<E> findPurgeableAtOrBefore(Timestamp cutoff, int limit);
+
+    /**
+     * Deletes the given entries (as just returned by {@link #findPurgeableAtOrBefore(Timestamp, int)}), using
+     * set-based deletes by key rather than removing each entity in turn.
+     *
+     * @return the number of entries deleted
+     */
+    int deleteAll(List<E> entries);
+
+    /**
+     * The properties of the given entry to archive, serialized as one JSON object per entry.
+     *
+     * <p>
+     *     Values other than strings, numbers and booleans are archived as their {@link Object#toString()},
+     *     timestamps in ISO-8601 format.
+     * </p>
+     */
+    Map<String, Object> toArchiveRecord(E entry);
+
+}
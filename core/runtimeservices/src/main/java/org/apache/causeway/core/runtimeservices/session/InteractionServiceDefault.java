@@ -150,8 +150,9 @@ public void init(final ContextRefreshedEvent event) {
         taskList.submit(_ConcurrentContext.forkJoin());
         taskList.await();
 
-        { // log any validation failures, experimental code however, not sure how to best propagate failures
-            val validationResult = specificationLoader.getOrAssessValidationResult();
+        // log any validation failures, experimental code however, not sure how to best propagate failures
+        // (not yet available if deferred to the metamodel's background warm-up, which logs them itself)
+        specificationLoader.getValidationResult().ifPresent(validationResult->{
             if(validationResult.getNumberOfFailures()==0) {
                 log.info("Validation PASSED");
             } else {
@@ -161,7 +162,7 @@ public void init(final ContextRefreshedEvent event) {
                 });
                 //throw _Exceptions.unrecoverable("Validation FAILED");
             }
-        }
+        });
 
         runtimeEventService.fireAfterMetamodelLoaded();
 
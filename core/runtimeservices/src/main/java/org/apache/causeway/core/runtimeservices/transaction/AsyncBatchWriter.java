@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes items on a background thread, in batches, each batch within an (anonymous) interaction and transaction
+ * of its own.
+ *
+ * <p>
+ * Items are queued up to a bound, beyond which they are dropped rather than blocking the caller; it is up to the
+ * caller to report those.  The writer thread is only started on first submit.  On {@link #shutdown()}, any items
+ * still queued are written before the writer stops; items submitted after shutdown are dropped.
+ * </p>
+ *
+ * <p>
+ * If writing a batch fails, the failure is logged and the batch is lost; the writer carries on with the next one.
+ * </p>
+ *
+ * @param <T> - the type of items written
+ *
+ * @since 2.0
+ */
+@Log4j2
+public class AsyncBatchWriter<T> {
+
+    private static final long POLL_MILLIS = 500L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final String name;
+    private final int maxBatchSize;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final Consumer<List<T>> batchWriter;
+    private final BlockingQueue<T> queue;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean shutdown;
+    // guarded by this
+    private Thread writerThread;
+
+    /**
+     * @param name - used to name the writer thread, and when logging
+     * @param queueCapacity - the number of items queued at most, before further items are dropped
+     * @param maxBatchSize - the number of items written at most within a single transaction
+     * @param batchWriter - writes a batch of items, called within an interaction and transaction
+     */
+    public AsyncBatchWriter(
+            final @NonNull String name,
+            final int queueCapacity,
+            final int maxBatchSize,
+            final @NonNull InteractionService interactionService,
+            final @NonNull TransactionService transactionService,
+            final @NonNull Consumer<List<T>> batchWriter) {
+        this.name = name;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.interactionService = interactionService;
+        this.transactionService = transactionService;
+        this.batchWriter = batchWriter;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Queues given item for being written.
+     *
+     * @return whether queued, else dropped (if the queue is full or the writer shut down)
+     */
+    public boolean submit(final T item) {
+        if(startIfRequired()
+                && queue.offer(item)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Queues given items for being written, dropping any that exceed the queue's capacity.
+     *
+     * @return the number of items dropped
+     */
+    public int submitAll(final List<? extends T> items) {
+        val started = startIfRequired();
+        int droppedNow = 0;
+        for (val item : items) {
+            if(!started
+                    || !queue.offer(item)) {
+                ++droppedNow;
+            }
+        }
+        dropped.add(droppedNow);
+        return droppedNow;
+    }
+
+    /**
+     * The number of items queued, but not yet written.
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * The number of items written since start-up.
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * The number of items dropped since start-up.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting items, and waits (for a while) for those still queued to be written.
+     */
+    public void shutdown() throws InterruptedException {
+        final Thread writerThread;
+        synchronized (this) {
+            shutdown = true;
+            writerThread = this.writerThread;
+        }
+        if(writerThread == null) {
+            return;
+        }
+        writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if(!queue.isEmpty()) {
+            log.warn("{}: shut down with {} item(s) not yet written", name, queue.size());
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * @return whether the writer thread is running (false once shut down)
+     */
+    private synchronized boolean startIfRequired() {
+        if(shutdown) {
+            return false;
+        }
+        if(writerThread == null) {
+            writerThread = new Thread(this::writeLoop, "causeway-" + name + "-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+        return true;
+    }
+
+    private void writeLoop() {
+        val batch = new ArrayList<T>(maxBatchSize);
+        while(!shutdown
+                || !queue.isEmpty()) {
+            try {
+                val first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(final List<T> batch) {
+        try {
+            interactionService.runAnonymous(()->
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                    batchWriter.accept(batch))
+                .ifFailureFail());
+            written.add(batch.size());
+        } catch (Exception e) {
+            // keep the writer alive; the batch is lost
+            log.error("{}: failed to write {} item(s)", name, batch.size(), e);
+        }
+    }
+
+}
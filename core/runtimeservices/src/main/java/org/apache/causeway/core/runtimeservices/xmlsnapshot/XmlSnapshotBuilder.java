@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.xmlsnapshot;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.lang.Nullable;
@@ -27,6 +28,7 @@
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.metamodel.util.snapshot.XmlSchema;
 import org.apache.causeway.core.metamodel.util.snapshot.XmlSnapshot;
+import org.apache.causeway.core.metamodel.util.snapshot.XmlSnapshotWriter;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +45,10 @@
  * Element customerAsXml = snapshot.toXml();
  * </pre>
  *
+ * <p>
+ * Alternatively, {@link #writeTo(OutputStream, OutputStream)} streams the snapshot
+ * (using a {@link XmlSnapshotWriter}) without building any DOM documents.
+ *
  * @since 1.0 {@index}
  */
 @RequiredArgsConstructor
@@ -95,5 +101,20 @@ public XmlSnapshot build() {
         return snapshot;
     }
 
+    /**
+     * Writes the snapshot to <code>xmlOut</code> while traversing the object graph, and, unless
+     * <code>null</code>, its schema to <code>xsdOut</code>.
+     */
+    public void writeTo(final @NonNull OutputStream xmlOut, final @Nullable OutputStream xsdOut) {
+        final ManagedObject adapter = ManagedObject.adaptSingular(specificationLoader, domainObject);
+        final XmlSnapshotWriter writer = (schema != null)
+                ? new XmlSnapshotWriter(adapter, schema)
+                : new XmlSnapshotWriter(adapter);
+        for (final XmlSnapshotBuilder.PathAndAnnotation paa : paths) {
+            writer.include(paa.path, paa.annotation);
+        }
+        writer.writeTo(xmlOut, xsdOut);
+    }
+
 
 }
\ No newline at end of file
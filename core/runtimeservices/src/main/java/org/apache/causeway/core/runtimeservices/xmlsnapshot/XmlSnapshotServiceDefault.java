@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.xmlsnapshot;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -31,6 +32,7 @@
 import org.w3c.dom.Element;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
@@ -84,6 +86,11 @@ public XmlSnapshotService.Snapshot build() {
             XmlSnapshot xmlSnapshot = builder.build();
             return xmlSnapshot;
         }
+
+        @Override
+        public void writeTo(final OutputStream xmlOut, final @Nullable OutputStream xsdOut) {
+            builder.writeTo(xmlOut, xsdOut);
+        }
     }
 
     /**
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class PoCatalogTest {
+
+    private static final List<String> PO_LINES = List.of(
+            "#: org.example.Customer#name",
+            "#: org.example.Supplier#name",
+            "msgid \"Name\"",
+            "msgstr \" Nom \"",
+            "",
+            "#:",
+            "msgid \"Anonymous\"",
+            "msgstr \"Anonyme\"",
+            "",
+            "#: org.example.Customer#orders",
+            "msgid \"Order\"",
+            "msgid_plural \"Orders\"",
+            "msgstr[0] \"Commande\"",
+            "msgstr[1] \"Commandes\"");
+
+    @Test
+    void lookup_byContextAndMsgId() {
+        val catalog = PoCatalog.parse(PO_LINES);
+
+        assertEquals("Nom", catalog.lookup("org.example.Customer#name", "Name"));
+        assertEquals("Nom", catalog.lookup("org.example.Supplier#name", "Name"));
+        assertEquals("Anonyme", catalog.lookup("", "Anonymous"));
+        assertEquals("Commande", catalog.lookup("org.example.Customer#orders", "Order"));
+        assertEquals("Commandes", catalog.lookup("org.example.Customer#orders", "Orders"));
+
+        assertNull(catalog.lookup("org.example.Customer#name", "Anonymous"));
+        assertNull(catalog.lookup("org.example.Unknown#name", "Name"));
+        assertEquals(5, catalog.size());
+    }
+
+    @Test
+    void binaryForm_roundtrips() throws Exception {
+        val catalog = PoCatalog.parse(PO_LINES);
+
+        val bytes = new ByteArrayOutputStream();
+        catalog.writeTo(bytes);
+        val read = PoCatalog.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(catalog.size(), read.size());
+        assertEquals("Nom", read.lookup("org.example.Supplier#name", "Name"));
+        assertEquals("Commandes", read.lookup("org.example.Customer#orders", "Orders"));
+    }
+
+    @Test
+    void compiler_writesCatalogPerPoFile(final @TempDir Path tempDir) throws Exception {
+        val poDirectory = Files.createDirectory(tempDir.resolve("po"));
+        Files.write(poDirectory.resolve("translations-fr.po"), PO_LINES, StandardCharsets.UTF_8);
+        Files.write(poDirectory.resolve("README.txt"), List.of("not a po file"), StandardCharsets.UTF_8);
+
+        val catalogFiles = PoCatalogCompiler.compile(poDirectory, tempDir.resolve("catalogs"));
+
+        assertEquals(1, catalogFiles.size());
+        val catalogFile = catalogFiles.get(0);
+        assertEquals("translations-fr" + PoCatalog.SUFFIX, catalogFile.getFileName().toString());
+        try(val in = Files.newInputStream(catalogFile)) {
+            val catalog = PoCatalog.readFrom(in);
+            assertTrue(!catalog.isEmpty());
+            assertEquals("Anonyme", catalog.lookup("", "Anonymous"));
+        }
+    }
+
+}
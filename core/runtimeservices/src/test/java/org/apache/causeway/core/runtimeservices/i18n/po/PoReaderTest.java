@@ -214,6 +214,38 @@ protected List<String> readPo(final Locale locale) {
 
 
 
+    @Test
+    public void clearCache_reloadsLoadedLocales() throws Exception {
+
+        // given
+        final TranslationContext context = TranslationContext.named("someContext");
+        final List<String> msgStrs = _Lists.newArrayList(List.of("Objet d'art"));
+
+        poReader = new PoReader(mockTranslationServicePo) {
+            @Override
+            protected List<String> readPo(final Locale locale) {
+                final List<String> lines = _Lists.newArrayList();
+                lines.add(String.format("#: %s", context.getName()));
+                lines.add(String.format("msgid \"%s\"", "Work of art"));
+                lines.add(String.format("msgstr \"%s\"", msgStrs.get(0)));
+                return lines;
+            }
+        };
+        assertThat(poReader.translate(context, "Work of art"), is(equalTo("Objet d'art")));
+
+        // when
+        msgStrs.set(0, "Œuvre d'art");
+
+        // then
+        assertThat(poReader.translate(context, "Work of art"), is(equalTo("Objet d'art")));
+
+        // when
+        poReader.clearCache();
+
+        // then
+        assertThat(poReader.translate(context, "Work of art"), is(equalTo("Œuvre d'art")));
+    }
+
     @Test
     public void noTranslation() throws Exception {
 
@@ -0,0 +1,237 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class LogRetentionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @RequiredArgsConstructor @Getter
+    static class Entry {
+        final Timestamp timestamp;
+        final boolean completed;
+    }
+
+    class FakeLog implements PurgeableLog<Entry> {
+        @Getter final CausewayConfiguration.Extensions.LogRetention retention =
+                new CausewayConfiguration.Extensions.LogRetention();
+        final List<Entry> entries = new ArrayList<>();
+
+        @Override public String getLogName() { return "fakeLog"; }
+
+        @Override public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+            return entries.stream()
+                    .map(Entry::getTimestamp)
+                    .sorted(Comparator.reverseOrder())
+                    .skip(n - 1)
+                    .findFirst();
+        }
+
+        @Override public List<Entry> findPurgeableAtOrBefore(final Timestamp cutoff, final int limit) {
+            return entries.stream()
+                    .filter(entry->!entry.getTimestamp().after(cutoff))
+                    .filter(Entry::isCompleted)
+                    .sorted(Comparator.comparing(Entry::getTimestamp))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override public int deleteAll(final List<Entry> toDelete) {
+            deleteCalls++;
+            if(archiveDir != null) {
+                linesArchivedAtDelete.add(readArchive(archiveDir).size());
+            }
+            val sizeBefore = entries.size();
+            entries.removeAll(toDelete);
+            return sizeBefore - entries.size();
+        }
+
+        @Override public Map<String, Object> toArchiveRecord(final Entry entry) {
+            return Map.of("timestamp", entry.getTimestamp());
+        }
+    }
+
+    FakeLog fakeLog;
+    LogRetentionService logRetentionService;
+    int transactions;
+    int deleteCalls;
+    Path archiveDir;
+    List<Integer> linesArchivedAtDelete = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        fakeLog = new FakeLog();
+        for (int day = 1; day <= 100; day++) {
+            fakeLog.entries.add(new Entry(Timestamp.from(NOW.minus(Duration.ofDays(day))), day != 50));
+        }
+
+        val interactionService = Mockito.mock(InteractionService.class);
+        Mockito.when(interactionService.callAnonymous(any()))
+            .thenAnswer(invocation->invocation.getArgument(0, Callable.class).call());
+
+        val transactionService = Mockito.mock(TransactionService.class);
+        Mockito.when(transactionService.callTransactional(Mockito.eq(Propagation.REQUIRES_NEW), any(Callable.class)))
+            .thenAnswer(invocation->{
+                transactions++;
+                return Try.call(invocation.getArgument(1, Callable.class));
+            });
+
+        val clockService = Mockito.mock(ClockService.class);
+        Mockito.when(clockService.getClock()).thenReturn(VirtualClock.nowAt(NOW));
+
+        logRetentionService = new LogRetentionService(
+                Mockito.mock(ServiceRegistry.class), interactionService, transactionService, clockService);
+    }
+
+    @Test
+    void byAge_inBatches() {
+        fakeLog.retention.setMaxAge(Duration.ofDays(30));
+        fakeLog.retention.setBatchSize(20);
+
+        val report = logRetentionService.purge(fakeLog);
+
+        // days 30..100 are at or before the cutoff, except for the one not yet completed
+        assertEquals(70, report.getPurged());
+        assertEquals(29 + 1, fakeLog.entries.size());
+        assertEquals(4, report.getBatches());
+        assertEquals(1 + 4, transactions); // one to determine the cutoff, then one per batch
+        assertEquals(4, deleteCalls); // one set-based delete per batch
+        assertFalse(report.getArchiveFile().isPresent());
+    }
+
+    @Test
+    void byCount() {
+        fakeLog.retention.setMaxEntries(10);
+
+        val report = logRetentionService.purge(fakeLog);
+
+        assertEquals(89, report.getPurged());
+        assertEquals(10 + 1, fakeLog.entries.size());
+    }
+
+    @Test
+    void whicheverPurgesMore_wins() {
+        fakeLog.retention.setMaxAge(Duration.ofDays(90));
+        fakeLog.retention.setMaxEntries(10);
+
+        assertEquals(89, logRetentionService.purge(fakeLog).getPurged());
+    }
+
+    @Test
+    void nonPurgeableEntries_doNotStopThePurge() {
+        // the oldest entries have not completed, filling more than a whole batch
+        for (int day = 101; day <= 110; day++) {
+            fakeLog.entries.add(new Entry(Timestamp.from(NOW.minus(Duration.ofDays(day))), false));
+        }
+        fakeLog.retention.setMaxAge(Duration.ofDays(30));
+        fakeLog.retention.setBatchSize(5);
+
+        val report = logRetentionService.purge(fakeLog);
+
+        assertEquals(70, report.getPurged());
+        assertEquals(29 + 1 + 10, fakeLog.entries.size());
+        assertTrue(fakeLog.entries.stream()
+                .filter(entry->entry.getTimestamp().before(Timestamp.from(NOW.minus(Duration.ofDays(30)))))
+                .noneMatch(Entry::isCompleted));
+    }
+
+    @Test
+    void noPolicy_purgesNothing() {
+        val report = logRetentionService.purge(fakeLog);
+
+        assertEquals(0, report.getPurged());
+        assertEquals(100, fakeLog.entries.size());
+    }
+
+    @Test
+    void archivesBeforePurging(final @TempDir Path archiveDir) throws Exception {
+        fakeLog.retention.setMaxAge(Duration.ofDays(91));
+        fakeLog.retention.setBatchSize(3);
+        fakeLog.retention.setArchiveDirectory(archiveDir.toString());
+        this.archiveDir = archiveDir;
+
+        val report = logRetentionService.purge(fakeLog);
+
+        assertEquals(10, report.getPurged());
+        assertTrue(report.getArchiveFile().isPresent());
+        val archiveFile = report.getArchiveFile().get();
+        assertTrue(archiveFile.getName().startsWith("fakeLog-20240601T000000"));
+
+        val lines = readArchive(archiveDir);
+        assertEquals(10, lines.size());
+        assertEquals("{\"timestamp\":\"2024-02-22T00:00:00Z\"}", lines.get(0)); // oldest first
+
+        // each batch was complete and readable in the archive before it was deleted
+        assertEquals(List.of(3, 6, 9, 10), linesArchivedAtDelete);
+    }
+
+    @SneakyThrows
+    private static List<String> readArchive(final Path archiveDir) {
+        try(val files = Files.list(archiveDir)) {
+            val archiveFile = files.findFirst().orElseThrow().toFile();
+            try(val reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new FileInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+                return reader.lines().collect(Collectors.toList());
+            }
+        }
+    }
+
+}
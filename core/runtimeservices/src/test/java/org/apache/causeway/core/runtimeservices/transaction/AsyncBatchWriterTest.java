@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.transaction;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class AsyncBatchWriterTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private AsyncBatchWriter<Integer> writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if(writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void writes_inBatchesOfAtMostMaxBatchSize_inOrder() throws InterruptedException {
+        val writing = new CountDownLatch(1);
+        writer = newWriter(100, 2, batch->{
+            await(writing);
+            batches.add(List.copyOf(batch));
+        });
+
+        writer.submit(1);
+        writer.submitAll(List.of(2, 3, 4, 5));
+        writing.countDown();
+        writer.shutdown();
+
+        assertEquals(5, writer.getWritten());
+        assertEquals(0, writer.getPending());
+        batches.forEach(batch->assertTrue(batch.size() <= 2, ()->"batch too large: " + batch));
+        assertEquals(List.of(1, 2, 3, 4, 5), batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    void drops_whenQueueFull() throws InterruptedException {
+        val writing = new CountDownLatch(1);
+        val written = new CountDownLatch(1);
+        writer = newWriter(2, 10, batch->{
+            written.countDown();
+            await(writing);
+            batches.add(List.copyOf(batch));
+        });
+
+        // when - the writer is busy with the first item, 2 more fit into the queue
+        writer.submit(1);
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        val dropped = writer.submitAll(List.of(2, 3, 4, 5));
+
+        // then
+        assertEquals(2, dropped);
+        assertFalse(writer.submit(6));
+        assertEquals(3, writer.getDropped());
+        assertEquals(2, writer.getPending());
+
+        // when
+        writing.countDown();
+        writer.shutdown();
+
+        // then
+        assertEquals(3, writer.getWritten());
+    }
+
+    @Test
+    void keepsWriting_whenBatchFails() throws InterruptedException {
+        val first = new CountDownLatch(1);
+        writer = newWriter(100, 1, batch->{
+            if(batch.contains(1)) {
+                first.countDown();
+                throw new IllegalStateException("failing on purpose");
+            }
+            batches.add(List.copyOf(batch));
+        });
+
+        writer.submit(1);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        writer.submit(2);
+        writer.shutdown();
+
+        assertEquals(1, writer.getWritten());
+        assertEquals(List.of(List.of(2)), batches);
+    }
+
+    @Test
+    void drops_onceShutDown() throws InterruptedException {
+        writer = newWriter(100, 10, batches::add);
+
+        writer.shutdown();
+
+        assertFalse(writer.submit(1));
+        assertEquals(1, writer.submitAll(List.of(2)));
+        assertEquals(2, writer.getDropped());
+        assertEquals(0, writer.getWritten());
+    }
+
+    // -- HELPER
+
+    private static AsyncBatchWriter<Integer> newWriter(
+            final int queueCapacity, final int maxBatchSize, final Consumer<List<Integer>> batchWriter) {
+        return new AsyncBatchWriter<>("test", queueCapacity, maxBatchSize,
+                interactionService(), transactionService(), batchWriter);
+    }
+
+    private static InteractionService interactionService() {
+        val interactionService = Mockito.mock(InteractionService.class);
+        Mockito.doAnswer(invocation->{
+            invocation.<ThrowingRunnable>getArgument(0).run();
+            return null;
+        }).when(interactionService).runAnonymous(any());
+        return interactionService;
+    }
+
+    private static TransactionService transactionService() {
+        val transactionService = Mockito.mock(TransactionService.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(invocation->Try.call(invocation.<Callable<?>>getArgument(1)))
+            .when(transactionService).callTransactional(any(TransactionDefinition.class), any());
+        return transactionService;
+    }
+
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        latch.await(5, TimeUnit.SECONDS);
+    }
+
+}
@@ -43,4 +43,5 @@
     requires spring.core;
     requires spring.tx;
     requires org.apache.causeway.core.config;
+    requires org.apache.logging.log4j;
 }
\ No newline at end of file
@@ -22,6 +22,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
 import org.apache.causeway.core.security.authentication.manager.AuthenticationManager;
 import org.apache.causeway.core.security.authentication.standard.RandomCodeGeneratorDefault;
 import org.apache.causeway.core.security.authorization.manager.AuthorizationManager;
@@ -29,6 +30,7 @@
 @Configuration
 @Import({
         // @Service's
+        AuthenticationCache.class,
         AuthenticationManager.class,
         AuthorizationManager.class,
         LogoutMenu.class,
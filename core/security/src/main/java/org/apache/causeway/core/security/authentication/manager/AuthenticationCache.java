@@ -0,0 +1,311 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authentication.manager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Priority;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.util.ToString;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.CausewayModuleCoreSecurity;
+import org.apache.causeway.core.security.authentication.AuthenticationRequest;
+import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Caches successful authentications of stateless requests, that present username and password with every
+ * request (as with HTTP Basic Auth), such that the (potentially expensive) password check is not repeated
+ * for every request.
+ * <p>
+ * Opt-in, see {@link CausewayConfiguration.Security.AuthenticationCache}.
+ * <p>
+ * Entries are keyed by an HMAC of username and password, using a random key generated per instance,
+ * hence neither the credentials nor an offline-attackable digest of these are kept in memory.
+ * Failed authentications are never cached. Entries expire after a fixed time-to-live and are bounded in number,
+ * evicting the least recently used; they can be {@link #invalidate(String) invalidated} per user
+ * (eg. on password, status or role changes) or {@link #invalidateAll() altogether}.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AuthenticationCache.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AuthenticationCache {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleCoreSecurity.NAMESPACE + ".AuthenticationCache";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Getter private final boolean enabled;
+    private final long timeToLiveNanos;
+    private final SecretKeySpec hmacKey;
+    private final ThreadLocal<Mac> hmac;
+
+    // guarded by itself
+    private final Map<String, CachedAuthentication> cachedByCredentials;
+    // guarded by cachedByCredentials; bumped on invalidation, to not cache authentications that raced with it
+    private long invalidationCount = 0L;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder authenticationNanos = new LongAdder();
+
+    @Inject
+    public AuthenticationCache(final CausewayConfiguration causewayConfiguration) {
+        val config = causewayConfiguration.getSecurity().getAuthenticationCache();
+        this.enabled = config.isEnabled();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.hmacKey = new SecretKeySpec(randomKey(), HMAC_ALGORITHM);
+        this.hmac = ThreadLocal.withInitial(this::newHmac);
+
+        val maxEntries = config.getMaxEntries();
+        this.cachedByCredentials = new LinkedHashMap<String, CachedAuthentication>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached authentication for given request's credentials, if any and not yet expired,
+     * otherwise delegates to given {@code authenticator}, caching its result if successful.
+     * <p>
+     * If not {@link #isEnabled() enabled}, always delegates (still recording {@link #getStatistics() statistics}).
+     *
+     * @param authenticator - typically {@link AuthenticationManager#authenticate(AuthenticationRequest)}
+     */
+    @Nullable
+    public InteractionContext authenticate(
+            final @NonNull AuthenticationRequestPassword request,
+            final @NonNull Function<AuthenticationRequest, InteractionContext> authenticator) {
+
+        if(!enabled) {
+            misses.increment();
+            return timed(authenticator, request);
+        }
+
+        val key = keyFor(request);
+        val now = System.nanoTime();
+        final long invalidationCountBefore;
+
+        synchronized(cachedByCredentials) {
+            invalidationCountBefore = invalidationCount;
+            val cached = cachedByCredentials.get(key);
+            if(cached != null) {
+                if(cached.isAliveAt(now)) {
+                    hits.increment();
+                    return cached.getInteractionContext();
+                }
+                cachedByCredentials.remove(key);
+            }
+        }
+
+        misses.increment();
+        val interactionContext = timed(authenticator, request);
+        if(interactionContext != null) {
+            synchronized(cachedByCredentials) {
+                if(invalidationCount != invalidationCountBefore) {
+                    return interactionContext;
+                }
+                cachedByCredentials.put(key, new CachedAuthentication(
+                        request.getName(), interactionContext, now + timeToLiveNanos));
+            }
+        }
+        return interactionContext;
+    }
+
+    /**
+     * Discards all cached authentications of given user.
+     */
+    public void invalidate(final @Nullable String username) {
+        if(username == null) {
+            return;
+        }
+        synchronized(cachedByCredentials) {
+            ++invalidationCount;
+            cachedByCredentials.values()
+                .removeIf(cached->Objects.equals(username, cached.getUsername()));
+        }
+        log.debug("invalidated cached authentications of user {}", username);
+    }
+
+    /**
+     * Discards all cached authentications.
+     */
+    public void invalidateAll() {
+        synchronized(cachedByCredentials) {
+            ++invalidationCount;
+            cachedByCredentials.clear();
+        }
+        log.debug("invalidated all cached authentications");
+    }
+
+    public int size() {
+        synchronized(cachedByCredentials) {
+            return cachedByCredentials.size();
+        }
+    }
+
+    // -- STATISTICS
+
+    /**
+     * Authentication latency and cache hit rate, accumulated since start-up.
+     *
+     * @since 2.0 {@index}
+     */
+    @Value
+    public static class Statistics {
+
+        /** Requests served from the cache. */
+        long hits;
+
+        /** Requests that had to be authenticated afresh (successful or not). */
+        long misses;
+
+        /** Time spent authenticating afresh, summed up over all misses. */
+        Duration authenticationTime;
+
+        public double getHitRate() {
+            val requests = hits + misses;
+            return requests == 0
+                    ? 0.
+                    : (double) hits / requests;
+        }
+
+        /** Mean time spent authenticating afresh, per miss. */
+        public Duration getMeanAuthenticationTime() {
+            return misses == 0
+                    ? Duration.ZERO
+                    : authenticationTime.dividedBy(misses);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits %d, misses %d (hit rate %.1f%%), mean authentication time %.3fms",
+                    hits, misses, 100. * getHitRate(), getMeanAuthenticationTime().toNanos() / 1e6);
+        }
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(
+                hits.sum(),
+                misses.sum(),
+                Duration.ofNanos(authenticationNanos.sum()));
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class CachedAuthentication {
+        String username;
+        InteractionContext interactionContext;
+        long expiresAtNanos;
+
+        boolean isAliveAt(final long nanos) {
+            return nanos - expiresAtNanos < 0;
+        }
+    }
+
+    private InteractionContext timed(
+            final Function<AuthenticationRequest, InteractionContext> authenticator,
+            final AuthenticationRequestPassword request) {
+        val start = System.nanoTime();
+        try {
+            return authenticator.apply(request);
+        } finally {
+            val elapsed = System.nanoTime() - start;
+            authenticationNanos.add(elapsed);
+            log.debug("authenticated user {} in {}ms", request.getName(), elapsed / 1_000_000);
+        }
+    }
+
+    private String keyFor(final AuthenticationRequestPassword request) {
+        val mac = hmac.get();
+        mac.update(nullToEmpty(request.getName()).getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0); // separator, so ("ab","c") and ("a","bc") don't collide
+        return Base64.getEncoder().encodeToString(
+                mac.doFinal(nullToEmpty(request.getPassword()).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newHmac() {
+        try {
+            val mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw _Exceptions.unrecoverable(e, "failed to initialize %s", HMAC_ALGORITHM);
+        }
+    }
+
+    private static byte[] randomKey() {
+        val key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static String nullToEmpty(final @Nullable String string) {
+        return string != null
+                ? string
+                : "";
+    }
+
+    // -- DEBUGGING
+
+    private static final ToString<AuthenticationCache> toString =
+            ToString.<AuthenticationCache>toString("class", obj->obj.getClass().getSimpleName())
+            .thenToString("enabled", obj->""+obj.enabled)
+            .thenToString("entries", obj->""+obj.size())
+            .thenToString("statistics", obj->""+obj.getStatistics());
+
+    @Override
+    public String toString() {
+        return toString.toString(this);
+    }
+
+}
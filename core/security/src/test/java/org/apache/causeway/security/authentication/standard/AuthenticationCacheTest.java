@@ -0,0 +1,137 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.security.authentication.standard;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.authentication.AuthenticationRequest;
+import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
+
+import lombok.val;
+
+class AuthenticationCacheTest {
+
+    private CausewayConfiguration causewayConfiguration;
+    private AtomicInteger authenticationCount;
+    private Function<AuthenticationRequest, InteractionContext> authenticator;
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = new CausewayConfiguration(null, null);
+        causewayConfiguration.getSecurity().getAuthenticationCache().setEnabled(true);
+
+        authenticationCount = new AtomicInteger();
+        // accepts any user, whose password equals its name
+        authenticator = request->{
+            authenticationCount.incrementAndGet();
+            val passwordRequest = (AuthenticationRequestPassword) request;
+            return passwordRequest.getName().equals(passwordRequest.getPassword())
+                    ? InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(request.getName()))
+                    : null;
+        };
+    }
+
+    @Test
+    void sameCredentials_areAuthenticatedOnce() {
+        val cache = new AuthenticationCache(causewayConfiguration);
+
+        val first = cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+        val second = cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+
+        assertSame(first, second);
+        assertEquals(1, authenticationCount.get());
+        assertEquals(1, cache.getStatistics().getHits());
+        assertEquals(1, cache.getStatistics().getMisses());
+        assertEquals(.5, cache.getStatistics().getHitRate(), 1e-9);
+    }
+
+    @Test
+    void wrongPassword_isNeitherCachedNorServedFromCache() {
+        val cache = new AuthenticationCache(causewayConfiguration);
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+
+        assertNull(cache.authenticate(new AuthenticationRequestPassword("sven", "wrong"), authenticator));
+        assertNull(cache.authenticate(new AuthenticationRequestPassword("sven", "wrong"), authenticator));
+        assertEquals(3, authenticationCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void invalidate_discardsEntriesOfThatUserOnly() {
+        val cache = new AuthenticationCache(causewayConfiguration);
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+        cache.authenticate(new AuthenticationRequestPassword("dick", "dick"), authenticator);
+
+        cache.invalidate("sven");
+
+        assertEquals(1, cache.size());
+        cache.authenticate(new AuthenticationRequestPassword("dick", "dick"), authenticator);
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+        assertEquals(3, authenticationCount.get());
+    }
+
+    @Test
+    void expiredEntries_areAuthenticatedAfresh() {
+        causewayConfiguration.getSecurity().getAuthenticationCache().setTimeToLive(Duration.ZERO);
+        val cache = new AuthenticationCache(causewayConfiguration);
+
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+
+        assertEquals(2, authenticationCount.get());
+    }
+
+    @Test
+    void entries_areBoundedInNumber() {
+        causewayConfiguration.getSecurity().getAuthenticationCache().setMaxEntries(2);
+        val cache = new AuthenticationCache(causewayConfiguration);
+
+        for (val user : new String[] {"a", "b", "c"}) {
+            cache.authenticate(new AuthenticationRequestPassword(user, user), authenticator);
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void whenDisabled_alwaysAuthenticates() {
+        causewayConfiguration.getSecurity().getAuthenticationCache().setEnabled(false);
+        val cache = new AuthenticationCache(causewayConfiguration);
+
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+        cache.authenticate(new AuthenticationRequestPassword("sven", "sven"), authenticator);
+
+        assertEquals(2, authenticationCount.get());
+        assertEquals(0, cache.size());
+    }
+
+}
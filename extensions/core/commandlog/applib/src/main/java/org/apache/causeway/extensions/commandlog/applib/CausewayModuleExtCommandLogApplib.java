@@ -35,6 +35,8 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
 import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
+import org.apache.causeway.extensions.commandlog.applib.job.MigrateDtoStorageJob;
+import org.apache.causeway.extensions.commandlog.applib.job.PurgeLogsJob;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
 
@@ -52,6 +54,8 @@
         CommandLogEntry_siblingCommands.class,
 
         // @Component's
+        MigrateDtoStorageJob.class,
+        PurgeLogsJob.class,
         RunBackgroundCommandsJob.class,
         RunBackgroundCommandsJobListener.Noop.class,
 
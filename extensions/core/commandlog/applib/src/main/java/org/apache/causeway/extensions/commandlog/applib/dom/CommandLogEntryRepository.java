@@ -160,6 +160,16 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
 
     List<CommandLogEntry> findNotYetReplayed();
 
+    /**
+     * The oldest command whose replay (on the secondary) failed, and that has been neither retried nor excluded since.
+     *
+     * <p>
+     *     Commands may be replayed concurrently, so more recent commands may have been replayed successfully
+     *     after this one failed; the {@link #findMostRecentReplayed() high water mark} alone does not tell.
+     * </p>
+     */
+    Optional<CommandLogEntry> findOldestReplayFailed();
+
 
     CommandLogEntry saveForReplay(final CommandDto dto);
 
@@ -24,9 +24,12 @@
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -41,8 +44,12 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigratable;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 import org.apache.causeway.schema.cmd.v2.CommandsDto;
 import org.apache.causeway.schema.cmd.v2.MapDto;
@@ -55,11 +62,13 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class CommandLogEntryRepositoryAbstract<C extends CommandLogEntry> implements CommandLogEntryRepository {
+public abstract class CommandLogEntryRepositoryAbstract<C extends CommandLogEntry>
+implements CommandLogEntryRepository, PurgeableLog<CommandLogEntry>, DtoStorageMigratable<CommandLogEntry> {
 
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<C> commandLogEntryClass;
 
@@ -355,6 +364,15 @@ public List<CommandLogEntry> findNotYetReplayed() {
         );
     }
 
+    @Override
+    public Optional<CommandLogEntry> findOldestReplayFailed() {
+        return _Casts.uncheckedCast(
+                repositoryService().firstMatch(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BY_REPLAY_STATE)
+                        .withParameter("replayState", ReplayState.FAILED))
+        );
+    }
+
 
     public C saveForReplay(final CommandDto dto) {
 
@@ -491,5 +509,97 @@ public void removeAll() {
         repositoryService().removeAll(commandLogEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "commandLog";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.LogRetention getRetention() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRetention();
+    }
+
+    @Override
+    public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+        return repositoryService().firstMatch(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND)
+                        .withRange(QueryRange.start(n - 1).withLimit(1)))
+                .map(CommandLogEntry::getTimestamp);
+    }
+
+    /**
+     * Commands that have not yet completed (eg background commands not yet run, or commands not yet replayed)
+     * are never purged.
+     */
+    @Override
+    public List<CommandLogEntry> findPurgeableAtOrBefore(final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_PURGEABLE_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    @Override
+    public int deleteAll(final List<CommandLogEntry> entries) {
+        return deleteByInteractionIdIn(entries.stream()
+                .map(CommandLogEntry::getInteractionId)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Deletes all entries whose interaction id is one of those provided, as a single set-based statement.
+     *
+     * @return the number of entries deleted
+     */
+    protected abstract int deleteByInteractionIdIn(final List<UUID> interactionIds);
+
+    @Override
+    public Map<String, Object> toArchiveRecord(final CommandLogEntry entry) {
+        val record = new LinkedHashMap<String, Object>();
+        record.put("interactionId", entry.getInteractionId());
+        record.put("parentInteractionId", entry.getParentInteractionId());
+        record.put("timestamp", entry.getTimestamp());
+        record.put("username", entry.getUsername());
+        record.put("target", entry.getTarget());
+        record.put("logicalMemberIdentifier", entry.getLogicalMemberIdentifier());
+        record.put("executeIn", entry.getExecuteIn());
+        record.put("startedAt", entry.getStartedAt());
+        record.put("completedAt", entry.getCompletedAt());
+        record.put("result", entry.getResult());
+        record.put("exception", entry.getException());
+        record.put("replayState", entry.getReplayState());
+        record.put("commandDto", CommandDtoUtils.dtoMapper().toString(entry.getCommandDto()));
+        return record;
+    }
+
+    // -- DTO STORAGE MIGRATION
+
+    @Override
+    public List<CommandLogEntry> findNotStoredAsAtOrBefore(
+            final DtoStorageCodec.Format format, final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, format == DtoStorageCodec.Format.GZIP
+                            ? CommandLogEntry.Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE
+                            : CommandLogEntry.Nq.FIND_GZIPPED_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    @Override
+    public Timestamp timestampOf(final CommandLogEntry entry) {
+        return entry.getTimestamp();
+    }
+
+    @Override
+    public void reencodeDtos(final CommandLogEntry entry) {
+        // a new instance is detected as a change (the DTOs do not implement equals)
+        entry.setCommandDto(CommandDtoUtils.dtoMapper().clone(entry.getCommandDto()));
+    }
 
 }
@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigrationService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An implementation of a Quartz {@link Job} that re-encodes the DTOs persisted by the command log (and execution log,
+ * if in use), using the configured <code>causeway.persistence.commons.dto-storage.format</code>.
+ *
+ * <p>
+ *     Typically scheduled to run just once, in the background, after having changed that format; entries written
+ *     in either format can always be read, regardless.
+ * </p>
+ *
+ * @see DtoStorageMigrationService
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@DisallowConcurrentExecution
+@Log4j2
+public class MigrateDtoStorageJob implements Job {
+
+    @Inject DtoStorageMigrationService dtoStorageMigrationService;
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+        log.info("re-encoded {} entries in total", dtoStorageMigrationService.migrateAll());
+    }
+
+}
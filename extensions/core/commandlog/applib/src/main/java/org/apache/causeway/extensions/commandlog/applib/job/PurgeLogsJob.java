@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.runtimeservices.retention.LogRetentionService;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An implementation of a Quartz {@link Job} that purges (and optionally archives) the entries of the command log,
+ * and of any other log extensions in use (execution log, audit trail and session log), according to their configured
+ * retention policies, eg <code>causeway.extensions.command-log.retention.max-age=P90D</code>.
+ *
+ * <p>
+ *     Typically scheduled to run once a night, at a quiet time.  Logs without a retention policy are left untouched.
+ * </p>
+ *
+ * @see LogRetentionService
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@DisallowConcurrentExecution
+@Log4j2
+public class PurgeLogsJob implements Job {
+
+    @Inject LogRetentionService logRetentionService;
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+        val reports = logRetentionService.purgeAll();
+        if(reports.isEmpty()) {
+            log.debug("no log retention policies configured");
+        }
+    }
+
+}
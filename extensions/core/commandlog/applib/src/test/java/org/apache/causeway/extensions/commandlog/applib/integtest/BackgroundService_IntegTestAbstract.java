@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -40,7 +44,9 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
@@ -216,6 +222,50 @@ void using_background_service() {
 
     }
 
+    @Test
+    void purge_deletes_completed_commands_oldest_first_but_not_background_commands_not_yet_run() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        for (int i = 0; i < 2; i++) {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                wrapperFactory.wrap(counter).bumpUsingDeclaredAction();
+            }).ifFailureFail();
+            interactionService.nextInteraction();
+        }
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        final PurgeableLog<CommandLogEntry> purgeableLog = _Casts.uncheckedCast(commandLogEntryRepository);
+        val cutoff = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val purgeable = purgeableLog.findPurgeableAtOrBefore(cutoff, 10);
+
+            // then
+            assertThat(purgeable).hasSize(2)
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull())
+                    .isSortedAccordingTo(Comparator.comparing(CommandLogEntry::getTimestamp));
+
+            // when
+            assertThat(purgeableLog.deleteAll(purgeable)).isEqualTo(2);
+        }).ifFailureFail();
+
+        // then only the background command not yet run remains
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val remaining = commandLogEntryRepository.findAll();
+            assertThat(remaining).hasSize(1);
+            assertThat(remaining.get(0).getExecuteIn()).isEqualTo(ExecuteIn.BACKGROUND);
+            assertThat(remaining.get(0).getCompletedAt()).isNull();
+            assertThat(purgeableLog.findPurgeableAtOrBefore(cutoff, 10)).isEmpty();
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
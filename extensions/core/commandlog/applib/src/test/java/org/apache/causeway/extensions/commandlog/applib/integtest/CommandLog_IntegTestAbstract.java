@@ -42,8 +42,13 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigratable;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigrationService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
 import org.apache.causeway.extensions.commandlog.applib.dom.ReplayState;
@@ -473,7 +478,45 @@ void test_all_the_repository_methods() {
         }
     }
 
+    @Test
+    void migrate_dtoStorage_reencodesOnlyThoseNotYetInFormat() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.nextInteraction();
+
+        final DtoStorageMigratable<CommandLogEntry> migratable = _Casts.uncheckedCast(commandLogEntryRepository);
+        val dtoStorage = causewayConfiguration.getPersistence().getCommons().getDtoStorage();
+        try {
+
+            // when
+            dtoStorage.setFormat(DtoStorageCodec.Format.GZIP);
+
+            // then
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isEqualTo(2);
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isZero();
+
+            // when
+            dtoStorage.setFormat(DtoStorageCodec.Format.XML);
+
+            // then
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isEqualTo(2);
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isZero();
+
+        } finally {
+            dtoStorage.setFormat(DtoStorageCodec.Format.XML);
+        }
+
+        interactionService.nextInteraction();
+        assertThat(commandLogEntryRepository.findMostRecentCompleted().get().getCommandDto().getMember()
+                .getLogicalMemberIdentifier()).isEqualTo("commandlog.test.Counter#bumpUsingMixin");
+    }
+
     @Inject CommandLogEntryRepository commandLogEntryRepository;
+    @Inject DtoStorageMigrationService dtoStorageMigrationService;
+    @Inject CausewayConfiguration causewayConfiguration;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
     @Inject InteractionService interactionService;
@@ -38,6 +38,7 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
@@ -121,6 +122,32 @@
                   + "  FROM " + CommandLogEntry.FQCN + " "
                   + " WHERE timestamp <= :to "
                   + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + "    && completedAt != null "
+                  + " ORDER BY timestamp ASC"),
+    @Query(
+            name  = Nq.FIND_GZIPPED_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + "    && commandDto.startsWith('" + DtoStorageCodec.GZIP_MARKER + "') "
+                  + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + "    && !commandDto.startsWith('" + DtoStorageCodec.GZIP_MARKER + "') "
+                  + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.DELETE_BY_INTERACTION_ID_IN,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE :interactionIds.contains(interactionId) "),  // used with deletePersistentAll
     @Query(
             name  = Nq.FIND,
             value = "SELECT "
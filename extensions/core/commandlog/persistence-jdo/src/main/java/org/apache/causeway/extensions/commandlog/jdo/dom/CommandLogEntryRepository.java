@@ -18,14 +18,23 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -44,6 +53,14 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected int deleteByInteractionIdIn(final List<UUID> interactionIds) {
+        val query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(CommandLogEntry.class, Nq.DELETE_BY_INTERACTION_ID_IN);
+        query.setNamedParameters(Map.of("interactionIds", interactionIds));
+        return (int) query.deletePersistentAll();
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -55,4 +72,6 @@ private void ensureWeHaveQClasses() {
         org.apache.causeway.extensions.commandlog.jdo.dom.QCommandLogEntry q;
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
 }
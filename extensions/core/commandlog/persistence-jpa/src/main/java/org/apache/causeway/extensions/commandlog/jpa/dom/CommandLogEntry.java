@@ -44,6 +44,7 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
@@ -132,6 +133,37 @@
                   + "  FROM CommandLogEntry cl "
                   + " WHERE cl.timestamp <= :to "
                   + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.timestamp <= :to "
+                  + "   AND cl.completedAt IS NOT NULL "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_GZIPPED_AT_OR_BEFORE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.timestamp <= :to "
+                  + "   AND cl.commandDto LIKE '" + DtoStorageCodec.GZIP_MARKER + "%' "
+                  + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.timestamp <= :to "
+                  + "   AND cl.commandDto NOT LIKE '" + DtoStorageCodec.GZIP_MARKER + "%' "
+                  + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.DELETE_BY_INTERACTION_ID_IN,
+            query = "DELETE "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "),
+    @NamedQuery(
+            name  = Nq.UPDATE_COMMAND_DTO_BY_INTERACTION_ID,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.commandDto = :commandDto "
+                  + " WHERE cl.pk.interactionId = :interactionId "),
     @NamedQuery(
             name  = Nq.FIND,
             query = "SELECT cl "
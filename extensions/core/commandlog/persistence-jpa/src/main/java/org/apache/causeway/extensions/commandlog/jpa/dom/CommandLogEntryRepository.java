@@ -18,14 +18,20 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -44,4 +50,27 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected int deleteByInteractionIdIn(final List<UUID> interactionIds) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.DELETE_BY_INTERACTION_ID_IN)
+                .setParameter("interactionIds", interactionIds)
+                .executeUpdate();
+    }
+
+    /**
+     * Writes the DTO using a bulk update, because EclipseLink detects changes by comparing the values as converted
+     * (ie in the current format), so would not consider the entry to be modified.
+     */
+    @Override
+    public void reencodeDtos(final org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry entry) {
+        jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.UPDATE_COMMAND_DTO_BY_INTERACTION_ID)
+                .setParameter("commandDto", entry.getCommandDto())
+                .setParameter("interactionId", entry.getInteractionId())
+                .executeUpdate();
+    }
+
+    @Inject JpaSupportService jpaSupportService;
+
 }
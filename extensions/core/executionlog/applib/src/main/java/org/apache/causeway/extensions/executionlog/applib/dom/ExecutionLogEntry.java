@@ -116,6 +116,11 @@ public static class Nq {
         public static final String FIND_BY_TIMESTAMP_BETWEEN = LOGICAL_TYPE_NAME + ".findByTimestampBetween";
         public static final String FIND_BY_TIMESTAMP_AFTER = LOGICAL_TYPE_NAME + ".findByTimestampAfter";
         public static final String FIND_BY_TIMESTAMP_BEFORE = LOGICAL_TYPE_NAME + ".findByTimestampBefore";
+        public static final String FIND_PURGEABLE_AT_OR_BEFORE = LOGICAL_TYPE_NAME + ".findPurgeableAtOrBefore";
+        public static final String FIND_GZIPPED_AT_OR_BEFORE = LOGICAL_TYPE_NAME + ".findGzippedAtOrBefore";
+        public static final String FIND_NOT_GZIPPED_AT_OR_BEFORE = LOGICAL_TYPE_NAME + ".findNotGzippedAtOrBefore";
+        public static final String DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN = LOGICAL_TYPE_NAME + ".deleteBySequenceAndInteractionIdIn";
+        public static final String UPDATE_INTERACTION_DTO_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".updateInteractionDtoByInteractionIdAndSequence";
         public static final String FIND = LOGICAL_TYPE_NAME + ".find";
         public static final String FIND_MOST_RECENT = LOGICAL_TYPE_NAME + ".findMostRecent";
         public static final String FIND_RECENT_BY_USERNAME = LOGICAL_TYPE_NAME + ".findRecentByUsername";
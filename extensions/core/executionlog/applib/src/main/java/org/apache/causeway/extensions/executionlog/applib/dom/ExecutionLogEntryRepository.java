@@ -53,6 +53,12 @@ public NotFoundException(final UUID interactionId) {
 
     ExecutionLogEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * As per {@link #createEntryAndPersist(Execution)}, but for many executions at once, flushing only once
+     * (so that the inserts can be batched).
+     */
+    List<ExecutionLogEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions);
+
     List<ExecutionLogEntry> findByInteractionId(final UUID interactionId);
 
     Optional<ExecutionLogEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
@@ -22,8 +22,12 @@
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -32,12 +36,18 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigratable;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 
 import lombok.val;
 
@@ -47,7 +57,8 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class ExecutionLogEntryRepositoryAbstract<E extends ExecutionLogEntry> implements ExecutionLogEntryRepository {
+public abstract class ExecutionLogEntryRepositoryAbstract<E extends ExecutionLogEntry>
+implements ExecutionLogEntryRepository, PurgeableLog<ExecutionLogEntry>, DtoStorageMigratable<ExecutionLogEntry> {
 
 
     private final Class<E> executionLogEntryClass;
@@ -55,6 +66,7 @@
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     protected ExecutionLogEntryRepositoryAbstract(final Class<E> executionLogEntryClass) {
         this.executionLogEntryClass = executionLogEntryClass;
@@ -81,6 +93,19 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    public List<ExecutionLogEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions) {
+        return repositoryService().execInBulk(() -> {
+            final List<ExecutionLogEntry> entries = new ArrayList<>(executions.size());
+            for (val execution : executions) {
+                E e = factoryService.detachedEntity(executionLogEntryClass);
+                e.init(execution);
+                // within bulk mode, flushes are deferred until the end, so that the inserts can be batched
+                entries.add(repositoryService().persistAndFlush(e));
+            }
+            return entries;
+        });
+    }
+
     @Override
     public List<ExecutionLogEntry> findByInteractionId(final UUID interactionId) {
         return _Casts.uncheckedCast(
@@ -277,5 +302,99 @@ private static Timestamp toTimestampStartOfDayWithOffset(
                 : null;
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "executionLog";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.LogRetention getRetention() {
+        return causewayConfiguration.getExtensions().getExecutionLog().getRetention();
+    }
+
+    @Override
+    public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+        return repositoryService().firstMatch(
+                    Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND)
+                        .withRange(QueryRange.start(n - 1).withLimit(1)))
+                .map(ExecutionLogEntry::getTimestamp);
+    }
+
+    @Override
+    public List<ExecutionLogEntry> findPurgeableAtOrBefore(final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_PURGEABLE_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    @Override
+    public int deleteAll(final List<ExecutionLogEntry> entries) {
+        // a portable alternative to a tuple IN: one statement per distinct sequence (almost always just 0)
+        val interactionIdsBySequence = new TreeMap<Integer, List<UUID>>();
+        entries.forEach(entry -> interactionIdsBySequence
+                .computeIfAbsent(entry.getSequence(), __ -> new ArrayList<>())
+                .add(entry.getInteractionId()));
+
+        int deleted = 0;
+        for (val entry : interactionIdsBySequence.entrySet()) {
+            deleted += deleteBySequenceAndInteractionIdIn(entry.getKey(), entry.getValue());
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes all entries with the given sequence whose interaction id is one of those provided, as a single
+     * set-based statement.
+     *
+     * @return the number of entries deleted
+     */
+    protected abstract int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds);
+
+    @Override
+    public Map<String, Object> toArchiveRecord(final ExecutionLogEntry entry) {
+        val record = new LinkedHashMap<String, Object>();
+        record.put("interactionId", entry.getInteractionId());
+        record.put("sequence", entry.getSequence());
+        record.put("executionType", entry.getExecutionType());
+        record.put("timestamp", entry.getTimestamp());
+        record.put("username", entry.getUsername());
+        record.put("target", entry.getTarget());
+        record.put("logicalMemberIdentifier", entry.getLogicalMemberIdentifier());
+        record.put("startedAt", entry.getStartedAt());
+        record.put("completedAt", entry.getCompletedAt());
+        record.put("interactionDto", InteractionDtoUtils.dtoMapper().toString(entry.getInteractionDto()));
+        return record;
+    }
+
+    // -- DTO STORAGE MIGRATION
+
+    @Override
+    public List<ExecutionLogEntry> findNotStoredAsAtOrBefore(
+            final DtoStorageCodec.Format format, final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(executionLogEntryClass, format == DtoStorageCodec.Format.GZIP
+                            ? ExecutionLogEntry.Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE
+                            : ExecutionLogEntry.Nq.FIND_GZIPPED_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    @Override
+    public Timestamp timestampOf(final ExecutionLogEntry entry) {
+        return entry.getTimestamp();
+    }
+
+    @Override
+    public void reencodeDtos(final ExecutionLogEntry entry) {
+        // a new instance is detected as a change (the DTOs do not implement equals)
+        entry.setInteractionDto(InteractionDtoUtils.dtoMapper().clone(entry.getInteractionDto()));
+    }
 
 }
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionlog.applib.spiimpl;
+
+import java.util.List;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.transaction.AsyncBatchWriter;
+import org.apache.causeway.extensions.executionlog.applib.CausewayModuleExtExecutionLogApplib;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Persists executions to the execution log on a background thread, if the execution log is
+ * {@link CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy#ASYNC async}.
+ *
+ * <p>
+ * Executions are queued up to a {@link CausewayConfiguration.Extensions.ExecutionLog.Async#getQueueCapacity() bound},
+ * beyond which they are dropped (with a warning) rather than blocking the request.  The writer persists them in
+ * batches of up to {@link CausewayConfiguration.Extensions.ExecutionLog.Async#getMaxBatchSize() max batch size},
+ * each within an interaction and transaction of its own.  On shutdown, any executions still queued are written
+ * before the writer stops.
+ * </p>
+ *
+ * <p>
+ * The writer does not consult the persist policy itself, it writes whatever it is handed; the policy is read per
+ * execution (by {@link ExecutionSubscriberForExecutionLog} and {@link ExecutionLogBuffer}), so may also be switched
+ * to async at runtime.  Hence the writer thread is only started on first {@link #submit(List) submit}.  The queue
+ * capacity and max batch size though are fixed at start-up.
+ * </p>
+ *
+ * @see AsyncBatchWriter
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionLogAsyncWriter.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class ExecutionLogAsyncWriter {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogApplib.NAMESPACE + ".ExecutionLogAsyncWriter";
+
+    private final AsyncBatchWriter<Execution<?, ?>> writer;
+
+    @Inject
+    public ExecutionLogAsyncWriter(
+            final ExecutionLogEntryRepository executionLogEntryRepository,
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final CausewayConfiguration causewayConfiguration) {
+        val async = causewayConfiguration.getExtensions().getExecutionLog().getAsync();
+        this.writer = new AsyncBatchWriter<>("executionlog",
+                async.getQueueCapacity(), async.getMaxBatchSize(),
+                interactionService, transactionService,
+                executionLogEntryRepository::createEntriesAndPersist);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    /**
+     * Queues given executions for being persisted, dropping any that exceed the queue's capacity.
+     */
+    @Programmatic
+    public void submit(final List<? extends Execution<?, ?>> executions) {
+        val droppedNow = writer.submitAll(executions);
+        if(droppedNow > 0) {
+            log.warn("execution log writer not keeping up, dropped {} execution(s) ({} in total)",
+                    droppedNow, writer.getDropped());
+        }
+    }
+
+    /**
+     * The number of executions queued, but not yet written.
+     */
+    @Programmatic
+    public int getPending() {
+        return writer.getPending();
+    }
+
+    /**
+     * The number of executions written since start-up.
+     */
+    @Programmatic
+    public long getWritten() {
+        return writer.getWritten();
+    }
+
+    /**
+     * The number of executions dropped since start-up, because the queue was full.
+     */
+    @Programmatic
+    public long getDropped() {
+        return writer.getDropped();
+    }
+
+}
@@ -24,6 +24,7 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
@@ -33,9 +34,15 @@
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
+ * Persists each execution to the execution log, either immediately or - if
+ * {@link CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy#BATCHED batched} or
+ * {@link CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy#ASYNC async} - by way of the
+ * {@link ExecutionLogBuffer} at the end of the transaction.
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -49,6 +56,7 @@ public class ExecutionSubscriberForExecutionLog implements ExecutionSubscriber {
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogApplib.NAMESPACE + ".ExecutionSubscriberForExecutionLog";
 
     final ExecutionLogEntryRepository executionLogEntryRepository;
+    final ExecutionLogBuffer executionLogBuffer;
     final CausewayConfiguration causewayConfiguration;
 
     @Override
@@ -62,6 +70,13 @@ public void onExecution(Execution<?, ?> execution) {
             return;
         }
 
+        val persistPolicy = causewayConfiguration.getExtensions().getExecutionLog().getPersist();
+        if ((persistPolicy.isBatched() || persistPolicy.isAsync())
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            executionLogBuffer.enlist(execution);
+            return;
+        }
+
         executionLogEntryRepository.createEntryAndPersist(execution);
     }
 
@@ -19,6 +19,9 @@
 package org.apache.causeway.extensions.executionlog.applib.integtest;
 
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,13 +45,20 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigratable;
+import org.apache.causeway.core.runtimeservices.dtostorage.DtoStorageMigrationService;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
 import org.apache.causeway.extensions.executionlog.applib.integtest.model.Counter;
 import org.apache.causeway.extensions.executionlog.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionlog.applib.integtest.model.Counter_bumpUsingMixin;
 import org.apache.causeway.extensions.executionlog.applib.integtest.model.Counter_bumpUsingMixinWithExecutionPublishingDisabled;
+import org.apache.causeway.extensions.executionlog.applib.spiimpl.ExecutionLogAsyncWriter;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
@@ -192,6 +202,73 @@ void edit() {
         assertThat(interactionDto.getExecution().getLogicalMemberIdentifier()).isEqualTo(executionLogEntry.getLogicalMemberIdentifier());
     }
 
+    @Test
+    void edit_batched() {
+
+        // given
+        val executionLogConfig = causewayConfiguration.getExtensions().getExecutionLog();
+        executionLogConfig.setPersist(CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy.BATCHED);
+        try {
+
+            // when
+            wrapperFactory.wrap(counter1).setNum(99L);
+            wrapperFactory.wrap(counter2).setNum(98L);
+
+            // then nothing is persisted before the transaction commits
+            assertThat(executionLogEntryRepository.findMostRecent()).isEmpty();
+
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+
+            // then
+            List<? extends ExecutionLogEntry> all = executionLogEntryRepository.findMostRecent();
+            assertThat(all).hasSize(2);
+            assertThat(all).allSatisfy(entry->
+                assertThat(entry.getLogicalMemberIdentifier()).isEqualTo("executionlog.test.Counter#num"));
+
+        } finally {
+            executionLogConfig.setPersist(CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy.ENABLED);
+        }
+    }
+
+    @Test
+    void edit_async() throws InterruptedException {
+
+        // given
+        val executionLogConfig = causewayConfiguration.getExtensions().getExecutionLog();
+        executionLogConfig.setPersist(CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy.ASYNC);
+        try {
+            val writtenBefore = executionLogAsyncWriter.getWritten();
+
+            // when
+            wrapperFactory.wrap(counter1).setNum(99L);
+            wrapperFactory.wrap(counter2).setNum(98L);
+
+            // then nothing is persisted before the transaction commits
+            assertThat(executionLogEntryRepository.findMostRecent()).isEmpty();
+
+            interactionService.closeInteractionLayers();    // to hand over to the writer
+            interactionService.openInteraction();
+
+            for (int i = 0; i < 100
+                    && (executionLogAsyncWriter.getPending() > 0
+                            || executionLogAsyncWriter.getWritten() < writtenBefore + 2); i++) {
+                Thread.sleep(100);
+            }
+
+            // then
+            assertThat(executionLogAsyncWriter.getPending()).isZero();
+            assertThat(executionLogAsyncWriter.getDropped()).isZero();
+            List<? extends ExecutionLogEntry> all = executionLogEntryRepository.findMostRecent();
+            assertThat(all).hasSize(2);
+            assertThat(all).allSatisfy(entry->
+                assertThat(entry.getLogicalMemberIdentifier()).isEqualTo("executionlog.test.Counter#num"));
+
+        } finally {
+            executionLogConfig.setPersist(CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy.ENABLED);
+        }
+    }
+
     @Test
     void edit_disabled() {
 
@@ -388,7 +465,81 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void purge_deletes_oldest_first_by_key() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-2")).act();
+        interactionService.nextInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-1")).act();
+        interactionService.nextInteraction();
+
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(3);
+
+        final PurgeableLog<ExecutionLogEntry> purgeableLog = _Casts.uncheckedCast(executionLogEntryRepository);
+        val cutoff = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // when
+        val oldest = purgeableLog.findPurgeableAtOrBefore(cutoff, 2);
+
+        // then
+        assertThat(oldest).hasSize(2)
+                .isSortedAccordingTo(Comparator.comparing(ExecutionLogEntry::getTimestamp));
+        val mostRecent = executionLogEntryRepository.findMostRecent().get(0);
+        assertThat(oldest).extracting(ExecutionLogEntry::getInteractionId)
+                .doesNotContain(mostRecent.getInteractionId());
+
+        // when
+        assertThat(purgeableLog.deleteAll(oldest)).isEqualTo(2);
+        interactionService.nextInteraction();
+
+        // then
+        val remaining = executionLogEntryRepository.findMostRecent();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getInteractionId()).isEqualTo(mostRecent.getInteractionId());
+    }
+
+    @Test
+    void migrate_dtoStorage_reencodesOnlyThoseNotYetInFormat() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-2")).act();
+        interactionService.nextInteraction();
+
+        final DtoStorageMigratable<ExecutionLogEntry> migratable = _Casts.uncheckedCast(executionLogEntryRepository);
+        val dtoStorage = causewayConfiguration.getPersistence().getCommons().getDtoStorage();
+        try {
+
+            // when
+            dtoStorage.setFormat(DtoStorageCodec.Format.GZIP);
+
+            // then
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isEqualTo(2);
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isZero();
+
+            // when
+            dtoStorage.setFormat(DtoStorageCodec.Format.XML);
+
+            // then
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isEqualTo(2);
+            assertThat(dtoStorageMigrationService.migrate(migratable)).isZero();
+
+        } finally {
+            dtoStorage.setFormat(DtoStorageCodec.Format.XML);
+        }
+
+        interactionService.nextInteraction();
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(2)
+                .allSatisfy(entry->assertThat(entry.getInteractionDto().getExecution().getLogicalMemberIdentifier())
+                        .isEqualTo(entry.getLogicalMemberIdentifier()));
+    }
+
     @Inject ExecutionLogEntryRepository executionLogEntryRepository;
+    @Inject DtoStorageMigrationService dtoStorageMigrationService;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
     @Inject InteractionService interactionService;
@@ -396,5 +547,7 @@ void test_all_the_repository_methods() {
     @Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject ExecutionLogAsyncWriter executionLogAsyncWriter;
 
 }
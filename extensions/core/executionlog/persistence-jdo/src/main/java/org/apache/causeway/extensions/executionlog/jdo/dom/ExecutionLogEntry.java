@@ -37,6 +37,7 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry.Nq;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryType;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
@@ -114,6 +115,32 @@
                   + "  FROM " + ExecutionLogEntry.FQCN + " "
                   + " WHERE timestamp <= :to "
                   + " ORDER BY timestamp DESC, interactionId DESC, sequence DESC"),
+    @Query(
+            name  = Nq.FIND_GZIPPED_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + "    && interactionDto.startsWith('" + DtoStorageCodec.GZIP_MARKER + "') "
+                  + " ORDER BY timestamp DESC, interactionId DESC, sequence DESC"),
+    @Query(
+            name  = Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + "    && !interactionDto.startsWith('" + DtoStorageCodec.GZIP_MARKER + "') "
+                  + " ORDER BY timestamp DESC, interactionId DESC, sequence DESC"),
+    @Query(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence ASC"),
+    @Query(
+            name  = Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " WHERE sequence == :sequence "
+                  + "    && :interactionIds.contains(interactionId) "),  // used with deletePersistentAll
     @Query(
             name  = Nq.FIND,
             value = "SELECT "
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.executionlog.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,10 +32,13 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry.Nq;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jdo.CausewayModuleExtExecutionLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionLogEntryRepository.LOGICAL_TYPE_NAME)
@@ -56,4 +64,14 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    @Override
+    protected int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds) {
+        val query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(ExecutionLogEntry.class, Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN);
+        query.setNamedParameters(Map.of("sequence", sequence, "interactionIds", interactionIds));
+        return (int) query.deletePersistentAll();
+    }
+
+    @Inject JdoSupportService jdoSupportService;
+
 }
@@ -43,6 +43,7 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry.Nq;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryType;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
@@ -123,6 +124,38 @@
                   + "  FROM ExecutionLogEntry ele "
                   + " WHERE ele.timestamp <= :to "
                   + " ORDER BY ele.timestamp DESC, ele.pk.interactionId, ele.pk.sequence DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_GZIPPED_AT_OR_BEFORE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " WHERE ele.timestamp <= :to "
+                  + "   AND ele.interactionDto LIKE '" + DtoStorageCodec.GZIP_MARKER + "%' "
+                  + " ORDER BY ele.timestamp DESC, ele.pk.interactionId DESC, ele.pk.sequence DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_NOT_GZIPPED_AT_OR_BEFORE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " WHERE ele.timestamp <= :to "
+                  + "   AND ele.interactionDto NOT LIKE '" + DtoStorageCodec.GZIP_MARKER + "%' "
+                  + " ORDER BY ele.timestamp DESC, ele.pk.interactionId DESC, ele.pk.sequence DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " WHERE ele.timestamp <= :to "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence ASC"),
+    @NamedQuery(
+            name  = Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN,
+            query = "DELETE "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " WHERE ele.pk.sequence      = :sequence "
+                  + "   AND ele.pk.interactionId IN :interactionIds "),
+    @NamedQuery(
+            name  = Nq.UPDATE_INTERACTION_DTO_BY_INTERACTION_ID_AND_SEQUENCE,
+            query = "UPDATE ExecutionLogEntry ele "
+                  + "   SET ele.interactionDto = :interactionDto "
+                  + " WHERE ele.pk.interactionId = :interactionId "
+                  + "   AND ele.pk.sequence      = :sequence "),
     @NamedQuery(
             name  = Nq.FIND,
             query = "SELECT ele "
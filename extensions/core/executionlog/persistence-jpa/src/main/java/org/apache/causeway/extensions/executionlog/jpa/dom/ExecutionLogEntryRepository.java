@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionlog.jpa.dom;
 
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,8 +31,10 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry.Nq;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jpa.CausewayModuleExtExecutionLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -56,4 +62,29 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    @Override
+    protected int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds) {
+        return jpaSupportService.getEntityManagerElseFail(ExecutionLogEntry.class)
+                .createNamedQuery(Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN)
+                .setParameter("sequence", sequence)
+                .setParameter("interactionIds", interactionIds)
+                .executeUpdate();
+    }
+
+    /**
+     * Writes the DTO using a bulk update, because EclipseLink detects changes by comparing the values as converted
+     * (ie in the current format), so would not consider the entry to be modified.
+     */
+    @Override
+    public void reencodeDtos(final org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry entry) {
+        jpaSupportService.getEntityManagerElseFail(ExecutionLogEntry.class)
+                .createNamedQuery(Nq.UPDATE_INTERACTION_DTO_BY_INTERACTION_ID_AND_SEQUENCE)
+                .setParameter("interactionDto", entry.getInteractionDto())
+                .setParameter("interactionId", entry.getInteractionId())
+                .setParameter("sequence", entry.getSequence())
+                .executeUpdate();
+    }
+
+    @Inject JpaSupportService jpaSupportService;
+
 }
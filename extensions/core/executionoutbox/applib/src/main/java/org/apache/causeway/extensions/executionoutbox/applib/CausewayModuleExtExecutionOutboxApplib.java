@@ -25,6 +25,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
+import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ExecutionOutboxBuffer;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ExecutionSubscriberForExecutionOutbox;
 
 /**
@@ -39,6 +40,7 @@
         ExecutionOutboxMenu.class,
 
         ExecutionSubscriberForExecutionOutbox.class,
+        ExecutionOutboxBuffer.class,
         ExecutionOutboxEntry.TableColumnOrderDefault.class,
         ContentMappingServiceForOutboxEvents.class
 })
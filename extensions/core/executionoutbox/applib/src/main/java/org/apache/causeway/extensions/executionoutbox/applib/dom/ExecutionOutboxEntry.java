@@ -110,6 +110,9 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtExecutio
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
         public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
+        public static final String FIND_BY_TIMESTAMP = LOGICAL_TYPE_NAME + ".findByTimestamp";
+        public static final String FIND_OLDEST_AFTER_TIMESTAMP = LOGICAL_TYPE_NAME + ".findOldestAfterTimestamp";
+        public static final String DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN = LOGICAL_TYPE_NAME + ".deleteBySequenceAndInteractionIdIn";
     }
 
     @UtilityClass
@@ -19,11 +19,13 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
@@ -53,10 +55,34 @@ public NotFoundException(final UUID interactionId) {
 
     ExecutionOutboxEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * As per {@link #createEntryAndPersist(Execution)}, but for many executions at once, flushing only once
+     * (so that the inserts can be batched).
+     */
+    List<ExecutionOutboxEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions);
+
     Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * As per {@link #findOldest()}, but only those entries that come strictly after the entry identified by the
+     * provided cursor (in the same ordering as {@link #findOldest()}).
+     *
+     * <p>
+     *     If the cursor entry no longer exists (typically because it has already been deleted), then this
+     *     is equivalent to {@link #findOldest()}.
+     * </p>
+     *
+     * <p>
+     *     Entries are ordered by the time their execution started, not by when they were committed, so an entry
+     *     committed late may sort before a cursor that the consumer has already paged past. Such an entry is not
+     *     lost (only those entries {@link #deleteMany(Collection) explicitly acknowledged} are ever deleted), but
+     *     it is only returned once the consumer next starts over from {@link #findOldest()}.
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findOldestAfter(final UUID interactionId, final int sequence);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +105,14 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes all entries identified by the provided keys, using set-based deletes rather than one
+     * delete per entry.
+     *
+     * @return the number of entries deleted
+     */
+    int deleteMany(final Collection<? extends HasInteractionIdAndSequence> keys);
+
     /**
      * for testing purposes only
      */
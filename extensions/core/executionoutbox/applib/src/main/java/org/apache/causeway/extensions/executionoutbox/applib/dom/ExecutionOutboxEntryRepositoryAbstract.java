@@ -19,8 +19,11 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -28,6 +31,7 @@
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -41,6 +45,7 @@
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -53,6 +58,12 @@
 
     public final static String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxEntryRepository";
 
+    /**
+     * Upper bound on the number of interaction ids passed as a single <code>IN</code> parameter to the set-based
+     * deletes, to stay well clear of database limits on the number of bind parameters.
+     */
+    protected static final int DELETE_BATCH_SIZE = 500;
+
     public static class NotFoundException extends RecoverableException {
         private static final long serialVersionUID = 1L;
         @Getter
@@ -95,6 +106,19 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    public List<ExecutionOutboxEntry> createEntriesAndPersist(final List<? extends Execution<?, ?>> executions) {
+        return repositoryService().execInBulk(() -> {
+            final List<ExecutionOutboxEntry> entries = new ArrayList<>(executions.size());
+            for (val execution : executions) {
+                E e = factoryService.detachedEntity(executionOutboxEntryClass);
+                e.init(execution);
+                // within bulk mode, flushes are deferred until the end, so that the inserts can be batched
+                entries.add(repositoryService().persistAndFlush(e));
+            }
+            return entries;
+        });
+    }
+
     public Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence) {
         return _Casts.uncheckedCast(
                 repositoryService().firstMatch(
@@ -109,11 +133,56 @@ public List<ExecutionOutboxEntry> findOldest() {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
                 Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
-                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending())
+                        .withLimit(maxPending())
                 )
         );
     }
 
+    public List<ExecutionOutboxEntry> findOldestAfter(final UUID interactionId, final int sequence) {
+        val cursorIfAny = findByInteractionIdAndSequence(interactionId, sequence);
+        if(!cursorIfAny.isPresent()) {
+            return findOldest();
+        }
+        val timestamp = cursorIfAny.get().getTimestamp();
+        val maxPending = maxPending();
+
+        // entries sharing the cursor's timestamp are ordered by (interactionId, sequence), so skip through the cursor
+        final List<ExecutionOutboxEntry> entries = new ArrayList<>();
+        boolean afterCursor = false;
+        for (val entry : findByTimestamp(timestamp)) {
+            if(afterCursor) {
+                entries.add(entry);
+                if(entries.size() >= maxPending) {
+                    return entries;
+                }
+            } else {
+                afterCursor = isSameKey(entry, interactionId, sequence);
+            }
+        }
+
+        entries.addAll(_Casts.uncheckedCast(
+                repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST_AFTER_TIMESTAMP)
+                        .withParameter("cursorTimestamp", timestamp)
+                        .withLimit(maxPending - entries.size())
+                )
+        ));
+        return entries;
+    }
+
+    private List<ExecutionOutboxEntry> findByTimestamp(final Timestamp timestamp) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_BY_TIMESTAMP)
+                        .withParameter("cursorTimestamp", timestamp)
+                )
+        );
+    }
+
+    private int maxPending() {
+        return causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending();
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -172,6 +241,38 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    @Programmatic
+    public int deleteMany(final Collection<? extends HasInteractionIdAndSequence> keys) {
+        // a portable alternative to a tuple IN: one statement per distinct sequence (almost always just 0)
+        val interactionIdsBySequence = new TreeMap<Integer, List<UUID>>();
+        keys.forEach(key -> interactionIdsBySequence
+                .computeIfAbsent(key.getSequence(), __ -> new ArrayList<>())
+                .add(key.getInteractionId()));
+
+        int deleted = 0;
+        for (val entry : interactionIdsBySequence.entrySet()) {
+            val interactionIds = entry.getValue();
+            for (int from = 0; from < interactionIds.size(); from += DELETE_BATCH_SIZE) {
+                val batch = interactionIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, interactionIds.size()));
+                deleted += deleteBySequenceAndInteractionIdIn(entry.getKey(), batch);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes all entries with the given sequence whose interaction id is one of those provided, as a single
+     * set-based statement.
+     *
+     * @return the number of entries deleted
+     */
+    protected abstract int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds);
+
+    private static boolean isSameKey(final HasInteractionIdAndSequence entry, final UUID interactionId, final int sequence) {
+        return entry.getSequence() == sequence
+                && interactionId.equals(entry.getInteractionId());
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -20,22 +20,34 @@
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -43,6 +55,13 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     High-throughput consumers can instead page through the outbox using {@link #pendingAfter(String, Integer)}
+ *     (optionally long-polling for new entries), so that the next page can be fetched while the previous one is
+ *     still being processed. Either way, entries are only ever deleted once explicitly acknowledged by key, using
+ *     {@link #deleteMany(String)}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -74,6 +93,74 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but returning only those entries that come after the <code>after</code> cursor
+     * (formatted as <code>interactionId,sequence</code>, typically the last entry of the previous page).
+     *
+     * <p>
+     *     If there are no such entries and <code>waitSecs</code> is specified, then the request is held open
+     *     (re-checking every {@link CausewayConfiguration.Extensions.ExecutionOutbox.RestApi#getLongPollIntervalMillis() longPollIntervalMillis})
+     *     until either new entries arrive or the wait (capped at
+     *     {@link CausewayConfiguration.Extensions.ExecutionOutbox.RestApi#getMaxLongPollSecs() maxLongPollSecs}) elapses.
+     *     Each check is a short read-only query in a transaction of its own; the request's own transaction is not
+     *     queried until the wait is over.
+     * </p>
+     *
+     * <p>
+     *     Entries committed late may sort before a cursor already paged past; they are not lost, but are only
+     *     returned once the consumer next starts over from {@link #pending()}.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(
+            @Parameter(optionality = Optionality.OPTIONAL)
+            final String after,
+            @Parameter(optionality = Optionality.OPTIONAL)
+            final Integer waitSecs) {
+        val cursor = Cursor.parse(after);
+        awaitPendingAfter(cursor, waitSecs != null ? waitSecs : 0);
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(findPendingAfter(cursor));
+        return outboxEvents;
+    }
+
+    private List<? extends ExecutionOutboxEntry> findPendingAfter(final Cursor cursor) {
+        return cursor != null
+                ? executionOutboxEntryRepository.findOldestAfter(cursor.getInteractionId(), cursor.getSequence())
+                : executionOutboxEntryRepository.findOldest();
+    }
+
+    /**
+     * Waits (bounded by the configured <code>maxLongPollSecs</code>) until there is at least one entry after the
+     * cursor.  Each check runs in a new read-only transaction that is committed before sleeping, so the
+     * caller's own transaction is not used until the entries are actually fetched.
+     */
+    @SneakyThrows
+    private void awaitPendingAfter(final Cursor cursor, final int waitSecs) {
+        val restApiConfig = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi();
+        val waitMillis = 1000L * Math.max(0, Math.min(waitSecs, restApiConfig.getMaxLongPollSecs()));
+        if(waitMillis == 0) {
+            return;
+        }
+        val check = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        check.setReadOnly(true);
+        val deadline = System.currentTimeMillis() + waitMillis;
+        while(true) {
+            val anyPending = transactionService.callTransactional(check, () -> !findPendingAfter(cursor).isEmpty())
+                    .ifFailureFail()
+                    .getValue().orElse(false);
+            val remainingMillis = deadline - System.currentTimeMillis();
+            if(anyPending || remainingMillis <= 0) {
+                return;
+            }
+            Thread.sleep(Math.min(remainingMillis, restApiConfig.getLongPollIntervalMillis()));
+        }
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -90,14 +177,37 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         val interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    val interactionId = interactionType.getInteractionId();
-                    val sequence = interactionType.getExecution().getSequence();
-                    executionOutboxEntryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        val keys = interactionsDto.getInteractionDto().stream()
+                .map(interactionType -> new Cursor(
+                        UUID.fromString(interactionType.getInteractionId()),
+                        interactionType.getExecution().getSequence()))
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteMany(keys);
+    }
+
+    /**
+     * Identifies an entry within the outbox, as formatted <code>interactionId,sequence</code>.
+     */
+    @Value
+    static class Cursor implements HasInteractionIdAndSequence {
+        UUID interactionId;
+        int sequence;
+
+        static Cursor parse(final String cursor) {
+            if(_Strings.isNullOrEmpty(cursor)) {
+                return null;
+            }
+            val parts = cursor.split(",");
+            if(parts.length != 2) {
+                throw new IllegalArgumentException(
+                        String.format("Cursor '%s' is not formatted as 'interactionId,sequence'", cursor));
+            }
+            return new Cursor(UUID.fromString(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
     }
 
     @Inject FactoryService factoryService;
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
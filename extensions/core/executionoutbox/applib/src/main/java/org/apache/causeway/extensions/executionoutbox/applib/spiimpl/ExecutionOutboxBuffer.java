@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.spiimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.applib.annotation.TransactionScope;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers the executions of the current transaction, if the outbox is
+ * {@link CausewayConfiguration.Extensions.ExecutionOutbox.PersistPolicy#BATCHED batched}, persisting them all at once
+ * just before the transaction commits (and so still atomically with the business data).
+ *
+ * <p>
+ * The service is {@link TransactionScope transaction-scope}d and implements Spring's {@link TransactionSynchronization}
+ * interface, meaning that Spring will call the {@link #beforeCommit(boolean)} and {@link #afterCompletion(int)}
+ * callbacks.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@TransactionScope
+@Named(ExecutionOutboxBuffer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class ExecutionOutboxBuffer implements TransactionSynchronization {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxBuffer";
+
+    private final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+
+    private final List<Execution<?, ?>> executions = new ArrayList<>();
+
+    @Programmatic
+    public synchronized void enlist(final Execution<?, ?> execution) {
+        executions.add(execution);
+    }
+
+    @Programmatic
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        val drained = drain();
+        if(drained.isEmpty()) {
+            return;
+        }
+        log.debug("persisting {} buffered outbox entries", drained.size());
+        executionOutboxEntryRepository.createEntriesAndPersist(drained);
+    }
+
+    @Programmatic
+    @Override
+    public void afterCompletion(final int status) {
+        // discards the executions of a transaction that was rolled back
+        drain();
+    }
+
+    // -- HELPER
+
+    private synchronized List<Execution<?, ?>> drain() {
+        if(executions.isEmpty()) {
+            return List.of();
+        }
+        val drained = new ArrayList<Execution<?, ?>>(executions);
+        executions.clear();
+        return drained;
+    }
+
+}
@@ -24,6 +24,7 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
@@ -36,6 +37,10 @@
 import lombok.extern.log4j.Log4j2;
 
 /**
+ * Persists each execution to the outbox, either immediately or - if
+ * {@link CausewayConfiguration.Extensions.ExecutionOutbox.PersistPolicy#BATCHED batched} - by way of the
+ * {@link ExecutionOutboxBuffer} just before the transaction commits.
+ *
  * @since 2.0 {@index}
  */
 
@@ -51,6 +56,7 @@ public class ExecutionSubscriberForExecutionOutbox implements ExecutionSubscribe
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionSubscriberForExecutionOutbox";
 
     final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+    final ExecutionOutboxBuffer executionOutboxBuffer;
     final CausewayConfiguration causewayConfiguration;
 
     @Override
@@ -64,6 +70,12 @@ public void onExecution(Execution<?, ?> execution) {
             return;
         }
 
+        if (causewayConfiguration.getExtensions().getExecutionOutbox().getPersist().isBatched()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            executionOutboxBuffer.enlist(execution);
+            return;
+        }
+
         executionOutboxEntryRepository.createEntryAndPersist(execution);
     }
 
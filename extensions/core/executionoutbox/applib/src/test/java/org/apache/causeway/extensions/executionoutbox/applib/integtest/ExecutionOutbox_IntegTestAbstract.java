@@ -18,9 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 
@@ -39,6 +41,7 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -46,6 +49,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixinWithExecutionPublishingDisabled;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
@@ -205,6 +209,35 @@ void edit() {
         assertThat(interactionDto.getExecution().getLogicalMemberIdentifier()).isEqualTo(executionLogEntry.getLogicalMemberIdentifier());
     }
 
+    @Test
+    void edit_batched() {
+
+        // given
+        val persistConfig = causewayConfiguration.getExtensions().getExecutionOutbox();
+        persistConfig.setPersist(CausewayConfiguration.Extensions.ExecutionOutbox.PersistPolicy.BATCHED);
+        try {
+
+            // when
+            wrapperFactory.wrap(counter1).setNum(99L);
+            wrapperFactory.wrap(counter2).setNum(98L);
+
+            // then nothing is persisted before the transaction commits
+            assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+
+            // then
+            List<? extends ExecutionOutboxEntry> all = executionOutboxEntryRepository.findOldest();
+            assertThat(all).hasSize(2);
+            assertThat(all).allSatisfy(entry->
+                assertThat(entry.getLogicalMemberIdentifier()).isEqualTo("executionoutbox.test.Counter#num"));
+
+        } finally {
+            persistConfig.setPersist(CausewayConfiguration.Extensions.ExecutionOutbox.PersistPolicy.ENABLED);
+        }
+    }
+
     @Test
     void edit_disabled() {
 
@@ -283,6 +316,123 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void paging_and_set_based_deletes() {
+
+        // given
+        for (int i = 0; i < 3; i++) {
+            wrapperFactory.wrap(counter1).bumpUsingDeclaredAction();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+        List<ExecutionOutboxEntry> all = executionOutboxEntryRepository.findOldest();
+        assertThat(all).hasSize(3);
+        val first = all.get(0);
+        val last = all.get(2);
+
+        // when
+        List<ExecutionOutboxEntry> afterFirst = executionOutboxEntryRepository.findOldestAfter(first.getInteractionId(), first.getSequence());
+
+        // then
+        assertThat(afterFirst).containsExactlyElementsOf(all.subList(1, 3));
+        assertThat(executionOutboxEntryRepository.findOldestAfter(last.getInteractionId(), last.getSequence())).isEmpty();
+
+        // when
+        int deleted = executionOutboxEntryRepository.deleteMany(List.of(first));
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(executionOutboxEntryRepository.findOldest()).hasSize(2);
+
+        // when
+        deleted = executionOutboxEntryRepository.deleteMany(afterFirst);
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+    }
+
+    @Test
+    void late_committed_entry_is_not_lost_when_paged_past() {
+
+        // given
+        for (int i = 0; i < 2; i++) {
+            wrapperFactory.wrap(counter1).bumpUsingDeclaredAction();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+        List<ExecutionOutboxEntry> page = executionOutboxEntryRepository.findOldest();
+        assertThat(page).hasSize(2);
+        val first = page.get(0);
+        val last = page.get(1);
+
+        // when an entry that started before the page was read commits only afterwards
+        val lateInteractionId = UUID.randomUUID();
+        executionOutboxEntryRepository.upsert(
+                lateInteractionId, 0, first.getExecutionType(),
+                new Timestamp(first.getTimestamp().getTime() - 1_000L),
+                first.getUsername(), first.getTarget(), first.getLogicalMemberIdentifier(), first.getInteractionDto());
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then it sorts before the cursor, so is not returned when paging on
+        assertThat(executionOutboxEntryRepository.findOldestAfter(last.getInteractionId(), last.getSequence())).isEmpty();
+
+        // when the consumer acknowledges the page it processed
+        executionOutboxEntryRepository.deleteMany(page);
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then the late entry is still pending
+        val pending = executionOutboxEntryRepository.findOldest();
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getInteractionId()).isEqualTo(lateInteractionId);
+    }
+
+    @Test
+    void pendingAfter_long_polls_until_an_entry_is_committed() {
+
+        // given
+        wrapperFactory.wrap(counter1).bumpUsingDeclaredAction();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+        val last = executionOutboxEntryRepository.findOldest().get(0);
+        val cursor = last.getInteractionId() + "," + last.getSequence();
+
+        // when not asked to wait, then returns immediately
+        assertThat(outboxRestApi.pendingAfter(cursor, null).getExecutions()).isEmpty();
+
+        // when an entry is committed by another interaction while the request is long-polling
+        val executionType = last.getExecutionType();
+        val timestamp = new Timestamp(last.getTimestamp().getTime() + 1_000L);
+        val username = last.getUsername();
+        val target = last.getTarget();
+        val logicalMemberIdentifier = last.getLogicalMemberIdentifier();
+        val interactionDto = last.getInteractionDto();
+        val newInteractionId = UUID.randomUUID();
+        val committer = CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(500L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            interactionService.runAnonymous(() ->
+                executionOutboxEntryRepository.upsert(
+                        newInteractionId, 0, executionType, timestamp,
+                        username, target, logicalMemberIdentifier, interactionDto));
+        });
+        val pending = outboxRestApi.pendingAfter(cursor, 10).getExecutions();
+        committer.join();
+
+        // then
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getInteractionId()).isEqualTo(newInteractionId);
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -290,5 +440,7 @@ void test_all_the_repository_methods() {
     @Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject OutboxRestApi outboxRestApi;
 
 }
@@ -67,6 +67,24 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_BY_TIMESTAMP,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp == :cursorTimestamp "
+                  + " ORDER BY interactionId ASC, sequence DESC"),
+    @Query(
+            name = Nq.FIND_OLDEST_AFTER_TIMESTAMP,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp > :cursorTimestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),  // programmatic range
+    @Query(
+            name = Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE sequence == :sequence "
+                  + "    && :interactionIds.contains(interactionId) "),  // used with deletePersistentAll
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -77,7 +95,7 @@
 public class ExecutionOutboxEntry extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry {
 
 
-    public static final String FQCN = "org.apache.causeway.extensions.executionlog.jdo.dom.ExecutionLogEntry";
+    public static final String FQCN = "org.apache.causeway.extensions.executionoutbox.jdo.dom.ExecutionOutboxEntry";
     @PrimaryKey
     @InteractionId
     @Column(allowsNull = InteractionId.ALLOWS_NULL, length=InteractionId.MAX_LENGTH)
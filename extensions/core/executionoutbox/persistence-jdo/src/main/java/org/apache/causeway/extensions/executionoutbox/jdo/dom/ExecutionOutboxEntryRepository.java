@@ -18,8 +18,14 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import javax.jdo.Query;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -27,9 +33,12 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionOutboxEntryRepositoryAbstract.LOGICAL_TYPE_NAME)
@@ -58,4 +67,17 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Override
+    protected int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds) {
+        val query = newNamedQuery(Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN);
+        query.setNamedParameters(Map.of("sequence", sequence, "interactionIds", interactionIds));
+        return (int) query.deletePersistentAll();
+    }
+
+    private Query<ExecutionOutboxEntry> newNamedQuery(final String queryName) {
+        return jdoSupportService.getPersistenceManager().newNamedQuery(ExecutionOutboxEntry.class, queryName);
+    }
+
+    @Inject JdoSupportService jdoSupportService;
+
 }
@@ -75,6 +75,24 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_BY_TIMESTAMP,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp = :cursorTimestamp "
+                  + " ORDER BY ele.pk.interactionId ASC, ele.pk.sequence DESC"),
+    @NamedQuery(
+            name = Nq.FIND_OLDEST_AFTER_TIMESTAMP,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp > :cursorTimestamp "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN,
+            query = "DELETE "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.pk.sequence      = :sequence "
+                  + "   AND ele.pk.interactionId IN :interactionIds "),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
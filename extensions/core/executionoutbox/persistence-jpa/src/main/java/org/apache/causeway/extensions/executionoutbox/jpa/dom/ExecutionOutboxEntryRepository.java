@@ -18,8 +18,13 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -27,7 +32,9 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -58,4 +65,19 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Override
+    protected int deleteBySequenceAndInteractionIdIn(final int sequence, final List<UUID> interactionIds) {
+        return entityManager()
+                .createNamedQuery(Nq.DELETE_BY_SEQUENCE_AND_INTERACTION_ID_IN)
+                .setParameter("sequence", sequence)
+                .setParameter("interactionIds", interactionIds)
+                .executeUpdate();
+    }
+
+    private EntityManager entityManager() {
+        return jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+    }
+
+    @Inject JpaSupportService jpaSupportService;
+
 }
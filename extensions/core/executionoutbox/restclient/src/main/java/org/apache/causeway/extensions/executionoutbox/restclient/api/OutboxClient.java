@@ -20,6 +20,8 @@
 
 package org.apache.causeway.extensions.executionoutbox.restclient.api;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -118,17 +120,41 @@ public OutboxClient withReadTimeoutInSecs(int readTimeoutInSecs) {
     }
 
     public List<InteractionDto> pending() {
+        return pending(outboxClientConfig.getPendingUri());
+    }
 
-        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingUri())
-                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
-        var response = invocationBuilder.get();
-
-        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+    /**
+     * Returns the next page of pending interactions, namely those after the provided one (typically the last of
+     * the previous page), or the first page if <code>null</code>.
+     *
+     * <p>
+     *     If none are pending, then the server holds the request open for up to <code>waitSecs</code> (long-polling,
+     *     capped by the server's <code>max-long-poll-secs</code> setting) until new interactions arrive; the
+     *     {@link #withReadTimeoutInSecs(int) read timeout} should therefore exceed <code>waitSecs</code>.
+     *     Pass <code>0</code> to return immediately.
+     * </p>
+     *
+     * <p>
+     *     Pages are not acknowledged by this call; once processed, each should still be
+     *     {@link #deleteMany(List) deleted}. Interactions committed late may sort before a page already processed,
+     *     and are only returned once the consumer next starts over from {@link #pending()}.
+     * </p>
+     */
+    public List<InteractionDto> pendingAfter(final InteractionDto last, final int waitSecs) {
+        return pendingAfter(
+                last != null ? cursorFor(last.getInteractionId(), last.getExecution().getSequence()) : null,
+                waitSecs);
+    }
 
-        digest.ifFailureFail();
-        return digest.getValue()
-                .map(InteractionsDto::getInteractionDto)
-                .orElseGet(Collections::emptyList);
+    /**
+     * As per {@link #pendingAfter(InteractionDto, int)}, with the cursor formatted as <code>interactionId,sequence</code>.
+     */
+    public List<InteractionDto> pendingAfter(final String after, final int waitSecs) {
+        val query = new StringBuilder("?waitSecs=").append(waitSecs);
+        if(after != null) {
+            query.append("&after=").append(URLEncoder.encode(after, StandardCharsets.UTF_8));
+        }
+        return pending(outboxClientConfig.getPendingAfterUri() + query);
     }
 
     public void delete(final String interactionId, final int sequence) {
@@ -147,6 +173,24 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
 
     // -- HELPER
 
+    private List<InteractionDto> pending(final String path) {
+
+        Invocation.Builder invocationBuilder = client.request(path)
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        var response = invocationBuilder.get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
+    private static String cursorFor(final String interactionId, final int sequence) {
+        return interactionId + "," + sequence;
+    }
+
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
         val copy = new InteractionDto();
         copy.setInteractionId(orig.getInteractionId());
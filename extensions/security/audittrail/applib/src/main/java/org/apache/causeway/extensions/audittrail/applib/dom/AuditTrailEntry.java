@@ -84,6 +84,8 @@ public static class Nq {
         public static final String FIND_BY_TIMESTAMP_BETWEEN = "findByTimestampBetween";
         public static final String FIND_BY_TIMESTAMP_AFTER = "findByTimestampAfter";
         public static final String FIND_BY_TIMESTAMP_BEFORE = "findByTimestampBefore";
+        public static final String FIND_PURGEABLE_AT_OR_BEFORE = "findPurgeableAtOrBefore";
+        public static final String DELETE_BY_ID_IN = "deleteByIdIn";
         public static final String FIND = "find";
         public static final String FIND_MOST_RECENT = LOGICAL_TYPE_NAME + ".findMostRecent";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_BETWEEN = "findByUsernameAndTimestampBetween";
@@ -22,20 +22,25 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.inject.Inject;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 
 import lombok.val;
 
@@ -45,11 +50,12 @@
  * @since 2.0 {@index}
  */
 public abstract class AuditTrailEntryRepositoryAbstract<E extends AuditTrailEntry>
-        implements AuditTrailEntryRepository  {
+        implements AuditTrailEntryRepository, PurgeableLog<AuditTrailEntry> {
 
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -310,5 +316,56 @@ public void removeAll() {
         repositoryService.removeAll(auditTrailEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "auditTrail";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.LogRetention getRetention() {
+        return causewayConfiguration.getExtensions().getAuditTrail().getRetention();
+    }
+
+    @Override
+    public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+        return repositoryService.firstMatch(
+                    Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND)
+                        .withRange(QueryRange.start(n - 1).withLimit(1)))
+                .map(AuditTrailEntry::getTimestamp);
+    }
+
+    @Override
+    public List<AuditTrailEntry> findPurgeableAtOrBefore(final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService.allMatches(
+                    Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_PURGEABLE_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    /**
+     * Audit trail entries are identified only by their surrogate (datastore) id, so this is implemented
+     * by each persistence mechanism.
+     */
+    @Override
+    public abstract int deleteAll(final List<AuditTrailEntry> entries);
+
+    @Override
+    public Map<String, Object> toArchiveRecord(final AuditTrailEntry entry) {
+        val record = new LinkedHashMap<String, Object>();
+        record.put("interactionId", entry.getInteractionId());
+        record.put("sequence", entry.getSequence());
+        record.put("timestamp", entry.getTimestamp());
+        record.put("username", entry.getUsername());
+        record.put("target", entry.getTarget());
+        record.put("logicalMemberIdentifier", entry.getLogicalMemberIdentifier());
+        record.put("propertyId", entry.getPropertyId());
+        record.put("preValue", entry.getPreValue());
+        record.put("postValue", entry.getPostValue());
+        return record;
+    }
 
 }
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.audittrail.applib.integtests;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -32,7 +36,9 @@
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
 import org.apache.causeway.extensions.audittrail.applib.integtests.model.Counter;
@@ -199,6 +205,34 @@ void deleted() {
 
     }
 
+    @Test
+    void purged_oldest_first_by_id() {
+
+        // given
+        counterRepository.persist(newCounter("counter-1"));
+        interactionService.nextInteraction();
+
+        val entries = auditTrailEntryRepository.findAll();
+        assertThat(entries).hasSizeGreaterThanOrEqualTo(3);
+
+        final PurgeableLog<AuditTrailEntry> purgeableLog = _Casts.uncheckedCast(auditTrailEntryRepository);
+        val cutoff = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // when
+        val oldest = purgeableLog.findPurgeableAtOrBefore(cutoff, 2);
+
+        // then
+        assertThat(oldest).hasSize(2)
+                .isSortedAccordingTo(Comparator.comparing(AuditTrailEntry::getTimestamp));
+
+        // when
+        assertThat(purgeableLog.deleteAll(oldest)).isEqualTo(2);
+        interactionService.nextInteraction();
+
+        // then
+        assertThat(auditTrailEntryRepository.findAll()).hasSize(entries.size() - 2);
+    }
+
     @Inject InteractionService interactionService;
     @Inject CounterRepository<? extends Counter> counterRepository;
     @Inject WrapperFactory wrapperFactory;
@@ -123,6 +123,17 @@
                   + "  FROM " + AuditTrailEntry.FQCN + " "
                   + " WHERE timestamp <= :to "
                   + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + AuditTrailEntry.FQCN + " "
+                  + " WHERE timestamp <= :to "
+                  + " ORDER BY timestamp ASC"),
+    @Query(
+            name  = Nq.DELETE_BY_ID_IN,
+            value = "SELECT "
+                  + "  FROM " + AuditTrailEntry.FQCN + " "
+                  + " WHERE :ids.contains(JDOHelper.getObjectId(this)) "),  // used with deletePersistentAll
     @Query(
             name  = Nq.FIND,
             value = "SELECT "
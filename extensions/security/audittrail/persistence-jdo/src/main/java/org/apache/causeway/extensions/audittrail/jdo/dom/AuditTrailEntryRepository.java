@@ -19,9 +19,20 @@
  */
 package org.apache.causeway.extensions.audittrail.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.jdo.JDOHelper;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry.Nq;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
@@ -29,4 +40,18 @@ public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    @Override
+    public int deleteAll(final List<org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry> entries) {
+        val ids = entries.stream()
+                .map(JDOHelper::getObjectId)
+                .collect(Collectors.toList());
+        val query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(AuditTrailEntry.class, Nq.DELETE_BY_ID_IN);
+        query.setNamedParameters(Map.of("ids", ids));
+        return (int) query.deletePersistentAll();
+    }
+
+    @Inject JdoSupportService jdoSupportService;
+
 }
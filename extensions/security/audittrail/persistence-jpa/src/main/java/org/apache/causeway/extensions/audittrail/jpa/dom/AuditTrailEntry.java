@@ -122,6 +122,17 @@
                   + "  FROM AuditTrailEntry e "
                   + " WHERE e.timestamp <= :to "
                   + " ORDER BY e.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+            query = "SELECT e "
+                  + "  FROM AuditTrailEntry e "
+                  + " WHERE e.timestamp <= :to "
+                  + " ORDER BY e.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.DELETE_BY_ID_IN,
+            query = "DELETE "
+                  + "  FROM AuditTrailEntry e "
+                  + " WHERE e.id IN :ids "),
     @NamedQuery(
             name  = Nq.FIND,
             query = "SELECT e "
@@ -19,9 +19,17 @@
  */
 package org.apache.causeway.extensions.audittrail.jpa.dom;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry.Nq;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
@@ -29,4 +37,18 @@ public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    @Override
+    public int deleteAll(final List<org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry> entries) {
+        final List<Long> ids = entries.stream()
+                .map(entry -> _Casts.<AuditTrailEntry>uncheckedCast(entry).getId())
+                .collect(Collectors.toList());
+        return jpaSupportService.getEntityManagerElseFail(AuditTrailEntry.class)
+                .createNamedQuery(Nq.DELETE_BY_ID_IN)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Inject JpaSupportService jpaSupportService;
+
 }
@@ -56,6 +56,7 @@
 import org.apache.causeway.extensions.secman.applib.tenancy.man.mixins.ApplicationTenancyManager_newTenancy;
 import org.apache.causeway.extensions.secman.applib.tenancy.menu.ApplicationTenancyMenu;
 import org.apache.causeway.extensions.secman.applib.user.contributions.HasUsername_associatedUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserAuthenticationCacheInvalidator;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_addRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_delete;
 import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_duplicate;
@@ -183,6 +184,7 @@
 
         // other @Services
         SeedSecurityModuleService.class,
+        ApplicationUserAuthenticationCacheInvalidator.class,
 
 })
 public class CausewayModuleExtSecmanApplib {
@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.user.dom;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
+import org.apache.causeway.extensions.secman.applib.role.dom.mixins.ApplicationRole_addUser;
+import org.apache.causeway.extensions.secman.applib.role.dom.mixins.ApplicationRole_delete;
+import org.apache.causeway.extensions.secman.applib.role.dom.mixins.ApplicationRole_removeUsers;
+import org.apache.causeway.extensions.secman.applib.role.dom.mixins.ApplicationRole_updateName;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_addRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_delete;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_lock;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_removeRoles;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_resetPassword;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_unlock;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updateAccountType;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updatePassword;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updateUsername;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Invalidates cached authentications (see {@link AuthenticationCache}), when a user's password, status or roles
+ * are changed through <i>SecMan</i>'s actions (or its status property is edited).
+ * <p>
+ * The user's name is captured in the executing phase (prior to it being changed), but the cached authentications
+ * are only invalidated once the transaction has committed; otherwise a concurrent request, authenticated against
+ * the not yet committed (old) state, could re-populate the cache in the meantime. Changes made programmatically
+ * (bypassing these actions) are only picked up once cached authentications expire.
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationUserAuthenticationCacheInvalidator {
+
+    private final AuthenticationCache authenticationCache;
+
+    @EventListener({
+        ApplicationUser_updatePassword.DomainEvent.class,
+        ApplicationUser_resetPassword.DomainEvent.class,
+        ApplicationUser_lock.DomainEvent.class,
+        ApplicationUser_unlock.DomainEvent.class,
+        ApplicationUser.Status.DomainEvent.class,
+        ApplicationUser_addRole.DomainEvent.class,
+        ApplicationUser_removeRoles.DomainEvent.class,
+        ApplicationUser_updateAccountType.DomainEvent.class,
+        ApplicationUser_updateUsername.DomainEvent.class,
+        ApplicationUser_delete.DomainEvent.class,
+    })
+    public void onUserChanged(final AbstractDomainEvent<?> event) {
+        if(!isEnabledAndExecuting(event)) {
+            return;
+        }
+        val subject = event.getSubject();
+        if(subject instanceof ApplicationUser) {
+            val username = ((ApplicationUser) subject).getUsername();
+            afterCommit(()->authenticationCache.invalidate(username));
+        }
+    }
+
+    /**
+     * Role membership is reflected by any cached authentication, hence changes to it or to role names affect
+     * potentially many users.
+     */
+    @EventListener({
+        ApplicationRole_addUser.DomainEvent.class,
+        ApplicationRole_removeUsers.DomainEvent.class,
+        ApplicationRole_updateName.DomainEvent.class,
+        ApplicationRole_delete.DomainEvent.class,
+    })
+    public void onRoleChanged(final AbstractDomainEvent<?> event) {
+        if(!isEnabledAndExecuting(event)) {
+            return;
+        }
+        afterCommit(authenticationCache::invalidateAll);
+    }
+
+    // -- HELPER
+
+    private boolean isEnabledAndExecuting(final AbstractDomainEvent<?> event) {
+        return authenticationCache.isEnabled()
+                && event.getEventPhase() != null
+                && event.getEventPhase().isExecuting();
+    }
+
+    /**
+     * Runs given invalidation once the current transaction has committed (not at all if it is rolled back),
+     * or immediately if there is no transaction.
+     */
+    private static void afterCommit(final Runnable invalidation) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.user.dom;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.authentication.AuthenticationRequest;
+import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
+import org.apache.causeway.extensions.secman.applib.role.dom.mixins.ApplicationRole_addUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updatePassword;
+
+import lombok.val;
+
+class ApplicationUserAuthenticationCacheInvalidatorTest {
+
+    private AuthenticationCache authenticationCache;
+    private ApplicationUserAuthenticationCacheInvalidator invalidator;
+    private Function<AuthenticationRequest, InteractionContext> authenticator;
+
+    @BeforeEach
+    void setUp() {
+        val causewayConfiguration = new CausewayConfiguration(null, null);
+        causewayConfiguration.getSecurity().getAuthenticationCache().setEnabled(true);
+        authenticationCache = new AuthenticationCache(causewayConfiguration);
+        invalidator = new ApplicationUserAuthenticationCacheInvalidator(authenticationCache);
+        authenticator = request->
+            InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(request.getName()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void userChange_invalidatesAuthentication_cachedConcurrentlyBeforeCommit() throws Exception {
+
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        authenticate("sven");
+        invalidator.onUserChanged(executing(new ApplicationUser_updatePassword.DomainEvent(), user("sven")));
+
+        // when - another request authenticates (against the not yet committed state) prior to the commit
+        CompletableFuture.runAsync(()->authenticate("sven")).get(5, TimeUnit.SECONDS);
+        assertEquals(1, authenticationCache.size());
+        commit();
+
+        // then
+        assertEquals(0, authenticationCache.size());
+    }
+
+    @Test
+    void userChange_isNotInvalidated_whenRolledBack() {
+
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        authenticate("sven");
+        invalidator.onUserChanged(executing(new ApplicationUser_updatePassword.DomainEvent(), user("sven")));
+
+        // when
+        rollback();
+
+        // then
+        assertEquals(1, authenticationCache.size());
+    }
+
+    @Test
+    void roleChange_invalidatesAll_onCommit() {
+
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        authenticate("sven");
+        authenticate("dick");
+        invalidator.onRoleChanged(executing(new ApplicationRole_addUser.DomainEvent(), null));
+        assertEquals(2, authenticationCache.size());
+
+        // when
+        commit();
+
+        // then
+        assertEquals(0, authenticationCache.size());
+    }
+
+    @Test
+    void userChange_invalidatesImmediately_whenNoTransaction() {
+
+        // given
+        authenticate("sven");
+        authenticate("dick");
+
+        // when
+        invalidator.onUserChanged(executing(new ApplicationUser_updatePassword.DomainEvent(), user("sven")));
+
+        // then
+        assertEquals(1, authenticationCache.size());
+    }
+
+    // -- HELPER
+
+    private void authenticate(final String username) {
+        authenticationCache.authenticate(new AuthenticationRequestPassword(username, "pass"), authenticator);
+    }
+
+    private static ApplicationUser user(final String username) {
+        val user = Mockito.mock(ApplicationUser.class);
+        when(user.getUsername()).thenReturn(username);
+        return user;
+    }
+
+    private static <E extends AbstractDomainEvent<?>> E executing(final E event, final Object subject) {
+        event.setMixee(subject);
+        event.setEventPhase(AbstractDomainEvent.Phase.EXECUTING);
+        return event;
+    }
+
+    private static void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void rollback() {
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+}
@@ -24,6 +24,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.extensions.sessionlog.applib.app.SessionLogMenu;
+import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionLogAsyncWriter;
 import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionLogServiceInitializer;
 import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionSubscriberForSessionLog;
 
@@ -31,6 +32,7 @@
 @Configuration
 @Import({
         SessionLogMenu.class,
+        SessionLogAsyncWriter.class,
         SessionLogServiceInitializer.class,
         SessionSubscriberForSessionLog.class
 })
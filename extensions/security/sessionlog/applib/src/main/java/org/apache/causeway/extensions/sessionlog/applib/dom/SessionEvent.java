@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.sessionlog.applib.dom;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.apache.causeway.applib.services.session.SessionSubscriber;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A login or logout, as {@link SessionSubscriber#log(SessionSubscriber.Type, String, java.util.Date, SessionSubscriber.CausedBy, UUID, String) logged}
+ * with the {@link SessionSubscriber}, to be {@link SessionLogEntryRepository#logAll(java.util.List) recorded} in the
+ * session log.
+ *
+ * @since 2.0 {@index}
+ */
+@Value
+public class SessionEvent {
+
+    @NonNull SessionSubscriber.Type type;
+    String username;
+    @NonNull Timestamp timestamp;
+    SessionSubscriber.CausedBy causedBy;
+    @NonNull UUID sessionGuid;
+    String httpSessionId;
+
+    public boolean isLogin() {
+        return type == SessionSubscriber.Type.LOGIN;
+    }
+
+}
@@ -81,6 +81,7 @@ public abstract class SessionLogEntry implements HasUsername, Comparable<Session
     @UtilityClass
     public static class Nq {
         public static final String FIND_BY_SESSION_GUID = LOGICAL_TYPE_NAME + ".findBySessionGuid";
+        public static final String FIND_BY_SESSION_GUIDS = LOGICAL_TYPE_NAME + ".findBySessionGuids";
         public static final String FIND_BY_HTTP_SESSION_ID = LOGICAL_TYPE_NAME + ".findByHttpSessionId";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_BETWEEN = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampBetween";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_AFTER = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampAfter";
@@ -89,6 +90,8 @@ public static class Nq {
         public static final String FIND_BY_TIMESTAMP_BETWEEN = LOGICAL_TYPE_NAME + ".findByTimestampBetween";
         public static final String FIND_BY_TIMESTAMP_AFTER = LOGICAL_TYPE_NAME + ".findByTimestampAfter";
         public static final String FIND_BY_TIMESTAMP_BEFORE = LOGICAL_TYPE_NAME + ".findByTimestampBefore";
+        public static final String FIND_PURGEABLE_AT_OR_BEFORE = LOGICAL_TYPE_NAME + ".findPurgeableAtOrBefore";
+        public static final String DELETE_BY_SESSION_GUID_IN = LOGICAL_TYPE_NAME + ".deleteBySessionGuidIn";
         public static final String FIND = LOGICAL_TYPE_NAME + ".find";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_BEFORE = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampStrictlyBefore";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_AFTER = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampStrictlyAfter";
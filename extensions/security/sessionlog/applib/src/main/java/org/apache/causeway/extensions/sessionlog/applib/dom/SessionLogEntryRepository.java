@@ -22,6 +22,7 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,9 +46,22 @@ SessionLogEntry create(
             final Timestamp timestamp);
 
 
+    /**
+     * Records given logins and logouts within the current transaction, in the order given, flushing only once.
+     *
+     * <p>
+     *     Logins are ignored if an entry for the session exists already, logouts if none exists (yet).
+     * </p>
+     */
+    void logAll(final List<SessionEvent> sessionEvents);
+
+
     Optional<SessionLogEntry> findBySessionGuid(final UUID sessionGuid);
 
 
+    List<SessionLogEntry> findBySessionGuids(final Collection<UUID> sessionGuids);
+
+
     Optional<SessionLogEntry> findByHttpSessionId(final String httpSessionId);
 
 
@@ -22,19 +22,27 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.services.session.SessionSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
 
 import lombok.NonNull;
 import lombok.val;
@@ -44,12 +52,14 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class SessionLogEntryRepositoryAbstract<E extends SessionLogEntry> implements SessionLogEntryRepository {
+public abstract class SessionLogEntryRepositoryAbstract<E extends SessionLogEntry>
+implements SessionLogEntryRepository, PurgeableLog<SessionLogEntry> {
 
     @Inject RepositoryService repositoryService;
     @Inject TransactionService transactionService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> sessionLogEntryClass;
 
@@ -73,13 +83,51 @@ public SessionLogEntry create(
             final String httpSessionId,
             final SessionSubscriber.CausedBy causedBy,
             final Timestamp timestamp) {
+        return repositoryService.persistAndFlush(
+                newEntry(username, sessionGuid, httpSessionId, causedBy, timestamp));
+    }
+
+    public void logAll(final List<SessionEvent> sessionEvents) {
+        if(sessionEvents.isEmpty()) {
+            return;
+        }
+        // a single query for all sessions of the batch, rather than one per login or logout
+        val sessionGuids = sessionEvents.stream()
+                .map(SessionEvent::getSessionGuid)
+                .collect(Collectors.toSet());
+        val entryBySessionGuid = new HashMap<UUID, SessionLogEntry>();
+        findBySessionGuids(sessionGuids)
+            .forEach(entry->entryBySessionGuid.put(entry.getSessionGuid(), entry));
+
+        for (val sessionEvent : sessionEvents) {
+            val entry = entryBySessionGuid.get(sessionEvent.getSessionGuid());
+            if(sessionEvent.isLogin()) {
+                if(entry == null) {
+                    entryBySessionGuid.put(sessionEvent.getSessionGuid(), repositoryService.persist(newEntry(
+                            sessionEvent.getUsername(), sessionEvent.getSessionGuid(), sessionEvent.getHttpSessionId(),
+                            sessionEvent.getCausedBy(), sessionEvent.getTimestamp())));
+                }
+            } else if(entry != null) {
+                entry.setLogoutTimestamp(sessionEvent.getTimestamp());
+                entry.setCausedBy(sessionEvent.getCausedBy());
+            }
+        }
+        transactionService.flushTransaction();
+    }
+
+    private E newEntry(
+            final String username,
+            final UUID sessionGuid,
+            final String httpSessionId,
+            final SessionSubscriber.CausedBy causedBy,
+            final Timestamp timestamp) {
         E entry = factoryService.detachedEntity(sessionLogEntryClass);
         entry.setUsername(username);
         entry.setSessionGuid(sessionGuid);
         entry.setHttpSessionId(httpSessionId);
         entry.setCausedBy(causedBy);
         entry.setLoginTimestamp(timestamp);
-        return repositoryService.persistAndFlush(entry);
+        return entry;
     }
 
 
@@ -92,6 +140,15 @@ public Optional<SessionLogEntry> findBySessionGuid(final UUID sessionGuid) {
     }
 
 
+    public List<SessionLogEntry> findBySessionGuids(final Collection<UUID> sessionGuids) {
+        return _Casts.uncheckedCast(
+                repositoryService.allMatches(
+                    Query.named(sessionLogEntryClass,  SessionLogEntry.Nq.FIND_BY_SESSION_GUIDS)
+                         .withParameter("sessionGuids", sessionGuids))
+        );
+    }
+
+
     public Optional<SessionLogEntry> findByHttpSessionId(final String httpSessionId) {
         return _Casts.uncheckedCast(
                 repositoryService.firstMatch(
@@ -243,4 +300,63 @@ public void removeAll() {
         repositoryService.removeAll(sessionLogEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "sessionLog";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.LogRetention getRetention() {
+        return causewayConfiguration.getExtensions().getSessionLog().getRetention();
+    }
+
+    @Override
+    public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+        return repositoryService.firstMatch(
+                    Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND)
+                        .withRange(QueryRange.start(n - 1).withLimit(1)))
+                .map(SessionLogEntry::getLoginTimestamp);
+    }
+
+    /**
+     * Sessions that are still active (not yet logged out) are never purged.
+     */
+    @Override
+    public List<SessionLogEntry> findPurgeableAtOrBefore(final Timestamp cutoff, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService.allMatches(
+                    Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND_PURGEABLE_AT_OR_BEFORE)
+                        .withParameter("to", cutoff)
+                        .withLimit(limit))
+        );
+    }
+
+    @Override
+    public int deleteAll(final List<SessionLogEntry> entries) {
+        return deleteBySessionGuidIn(entries.stream()
+                .map(SessionLogEntry::getSessionGuid)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Deletes all entries whose session guid is one of those provided, as a single set-based statement.
+     *
+     * @return the number of entries deleted
+     */
+    protected abstract int deleteBySessionGuidIn(final List<UUID> sessionGuids);
+
+    @Override
+    public Map<String, Object> toArchiveRecord(final SessionLogEntry entry) {
+        val record = new LinkedHashMap<String, Object>();
+        record.put("sessionGuid", entry.getSessionGuid());
+        record.put("httpSessionId", entry.getHttpSessionId());
+        record.put("username", entry.getUsername());
+        record.put("loginTimestamp", entry.getLoginTimestamp());
+        record.put("logoutTimestamp", entry.getLogoutTimestamp());
+        record.put("causedBy", entry.getCausedBy());
+        return record;
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.sessionlog.applib.spiimpl;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.transaction.AsyncBatchWriter;
+import org.apache.causeway.extensions.sessionlog.applib.CausewayModuleExtSessionLogApplib;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionEvent;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepository;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Persists logins and logouts to the session log on a background thread, if the session log is
+ * {@link CausewayConfiguration.Extensions.SessionLog.PersistPolicy#ASYNC async}.
+ *
+ * <p>
+ * Session events are queued up to a {@link CausewayConfiguration.Extensions.SessionLog.Async#getQueueCapacity() bound},
+ * beyond which they are dropped (with a warning) rather than blocking the request.  The single writer persists them
+ * in order, in batches of up to {@link CausewayConfiguration.Extensions.SessionLog.Async#getMaxBatchSize() max batch size},
+ * each within an interaction and transaction of its own.  On shutdown, any session events still queued are written
+ * before the writer stops.
+ * </p>
+ *
+ * <p>
+ * As the persist policy is read per session event (by {@link SessionSubscriberForSessionLog}), the writer thread is
+ * only started on first {@link #submit(SessionEvent) submit}.
+ * </p>
+ *
+ * @see AsyncBatchWriter
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(SessionLogAsyncWriter.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SessionLogAsyncWriter {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtSessionLogApplib.NAMESPACE + ".SessionLogAsyncWriter";
+
+    private final AsyncBatchWriter<SessionEvent> writer;
+
+    @Inject
+    public SessionLogAsyncWriter(
+            final SessionLogEntryRepository sessionLogEntryRepository,
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final CausewayConfiguration causewayConfiguration) {
+        val async = causewayConfiguration.getExtensions().getSessionLog().getAsync();
+        this.writer = new AsyncBatchWriter<>("sessionlog",
+                async.getQueueCapacity(), async.getMaxBatchSize(),
+                interactionService, transactionService,
+                sessionLogEntryRepository::logAll);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    /**
+     * Queues given session event for being persisted, dropping it if the queue is full.
+     */
+    @Programmatic
+    public void submit(final SessionEvent sessionEvent) {
+        if(writer.submit(sessionEvent)) {
+            return;
+        }
+        log.warn("session log writer not keeping up, dropped {} of session {} ({} in total)",
+                sessionEvent.getType(), sessionEvent.getSessionGuid(), writer.getDropped());
+    }
+
+    /**
+     * The number of session events queued, but not yet written.
+     */
+    @Programmatic
+    public int getPending() {
+        return writer.getPending();
+    }
+
+    /**
+     * The number of session events written since start-up.
+     */
+    @Programmatic
+    public long getWritten() {
+        return writer.getWritten();
+    }
+
+    /**
+     * The number of session events dropped since start-up, because the queue was full.
+     */
+    @Programmatic
+    public long getDropped() {
+        return writer.getDropped();
+    }
+
+}
@@ -21,8 +21,13 @@
 package org.apache.causeway.extensions.sessionlog.applib.spiimpl;
 
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -35,18 +40,26 @@
 import org.springframework.transaction.annotation.Propagation;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.session.SessionSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.sessionlog.applib.CausewayModuleExtSessionLogApplib;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionEvent;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 /**
  * Implementation of the {@link SessionSubscriber} SPI, which persists a log entry to the database (the
  * {@link SessionLogEntry} entity) each time a user either logs on or logs out, or if their session expires.
+ * <p>
+ * Logins may be {@link CausewayConfiguration.Extensions.SessionLog#getCoalesceLoginsWithin() coalesced} per user, and
+ * persisted {@link CausewayConfiguration.Extensions.SessionLog.PersistPolicy#ASYNC asynchronously} (in batches).
  *
  * @since 2.0 {@index}
  */
@@ -64,25 +77,94 @@ public class SessionSubscriberForSessionLog implements SessionSubscriber {
     final TransactionService transactionService;
     final InteractionService interactionService;
     final ClockService clockService;
+    final CausewayConfiguration causewayConfiguration;
+    final SessionLogAsyncWriter sessionLogAsyncWriter;
+
+    /**
+     * The most recently recorded login per user, if coalescing logins.
+     */
+    private final Map<String, RecordedLogin> recordedLoginByUsername = _Maps.newConcurrentHashMap();
+    /**
+     * The same recorded logins as {@link #recordedLoginByUsername}, so these can be looked up on logout.
+     */
+    private final Map<UUID, RecordedLogin> recordedLoginBySessionGuid = _Maps.newConcurrentHashMap();
+    private final LongAdder coalesced = new LongAdder();
 
     @Override
     public void log(final Type type, final String username, final Date date, final CausedBy causedBy, final UUID sessionGuid, final String httpSessionId) {
+        if(type == Type.LOGIN) {
+            if(isCoalesced(username, date.toInstant(), sessionGuid)) {
+                coalesced.increment();
+                return;
+            }
+        } else {
+            forgetRecordedLogin(sessionGuid);
+        }
+
+        val sessionEvent = new SessionEvent(type, username, Timestamp.from(date.toInstant()), causedBy, sessionGuid, httpSessionId);
+        if(causewayConfiguration.getExtensions().getSessionLog().getPersist().isAsync()) {
+            sessionLogAsyncWriter.submit(sessionEvent);
+            return;
+        }
         interactionService.runAnonymous(() -> {
             transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
-                val sessionLogEntryIfAny = sessionLogEntryRepository.findBySessionGuid(sessionGuid);
-                if (type == Type.LOGIN) {
-                    if (sessionLogEntryIfAny.isEmpty()) {
-                        sessionLogEntryRepository.create(username, sessionGuid, httpSessionId, causedBy, Timestamp.from(date.toInstant()));
-                    }
-                } else {
-                    sessionLogEntryIfAny.ifPresent(entry -> {
-                        entry.setLogoutTimestamp(Timestamp.from(date.toInstant()));
-                        entry.setCausedBy(causedBy);
-                        transactionService.flushTransaction();
-                    });
-                }
+                sessionLogEntryRepository.logAll(List.of(sessionEvent));
             })
             .ifFailureFail(); // throw if rolled back
         });
     }
+
+    /**
+     * The number of logins not recorded since start-up, because coalesced with a previous one of the same user.
+     */
+    @Programmatic
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    // -- HELPER
+
+    @Value
+    static class RecordedLogin {
+        String username;
+        UUID sessionGuid;
+        Instant loginAt;
+    }
+
+    private boolean isCoalesced(final String username, final Instant loginAt, final UUID sessionGuid) {
+        val coalesceWithin = causewayConfiguration.getExtensions().getSessionLog().getCoalesceLoginsWithin();
+        if(coalesceWithin == null
+                || username == null) {
+            return false;
+        }
+        val recordedLogin = recordedLoginByUsername.compute(username, (__, previousLogin)->{
+            if(previousLogin != null
+                    && !loginAt.isBefore(previousLogin.getLoginAt())
+                    && loginAt.isBefore(previousLogin.getLoginAt().plus(coalesceWithin))) {
+                return previousLogin;
+            }
+            if(previousLogin != null) {
+                recordedLoginBySessionGuid.remove(previousLogin.getSessionGuid(), previousLogin);
+            }
+            val newLogin = new RecordedLogin(username, sessionGuid, loginAt);
+            if(sessionGuid != null) {
+                recordedLoginBySessionGuid.put(sessionGuid, newLogin);
+            }
+            return newLogin;
+        });
+        return !Objects.equals(recordedLogin.getSessionGuid(), sessionGuid);
+    }
+
+    /**
+     * So that the user's next login is recorded (again).
+     */
+    private void forgetRecordedLogin(final UUID sessionGuid) {
+        if(sessionGuid == null) {
+            return;
+        }
+        val recordedLogin = recordedLoginBySessionGuid.remove(sessionGuid);
+        if(recordedLogin != null) {
+            recordedLoginByUsername.remove(recordedLogin.getUsername(), recordedLogin);
+        }
+    }
 }
@@ -26,6 +26,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -37,8 +38,13 @@
 
 import org.apache.causeway.applib.annotation.Value;
 import org.apache.causeway.applib.services.session.SessionSubscriber;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.retention.PurgeableLog;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionEvent;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepository;
+import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionLogAsyncWriter;
 import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
 
 import lombok.Getter;
@@ -137,7 +143,161 @@ void login_and_logout() {
 
     }
 
+    @Test
+    void logins_coalesced_within_window() {
+
+        causewayConfiguration.getExtensions().getSessionLog().setCoalesceLoginsWithin(Duration.ofMinutes(5));
+        try {
+            // given
+            Instant now = Instant.now();
+            Session session1 = new Session("coalescing-user", now.minus(Duration.ofMinutes(3)));
+            Session session2 = new Session("coalescing-user", now.minus(Duration.ofMinutes(2)));
+            Session session3 = new Session("coalescing-user", now.minus(Duration.ofMinutes(1)));
+
+            // when
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session1.username, session1.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, session1.httpSessionId);
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session2.username, session2.getDate(), SessionSubscriber.CausedBy.USER, session2.sessionGuid, session2.httpSessionId);
+
+            // then
+            List<? extends SessionLogEntry> sessions = sessionLogEntryRepository.findByUsername(session1.username);
+            Assertions.assertThat(sessions).hasSize(1);
+            Assertions.assertThat(sessions.get(0).getSessionGuid()).isEqualTo(session1.sessionGuid);
+
+            // when recorded session is logged out, then the next login is recorded again
+            sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session2.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, null);
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session3.username, session3.getDate(), SessionSubscriber.CausedBy.USER, session3.sessionGuid, session3.httpSessionId);
+
+            // then
+            Assertions.assertThat(sessionLogEntryRepository.findByUsername(session1.username)).hasSize(2);
+            sessions = sessionLogEntryRepository.findActiveSessions();
+            Assertions.assertThat(sessions).hasSize(1);
+            Assertions.assertThat(sessions.get(0).getSessionGuid()).isEqualTo(session3.sessionGuid);
+
+            // finally
+            sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session3.getDate(), SessionSubscriber.CausedBy.USER, session3.sessionGuid, null);
+            Assertions.assertThat(sessionLogEntryRepository.findActiveSessions()).isEmpty();
+
+        } finally {
+            causewayConfiguration.getExtensions().getSessionLog().setCoalesceLoginsWithin(null);
+        }
+    }
+
+    @Test
+    void login_and_logout_async() throws InterruptedException {
+
+        causewayConfiguration.getExtensions().getSessionLog().setPersist(CausewayConfiguration.Extensions.SessionLog.PersistPolicy.ASYNC);
+        try {
+            // given
+            Session session1 = new Session("async-user-1", Instant.now().minus(Duration.ofHours(2)));
+            Session session2 = new Session("async-user-2", Instant.now().minus(Duration.ofHours(1)));
+            long writtenBefore = sessionLogAsyncWriter.getWritten();
+
+            // when
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session1.username, session1.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, session1.httpSessionId);
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session2.username, session2.getDate(), SessionSubscriber.CausedBy.USER, session2.sessionGuid, session2.httpSessionId);
+            sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session2.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, null);
+            awaitWritten(writtenBefore + 3);
+
+            // then
+            Assertions.assertThat(sessionLogAsyncWriter.getDropped()).isZero();
+            List<? extends SessionLogEntry> sessions = sessionLogEntryRepository.findActiveSessions();
+            Assertions.assertThat(sessions).hasSize(1);
+            Assertions.assertThat(sessions.get(0).getSessionGuid()).isEqualTo(session2.sessionGuid);
+            Assertions.assertThat(sessionLogEntryRepository.findBySessionGuid(session1.sessionGuid))
+                    .get().extracting(SessionLogEntry::getLogoutTimestamp).isNotNull();
+
+            // finally
+            sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session2.getDate(), SessionSubscriber.CausedBy.USER, session2.sessionGuid, null);
+            awaitWritten(writtenBefore + 4);
+            Assertions.assertThat(sessionLogEntryRepository.findActiveSessions()).isEmpty();
+
+        } finally {
+            causewayConfiguration.getExtensions().getSessionLog().setPersist(CausewayConfiguration.Extensions.SessionLog.PersistPolicy.ENABLED);
+        }
+    }
+
+    @Test
+    void logAll_applies_logins_and_logouts_in_order() {
+
+        // given
+        Session session1 = new Session("batch-user-1", Instant.now().minus(Duration.ofHours(2)));
+        Session session2 = new Session("batch-user-2", Instant.now().minus(Duration.ofHours(1)));
+        Timestamp logoutTimestamp = Timestamp.from(Instant.now());
+
+        // when
+        sessionLogEntryRepository.logAll(List.of(
+                new SessionEvent(SessionSubscriber.Type.LOGIN, session1.username, Timestamp.from(session1.instant), SessionSubscriber.CausedBy.USER, session1.sessionGuid, session1.httpSessionId),
+                new SessionEvent(SessionSubscriber.Type.LOGIN, session2.username, Timestamp.from(session2.instant), SessionSubscriber.CausedBy.USER, session2.sessionGuid, session2.httpSessionId),
+                new SessionEvent(SessionSubscriber.Type.LOGIN, session1.username, Timestamp.from(session1.instant), SessionSubscriber.CausedBy.USER, session1.sessionGuid, session1.httpSessionId),
+                new SessionEvent(SessionSubscriber.Type.LOGOUT, null, logoutTimestamp, SessionSubscriber.CausedBy.SESSION_EXPIRATION, session1.sessionGuid, null)));
+
+        // then
+        Assertions.assertThat(sessionLogEntryRepository.findByUsername(session1.username)).hasSize(1);
+        Optional<? extends SessionLogEntry> sessionIfAny = sessionLogEntryRepository.findBySessionGuid(session1.sessionGuid);
+        Assertions.assertThat(sessionIfAny).get().extracting(SessionLogEntry::getCausedBy).isEqualTo(SessionSubscriber.CausedBy.SESSION_EXPIRATION);
+
+        List<? extends SessionLogEntry> sessions = sessionLogEntryRepository.findActiveSessions();
+        Assertions.assertThat(sessions).hasSize(1);
+        Assertions.assertThat(sessions.get(0).getSessionGuid()).isEqualTo(session2.sessionGuid);
+
+        // finally
+        sessionLogEntryRepository.logAll(List.of(
+                new SessionEvent(SessionSubscriber.Type.LOGOUT, null, logoutTimestamp, SessionSubscriber.CausedBy.USER, session2.sessionGuid, null)));
+        Assertions.assertThat(sessionLogEntryRepository.findActiveSessions()).isEmpty();
+    }
+
+    @Test
+    void purge_deletes_logged_out_sessions_oldest_first_but_not_active_sessions() {
+
+        // given
+        Session session1 = new Session("purge-user", Instant.now().minus(Duration.ofDays(1002)));
+        Session session2 = new Session("purge-user", Instant.now().minus(Duration.ofDays(1001)));
+        Session session3 = new Session("purge-user", Instant.now().minus(Duration.ofDays(1000)));
+        for (Session session : List.of(session1, session2, session3)) {
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session.username, session.getDate(), SessionSubscriber.CausedBy.USER, session.sessionGuid, session.httpSessionId);
+        }
+        sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session1.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, null);
+        sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session3.getDate(), SessionSubscriber.CausedBy.USER, session3.sessionGuid, null);
+
+        final PurgeableLog<SessionLogEntry> purgeableLog = _Casts.uncheckedCast(sessionLogEntryRepository);
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(Duration.ofDays(999)));
+
+        // when
+        List<SessionLogEntry> purgeable = purgeableLog.findPurgeableAtOrBefore(cutoff, 10);
+
+        // then
+        Assertions.assertThat(purgeable.stream().map(SessionLogEntry::getSessionGuid).collect(Collectors.toList()))
+                .containsExactly(session1.sessionGuid, session3.sessionGuid);
+
+        // when
+        Assertions.assertThat(purgeableLog.deleteAll(purgeable)).isEqualTo(2);
+
+        // then
+        Assertions.assertThat(sessionLogEntryRepository.findBySessionGuid(session1.sessionGuid)).isEmpty();
+        Assertions.assertThat(sessionLogEntryRepository.findBySessionGuid(session2.sessionGuid)).isPresent();
+        Assertions.assertThat(sessionLogEntryRepository.findBySessionGuid(session3.sessionGuid)).isEmpty();
+
+        // finally
+        sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session2.getDate(), SessionSubscriber.CausedBy.USER, session2.sessionGuid, null);
+        Assertions.assertThat(purgeableLog.deleteAll(purgeableLog.findPurgeableAtOrBefore(cutoff, 10))).isEqualTo(1);
+    }
+
+    // -- HELPER
+
+    private void awaitWritten(final long written) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if(sessionLogAsyncWriter.getPending() == 0
+                    && sessionLogAsyncWriter.getWritten() >= written) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        Assertions.fail("session events not written within 10 seconds");
+    }
+
     @Inject @Qualifier("sessionlog") SessionSubscriber sessionSubscriber;
+    @Inject SessionLogAsyncWriter sessionLogAsyncWriter;
     @Inject SessionLogEntryRepository sessionLogEntryRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
@@ -26,6 +26,8 @@
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
 import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.Index;
+import javax.jdo.annotations.Indices;
 import javax.jdo.annotations.PersistenceCapable;
 import javax.jdo.annotations.PrimaryKey;
 import javax.jdo.annotations.Queries;
@@ -43,12 +45,22 @@
         identityType=IdentityType.APPLICATION,
         schema = SessionLogEntry.SCHEMA,
         table = SessionLogEntry.TABLE)
+@Indices({
+        // backs the active sessions query (logoutTimestamp == null), without scanning the history
+        @Index(name = "SessionLogEntry__logoutTimestamp_loginTimestamp__IDX", members = { "logoutTimestamp", "loginTimestamp" }),
+        @Index(name = "SessionLogEntry__username_loginTimestamp__IDX", members = { "username", "loginTimestamp" }),
+})
 @Queries( {
         @Query(
                 name  = Nq.FIND_BY_SESSION_GUID,
                 value = "SELECT "
                       + "  FROM " + SessionLogEntry.FQCN + " "
                       + " WHERE sessionGuid == :sessionGuid"),
+        @Query(
+                name  = Nq.FIND_BY_SESSION_GUIDS,
+                value = "SELECT "
+                      + "  FROM " + SessionLogEntry.FQCN + " "
+                      + " WHERE :sessionGuids.contains(sessionGuid)"),
         @Query(
                 name  = Nq.FIND_BY_HTTP_SESSION_ID,
                 value = "SELECT "
@@ -101,6 +113,18 @@
                       + "  FROM " + SessionLogEntry.FQCN + " "
                       + " WHERE loginTimestamp <= :to "
                       + " ORDER BY loginTimestamp DESC"),
+        @Query(
+                name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+                value = "SELECT "
+                      + "  FROM " + SessionLogEntry.FQCN + " "
+                      + " WHERE loginTimestamp <= :to "
+                      + "    && logoutTimestamp != null "
+                      + " ORDER BY loginTimestamp ASC"),
+        @Query(
+                name  = Nq.DELETE_BY_SESSION_GUID_IN,
+                value = "SELECT "
+                      + "  FROM " + SessionLogEntry.FQCN + " "
+                      + " WHERE :sessionGuids.contains(sessionGuid) "),  // used with deletePersistentAll
         @Query(
                 name  = Nq.FIND,
                 value = "SELECT "
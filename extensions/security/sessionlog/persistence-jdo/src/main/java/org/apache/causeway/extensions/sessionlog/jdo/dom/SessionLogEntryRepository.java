@@ -20,9 +20,19 @@
 
 package org.apache.causeway.extensions.sessionlog.jdo.dom;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry.Nq;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 @Service
 public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract<SessionLogEntry> {
@@ -30,4 +40,15 @@ public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    @Override
+    protected int deleteBySessionGuidIn(final List<UUID> sessionGuids) {
+        val query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(SessionLogEntry.class, Nq.DELETE_BY_SESSION_GUID_IN);
+        query.setNamedParameters(Map.of("sessionGuids", sessionGuids));
+        return (int) query.deletePersistentAll();
+    }
+
+    @Inject JdoSupportService jdoSupportService;
+
 }
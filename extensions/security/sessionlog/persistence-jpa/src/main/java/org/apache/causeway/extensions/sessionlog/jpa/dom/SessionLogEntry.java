@@ -28,6 +28,7 @@
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.Index;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
@@ -45,7 +46,12 @@
 @Entity
 @Table(
         schema = SessionLogEntry.SCHEMA,
-        name = SessionLogEntry.TABLE
+        name = SessionLogEntry.TABLE,
+        indexes = {
+                // backs the active sessions query (logoutTimestamp IS null), without scanning the history
+                @Index(name = "SessionLogEntry__logoutTimestamp_loginTimestamp__IDX", columnList = "logoutTimestamp, loginTimestamp"),
+                @Index(name = "SessionLogEntry__username_loginTimestamp__IDX", columnList = "username, loginTimestamp"),
+        }
 )
 @NamedQueries( {
         @NamedQuery(
@@ -53,6 +59,11 @@
                 query = "SELECT e "
                       + "  FROM SessionLogEntry e "
                       + " WHERE e.pk.sessionGuid = :sessionGuid"),
+        @NamedQuery(
+                name  = Nq.FIND_BY_SESSION_GUIDS,
+                query = "SELECT e "
+                      + "  FROM SessionLogEntry e "
+                      + " WHERE e.pk.sessionGuid IN :sessionGuids"),
         @NamedQuery(
                 name  = Nq.FIND_BY_HTTP_SESSION_ID,
                 query = "SELECT e "
@@ -105,6 +116,18 @@
                       + "  FROM SessionLogEntry e "
                       + " WHERE e.loginTimestamp <= :to "
                       + " ORDER BY e.loginTimestamp DESC"),
+        @NamedQuery(
+                name  = Nq.FIND_PURGEABLE_AT_OR_BEFORE,
+                query = "SELECT e"
+                      + "  FROM SessionLogEntry e "
+                      + " WHERE e.loginTimestamp <= :to "
+                      + "   AND e.logoutTimestamp IS NOT NULL "
+                      + " ORDER BY e.loginTimestamp ASC"),
+        @NamedQuery(
+                name  = Nq.DELETE_BY_SESSION_GUID_IN,
+                query = "DELETE "
+                      + "  FROM SessionLogEntry e "
+                      + " WHERE e.pk.sessionGuid IN :sessionGuids "),
         @NamedQuery(
                 name  = Nq.FIND,
                 query = "SELECT e"
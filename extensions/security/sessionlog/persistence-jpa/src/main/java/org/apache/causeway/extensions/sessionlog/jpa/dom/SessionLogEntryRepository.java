@@ -20,9 +20,16 @@
 
 package org.apache.causeway.extensions.sessionlog.jpa.dom;
 
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry.Nq;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract<SessionLogEntry> {
@@ -30,4 +37,15 @@ public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    @Override
+    protected int deleteBySessionGuidIn(final List<UUID> sessionGuids) {
+        return jpaSupportService.getEntityManagerElseFail(SessionLogEntry.class)
+                .createNamedQuery(Nq.DELETE_BY_SESSION_GUID_IN)
+                .setParameter("sessionGuids", sessionGuids)
+                .executeUpdate();
+    }
+
+    @Inject JpaSupportService jpaSupportService;
+
 }
@@ -45,6 +45,8 @@ public class SecondaryConfig {
     @Getter final String primaryBaseUrlRestful;
     @Getter final String primaryBaseUrlWicket;
     @Getter final int batchSize;
+    @Getter final boolean prefetch;
+    @Getter final int replayThreads;
 
     @Getter final String quartzUser;
     @Getter final List<String> quartzRoles;
@@ -58,6 +60,8 @@ public SecondaryConfig(@NotNull final CausewayConfiguration causewayConfiguratio
         primaryBaseUrlRestful = primaryAccess.getBaseUrlRestful().orElse(null);
         primaryBaseUrlWicket = primaryAccess.getBaseUrlWicket().orElse(null);
         batchSize = config.getBatchSize();
+        prefetch = config.isPrefetch();
+        replayThreads = Math.max(1, config.getReplayThreads());
 
         quartzUser = config.getQuartzSession().getUser();
         quartzRoles = config.getQuartzSession().getRoles();
@@ -88,6 +88,22 @@ public Can<CommandDto> fetchCommand(
         return fetchCommands(previousHwmIfAny);
     }
 
+    /**
+     * As per {@link #fetchCommand(CommandLogEntry)}, but with the high water mark identified just by its
+     * interaction id, so can be called outside of the interaction that loaded it (eg. to prefetch).
+     *
+     * @param previousHwmInteractionIdIfAny
+     * @throws StatusException
+     */
+    public Can<CommandDto> fetchCommandsAfter(
+            final @Nullable UUID previousHwmInteractionIdIfAny)
+            throws StatusException {
+
+        log.debug("finding commands on primary ...");
+
+        return callPrimary(previousHwmInteractionIdIfAny);
+    }
+
     /**
      * @return - the commands, or <tt>null</tt> if none were found
      * @param previousHwmIfAny
@@ -75,12 +75,14 @@ private void exec(final JobExecutionContext quartzContext) {
 
         switch (secondaryStatus) {
             case OK:
+                val replicateAndRunCommands = new ReplicateAndRunCommands();
                 val newStatus =
-                        interactionService.call(authentication, new ReplicateAndRunCommands());
+                        interactionService.call(authentication, replicateAndRunCommands);
 
                 if(newStatus != null) {
                     ssh.setSecondaryStatus(newStatus);
                 }
+                ssh.setReplayProgress(replicateAndRunCommands.getProgress());
                 return;
 
             case REST_CALL_FAILING:
@@ -20,6 +20,7 @@
 
 import org.quartz.JobExecutionContext;
 
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplayProgress;
 import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
 
 import lombok.val;
@@ -30,6 +31,8 @@
 class SecondaryStatusData {
 
     private static final String KEY_SECONDARY_STATUS = SecondaryStatusData.class.getCanonicalName();
+    private static final String KEY_REPLAY_PROGRESS = KEY_SECONDARY_STATUS + ".replayProgress";
+    private static final String KEY_REPLAY_LAG_MILLIS = KEY_SECONDARY_STATUS + ".replayLagMillis";
 
     private final JobExecutionData jobExecutionData;
 
@@ -50,5 +53,19 @@ void setSecondaryStatus(final SecondaryStatus mode) {
         jobExecutionData.setString(KEY_SECONDARY_STATUS, mode.name());
     }
 
+    /**
+     * Summary of the most recent run, as per {@link ReplayProgress#toString()}.
+     */
+    String getReplayProgress() {
+        return jobExecutionData.getString(KEY_REPLAY_PROGRESS, null);
+    }
+
+    void setReplayProgress(final ReplayProgress replayProgress) {
+        jobExecutionData.setString(KEY_REPLAY_PROGRESS, replayProgress.toString());
+        // the lag is retained from a previous run, if nothing was replayed since
+        replayProgress.getLag()
+            .ifPresent(lag->jobExecutionData.setString(KEY_REPLAY_LAG_MILLIS, "" + lag.toMillis()));
+    }
+
 }
 
@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.jobcallables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Single threaded lanes to run tasks in, tasks with equal partition keys always running in the same lane,
+ * hence in the order dispatched.
+ */
+class ReplayLanes implements AutoCloseable {
+
+    private final List<ExecutorService> lanes;
+    private final List<Future<?>> inFlight = new ArrayList<>();
+
+    ReplayLanes(final int laneCount) {
+        this.lanes = IntStream.range(0, laneCount)
+                .mapToObj(laneIndex->Executors.newSingleThreadExecutor(runnable->{
+                    val thread = new Thread(runnable, "ReplayLane-" + laneIndex);
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .collect(Collectors.toList());
+    }
+
+    void dispatch(final @NonNull Object partitionKey, final @NonNull Runnable task) {
+        val lane = lanes.get(Math.floorMod(partitionKey.hashCode(), lanes.size()));
+        inFlight.add(lane.submit(task));
+    }
+
+    /**
+     * Blocks until all tasks dispatched so far have completed.
+     */
+    void awaitAll() {
+        try {
+            for (val future : inFlight) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw _Exceptions.unrecoverable(e, "interrupted while replaying");
+        } catch (ExecutionException e) {
+            throw _Exceptions.unrecoverable(e.getCause(), "failed to replay");
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        lanes.forEach(ExecutorService::shutdownNow);
+    }
+
+}
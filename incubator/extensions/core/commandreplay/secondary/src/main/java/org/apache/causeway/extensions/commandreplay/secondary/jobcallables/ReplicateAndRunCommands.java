@@ -18,25 +18,44 @@
  */
 package org.apache.causeway.extensions.commandreplay.secondary.jobcallables;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
 import org.apache.causeway.extensions.commandlog.applib.dom.ReplayState;
 import org.apache.causeway.extensions.commandreplay.secondary.analysis.CommandReplayAnalysisService;
+import org.apache.causeway.extensions.commandreplay.secondary.config.SecondaryConfig;
 import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandFetcher;
 import org.apache.causeway.extensions.commandreplay.secondary.spi.ReplayCommandExecutionController;
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplayProgress;
 import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
 import org.apache.causeway.extensions.commandreplay.secondary.status.StatusException;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
 
+import lombok.Getter;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -50,6 +69,12 @@
  *     files.
  * </p>
  *
+ * <p>
+ *     Fetching is pipelined with replaying: while a batch is replayed, the next one is already fetched
+ *     (unless disabled by <code>causeway.extensions.command-replay.prefetch</code>).  Commands are replayed
+ *     concurrently if configured with more than one <code>causeway.extensions.command-replay.replay-threads</code>.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Log4j2
@@ -57,18 +82,37 @@ public class ReplicateAndRunCommands implements Callable<SecondaryStatus> {
 
     @Inject CommandExecutorService commandExecutorService;
     @Inject TransactionService transactionService;
+    @Inject InteractionService interactionService;
     @Inject CommandFetcher commandFetcher;
     @Inject CommandLogEntryRepository commandLogEntryRepository;
     @Inject CommandReplayAnalysisService analysisService;
+    @Inject SecondaryConfig secondaryConfig;
     @Inject Optional<ReplayCommandExecutionController> controller;
 
+    /**
+     * Available once {@link #call() called}.
+     */
+    @Getter private ReplayProgress progress = ReplayProgress.none();
+
+    private int replayed;
+    private Timestamp mostRecentReplayedTimestamp;
+
     @Override
     public SecondaryStatus call() {
+        val startedAt = System.nanoTime();
         try {
             doCall();
             return SecondaryStatus.OK;
         } catch (StatusException e) {
             return e.secondaryStatus;
+        } finally {
+            progress = ReplayProgress.of(
+                    replayed,
+                    Duration.ofNanos(System.nanoTime() - startedAt),
+                    mostRecentReplayedTimestamp != null
+                        ? Duration.between(mostRecentReplayedTimestamp.toInstant(), Instant.now())
+                        : null);
+            log.info("{}", progress);
         }
     }
 
@@ -79,92 +123,207 @@ private void doCall() throws  StatusException  {
             return;
         }
 
-        List<? extends CommandLogEntry> commandsToReplay;
+        val prefetcher = secondaryConfig.isPrefetch()
+                ? Executors.newSingleThreadExecutor()
+                : null;
+        val lanes = secondaryConfig.getReplayThreads() > 1
+                ? new ReplayLanes(secondaryConfig.getReplayThreads())
+                : null;
 
-        while(isRunning()) {
-
-            // is there a pending command already?
-            // (we fetch several at a time, so we may not have processed them all yet)
-            commandsToReplay = commandLogEntryRepository.findNotYetReplayed();
+        try {
 
-            if(commandsToReplay.isEmpty()) {
+            List<? extends CommandLogEntry> commandsToReplay;
+            CompletableFuture<Can<CommandDto>> prefetched = null;
 
-                // look for previously replayed on secondary
-                CommandLogEntry hwm = commandLogEntryRepository.findMostRecentReplayed().orElse(null);
+            while(isRunning()) {
 
-                if (hwm != null) {
-                    // give up if there was a failure; admin will need to fix issue and retry
-                    if (hwm.getReplayState() != null &&
-                            hwm.getReplayState().isFailed()) {
-                        log.info("Command {} hit replay error", hwm.getInteractionId());
-                        return;
-                    }
-                } else {
-                    // after a DB restore from primary to secondary, there won't be
-                    // any that have been replayed.  So instead we simply use
-                    // latest completed (on primary) as the HWM.
-                    hwm = commandLogEntryRepository.findMostRecentCompleted().orElse(null);
+                // give up if any replay failed; admin will need to fix issue and retry (or exclude) the command.
+                // (checked on its own, because when replayed concurrently, commands that succeeded in other lanes
+                // after the failure may have since become the high water mark)
+                val failed = commandLogEntryRepository.findOldestReplayFailed().orElse(null);
+                if(failed != null) {
+                    log.info("Command {} hit replay error", failed.getInteractionId());
+                    return;
                 }
 
-                // fetch next command(s) from primary (if any)
-                val commandDtos = commandFetcher.fetchCommand(hwm);
-                commandsToReplay = commandDtos.stream()
-                        .map(dto ->
-                                transactionService.callWithinCurrentTransactionElseCreateNew(
-                                    () -> commandLogEntryRepository.saveForReplay(dto))
-                                .ifFailureFail()
-                                .getValue().orElse(null)
-                        )
-                        .collect(Collectors.toList());
+                // is there a pending command already?
+                // (we fetch several at a time, so we may not have processed them all yet)
+                commandsToReplay = commandLogEntryRepository.findNotYetReplayed();
 
                 if(commandsToReplay.isEmpty()) {
-                    return; // nothing more to do for now.
+
+                    final Can<CommandDto> commandDtos;
+                    if(prefetched != null) {
+
+                        // fetched (from the high water mark) while the previous batch was being replayed
+                        commandDtos = awaitPrefetched(prefetched);
+                        prefetched = null;
+
+                    } else {
+
+                        // look for previously replayed on secondary
+                        CommandLogEntry hwm = commandLogEntryRepository.findMostRecentReplayed().orElse(null);
+
+                        if (hwm == null) {
+                            // after a DB restore from primary to secondary, there won't be
+                            // any that have been replayed.  So instead we simply use
+                            // latest completed (on primary) as the HWM.
+                            hwm = commandLogEntryRepository.findMostRecentCompleted().orElse(null);
+                        }
+
+                        // fetch next command(s) from primary (if any)
+                        commandDtos = commandFetcher.fetchCommand(hwm);
+                    }
+
+                    commandsToReplay = commandDtos.stream()
+                            .map(dto ->
+                                    transactionService.callWithinCurrentTransactionElseCreateNew(
+                                        () -> commandLogEntryRepository.saveForReplay(dto))
+                                    .ifFailureFail()
+                                    .getValue().orElse(null)
+                            )
+                            .collect(Collectors.toList());
+
+                    if(commandsToReplay.isEmpty()) {
+                        return; // nothing more to do for now.
+                    }
+
+                    if(prefetcher != null) {
+                        // once this batch is replayed, its last command will be the high water mark
+                        prefetched = prefetch(prefetcher, lastOf(commandsToReplay).getInteractionId());
+                    }
+                }
+
+                val replayedAll = lanes != null
+                        ? replayConcurrently(commandsToReplay, lanes)
+                        : replay(commandsToReplay);
+                if(!replayedAll) {
+                    // will effectively block the running of any further commands
+                    // until the issue is fixed.
+                    return;
                 }
             }
 
-            replay(commandsToReplay);
+        } finally {
+            if(prefetcher != null) {
+                prefetcher.shutdownNow();
+            }
+            if(lanes != null) {
+                lanes.close();
+            }
         }
     }
 
     /**
+     * Replays the commands one after the other, stopping at the first to fail.
      *
      * @param commandsToReplay
-     * @apiNote could return, whether there was a command to process (and so continue)
+     * @return whether all were replayed successfully
      */
-    private void replay(final List<? extends CommandLogEntry> commandsToReplay) {
+    private boolean replay(final List<? extends CommandLogEntry> commandsToReplay) {
 
-        commandsToReplay.forEach(commandLog -> {
+        for (val commandLog : commandsToReplay) {
+            if(!replayWithChildren(commandLog)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            log.info("replaying {}", commandLog.getInteractionId());
+    /**
+     * Replays the commands concurrently, partitioned by target, so that commands on the same target are still
+     * replayed in order (within the same lane); each in an interaction of its own.
+     * A command with other than exactly one target is replayed on its own, once all previous commands are done.
+     * <p>
+     * Once any command fails, no further commands are started; commands already running in other lanes
+     * still complete, so may succeed after (and sort after) the failed one, which is why the caller checks
+     * for {@link CommandLogEntryRepository#findOldestReplayFailed() any failed replay}, not just the high water mark.
+     *
+     * @param commandsToReplay
+     * @return whether all were replayed successfully
+     */
+    private boolean replayConcurrently(
+            final List<? extends CommandLogEntry> commandsToReplay,
+            final ReplayLanes lanes) {
 
-            //
-            // run command
-            //
-            val replayState = executeCommandInTranAndAnalyse(commandLog);
-            if(replayState.isFailed()) {
-                // will effectively block the running of any further commands
-                // until the issue is fixed.
-                return;
-            }
+        val interactionContext = interactionService.currentInteractionLayerElseFail().getInteractionContext();
+        val failed = new AtomicBoolean();
+
+        for (val commandLog : commandsToReplay) {
 
-            //
-            // find child commands, and run them
-            //
-            val parent = commandLog;
-
-            val childCommands =
-                    transactionService.callWithinCurrentTransactionElseCreateNew(
-                            () -> commandLogEntryRepository.findByParent(parent))
-                    .ifFailureFail()
-                    .getValue().orElse(Collections.emptyList());
-            for (val childCommand : childCommands) {
-                val childReplayState = executeCommandInTranAndAnalyse(childCommand);
-                if(childReplayState.isFailed()) {
-                    // give up
+            val interactionId = commandLog.getInteractionId();
+            final Runnable replayTask = ()->{
+                if(failed.get()) {
                     return;
                 }
+                try {
+                    // (re)loaded within this lane's own interaction
+                    val success = interactionService.call(interactionContext, ()->
+                        commandLogEntryRepository.findByInteractionId(interactionId)
+                            .map(this::replayWithChildren)
+                            .orElse(false));
+                    if(!success) {
+                        failed.set(true);
+                    }
+                } catch (Exception e) {
+                    log.error("failed to replay {}", interactionId, e);
+                    failed.set(true);
+                }
+            };
+
+            val target = singleTargetOf(commandLog);
+            if(target != null) {
+                lanes.dispatch(target, replayTask);
+            } else {
+                lanes.awaitAll();
+                lanes.dispatch(interactionId, replayTask);
+                lanes.awaitAll();
             }
-        });
+            if(failed.get()) {
+                break;
+            }
+        }
+        lanes.awaitAll();
+        return !failed.get();
+    }
+
+    /**
+     * Replays the command followed by its child commands (if any), stopping at the first to fail.
+     *
+     * @return whether all were replayed successfully
+     */
+    private boolean replayWithChildren(final CommandLogEntry commandLog) {
+
+        log.info("replaying {}", commandLog.getInteractionId());
+
+        //
+        // run command
+        //
+        val replayState = executeCommandInTranAndAnalyse(commandLog);
+        if(replayState.isFailed()) {
+            return false;
+        }
+
+        //
+        // find child commands, and run them
+        //
+        val parent = commandLog;
+
+        val childCommands =
+                transactionService.callWithinCurrentTransactionElseCreateNew(
+                        () -> commandLogEntryRepository.findByParent(parent))
+                .ifFailureFail()
+                .getValue().orElse(Collections.emptyList());
+        for (val childCommand : childCommands) {
+            val childReplayState = executeCommandInTranAndAnalyse(childCommand);
+            if(childReplayState.isFailed()) {
+                // give up
+                return false;
+            }
+        }
+
+        onReplayed(commandLog.getTimestamp());
+        return true;
     }
 
     private ReplayState executeCommandInTranAndAnalyse(final CommandLogEntry commandLogEntry) {
@@ -194,4 +353,57 @@ private boolean isRunning() {
 
     }
 
+    // -- HELPER
+
+    private synchronized void onReplayed(final Timestamp timestamp) {
+        replayed++;
+        if(timestamp != null
+                && (mostRecentReplayedTimestamp == null
+                    || timestamp.after(mostRecentReplayedTimestamp))) {
+            mostRecentReplayedTimestamp = timestamp;
+        }
+    }
+
+    private CompletableFuture<Can<CommandDto>> prefetch(
+            final ExecutorService prefetcher,
+            final UUID hwmInteractionId) {
+        return CompletableFuture.supplyAsync(()->{
+            try {
+                return commandFetcher.fetchCommandsAfter(hwmInteractionId);
+            } catch (StatusException e) {
+                throw new CompletionException(e);
+            }
+        }, prefetcher);
+    }
+
+    private static Can<CommandDto> awaitPrefetched(
+            final CompletableFuture<Can<CommandDto>> prefetched) throws StatusException {
+        try {
+            return prefetched.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof StatusException) {
+                throw (StatusException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The partition key, or {@code null} if the command has other than exactly one target,
+     * so might touch any entity.
+     */
+    private static @Nullable Bookmark singleTargetOf(final CommandLogEntry commandLog) {
+        val targets = Optional.ofNullable(commandLog.getCommandDto())
+                .map(CommandDto::getTargets)
+                .map(OidsDto::getOid)
+                .orElse(Collections.emptyList());
+        return targets.size() == 1
+                ? Bookmark.forOidDto(targets.get(0))
+                : null;
+    }
+
+    private static <T> T lastOf(final List<? extends T> list) {
+        return list.get(list.size() - 1);
+    }
+
 }
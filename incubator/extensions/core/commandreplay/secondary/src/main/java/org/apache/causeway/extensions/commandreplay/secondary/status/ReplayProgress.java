@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.status;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Value;
+
+/**
+ * How far the secondary got, as of the most recent run of the replay job, reported along with its
+ * {@link SecondaryStatus}.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class ReplayProgress {
+
+    public static ReplayProgress none() {
+        return of(0, Duration.ZERO, null);
+    }
+
+    /**
+     * Number of commands (excluding child commands) replayed.
+     */
+    int replayed;
+
+    /**
+     * Time spent replaying (and fetching).
+     */
+    Duration elapsed;
+
+    /**
+     * How far the secondary lags behind the primary, namely the age of the most recently replayed command;
+     * empty if none was replayed.
+     */
+    @Nullable Duration lag;
+
+    public Optional<Duration> getLag() {
+        return Optional.ofNullable(lag);
+    }
+
+    /**
+     * Commands replayed per second.
+     */
+    public double getThroughput() {
+        return elapsed.isZero()
+                ? 0.
+                : replayed * 1e9 / elapsed.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("replayed %d in %dms (%.1f/s), lag %s",
+                replayed, elapsed.toMillis(), getThroughput(),
+                getLag().map(Duration::toString).orElse("n/a"));
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.jobcallables;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ReplayLanes_Test {
+
+    @Test
+    void samePartition_runsInOrder() {
+        val replayedByTarget = new ConcurrentHashMap<String, List<Integer>>();
+
+        try(val lanes = new ReplayLanes(4)) {
+            for (int i = 0; i < 100; i++) {
+                val target = "target-" + (i % 7);
+                val sequence = i;
+                lanes.dispatch(target, ()->
+                    replayedByTarget.computeIfAbsent(target, __->new CopyOnWriteArrayList<>()).add(sequence));
+            }
+            lanes.awaitAll();
+        }
+
+        assertEquals(7, replayedByTarget.size());
+        for (Map.Entry<String, List<Integer>> entry : replayedByTarget.entrySet()) {
+            val sequences = entry.getValue();
+            for (int j = 1; j < sequences.size(); j++) {
+                assertTrue(sequences.get(j - 1) < sequences.get(j), ()->"out of order: " + entry);
+            }
+        }
+    }
+
+    @Test
+    void differentPartitions_runConcurrently() throws InterruptedException {
+        // both tasks must be running at the same time for either to complete
+        val bothStarted = new CountDownLatch(2);
+
+        try(val lanes = new ReplayLanes(2)) {
+            // hash codes 0 and 1, so different lanes
+            lanes.dispatch(0, ()->awaitQuietly(bothStarted));
+            lanes.dispatch(1, ()->awaitQuietly(bothStarted));
+            lanes.awaitAll();
+        }
+
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    // -- HELPER
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.jobcallables;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.command.CommandExecutorService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.extensions.commandlog.applib.dom.ReplayState;
+import org.apache.causeway.extensions.commandreplay.secondary.analysis.CommandReplayAnalysisService;
+import org.apache.causeway.extensions.commandreplay.secondary.config.SecondaryConfig;
+import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandFetcher;
+import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
+
+import lombok.val;
+
+class ReplicateAndRunCommands_Test {
+
+    private static final int REPLAY_THREADS = 2;
+
+    /**
+     * The replay state of each command, as if persisted.
+     */
+    private final Map<CommandLogEntry, ReplayState> replayStates = new ConcurrentHashMap<>();
+
+    private CommandLogEntry failing;
+    private CommandLogEntry succeeding;
+    private CountDownLatch succeedingReplayed;
+
+    private CommandFetcher commandFetcher;
+
+    @BeforeEach
+    void setUp() {
+        // targets of different lanes
+        val failingTarget = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+        val succeedingTarget = targetInOtherLaneThan(failingTarget);
+
+        failing = newCommand(Timestamp.valueOf("2024-01-01 10:00:00"), failingTarget);
+        succeeding = newCommand(Timestamp.valueOf("2024-01-01 10:00:01"), succeedingTarget);
+        succeedingReplayed = new CountDownLatch(1);
+
+        commandFetcher = Mockito.mock(CommandFetcher.class);
+    }
+
+    @Test
+    void failure_isNotSkipped_whenLaterCommandInOtherLaneSucceeded() throws Exception {
+
+        when(commandFetcher.fetchCommand(any())).thenReturn(Can.empty());
+
+        // when - the earlier command fails only once the later one (in another lane) has been replayed
+        val status = newReplicateAndRunCommands().call();
+
+        // then
+        assertEquals(SecondaryStatus.OK, status);
+        assertEquals(ReplayState.FAILED, replayStates.get(failing));
+        assertEquals(ReplayState.OK, replayStates.get(succeeding));
+
+        // when - run again, even though the high water mark (the later command) was replayed ok
+        newReplicateAndRunCommands().call();
+
+        // then - does not continue past the failure
+        verify(commandFetcher, never()).fetchCommand(any());
+
+        // when - the admin excludes the failed command, and runs again
+        replayStates.put(failing, ReplayState.EXCLUDED);
+        newReplicateAndRunCommands().call();
+
+        // then - continues from the high water mark
+        verify(commandFetcher).fetchCommand(succeeding);
+    }
+
+    // -- HELPER
+
+    private ReplicateAndRunCommands newReplicateAndRunCommands() {
+        val replicateAndRunCommands = new ReplicateAndRunCommands();
+        replicateAndRunCommands.commandExecutorService = commandExecutorService();
+        replicateAndRunCommands.transactionService = transactionService();
+        replicateAndRunCommands.interactionService = interactionService();
+        replicateAndRunCommands.commandFetcher = commandFetcher;
+        replicateAndRunCommands.commandLogEntryRepository = commandLogEntryRepository();
+        replicateAndRunCommands.analysisService = analysisService();
+        replicateAndRunCommands.secondaryConfig = secondaryConfig();
+        replicateAndRunCommands.controller = Optional.empty();
+        return replicateAndRunCommands;
+    }
+
+    private CommandLogEntry newCommand(final Timestamp timestamp, final Bookmark target) {
+        val commandDto = new CommandDto();
+        val targets = new OidsDto();
+        targets.getOid().add(target.toOidDto());
+        commandDto.setTargets(targets);
+
+        val interactionId = UUID.randomUUID();
+        val command = Mockito.mock(CommandLogEntry.class);
+        when(command.getInteractionId()).thenReturn(interactionId);
+        when(command.getTimestamp()).thenReturn(timestamp);
+        when(command.getCommandDto()).thenReturn(commandDto);
+        when(command.getReplayState()).thenAnswer(__->replayStates.get(command));
+        replayStates.put(command, ReplayState.PENDING);
+        return command;
+    }
+
+    private CommandLogEntryRepository commandLogEntryRepository() {
+        val repository = Mockito.mock(CommandLogEntryRepository.class);
+        when(repository.findOldestReplayFailed()).thenAnswer(__->
+            commandsInState(ReplayState.FAILED).stream().findFirst());
+        when(repository.findNotYetReplayed()).thenAnswer(__->
+            commandsInState(ReplayState.PENDING));
+        when(repository.findMostRecentReplayed()).thenAnswer(__->
+            replayStates.keySet().stream()
+                .filter(command->replayStates.get(command) == ReplayState.OK
+                        || replayStates.get(command) == ReplayState.FAILED)
+                .max(Comparator.comparing(CommandLogEntry::getTimestamp)));
+        when(repository.findByInteractionId(any())).thenAnswer(invocation->
+            replayStates.keySet().stream()
+                .filter(command->command.getInteractionId().equals(invocation.getArgument(0)))
+                .findFirst());
+        return repository;
+    }
+
+    private List<CommandLogEntry> commandsInState(final ReplayState replayState) {
+        return replayStates.keySet().stream()
+                .filter(command->replayStates.get(command) == replayState)
+                .sorted(Comparator.comparing(CommandLogEntry::getTimestamp))
+                .collect(Collectors.toList());
+    }
+
+    private CommandExecutorService commandExecutorService() {
+        val commandExecutorService = Mockito.mock(CommandExecutorService.class);
+        when(commandExecutorService.executeCommand(any(CommandExecutorService.InteractionContextPolicy.class), any(CommandDto.class)))
+            .thenAnswer(invocation->{
+                if(invocation.getArgument(1) == failing.getCommandDto()) {
+                    succeedingReplayed.await(5, TimeUnit.SECONDS);
+                }
+                return null;
+            });
+        return commandExecutorService;
+    }
+
+    private CommandReplayAnalysisService analysisService() {
+        val analysisService = Mockito.mock(CommandReplayAnalysisService.class);
+        Mockito.doAnswer(invocation->{
+            final CommandLogEntry command = invocation.getArgument(0);
+            if(command == failing) {
+                replayStates.put(command, ReplayState.FAILED);
+            } else {
+                replayStates.put(command, ReplayState.OK);
+                succeedingReplayed.countDown();
+            }
+            return null;
+        }).when(analysisService).analyse(any());
+        return analysisService;
+    }
+
+    private static TransactionService transactionService() {
+        val transactionService = Mockito.mock(TransactionService.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(invocation->Try.call(invocation.<Callable<?>>getArgument(1)))
+            .when(transactionService).callTransactional(any(TransactionDefinition.class), any());
+        return transactionService;
+    }
+
+    private static InteractionService interactionService() {
+        val interactionService = Mockito.mock(InteractionService.class);
+        when(interactionService.currentInteractionLayerElseFail()).thenReturn(new InteractionLayer(null, null));
+        when(interactionService.call(any(), any())).thenAnswer(invocation->
+            invocation.<Callable<?>>getArgument(1).call());
+        return interactionService;
+    }
+
+    private static SecondaryConfig secondaryConfig() {
+        val secondaryConfig = Mockito.mock(SecondaryConfig.class);
+        when(secondaryConfig.getReplayThreads()).thenReturn(REPLAY_THREADS);
+        when(secondaryConfig.isPrefetch()).thenReturn(false);
+        return secondaryConfig;
+    }
+
+    private static Bookmark targetInOtherLaneThan(final Bookmark target) {
+        for (int i = 2; ; i++) {
+            val candidate = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + i);
+            if(laneOf(candidate) != laneOf(target)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static int laneOf(final Bookmark target) {
+        return Math.floorMod(target.hashCode(), REPLAY_THREADS);
+    }
+
+}
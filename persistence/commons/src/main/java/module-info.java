@@ -21,6 +21,7 @@
     exports org.apache.causeway.persistence.commons.metamodel.facets.prop.column;
     exports org.apache.causeway.persistence.commons.integration.repository;
     exports org.apache.causeway.persistence.commons.integration.changetracking;
+    exports org.apache.causeway.persistence.commons.integration.dtostorage;
     exports org.apache.causeway.persistence.commons.integration.version;
 
     requires java.annotation;
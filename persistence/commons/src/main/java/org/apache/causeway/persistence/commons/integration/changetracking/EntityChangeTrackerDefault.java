@@ -19,11 +19,14 @@
  */
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -57,17 +60,15 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
-import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleCache;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
-import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
-import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -118,14 +119,20 @@ public int getOrder() {
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
     private final PreAndPostValueEvaluatorService preAndPostValueEvaluatorService;
+    private final TitleCache titleCache;
 
     /**
-     * Contains a record for every objectId/propertyId that was changed.
-     * @implNote access to this {@link Map} must be thread-safe and the map also should preserve insertion order. We
-     *           cannot use <code>newConcurrentHashMap</code> as this doesn't preserve insertion order; instead we
-     *           make sure that it is only ever accessed within a <code>synchronized</code> block.
+     * Contains an entry for every entity that was enlisted, which in turn holds a record
+     * for every property that was changed.
+     * @implNote access to this {@link Map} must be thread-safe, but does not need to preserve insertion order,
+     *           as this is tracked by {@link #enlistedEntitiesInOrder}; hence no global lock is required.
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private final Map<Bookmark, _EnlistedEntity> enlistedEntitiesByBookmark = _Maps.newConcurrentHashMap();
+
+    /**
+     * Preserves the order in which entities were first enlisted.
+     */
+    private final Queue<_EnlistedEntity> enlistedEntitiesInOrder = new ConcurrentLinkedQueue<>();
 
     /**
      * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot,
@@ -146,7 +153,7 @@ public int getOrder() {
 
     @Override
     public void destroy() throws Exception {
-        clearEnlistedPropertyChangeRecordsById();
+        clearEnlistedEntities();
         entityPropertyChangeRecordsForPublishing.clear();
         changeKindByEnlistedAdapter.clear();
 
@@ -157,21 +164,14 @@ public void destroy() throws Exception {
 
 
     /**
-     * @implNote sets a lock on the {@code enlistedPropertyChangeRecordsById} {@link Map}
-     *      until given {@code runnable} completes<p>
-     *      Note: Java supports reentrant locks,
-     *      which allow a thread to acquire the same lock multiple times without deadlocking itself.
-     *      Reentrant locks maintain a count of the number of times a thread has acquired the lock
-     *      and ensure that the lock is released only when the thread exits the synchronized block
-     *      or method the same number of times it entered it.
+     * @implNote no global lock is set here, instead thread-safety is provided by the
+     *      per-entity {@link _EnlistedEntity} (which only synchronizes on itself)
      */
-    private void runThreadsafeAndSuppressAutoFlushIfRequired(final Runnable runnable) {
-        synchronized (enlistedPropertyChangeRecordsById) {
-            if (configuration.isSuppressAutoFlush()) {
-                FlushMgmt.suppressAutoFlush(runnable);
-            } else {
-                runnable.run();
-            }
+    private void runAndSuppressAutoFlushIfRequired(final Runnable runnable) {
+        if (configuration.isSuppressAutoFlush()) {
+            FlushMgmt.suppressAutoFlush(runnable);
+        } else {
+            runnable.run();
         }
     }
 
@@ -192,27 +192,24 @@ public Map<Bookmark, EntityChangeKind> snapshotChangeKindByEnlistedAdapter() {
      * For any enlisted Object Properties collects those, that are meant for publishing,
      * then clears enlisted objects.
      *
-     * @implNote sets a lock on the {@code enlistedPropertyChangeRecordsById} {@link Map} until its drained and cleared
+     * @implNote called at most once per transaction, as guarded by the thread-safe
+     *      {@link #entityPropertyChangeRecordsForPublishing} memoizer
      */
     private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
-        synchronized (enlistedPropertyChangeRecordsById) {
-
-            val records = enlistedPropertyChangeRecordsById.values().stream()
-                // set post values, which have been left empty up to now
-                .peek(rec -> {
-                    if(MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
-                        rec.withPostValueSetToDeleted();
-                    } else {
-                        rec.withPostValueSetToCurrentElseUnknown();
-                    }
-                })
-                .filter(managedProperty-> shouldPublish(managedProperty.getPreAndPostValue()))
-                .collect(_Sets.toUnmodifiable());
-
-            enlistedPropertyChangeRecordsById.clear();
-
-            return records;
+
+        val records = new LinkedHashSet<PropertyChangeRecord>(); // preserve order
+        for(val enlistedEntity : enlistedEntitiesInOrder) {
+            // set post values, which have been left empty up to now
+            for(val rec : enlistedEntity.capturePostValues()) {
+                if(shouldPublish(rec.getPreAndPostValue())) {
+                    records.add(rec);
+                }
+            }
         }
+
+        clearEnlistedEntities();
+
+        return Collections.unmodifiableSet(records);
     }
 
     private boolean shouldPublish(final PreAndPostValue preAndPostValue) {
@@ -252,7 +249,7 @@ public void beforeCompletion() {
         } finally {
             log.debug("purging entity change records");
 
-            clearEnlistedPropertyChangeRecordsById();
+            clearEnlistedEntities();
             entityPropertyChangeRecordsForPublishing.clear();
 
             changeKindByEnlistedAdapter.clear();
@@ -294,6 +291,8 @@ Interaction currentInteraction() {
     // -- HELPER
 
     /**
+     * @implNote must be called while holding the lock of the entity's {@link _EnlistedEntity},
+     *      such that the read-modify-write on {@code changeKindByEnlistedAdapter} is atomic per entity
      * @return <code>true</code> if successfully enlisted, <code>false</code> if not (no longer) enlisted ... eg delete of an entity that was created earlier in the transaction
      */
     private boolean enlistForChangeKindPublishing(
@@ -338,9 +337,23 @@ private boolean enlistForChangeKindPublishing(
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        synchronized (enlistedPropertyChangeRecordsById) {
-            return enlistedPropertyChangeRecordsById.size();
+        long count = 0L;
+        for(val enlistedEntity : enlistedEntitiesInOrder) {
+            count += enlistedEntity.countPropertyChangeRecords();
         }
+        return count;
+    }
+
+    /**
+     * Returns the {@link _EnlistedEntity} for given entity, creating (and registering) it if required.
+     */
+    private _EnlistedEntity enlistedEntityFor(final @NonNull ManagedObject entity) {
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        return enlistedEntitiesByBookmark.computeIfAbsent(bookmark, __->{
+            val enlistedEntity = new _EnlistedEntity(entity, bookmark);
+            enlistedEntitiesInOrder.add(enlistedEntity);
+            return enlistedEntity;
+        });
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -356,12 +369,13 @@ public void enlistCreated(final ManagedObject entity) {
 
         log.debug("enlist entity's property changes for publishing {}", entity);
 
-        runThreadsafeAndSuppressAutoFlushIfRequired(() -> {
-            enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
-
-            MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
-                .forEach(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+        runAndSuppressAutoFlushIfRequired(() -> {
+            val enlistedEntity = enlistedEntityFor(entity);
+            synchronized (enlistedEntity) {
+                enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
+                // property change records are materialized lazily, when drained
+                enlistedEntity.enlistCreated();
+            }
         });
     }
 
@@ -372,34 +386,33 @@ public void enlistUpdating(
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
 
+        // regardless of whether changes are published, any memoized title might now be stale
+        titleCache.invalidate(entity);
+
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
         }
 
         log.debug("enlist entity's property changes for publishing {}", entity);
 
-        runThreadsafeAndSuppressAutoFlushIfRequired(() -> {
-            // we call this come what may;
-            // additional properties may now have been changed, and the changeKind for publishing might also be modified
-            enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
-
-            final Can<PropertyChangeRecord> ormPropertyChangeRecords = propertyChangeRecordSupplier !=null
-                    ? propertyChangeRecordSupplier.apply(entity)
-                    : null;
-
-            if(ormPropertyChangeRecords != null) {
-                // provided by ORM
-                ormPropertyChangeRecords
-                    .stream()
-                    .filter(pcr -> ! enlistedPropertyChangeRecordsById.containsKey(pcr.getId())) // only if not previously seen
-                    .forEach(pcr -> enlistedPropertyChangeRecordsById.put(pcr.getId(), pcr));
-            } else {
-                // home-grown approach
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
-                    .map(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofCurrent(pcrId)))
-                    .filter(Objects::nonNull)   // shouldn't happen, just keeping compiler happy
-                    .forEach(PropertyChangeRecord::withPreValueSetToCurrentElseUnknown);
+        runAndSuppressAutoFlushIfRequired(() -> {
+            val enlistedEntity = enlistedEntityFor(entity);
+            synchronized (enlistedEntity) {
+                // we call this come what may;
+                // additional properties may now have been changed, and the changeKind for publishing might also be modified
+                enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
+
+                final Can<PropertyChangeRecord> ormPropertyChangeRecords = propertyChangeRecordSupplier !=null
+                        ? propertyChangeRecordSupplier.apply(entity)
+                        : null;
+
+                if(ormPropertyChangeRecords != null) {
+                    // provided by ORM, only contains the dirty properties
+                    enlistedEntity.enlistUpdating(ormPropertyChangeRecords);
+                } else {
+                    // home-grown approach, snapshots all properties once per transaction
+                    enlistedEntity.enlistUpdatingAllProperties();
+                }
             }
         });
     }
@@ -409,16 +422,18 @@ public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
 
-        if (isEntityExcludedForChangePublishing(entity)) return;
+        titleCache.invalidate(entity);
 
-        runThreadsafeAndSuppressAutoFlushIfRequired(() -> {
-            final boolean enlisted = enlistForChangeKindPublishing(entity, EntityChangeKind.DELETE);
-            if(enlisted) {
-                log.debug("enlist entity's property changes for publishing {}", entity);
+        if (isEntityExcludedForChangePublishing(entity)) return;
 
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .forEach(pcrId -> enlistedPropertyChangeRecordsById
-                        .computeIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id)));
+        runAndSuppressAutoFlushIfRequired(() -> {
+            val enlistedEntity = enlistedEntityFor(entity);
+            synchronized (enlistedEntity) {
+                final boolean enlisted = enlistForChangeKindPublishing(entity, EntityChangeKind.DELETE);
+                if(enlisted) {
+                    log.debug("enlist entity's property changes for publishing {}", entity);
+                    enlistedEntity.enlistDeleting();
+                }
             }
         });
     }
@@ -447,10 +462,9 @@ public int numberEntitiesDirtied() {
 
     // -- HELPER
 
-    private void clearEnlistedPropertyChangeRecordsById() {
-        synchronized (enlistedPropertyChangeRecordsById) {
-            enlistedPropertyChangeRecordsById.clear();
-        }
+    private void clearEnlistedEntities() {
+        enlistedEntitiesByBookmark.clear();
+        enlistedEntitiesInOrder.clear();
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Holds the {@link PropertyChangeRecord}s of a single entity, as enlisted with the
+ * {@link EntityChangeTrackerDefault} during a transaction.
+ *
+ * @implNote all mutators are {@code synchronized} on this instance, hence contention is limited
+ *      to concurrent enlistment of the very same entity (which is rare);
+ *      the records preserve the property order, in which they were first enlisted
+ */
+@RequiredArgsConstructor
+final class _EnlistedEntity {
+
+    @Getter private final @NonNull ManagedObject entity;
+    @Getter private final @NonNull Bookmark bookmark;
+
+    private final Map<String, PropertyChangeRecord> recordsByPropertyId = new LinkedHashMap<>();
+
+    /**
+     * Whether the entity was created within the current transaction;
+     * in which case its (pre-value {@code NEW}) property change records are only materialized
+     * when drained.
+     */
+    private boolean created;
+
+    /**
+     * Whether the current value of all properties (enabled for publishing)
+     * has already been captured as pre-values.
+     */
+    private boolean allPropertiesSnapshotted;
+
+    synchronized void enlistCreated() {
+        created = true;
+    }
+
+    /**
+     * Enlists the property change records as reported by the ORM, that is,
+     * only for properties the ORM considers dirty.
+     */
+    synchronized void enlistUpdating(final @NonNull Can<PropertyChangeRecord> ormPropertyChangeRecords) {
+        if(created) {
+            return; // pre-values are NEW anyway
+        }
+        ormPropertyChangeRecords
+            .forEach(pcr->recordsByPropertyId.putIfAbsent(pcr.getPropertyId(), pcr)); // only if not previously seen
+    }
+
+    /**
+     * Home-grown approach, when the ORM does not report dirty properties:
+     * captures the current value of all properties as pre-values,
+     * but only on the first enlistment for this entity within the transaction.
+     */
+    synchronized void enlistUpdatingAllProperties() {
+        if(created
+                || allPropertiesSnapshotted) {
+            return;
+        }
+        allPropertiesSnapshotted = true;
+        MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+            .forEach(property->recordsByPropertyId.computeIfAbsent(property.getId(),
+                    __->PropertyChangeRecord.ofCurrent(PropertyChangeRecordId.of(entity, bookmark, property))));
+    }
+
+    synchronized void enlistDeleting() {
+        MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+            .forEach(property->recordsByPropertyId.computeIfAbsent(property.getId(),
+                    __->PropertyChangeRecord.ofDeleting(PropertyChangeRecordId.of(entity, bookmark, property))));
+    }
+
+    /**
+     * Materializes any pending records of a created entity, then sets the post-values
+     * of all records, which have been left empty up to now.
+     */
+    synchronized List<PropertyChangeRecord> capturePostValues() {
+        if(created) {
+            MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+                .forEach(property->recordsByPropertyId.computeIfAbsent(property.getId(),
+                        __->PropertyChangeRecord.ofNew(PropertyChangeRecordId.of(entity, bookmark, property))));
+        }
+        val isTransientOrRemoved = MmEntityUtils.getEntityState(entity).isTransientOrRemoved();
+        val records = new ArrayList<PropertyChangeRecord>(recordsByPropertyId.size());
+        for(val rec : recordsByPropertyId.values()) {
+            records.add(isTransientOrRemoved
+                    ? rec.withPostValueSetToDeleted()
+                    : rec.withPostValueSetToCurrentElseUnknown());
+        }
+        return records;
+    }
+
+    /**
+     * Side-effect free, used by XRay.
+     */
+    synchronized int countPropertyChangeRecords() {
+        return created
+                ? (int) MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity).count()
+                : recordsByPropertyId.size();
+    }
+
+}
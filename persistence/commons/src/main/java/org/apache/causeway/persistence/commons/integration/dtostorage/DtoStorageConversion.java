@@ -0,0 +1,60 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.dtostorage;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Used by the JDO and JPA type converters of DTOs (which are instantiated by the persistence provider, rather than
+ * being managed beans), to encode using the currently configured {@link DtoStorageCodec.Format format}.
+ *
+ * @since 2.0 {@index}
+ */
+@UtilityClass
+public final class DtoStorageConversion {
+
+    @Nullable
+    public <T> String encode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        return DtoStorageCodec.encode(configuredFormat(), dtoMapper, dto);
+    }
+
+    @Nullable
+    public <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String datastoreValue) {
+        return DtoStorageCodec.decode(dtoMapper, datastoreValue);
+    }
+
+    /**
+     * As per <code>causeway.persistence.commons.dto-storage.format</code>, read on each call so that it
+     * is never out of step with the configuration; falls back to {@link DtoStorageCodec.Format#XML} if
+     * there is no {@link MetaModelContext} (yet).
+     */
+    public DtoStorageCodec.Format configuredFormat() {
+        return MetaModelContext.instance()
+                .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getDtoStorage().getFormat())
+                .orElse(DtoStorageCodec.Format.XML);
+    }
+
+}
@@ -27,7 +27,9 @@
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
 import javax.jdo.JDOHelper;
+import javax.jdo.JDOUserException;
 import javax.jdo.PersistenceManager;
 
 import org.datanucleus.api.jdo.JDOQuery;
@@ -36,6 +38,7 @@
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
@@ -59,6 +62,7 @@
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
+import org.apache.causeway.core.metamodel.tabular.TableFetchPlan;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnEntityStateProvider;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnOidStoreAndRecoverHelper;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnStateManagerForCauseway;
@@ -106,6 +110,13 @@
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getPersistenceManager(), entityClass);
 
+    // lazily computed (needs the metamodel to be fully introspected)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final TableFetchPlan tableFetchPlan =
+            TableFetchPlan.forElementType(getEntitySpecification(), Where.STANDALONE_TABLES);
+
+    private static final String TABLE_FETCH_GROUP = "causeway.tableFetchPlan";
+
     public JdoEntityFacet(
             final FacetHolder holder, final Class<?> entityClass) {
         super(EntityFacet.class, holder);
@@ -236,6 +247,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             val typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
             typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            addTableFetchGroup(persistenceManager, typedQuery.getFetchPlan(), queryEntityType);
 
             if(!range.isUnconstrained()) {
                 typedQuery.range(range.getStart(), range.getEnd());
@@ -280,7 +292,12 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 .getParametersByName()
                 .forEach(namedParams::put);
 
-            Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
+            val hasResultPhrase = hasResultPhrase(namedQuery);
+            if(!hasResultPhrase) {
+                addTableFetchGroup(persistenceManager, namedQuery.getFetchPlan(), queryResultType);
+            }
+
+            Supplier<List<?>> executeMethod = hasResultPhrase
                     ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
                     : namedQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
             val resultList = fetchWithinTransaction(executeMethod);
@@ -297,6 +314,40 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    /**
+     * If so configured, adds a fetch group for those references of the entity,
+     * that would be rendered as columns of a standalone table.
+     *
+     * @see TableFetchPlan
+     */
+    private void addTableFetchGroup(
+            final PersistenceManager persistenceManager,
+            final FetchPlan fetchPlan,
+            final Class<?> queryResultType) {
+
+        if(queryResultType != entityClass
+                || !getConfiguration().getPersistence().getCommons().getTableFetchPlan().isEnabled()) {
+            return;
+        }
+        val tableFetchPlan = getTableFetchPlan();
+        if(tableFetchPlan.isEmpty()) {
+            return;
+        }
+        // scoped to the persistence manager, so populated once per persistence manager
+        val fetchGroup = persistenceManager.getFetchGroup(entityClass, TABLE_FETCH_GROUP);
+        if(fetchGroup.getMembers().isEmpty()) {
+            tableFetchPlan.getReferenceIds().forEach(memberName->{
+                try {
+                    fetchGroup.addMember(memberName);
+                } catch (JDOUserException e) {
+                    // eg. not a persistent field
+                    log.debug("cannot add {} to fetch group of {}", memberName, entityClass, e);
+                }
+            });
+        }
+        fetchPlan.addGroup(TABLE_FETCH_GROUP);
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
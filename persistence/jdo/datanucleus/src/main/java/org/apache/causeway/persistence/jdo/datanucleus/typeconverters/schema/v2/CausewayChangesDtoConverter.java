@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtostorage.DtoStorageConversion;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -32,12 +33,12 @@ public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, St
 
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageConversion.encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageConversion.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
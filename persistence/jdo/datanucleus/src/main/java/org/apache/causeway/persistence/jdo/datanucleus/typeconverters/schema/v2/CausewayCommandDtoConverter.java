@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtostorage.DtoStorageConversion;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -32,12 +33,12 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageConversion.encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageConversion.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtostorage.DtoStorageConversion;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -32,12 +33,12 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageConversion.encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageConversion.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
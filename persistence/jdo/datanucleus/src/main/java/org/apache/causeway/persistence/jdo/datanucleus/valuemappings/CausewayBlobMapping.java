@@ -18,14 +18,18 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.valuemappings;
 
+import java.io.InputStream;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import javax.activation.MimeType;
+
 import org.datanucleus.ClassLoaderResolver;
 import org.datanucleus.ClassNameConstants;
 import org.datanucleus.ExecutionContext;
 import org.datanucleus.NucleusContext;
+import org.datanucleus.exceptions.NucleusDataStoreException;
 import org.datanucleus.metadata.AbstractMemberMetaData;
 import org.datanucleus.store.rdbms.RDBMSStoreManager;
 import org.datanucleus.store.rdbms.mapping.java.SingleFieldMultiMapping;
@@ -101,7 +105,16 @@ public void setObject(ExecutionContext ec, PreparedStatement preparedStmt, int[]
         } else {
             getColumnMapping(0).setString(preparedStmt, exprIndex[0], blob.getName());
             getColumnMapping(1).setString(preparedStmt, exprIndex[1], blob.getMimeType().getBaseType());
-            getColumnMapping(2).setObject(preparedStmt, exprIndex[2], blob.getBytes());
+            if(blob.isInMemory()) {
+                getColumnMapping(2).setObject(preparedStmt, exprIndex[2], blob.getBytes());
+            } else {
+                // stream large content, rather than reading it into memory first
+                try {
+                    preparedStmt.setBinaryStream(exprIndex[2], blob.openInputStream(), blob.getLength());
+                } catch (SQLException e) {
+                    throw new NucleusDataStoreException("Error streaming Blob content to datastore", e);
+                }
+            }
         }
     }
 
@@ -123,11 +136,18 @@ public Object getObject(ExecutionContext ec, ResultSet resultSet, int[] exprInde
 
         final String name = getColumnMapping(0).getString(resultSet, exprIndex[0]);
         final String mimeTypeBase = getColumnMapping(1).getString(resultSet, exprIndex[1]);
-        final byte[] bytes = (byte[]) getColumnMapping(2).getObject(resultSet, exprIndex[2]);
-        if(name == null || mimeTypeBase == null || bytes == null) {
+        if(name == null || mimeTypeBase == null) {
             return null;
         }
-        return new Blob(name, mimeTypeBase, bytes);
+        // content up to the in-memory threshold is held in memory, anything larger is spooled to a temp file
+        try(InputStream is = resultSet.getBinaryStream(exprIndex[2])) {
+            if(is == null) {
+                return null;
+            }
+            return Blob.spool(name, new MimeType(mimeTypeBase), is);
+        } catch (Exception e) {
+            throw new NucleusDataStoreException("Error reading Blob content from datastore", e);
+        }
     }
 
 
@@ -18,13 +18,18 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.valuemappings;
 
+import java.io.Reader;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.activation.MimeType;
 
 import org.datanucleus.ClassLoaderResolver;
 import org.datanucleus.ClassNameConstants;
 import org.datanucleus.ExecutionContext;
 import org.datanucleus.NucleusContext;
+import org.datanucleus.exceptions.NucleusDataStoreException;
 import org.datanucleus.metadata.AbstractMemberMetaData;
 import org.datanucleus.store.rdbms.RDBMSStoreManager;
 import org.datanucleus.store.rdbms.mapping.java.SingleFieldMultiMapping;
@@ -89,7 +94,16 @@ public void setObject(ExecutionContext ec, PreparedStatement preparedStmt, int[]
         } else {
             getColumnMapping(0).setString(preparedStmt, exprIndex[0], clob.getName());
             getColumnMapping(1).setString(preparedStmt, exprIndex[1], clob.getMimeType().getBaseType());
-            getColumnMapping(2).setObject(preparedStmt, exprIndex[2], clob.getChars().toString());
+            if(clob.isInMemory()) {
+                getColumnMapping(2).setObject(preparedStmt, exprIndex[2], clob.getChars().toString());
+            } else {
+                // stream large content, rather than reading it into memory first
+                try {
+                    preparedStmt.setCharacterStream(exprIndex[2], clob.openReader(), clob.getLength());
+                } catch (SQLException e) {
+                    throw new NucleusDataStoreException("Error streaming Clob content to datastore", e);
+                }
+            }
         }
     }
 
@@ -111,10 +125,17 @@ public Object getObject(ExecutionContext ec, ResultSet resultSet, int[] exprInde
 
         final String name = getColumnMapping(0).getString(resultSet, exprIndex[0]);
         final String mimeTypeBase = getColumnMapping(1).getString(resultSet, exprIndex[1]);
-        final String str = getColumnMapping(2).getString(resultSet, exprIndex[2]);
-        if(name == null || mimeTypeBase == null || str == null) {
+        if(name == null || mimeTypeBase == null) {
             return null;
         }
-        return new Clob(name, mimeTypeBase, str.toCharArray());
+        // content up to the in-memory threshold is held in memory, anything larger is spooled to a temp file
+        try(Reader reader = resultSet.getCharacterStream(exprIndex[2])) {
+            if(reader == null) {
+                return null;
+            }
+            return Clob.spool(name, new MimeType(mimeTypeBase), reader);
+        } catch (Exception e) {
+            throw new NucleusDataStoreException("Error reading Clob content from datastore", e);
+        }
     }
 }
@@ -19,15 +19,20 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
@@ -44,8 +49,10 @@
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
+import org.apache.causeway.core.metamodel.tabular.TableFetchPlan;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.val;
@@ -60,9 +67,19 @@
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    /**
+     * The number of bookmarks at most per (IN) query, when fetching by bookmarks.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
 
+    // lazily computed (needs the metamodel to be fully introspected);
+    // the names of the single-valued associations of the TableFetchPlan
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Can<String> tableLoadGraphAttributeNames = tableLoadGraphAttributeNames();
+
     protected JpaEntityFacet(
             final FacetHolder holder,
             final Class<?> entityClass) {
@@ -115,6 +132,51 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches the entities with a single query per {@link #FETCH_BY_BOOKMARKS_CHUNK_SIZE} bookmarks
+     * (with the table load graph, if so configured), provided the entity has a single id attribute.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityManager = getEntityManager();
+        val idAttributeName = entityManager.getMetamodel().entity(entityClass)
+                .getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(SingularAttribute::getName)
+                .collect(Can.toCan());
+        if(bookmarks.size() < 2
+                || !idAttributeName.isCardinalityOne()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        val pojoByBookmark = new HashMap<Bookmark, Object>();
+        bookmarks.partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE).forEach(chunk->{
+            val bookmarkByIdentifier = new HashMap<String, Bookmark>();
+            chunk.forEach(bookmark->bookmarkByIdentifier.put(bookmark.getIdentifier(), bookmark));
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName.getSingletonOrFail())
+                        .in(chunk.map(bookmark->primaryKeyType.destring(bookmark.getIdentifier())).toList()));
+
+            val typedQuery = entityManager.createQuery(cr);
+            addTableLoadGraph(entityManager, typedQuery, entityClass);
+
+            typedQuery.getResultList().forEach(pojo->
+                Optional.ofNullable(persistenceUnitUtil.getIdentifier(pojo))
+                    .map(primaryKeyType::enstringWithCast)
+                    .map(bookmarkByIdentifier::get)
+                    .ifPresent(bookmark->pojoByBookmark.put(bookmark, pojo)));
+        });
+        return pojoByBookmark;
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -142,6 +204,8 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             val typedQuery = entityManager
                     .createQuery(cr);
 
+            addTableLoadGraph(entityManager, typedQuery, queryEntityType);
+
             if (range.hasOffset()) {
                 typedQuery.setFirstResult(range.getStartAsInt());
             }
@@ -164,6 +228,8 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             val namedQuery = entityManager
                     .createNamedQuery(applibNamedQuery.getName(), queryResultType);
 
+            addTableLoadGraph(entityManager, namedQuery, queryResultType);
+
             if (range.hasOffset()) {
                 namedQuery.setFirstResult(range.getStartAsInt());
             }
@@ -187,6 +253,40 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    /**
+     * If so configured, adds a load graph for those references of the entity,
+     * that would be rendered as columns of a standalone table.
+     *
+     * @see TableFetchPlan
+     */
+    private void addTableLoadGraph(
+            final EntityManager entityManager,
+            final TypedQuery<?> typedQuery,
+            final Class<?> queryResultType) {
+
+        if(queryResultType != entityClass
+                || !getConfiguration().getPersistence().getCommons().getTableFetchPlan().isEnabled()) {
+            return;
+        }
+        val attributeNames = getTableLoadGraphAttributeNames();
+        if(attributeNames.isEmpty()) {
+            return;
+        }
+        val entityGraph = entityManager.createEntityGraph(entityClass);
+        entityGraph.addAttributeNodes(attributeNames.toArray(String.class));
+        typedQuery.setHint("javax.persistence.loadgraph", entityGraph);
+    }
+
+    private Can<String> tableLoadGraphAttributeNames() {
+        val entityType = getEntityManager().getMetamodel().entity(entityClass);
+        return TableFetchPlan.forElementType(getEntitySpecification(), Where.STANDALONE_TABLES)
+                .getReferenceIds()
+                .filter(attributeName->entityType.getAttributes().stream()
+                        .anyMatch(attribute->attribute.getName().equals(attributeName)
+                                && attribute.isAssociation()
+                                && !attribute.isCollection()));
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
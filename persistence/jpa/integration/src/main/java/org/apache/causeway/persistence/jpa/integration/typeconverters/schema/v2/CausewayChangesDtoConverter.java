@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtostorage.DtoStorageConversion;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -33,12 +34,12 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageConversion.encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageConversion.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
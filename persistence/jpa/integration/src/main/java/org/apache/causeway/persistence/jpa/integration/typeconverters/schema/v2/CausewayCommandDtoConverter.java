@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtostorage.DtoStorageConversion;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -33,12 +34,12 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageConversion.encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageConversion.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
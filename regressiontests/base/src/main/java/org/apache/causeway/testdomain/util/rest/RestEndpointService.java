@@ -19,6 +19,8 @@
 package org.apache.causeway.testdomain.util.rest;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.ws.rs.client.Invocation;
@@ -84,6 +86,35 @@ public RestfulClient newClient(
             final boolean useRequestDebugLogging,
             final @NonNull Can<ClientConversationFilter> additionalFilters) {
 
+        val clientConfig = clientConfigBuilder()
+                // setup request/response debug logging
+                .useRequestDebugLogging(useRequestDebugLogging)
+                // register additional filter if any
+                .clientConversationFilters(additionalFilters.toList())
+                .build();
+
+        val client = RestfulClient.ofConfig(clientConfig);
+        return client;
+    }
+
+    /**
+     * A client to be shared by concurrent callers, with up to {@code maxConnections} pooled connections
+     * and {@code asyncThreads} threads to process asynchronous invocations with.
+     */
+    public RestfulClient newPooledClient(final int maxConnections, final int asyncThreads) {
+
+        val clientConfig = clientConfigBuilder()
+                .maxConnections(maxConnections)
+                .maxConnectionsPerRoute(maxConnections)
+                .asyncThreads(asyncThreads)
+                .build();
+
+        val client = RestfulClient.ofConfig(clientConfig);
+        return client;
+    }
+
+    private RestfulClientConfig.RestfulClientConfigBuilder clientConfigBuilder() {
+
         val restRootPath =
                 String.format("http://localhost:%d%s/",
                         getPort(),
@@ -93,20 +124,12 @@ public RestfulClient newClient(
 
         log.debug("new restful client created for {}", restRootPath);
 
-        val clientConfig = RestfulClientConfig.builder()
+        return RestfulClientConfig.builder()
                 .restfulBaseUrl(restRootPath)
                 // setup basic-auth
                 .authenticationMode(AuthenticationMode.BASIC)
                 .basicAuthUser(LdapConstants.SVEN_PRINCIPAL)
-                .basicAuthPassword("pass")
-                // setup request/response debug logging
-                .useRequestDebugLogging(useRequestDebugLogging)
-                // register additional filter if any
-                .clientConversationFilters(additionalFilters.toList())
-                .build();
-
-        val client = RestfulClient.ofConfig(clientConfig);
-        return client;
+                .basicAuthPassword("pass");
     }
 
     // -- NEW REQUEST BUILDER
@@ -144,6 +167,19 @@ public Try<BookDto> getRecommendedBookOfTheWeekDto(final RestfulClient client) {
         return digest;
     }
 
+    public CompletionStage<Try<BookDto>> getRecommendedBookOfTheWeekDtoAsync(final RestfulClient client) {
+
+        val request = newInvocationBuilder(client,
+                INVENTORY_RESOURCE + "/actions/recommendedBookOfTheWeekDto/invoke");
+        val args = client.arguments()
+                .build();
+
+        val response = request.rx().post(args);
+        val digest = client.digestAsync(response, BookDto.class);
+
+        return digest;
+    }
+
     public Try<Can<JdoBook>> getMultipleBooks(final RestfulClient client) throws JAXBException {
 
         val request = newInvocationBuilder(client,
@@ -200,6 +236,21 @@ public Try<Can<BookDto>> getMultipleBooksAsDto(final RestfulClient client) throw
         return digest;
     }
 
+    public Try<Long> streamMultipleBooksAsDto(
+            final RestfulClient client, final int nrOfBooks, final Consumer<BookDto> onBook) {
+
+        val request = newInvocationBuilder(client,
+                INVENTORY_RESOURCE + "/actions/multipleBooksAsDto/invoke");
+        val args = client.arguments()
+                .addActionParameter("nrOfBooks", nrOfBooks)
+                .build();
+
+        val response = request.post(args);
+        val digest = client.digestStreamed(response, BookDto.class, onBook);
+
+        return digest;
+    }
+
     public Try<JdoInventoryJaxbVm> getInventoryAsJaxbVm(final RestfulClient client) {
 
         val request = newInvocationBuilder(client,
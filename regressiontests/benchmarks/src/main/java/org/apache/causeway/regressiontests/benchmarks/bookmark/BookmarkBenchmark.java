@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.bookmark;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
+/**
+ * Measures parsing and stringifying {@link Bookmark}s, as done for every object reference that is
+ * rendered or resolved by the viewers, or stored with commands and audit entries.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar BookmarkBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookmarkBenchmark {
+
+    private Bookmark bookmark;
+    private String stringified;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookmark = Bookmark.forLogicalTypeNameAndIdentifier("benchmarks.ChangeTrackedEntity", UUID.randomUUID().toString());
+        stringified = bookmark.stringify();
+    }
+
+    @Benchmark
+    public Optional<Bookmark> parse() {
+        return Bookmark.parse(stringified);
+    }
+
+    @Benchmark
+    public String stringify() {
+        return bookmark.stringify();
+    }
+
+}
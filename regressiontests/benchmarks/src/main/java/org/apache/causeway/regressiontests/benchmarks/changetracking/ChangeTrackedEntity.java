@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.changetracking;
+
+import java.time.LocalDate;
+
+import javax.inject.Named;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.applib.annotation.Title;
+import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.val;
+
+@Entity
+@EntityListeners(CausewayEntityListener.class)
+@Named("benchmarks.ChangeTrackedEntity")
+@DomainObject(
+        entityChangePublishing = Publishing.ENABLED)
+@NoArgsConstructor
+public class ChangeTrackedEntity {
+
+    public static ChangeTrackedEntity of(final int index) {
+        val entity = new ChangeTrackedEntity();
+        entity.setName("entity-" + index);
+        entity.setDescription("description of entity " + index);
+        entity.setDate(LocalDate.of(2000, 1, 1).plusDays(index % 10_000));
+        entity.setCount(index);
+        return entity;
+    }
+
+    @Id
+    @GeneratedValue
+    private @Getter Long id;
+
+    @Property @Title
+    @Column(nullable = false)
+    private @Getter @Setter String name;
+
+    @Property
+    @Column(nullable = true)
+    private @Getter @Setter String description;
+
+    @Property
+    @Column(nullable = true)
+    private @Getter @Setter LocalDate date;
+
+    @Property
+    private @Getter @Setter int count;
+
+}
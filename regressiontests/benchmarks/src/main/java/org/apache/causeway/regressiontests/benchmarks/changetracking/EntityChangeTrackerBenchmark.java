@@ -0,0 +1,178 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.changetracking;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.causeway.persistence.commons.integration.changetracking.EntityChangeTrackerDefault;
+import org.apache.causeway.regressiontests.benchmarks.BenchmarkApplication;
+
+import lombok.val;
+
+/**
+ * Measures enlistment of entities with the {@link EntityChangeTrackerDefault},
+ * including the final drain of property change records at the end of the transaction.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar EntityChangeTrackerBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EntityChangeTrackerBenchmark {
+
+    @Param({"1000", "100000"})
+    private int entityCount;
+
+    private ConfigurableApplicationContext springContext;
+    private InteractionService interactionService;
+    private PlatformTransactionManager transactionManager;
+    private ObjectManager objectManager;
+    private RepositoryService repositoryService;
+    private EntityChangeTrackerDefault entityChangeTracker;
+    private OneToOneAssociation nameProperty;
+
+    // per invocation
+    private TransactionStatus transactionStatus;
+    private Can<ManagedObject> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        springContext = BenchmarkApplication.run();
+        interactionService = springContext.getBean(InteractionService.class);
+        transactionManager = springContext.getBean(PlatformTransactionManager.class);
+        objectManager = springContext.getBean(ObjectManager.class);
+        repositoryService = springContext.getBean(RepositoryService.class);
+        // transaction scoped proxy, resolves to the instance bound to the current transaction
+        entityChangeTracker = springContext.getBean(EntityChangeTrackerDefault.class);
+
+        val transactionService = springContext.getBean(TransactionService.class);
+        final int batchSize = 10_000;
+        for(int offset = 0; offset < entityCount; offset += batchSize) {
+            final int from = offset;
+            final int to = Math.min(offset + batchSize, entityCount);
+            interactionService.runAnonymous(()->
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+                    for(int i = from; i < to; ++i) {
+                        repositoryService.persist(ChangeTrackedEntity.of(i));
+                    }
+                })
+                .ifFailureFail());
+        }
+
+        nameProperty = objectManager.adapt(ChangeTrackedEntity.of(0))
+                .getSpecification()
+                .getPropertyElseFail("name");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        springContext.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void openTransaction() {
+        interactionService.openInteraction();
+        transactionStatus = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        entities = repositoryService.allInstances(ChangeTrackedEntity.class).stream()
+                .map(objectManager::adapt)
+                .collect(Can.toCan());
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollbackTransaction() {
+        transactionManager.rollback(transactionStatus);
+        interactionService.closeInteractionLayers();
+    }
+
+    @Benchmark
+    public Can<EntityPropertyChange> enlistCreated() {
+        entities.forEach(entityChangeTracker::enlistCreated);
+        return drain();
+    }
+
+    /**
+     * Home-grown approach (as used by JDO), the ORM does not report which properties are dirty.
+     */
+    @Benchmark
+    public Can<EntityPropertyChange> enlistUpdating() {
+        entities.forEach(entity->entityChangeTracker.enlistUpdating(entity, null));
+        return drain();
+    }
+
+    /**
+     * The ORM reports a single dirty property per entity (as with JPA).
+     */
+    @Benchmark
+    public Can<EntityPropertyChange> enlistUpdatingDirtyPropertyOnly() {
+        entities.forEach(entity->entityChangeTracker.enlistUpdating(entity, this::dirtyNameProperty));
+        return drain();
+    }
+
+    @Benchmark
+    public Can<EntityPropertyChange> enlistDeleting() {
+        entities.forEach(entityChangeTracker::enlistDeleting);
+        return drain();
+    }
+
+    // -- HELPER
+
+    private Can<EntityPropertyChange> drain() {
+        return entityChangeTracker.getPropertyChanges(new Timestamp(0L), "benchmark", TransactionId.empty());
+    }
+
+    private Can<PropertyChangeRecord> dirtyNameProperty(final ManagedObject entity) {
+        return Can.of(PropertyChangeRecord.ofCurrent(PropertyChangeRecordId.of(entity, nameProperty), "previous name"));
+    }
+
+}
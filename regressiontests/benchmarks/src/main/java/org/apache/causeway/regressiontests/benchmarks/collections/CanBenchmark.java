@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks.collections;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.apache.causeway.commons.collections.Can;
+
+/**
+ * Measures the hot operations of {@link Can} - as used all over the meta-model and when rendering -
+ * per cardinality: empty, singleton and multiple (small and large).
+ * <p>
+ * Best run with the GC profiler, to also see the allocation rate per operation:
+ * {@code java -jar target/benchmarks.jar CanBenchmark -prof gc}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CanBenchmark {
+
+    @Param({"0", "1", "8", "1000"})
+    private int size;
+
+    private List<Integer> list;
+    private Can<Integer> can;
+    private Can<Integer> other;
+    private int last;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        can = Can.ofCollection(list);
+        other = Can.of(-1, -2);
+        last = size - 1;
+    }
+
+    // -- CONSTRUCTION
+
+    @Benchmark
+    public Can<Integer> ofCollection() {
+        return Can.ofCollection(list);
+    }
+
+    @Benchmark
+    public Can<Integer> builder() {
+        final Can.Builder<Integer> builder = Can.builder(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(list.get(i));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Can<Integer> collectToCan() {
+        return list.stream().collect(Can.toCan());
+    }
+
+    // -- OPERATORS
+
+    @Benchmark
+    public Can<Integer> filter() {
+        return can.filter(i -> (i & 1) == 0);
+    }
+
+    @Benchmark
+    public Can<String> map() {
+        return can.map(String::valueOf);
+    }
+
+    @Benchmark
+    public void forEach(final Blackhole blackhole) {
+        can.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterate(final Blackhole blackhole) {
+        for (Integer i : can) {
+            blackhole.consume(i);
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> findFirst() {
+        return can.findFirst(i -> i == last);
+    }
+
+    @Benchmark
+    public Optional<Integer> streamFindFirst() {
+        return can.stream().filter(i -> i == last).findFirst();
+    }
+
+    // -- MANIPULATION
+
+    @Benchmark
+    public Can<Integer> add() {
+        return can.add(-1);
+    }
+
+    @Benchmark
+    public Can<Integer> addAll() {
+        return can.addAll(other);
+    }
+
+    @Benchmark
+    public Can<Integer> reverse() {
+        return can.reverse();
+    }
+
+    @Benchmark
+    public Can<Integer> pickByIndex() {
+        return can.pickByIndex(0, last);
+    }
+
+    // -- CONVERSION
+
+    @Benchmark
+    public List<Integer> toList() {
+        return can.toList();
+    }
+
+}
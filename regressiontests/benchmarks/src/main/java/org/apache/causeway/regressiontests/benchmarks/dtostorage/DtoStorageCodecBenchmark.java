@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks.dtostorage;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.CommonDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoStorageCodec;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.MapDto;
+import org.apache.causeway.schema.cmd.v2.ParamDto;
+import org.apache.causeway.schema.common.v2.InteractionType;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.ValueType;
+
+import lombok.val;
+
+/**
+ * Measures the throughput of encoding (as on write) and decoding (as on read) a {@link CommandDto}
+ * with the {@link DtoStorageCodec}, for each of its formats.
+ * <p>
+ * The size of the encoded payload (the storage size) is printed during set-up, per format.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar DtoStorageCodecBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DtoStorageCodecBenchmark {
+
+    @Param({"XML", "GZIP"})
+    private DtoStorageCodec.Format format;
+
+    /**
+     * Number of (reference) action parameters, a typical command has a handful; bulk actions many more.
+     */
+    @Param({"5", "50"})
+    private int paramCount;
+
+    private CommandDto commandDto;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        commandDto = sampleCommandDto(paramCount);
+        encoded = DtoStorageCodec.encode(format, CommandDtoUtils.dtoMapper(), commandDto);
+        System.out.printf("%n%s, %d params: %d chars stored (XML: %d chars)%n",
+                format, paramCount, encoded.length(), CommandDtoUtils.dtoMapper().toString(commandDto).length());
+    }
+
+    @Benchmark
+    public String encode() {
+        return DtoStorageCodec.encode(format, CommandDtoUtils.dtoMapper(), commandDto);
+    }
+
+    @Benchmark
+    public CommandDto decode() {
+        return DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), encoded);
+    }
+
+    // -- HELPER
+
+    /**
+     * Similar to what the framework records for an action invoked through the UI, targeting a single entity,
+     * each parameter referencing some other entity.
+     */
+    private static CommandDto sampleCommandDto(final int paramCount) {
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        dto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(System.currentTimeMillis())));
+
+        val target = new OidDto();
+        target.setType("simple.SimpleObject");
+        target.setId("1234");
+        CommandDtoUtils.targetsFor(dto).getOid().add(target);
+
+        val actionDto = new ActionDto();
+        actionDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+        actionDto.setLogicalMemberIdentifier("simple.SimpleObject#assignToCustomers");
+        for (int i = 0; i < paramCount; i++) {
+            val reference = new OidDto();
+            reference.setType("customers.Customer");
+            reference.setId(UUID.randomUUID().toString());
+            val paramDto = new ParamDto();
+            paramDto.setName("customer" + i);
+            paramDto.setType(ValueType.REFERENCE);
+            paramDto.setReference(reference);
+            CommandDtoUtils.parametersFor(actionDto).getParameter().add(paramDto);
+        }
+        dto.setMember(actionDto);
+
+        val userData = new MapDto();
+        CommonDtoUtils.putMapKeyValue(userData, "causeway.extensions.commandlog.applib.dom.CommandLogEntry#target",
+                "simple.SimpleObject:1234");
+        dto.setUserData(userData);
+        return dto;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.interaction;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.regressiontests.benchmarks.BenchmarkApplication;
+
+import lombok.val;
+
+/**
+ * Measures invoking an action through the framework, as done by the viewers ({@link ActionInteraction})
+ * and programmatically ({@link WrapperFactory}), compared to invoking it directly on the pojo.
+ * <p>
+ * As the interaction records every execution, one is opened per invocation.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar ActionInvocationBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ActionInvocationBenchmark {
+
+    private ConfigurableApplicationContext springContext;
+    private InteractionService interactionService;
+    private WrapperFactory wrapperFactory;
+    private EntitySummaryMenu menu;
+    private ManagedObject adaptedMenu;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        springContext = BenchmarkApplication.run();
+        interactionService = springContext.getBean(InteractionService.class);
+        wrapperFactory = springContext.getBean(WrapperFactory.class);
+        menu = springContext.getBean(EntitySummaryMenu.class);
+        adaptedMenu = springContext.getBean(ObjectManager.class).adapt(menu);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        springContext.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void openInteraction() {
+        interactionService.openInteraction();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeInteraction() {
+        interactionService.closeInteractionLayers();
+    }
+
+    /**
+     * Baseline.
+     */
+    @Benchmark
+    public EntitySummary invokeDirectly() {
+        return menu.summary(1);
+    }
+
+    @Benchmark
+    public EntitySummaryMenu wrap() {
+        return wrapperFactory.wrap(menu);
+    }
+
+    @Benchmark
+    public EntitySummary invokeThroughWrapper() {
+        return wrapperFactory.wrap(menu).summary(1);
+    }
+
+    @Benchmark
+    public ManagedObject invokeThroughActionInteraction() {
+        val actionInteraction = ActionInteraction.start(adaptedMenu, "summary", Where.ANYWHERE);
+        val pendingArgs = actionInteraction.startParameterNegotiation().orElseThrow();
+        pendingArgs.updateParamValuePojo(0, __->1);
+        return actionInteraction.invokeWith(pendingArgs).getSuccessElseFail();
+    }
+
+}
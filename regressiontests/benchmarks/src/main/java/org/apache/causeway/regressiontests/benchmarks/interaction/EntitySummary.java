@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.interaction;
+
+import javax.inject.Named;
+import javax.xml.bind.annotation.XmlAccessorOrder;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.Title;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A (JAXB) view model, as actions cannot return entities that are not persisted.
+ */
+@XmlRootElement
+@XmlAccessorOrder
+@Named("benchmarks.EntitySummary")
+@DomainObject(nature = Nature.VIEW_MODEL)
+@NoArgsConstructor
+public class EntitySummary {
+
+    public static EntitySummary of(final int index) {
+        final EntitySummary summary = new EntitySummary();
+        summary.setName("entity-" + index);
+        summary.setDescription("description of entity " + index);
+        summary.setCount(index);
+        return summary;
+    }
+
+    @Property @Title
+    @Getter @Setter
+    private String name;
+
+    @Property
+    @Getter @Setter
+    private String description;
+
+    @Property
+    @Getter @Setter
+    private int count;
+
+}
@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.interaction;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Named;
+
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.SemanticsOf;
+
+/**
+ * Actions that do not touch the persistence store, such that benchmarks invoking them
+ * measure the framework's overhead only.
+ */
+@Named("benchmarks.EntitySummaryMenu")
+@DomainService
+public class EntitySummaryMenu {
+
+    @Action(semantics = SemanticsOf.SAFE)
+    public EntitySummary summary(final int index) {
+        return EntitySummary.of(index);
+    }
+
+    @Action(semantics = SemanticsOf.SAFE)
+    public List<EntitySummary> summaries(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(EntitySummary::of)
+                .collect(Collectors.toList());
+    }
+
+}
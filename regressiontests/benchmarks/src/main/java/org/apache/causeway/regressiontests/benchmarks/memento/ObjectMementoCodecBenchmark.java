@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks.memento;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.resources._Serializables;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCodec;
+import org.apache.causeway.regressiontests.benchmarks.BenchmarkApplication;
+import org.apache.causeway.regressiontests.benchmarks.changetracking.ChangeTrackedEntity;
+
+import lombok.val;
+
+/**
+ * Measures the throughput of encoding an entity's {@link ObjectMemento} to its URL-safe id
+ * (as used for select2 options and page parameters) and decoding it back,
+ * comparing the {@link ObjectMementoCodec} with Java serialization of the same state
+ * (logical type, title and bookmark), as ids were encoded formerly.
+ * <p>
+ * The size of the id is printed during set-up, per format.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar ObjectMementoCodecBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ObjectMementoCodecBenchmark {
+
+    public static enum Format {
+        JAVA_SERIALIZATION,
+        COMPACT
+    }
+
+    @Param({"JAVA_SERIALIZATION", "COMPACT"})
+    private Format format;
+
+    private ConfigurableApplicationContext springContext;
+    private ObjectMemento memento;
+    private String id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        springContext = BenchmarkApplication.run();
+        val interactionService = springContext.getBean(InteractionService.class);
+        val transactionService = springContext.getBean(TransactionService.class);
+        val repositoryService = springContext.getBean(RepositoryService.class);
+        val objectManager = springContext.getBean(ObjectManager.class);
+
+        memento = interactionService.callAnonymous(()->
+            transactionService.callWithinCurrentTransactionElseCreateNew(()->
+                objectManager.adapt(repositoryService.persistAndFlush(ChangeTrackedEntity.of(1)))
+                    .getMementoElseFail())
+            .valueAsNonNullElseFail());
+
+        id = encode();
+        System.out.printf("%n%s: id of %d chars (%s)%n", format, id.length(), id);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        springContext.close();
+    }
+
+    @Benchmark
+    public String encode() {
+        switch (format) {
+        case JAVA_SERIALIZATION:
+            return _Strings.ofBytes(
+                    _Bytes.asUrlBase64.apply(_Serializables.write(new Object[] {
+                            memento.getLogicalType(), memento.getTitle(), memento.getBookmark()})),
+                    StandardCharsets.US_ASCII);
+        case COMPACT:
+        default:
+            return ObjectMemento.enstringToUrlBase64(memento);
+        }
+    }
+
+    @Benchmark
+    public Object decode() {
+        switch (format) {
+        case JAVA_SERIALIZATION:
+            return _Serializables.read(Object[].class,
+                    _Bytes.ofUrlBase64.apply(id.getBytes(StandardCharsets.US_ASCII)));
+        case COMPACT:
+        default:
+            return ObjectMemento.destringFromUrlBase64(id);
+        }
+    }
+
+}
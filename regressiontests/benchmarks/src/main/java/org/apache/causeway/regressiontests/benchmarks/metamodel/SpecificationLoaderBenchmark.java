@@ -0,0 +1,145 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.metamodel;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.regressiontests.benchmarks.BenchmarkApplication;
+import org.apache.causeway.regressiontests.benchmarks.changetracking.ChangeTrackedEntity;
+import org.apache.causeway.regressiontests.benchmarks.interaction.EntitySummaryMenu;
+
+/**
+ * Measures the meta-model lookups done for (nearly) every request: specification lookup by type and
+ * by logical type name, member and facet lookup, adapting a pojo to a {@link ManagedObject} and
+ * rendering its title.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar SpecificationLoaderBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SpecificationLoaderBenchmark {
+
+    private ConfigurableApplicationContext springContext;
+    private InteractionService interactionService;
+    private SpecificationLoader specificationLoader;
+    private ObjectManager objectManager;
+
+    private ObjectSpecification entitySpec;
+    private ObjectSpecification menuSpec;
+    private ChangeTrackedEntity entity;
+    private ManagedObject adaptedEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        springContext = BenchmarkApplication.run();
+        interactionService = springContext.getBean(InteractionService.class);
+        specificationLoader = springContext.getBean(SpecificationLoader.class);
+        objectManager = springContext.getBean(ObjectManager.class);
+
+        entitySpec = specificationLoader.specForTypeElseFail(ChangeTrackedEntity.class);
+        menuSpec = specificationLoader.specForTypeElseFail(EntitySummaryMenu.class);
+        entity = ChangeTrackedEntity.of(1);
+        adaptedEntity = objectManager.adapt(entity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        springContext.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void openInteraction() {
+        interactionService.openInteraction();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeInteraction() {
+        interactionService.closeInteractionLayers();
+    }
+
+    // -- SPECIFICATION LOOKUP
+
+    @Benchmark
+    public Optional<ObjectSpecification> specForType() {
+        return specificationLoader.specForType(ChangeTrackedEntity.class);
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> specForLogicalTypeName() {
+        return specificationLoader.specForLogicalTypeName("benchmarks.ChangeTrackedEntity");
+    }
+
+    // -- MEMBER AND FACET LOOKUP
+
+    @Benchmark
+    public Optional<ObjectAssociation> getAssociation() {
+        return entitySpec.getAssociation("description");
+    }
+
+    @Benchmark
+    public Optional<ObjectAction> getAction() {
+        return menuSpec.getAction("summaries");
+    }
+
+    @Benchmark
+    public Optional<TitleFacet> lookupFacet() {
+        return entitySpec.lookupFacet(TitleFacet.class);
+    }
+
+    // -- ADAPTATION AND TITLE RENDERING
+
+    @Benchmark
+    public ManagedObject adapt() {
+        return objectManager.adapt(entity);
+    }
+
+    @Benchmark
+    public String title() {
+        return adaptedEntity.getTitle();
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.tabular;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmSortUtils.SortDirection;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive.ColumnSort;
+import org.apache.causeway.regressiontests.benchmarks.BenchmarkApplication;
+import org.apache.causeway.regressiontests.benchmarks.interaction.EntitySummaryMenu;
+
+import lombok.val;
+
+/**
+ * Measures building the rows of a {@link DataTableInteractive} for an action's result (as rendered by the viewers),
+ * and re-sorting and re-filtering these.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar DataTableInteractiveBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataTableInteractiveBenchmark {
+
+    @Param({"10", "1000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext springContext;
+    private InteractionService interactionService;
+    private ManagedAction managedAction;
+    private ManagedObject actionResult;
+    private DataTableInteractive dataTable;
+    private int nameColumnIndex;
+
+    // alternated per invocation, so that sorting and filtering is never served from the table's cache
+    private boolean toggle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        springContext = BenchmarkApplication.run();
+        interactionService = springContext.getBean(InteractionService.class);
+        val adaptedMenu = springContext.getBean(ObjectManager.class)
+                .adapt(springContext.getBean(EntitySummaryMenu.class));
+
+        interactionService.runAnonymous(()->{
+            val actionInteraction = ActionInteraction.start(adaptedMenu, "summaries", Where.ANYWHERE);
+            val pendingArgs = actionInteraction.startParameterNegotiation().orElseThrow();
+            pendingArgs.updateParamValuePojo(0, __->rowCount);
+            managedAction = actionInteraction.getManagedAction().orElseThrow();
+            actionResult = actionInteraction.invokeWith(pendingArgs).getSuccessElseFail();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        springContext.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void openInteraction() {
+        interactionService.openInteraction();
+        dataTable = DataTableInteractive.forAction(managedAction, actionResult);
+        val columns = dataTable.getDataColumns().getValue();
+        nameColumnIndex = IntStream.range(0, columns.size())
+                .filter(index->columns.getElseFail(index).getAssociationMetaModel().getId().equals("name"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeInteraction() {
+        interactionService.closeInteractionLayers();
+    }
+
+    @Benchmark
+    public Can<DataRow> build() {
+        return DataTableInteractive.forAction(managedAction, actionResult)
+                .getDataRowsFilteredAndSorted().getValue();
+    }
+
+    @Benchmark
+    public Can<DataRow> sort() {
+        toggle = !toggle;
+        dataTable.getColumnSort().setValue(new ColumnSort(nameColumnIndex, toggle
+                ? SortDirection.ASCENDING
+                : SortDirection.DESCENDING));
+        return dataTable.getDataRowsFilteredAndSorted().getValue();
+    }
+
+    @Benchmark
+    public Can<DataRow> filter() {
+        toggle = !toggle;
+        dataTable.getSearchArgument().setValue(toggle
+                ? "entity-1"
+                : "entity-2");
+        return dataTable.getDataRowsFilteredAndSorted().getValue();
+    }
+
+}
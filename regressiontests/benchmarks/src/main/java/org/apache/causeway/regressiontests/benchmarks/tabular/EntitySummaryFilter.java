@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.tabular;
+
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.regressiontests.benchmarks.interaction.EntitySummary;
+
+import lombok.NonNull;
+
+/**
+ * Makes tables of {@link EntitySummary}s searchable, by name (case-insensitive).
+ */
+@Service
+public class EntitySummaryFilter implements CollectionFilterService {
+
+    @Override
+    public boolean handles(final @NonNull Class<?> domainType) {
+        return EntitySummary.class.isAssignableFrom(domainType);
+    }
+
+    @Override
+    public <T> Function<T, Tokens> tokenizer(final @NonNull Class<T> domainType) {
+        return element->{
+            final String name = _Casts.<EntitySummary>uncheckedCast(element).getName().toLowerCase();
+            return searchArg->name.contains(searchArg.toLowerCase());
+        };
+    }
+
+}
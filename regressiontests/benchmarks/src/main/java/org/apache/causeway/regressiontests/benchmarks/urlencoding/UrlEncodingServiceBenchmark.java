@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.regressiontests.benchmarks.urlencoding;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.causeway.applib.services.urlencoding.UrlEncodingService;
+import org.apache.causeway.core.runtimeservices.urlencoding.UrlEncodingServiceWithCompression;
+
+/**
+ * Measures round trips through the {@link UrlEncodingServiceWithCompression} (as used eg. for view model and
+ * bookmark URLs), compared to plain (uncompressed) URL-safe base64.
+ * <p>
+ * The payload is a list of bookmarks, of roughly the given number of chars; its size once encoded is printed
+ * during set-up, per format.
+ * <p>
+ * Run with: {@code java -jar target/benchmarks.jar UrlEncodingServiceBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UrlEncodingServiceBenchmark {
+
+    public static enum Format {
+        COMPRESSION,
+        NO_COMPRESSION
+    }
+
+    @Param({"COMPRESSION", "NO_COMPRESSION"})
+    private Format format;
+
+    @Param({"100", "10000"})
+    private int payloadLength;
+
+    private UrlEncodingService urlEncodingService;
+    private String payload;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        urlEncodingService = format == Format.COMPRESSION
+                ? new UrlEncodingServiceWithCompression()
+                : UrlEncodingService.forTestingNoCompression();
+
+        final StringBuilder sb = new StringBuilder();
+        while(sb.length() < payloadLength) {
+            sb.append("benchmarks.ChangeTrackedEntity:").append(UUID.randomUUID()).append('\n');
+        }
+        payload = sb.toString();
+        encoded = urlEncodingService.encodeString(payload);
+        System.out.printf("%n%s, %d chars: %d chars encoded%n", format, payload.length(), encoded.length());
+    }
+
+    @Benchmark
+    public String encode() {
+        return urlEncodingService.encodeString(payload);
+    }
+
+    @Benchmark
+    public String decode() {
+        return urlEncodingService.decodeToString(encoded);
+    }
+
+}
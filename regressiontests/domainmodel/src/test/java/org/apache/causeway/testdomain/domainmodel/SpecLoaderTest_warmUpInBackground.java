@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.domainmodel;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_headless;
+import org.apache.causeway.testdomain.model.good.Configuration_usingValidDomain;
+import org.apache.causeway.testdomain.model.good.ProperMemberSupport;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_headless.class,
+                Configuration_usingValidDomain.class,
+        },
+        properties = {
+                "causeway.core.meta-model.introspector.mode=LAZY",
+                "causeway.core.meta-model.introspector.warm-up-in-background=TRUE",
+                "causeway.applib.annotation.domain-object.editing=TRUE",
+                "causeway.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+        })
+@TestPropertySource({
+    CausewayPresets.SilenceMetaModel,
+    CausewayPresets.SilenceProgrammingModel
+})
+class SpecLoaderTest_warmUpInBackground {
+
+    @Inject private SpecificationLoader specificationLoader;
+
+    @Test
+    void specs_racingWithWarmUp_shouldBeFullyIntrospected() {
+
+        // regardless of whether the warm-up got to it yet
+        val holderSpec = specificationLoader.specForTypeElseFail(ProperMemberSupport.class);
+
+        assertEquals("action1", holderSpec.getActionElseFail("action1").getId()); // mixed-in
+        assertEquals("property2", holderSpec.getAssociationElseFail("property2").getId()); // mixed-in
+    }
+
+    @Test
+    void warmUp_shouldEventuallyValidate() throws InterruptedException {
+
+        for (int i = 0; i < 600 && !specificationLoader.getValidationResult().isPresent(); i++) {
+            Thread.sleep(100);
+        }
+
+        val validationResult = specificationLoader.getValidationResult();
+        assertTrue(validationResult.isPresent(), "expected warm-up to complete within 60 seconds");
+        assertFalse(validationResult.get().hasFailures(),
+                ()->String.join("\n", validationResult.get().getMessages()));
+    }
+
+}
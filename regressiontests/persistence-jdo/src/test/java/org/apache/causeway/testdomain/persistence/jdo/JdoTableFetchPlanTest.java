@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.sql.SQLException;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.RegressionTestWithJdoFixtures;
+import org.apache.causeway.testdomain.jdo.entities.JdoProduct;
+import org.apache.causeway.testdomain.jdo.entities.JdoProductComment;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JdoTableFetchPlanTest",
+                "datanucleus.cache.level2.type=none",
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JdoTableFetchPlanTest extends RegressionTestWithJdoFixtures {
+
+    @Inject private CausewayConfiguration causewayConfiguration;
+    @Inject private DataSource dataSource;
+
+    private boolean tableFetchPlanEnabledBefore;
+
+    @BeforeEach
+    void addCommentsToEachProduct() {
+        tableFetchPlanEnabledBefore = causewayConfiguration.getPersistence().getCommons().getTableFetchPlan().isEnabled();
+        run(()->{
+            repositoryService.allInstances(JdoProduct.class)
+            .forEach(product->{
+                val comment = repositoryService.detachedEntity(new JdoProductComment());
+                comment.setProduct(product);
+                comment.setComment("Awesome Book!");
+                repositoryService.persist(comment);
+            });
+        });
+    }
+
+    @AfterEach
+    void removeComments() {
+        try {
+            run(()->repositoryService.removeAll(JdoProductComment.class));
+        } finally {
+            // the configuration is shared with other tests of the same (cached) application context
+            tableFetchPlanEnabled(tableFetchPlanEnabledBefore);
+        }
+    }
+
+    @Test
+    void tableRender_shouldLoadReferencedEntitiesIndividually_whenDisabled() throws SQLException {
+        tableFetchPlanEnabled(false);
+
+        // 1 query for the comments, plus 1 for each of the 3 (hollow) products
+        assertTrue(countStatementsForRenderingCommentsTable() >= 4);
+    }
+
+    @Test
+    void tableRender_shouldFetchReferencedEntitiesWithQuery_whenEnabled() throws SQLException {
+        tableFetchPlanEnabled(true);
+
+        assertEquals(1, countStatementsForRenderingCommentsTable());
+    }
+
+    // -- HELPER
+
+    private void tableFetchPlanEnabled(final boolean enabled) {
+        causewayConfiguration.getPersistence().getCommons().getTableFetchPlan().setEnabled(enabled);
+    }
+
+    /**
+     * Renders the titles of all the cells of a standalone table of comments,
+     * counting the SQL statements that touch the product or comment tables.
+     */
+    private long countStatementsForRenderingCommentsTable() throws SQLException {
+        return call(()->{
+            val before = productStatementCount();
+            DataTable.forDomainType(JdoProductComment.class, DataTable.columnFilterIncluding(Where.STANDALONE_TABLES))
+                .populateEntities()
+                .visit((column, cellValues)->cellValues.forEach(cellValue->cellValue.getTitle()));
+            return productStatementCount() - before;
+        });
+    }
+
+    private long productStatementCount() throws SQLException {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement()) {
+            statement.execute("SET QUERY_STATISTICS TRUE");
+            try(val resultSet = statement.executeQuery(
+                    "SELECT COALESCE(SUM(EXECUTION_COUNT), 0) FROM INFORMATION_SCHEMA.QUERY_STATISTICS "
+                    + "WHERE UPPER(SQL_STATEMENT) LIKE '%PRODUCT%' "
+                    + "AND UPPER(SQL_STATEMENT) NOT LIKE '%QUERY_STATISTICS%'")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.util.rest.RestEndpointService;
+import org.apache.causeway.testing.unittestsupport.applib.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.viewer.restfulobjects.jaxrsresteasy.CausewayModuleViewerRestfulObjectsJaxrsResteasy;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * As {@link RestServiceStressTest}, but with a single client shared by all callers,
+ * using pooled connections and asynchronous invocations.
+ */
+@SpringBootTest(
+        classes = {RestEndpointService.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Import({
+    Configuration_usingJdo.class,
+    CausewayModuleViewerRestfulObjectsJaxrsResteasy.class
+})
+@DisabledIfRunningWithSurefire
+@Log4j2
+class RestServiceLoadTest {
+
+    @LocalServerPort int port; // just for reference (not used)
+    @Inject RestEndpointService restService;
+
+    @Test
+    void bookOfTheWeek_loadTest_async() {
+
+        assertTrue(restService.getPort()>0);
+
+        final int maxConnections = 16;
+        final int requests = 16_000;
+        val succeeded = new AtomicLong();
+        val label = String.format("Calling REST endpoint %d times (async, %d pooled connections)",
+                requests, maxConnections);
+
+        try(val restfulClient = restService.newPooledClient(maxConnections, maxConnections)) {
+
+            // bounds the number of requests in flight, to not just measure queuing
+            val inFlight = new Semaphore(2 * maxConnections);
+
+            _Timing.runVerbose(log, label, ()->{
+
+                val futures = IntStream.range(0, requests)
+                .mapToObj(i->{
+                    inFlight.acquireUninterruptibly();
+                    return restService.getRecommendedBookOfTheWeekDtoAsync(restfulClient)
+                            .whenComplete((digest, ex)->inFlight.release())
+                            .thenAccept(digest->digest
+                                    .getValue()
+                                    .filter(book->"Book of the week".equals(book.getName()))
+                                    .ifPresent(__->succeeded.incrementAndGet()))
+                            .toCompletableFuture();
+                })
+                .toArray(CompletableFuture[]::new);
+
+                CompletableFuture.allOf(futures).join();
+            });
+        }
+
+        assertEquals(requests, succeeded.get());
+    }
+
+    @Test
+    void multipleBooks_loadTest_streamed() {
+
+        assertTrue(restService.getPort()>0);
+
+        final int nrOfBooks = 10_000;
+        val booksConsumed = new AtomicLong();
+        val label = String.format("Streaming %d books from REST endpoint", nrOfBooks);
+
+        try(val restfulClient = restService.newPooledClient(1, 0)) {
+            _Timing.runVerbose(log, label, ()->{
+                val digest = restService.streamMultipleBooksAsDto(restfulClient, nrOfBooks,
+                        book->booksConsumed.incrementAndGet())
+                        .ifFailureFail();
+                assertEquals((long) nrOfBooks, digest.getValue().orElseThrow());
+            });
+        }
+
+        assertEquals(nrOfBooks, booksConsumed.get());
+    }
+
+}
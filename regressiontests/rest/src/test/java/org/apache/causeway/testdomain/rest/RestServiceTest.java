@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.testdomain.rest;
 
+import java.util.ArrayList;
+
 import javax.inject.Inject;
 import javax.xml.bind.JAXBException;
 
@@ -95,6 +97,21 @@ void bookOfTheWeek_viaRestEndpoint() {
         assertEquals("Book of the week", bookOfTheWeek.getName());
     }
 
+    @Test
+    void bookOfTheWeek_async_viaRestEndpoint() {
+        try(val pooledClient = restService.newPooledClient(4, 2)) {
+            val digest = restService.getRecommendedBookOfTheWeekDtoAsync(pooledClient)
+                    .toCompletableFuture()
+                    .join()
+                    .ifFailureFail();
+
+            val bookOfTheWeek = digest.getValue().orElseThrow();
+
+            assertNotNull(bookOfTheWeek);
+            assertEquals("Book of the week", bookOfTheWeek.getName());
+        }
+    }
+
     @Test
     void addNewBook_viaRestEndpoint() throws JAXBException {
         val newBook = JdoBook.of("REST Book", "A sample REST book for testing.", 77.,
@@ -133,6 +150,16 @@ void bookOfTheWeek_asDto_viaRestEndpoint() {
         assertEquals("Book of the week", bookOfTheWeek.getName());
     }
 
+    @Test
+    void multipleBooks_asDto_streamed_viaRestEndpoint() {
+        val bookNames = new ArrayList<String>();
+        val digest = restService.streamMultipleBooksAsDto(restfulClient, 3, book->bookNames.add(book.getName()))
+                .ifFailureFail();
+
+        assertEquals(3L, digest.getValue().orElseThrow());
+        assertEquals(3, bookNames.size());
+    }
+
     @Test
     void multipleBooks_asDto_viaRestEndpoint() throws JAXBException {
         val digest = restService.getMultipleBooksAsDto(restfulClient)
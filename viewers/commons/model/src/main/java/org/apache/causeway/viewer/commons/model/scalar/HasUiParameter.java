@@ -20,6 +20,7 @@
 
 import java.util.Optional;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteractionHead;
@@ -92,6 +93,11 @@ default Can<ManagedObject> getAutoComplete(final String searchArg) {
         return getMetaModel().getAutoComplete(getParameterNegotiationModel(), searchArg, InteractionInitiatedBy.USER);
     }
 
+    @Override
+    default Can<ManagedObject> getAutoComplete(final String searchArg, final QueryRange range) {
+        return getMetaModel().getAutoComplete(getParameterNegotiationModel(), searchArg, range, InteractionInitiatedBy.USER);
+    }
+
     @Override
     default String getFriendlyName() {
         return getMetaModel().getFriendlyName(this::getOwner);
@@ -20,6 +20,7 @@
 
 import java.util.Optional;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.FeatureType;
@@ -100,6 +101,13 @@ default boolean hasObjectAutoComplete() {
     Can<ManagedObject> getChoices();
     Can<ManagedObject> getAutoComplete(final String searchArg);
 
+    /**
+     * As {@link #getAutoComplete(String)}, but only returning the matches within given {@link QueryRange}.
+     */
+    default Can<ManagedObject> getAutoComplete(final String searchArg, final QueryRange range) {
+        return range.slice(getAutoComplete(searchArg));
+    }
+
     default ChoiceProviderSort getChoiceProviderSort() {
         return ChoiceProviderSort.valueOf(this);
     }
@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.client;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.ClientBuilder;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Connection pooling is not covered by the JAX-RS API, hence configured reflectively,
+ * as supported by RESTEasy's {@code ResteasyClientBuilder}, which we don't want to depend on at compile time.
+ */
+@UtilityClass
+@Log4j2
+class ConnectionPooling {
+
+    void configure(final RestfulClientConfig clientConfig, final ClientBuilder clientBuilder) {
+        if(clientConfig.getMaxConnections() <= 0) {
+            return;
+        }
+        try {
+            invoke(clientBuilder, "connectionPoolSize", clientConfig.getMaxConnections());
+            if(clientConfig.getMaxConnectionsPerRoute() > 0) {
+                invoke(clientBuilder, "maxPooledPerRoute", clientConfig.getMaxConnectionsPerRoute());
+            }
+            if(clientConfig.getConnectionTtlInMillis() > 0) {
+                clientBuilder.getClass().getMethod("connectionTTL", long.class, TimeUnit.class)
+                    .invoke(clientBuilder, clientConfig.getConnectionTtlInMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (NoSuchMethodException e) {
+            log.warn("connection pooling is not supported by JAX-RS client builder {}; ignoring maxConnections",
+                    clientBuilder.getClass().getName());
+        } catch (ReflectiveOperationException e) {
+            throw _Exceptions.unrecoverable(e, "failed to configure connection pooling");
+        }
+    }
+
+    // -- HELPER
+
+    private void invoke(
+            final ClientBuilder clientBuilder,
+            final String methodName,
+            final int arg) throws ReflectiveOperationException {
+        clientBuilder.getClass().getMethod(methodName, int.class).invoke(clientBuilder, arg);
+    }
+
+}
@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
@@ -69,19 +70,48 @@ static <T> ResponseDigest<T> wrapList(
         return new ResponseDigest<>(response, entityType, genericType).digest();
     }
 
+    /**
+     * synchronous response processing (list of entities, passed one by one to given {@code elementConsumer});
+     * closes the response
+     * @param <T>
+     * @param response
+     * @param entityType
+     * @param elementConsumer
+     */
+    static <T> ResponseDigest<T> wrapStreamed(
+            final @NonNull Response response,
+            final @NonNull Class<T> entityType,
+            final @NonNull Consumer<? super T> elementConsumer) {
+
+        try {
+            return new ResponseDigest<>(response, entityType, null, elementConsumer).digest();
+        } finally {
+            response.close();
+        }
+    }
+
     private final Response response;
     private final Class<T> entityType;
     private final GenericType<List<T>> genericType;
+    private final Consumer<? super T> elementConsumer;
 
     private Can<T> entities;
+    private long elementCount;
     private Exception failureCause;
 
 
     protected ResponseDigest(
             final Response response, final Class<T> entityType, final GenericType<List<T>> genericType) {
+        this(response, entityType, genericType, null);
+    }
+
+    private ResponseDigest(
+            final Response response, final Class<T> entityType, final GenericType<List<T>> genericType,
+            final Consumer<? super T> elementConsumer) {
         this.response = response;
         this.entityType = entityType;
         this.genericType = genericType;
+        this.elementConsumer = elementConsumer;
     }
 
     /**
@@ -112,6 +142,13 @@ Can<T> getEntities(){
         return entities;
     }
 
+    /**
+     * @return the number of entities passed to the element consumer, when streamed
+     */
+    long getElementCount() {
+        return elementCount;
+    }
+
     /**
      * @return (nullable), the failure case (if any), when the REST endpoint replied with a failure status code
      */
@@ -161,7 +198,12 @@ private ResponseDigest<T> digest() {
 
         try {
 
-            if(genericType==null) {
+            if(elementConsumer!=null) {
+                // when response is a list, to be streamed
+                log.debug("streamList({})", digester);
+                elementCount = digester.streamList(entityType, response, elementConsumer);
+                entities = Can.empty();
+            } else if(genericType==null) {
                 // when response is a singleton
                 log.debug("readSingle({})", digester);
                 val singleton = digester.readSingle(entityType, response);
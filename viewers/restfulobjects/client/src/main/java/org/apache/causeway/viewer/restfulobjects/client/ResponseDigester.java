@@ -18,13 +18,17 @@
  */
 package org.apache.causeway.viewer.restfulobjects.client;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.lang.Nullable;
@@ -43,6 +47,7 @@ interface ResponseDigester {
 
     <T> T readSingle(Class<T> entityType, Response response);
     <T> List<T> readList(Class<T> entityType, GenericType<List<T>> genericType, Response response);
+    <T> long streamList(Class<T> entityType, Response response, Consumer<? super T> elementConsumer);
 
     // -- FACTORIES
 
@@ -72,6 +77,11 @@ public <T> T readSingle(final Class<T> entityType, final Response response) {
         public <T> List<T> readList(final Class<T> entityType, final GenericType<List<T>> genericType, final Response response) {
             throw _Exceptions.notImplemented();
         }
+
+        @Override
+        public <T> long streamList(final Class<T> entityType, final Response response, final Consumer<? super T> elementConsumer) {
+            throw _Exceptions.notImplemented();
+        }
     }
 
     @RequiredArgsConstructor
@@ -79,6 +89,10 @@ static class ResponseDigesterJsonSimple implements ResponseDigester {
 
         private final RepresentationTypeSimplifiedV2 reprType;
 
+        // thread-safe once configured
+        private static final ObjectMapper streamingMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
         @SneakyThrows
         @Override
         public <T> T readSingle(final Class<T> entityType, final Response response) {
@@ -118,6 +132,30 @@ public <T> List<T> readList(final Class<T> entityType, final GenericType<List<T>
             }
             return response.readEntity(genericType);
         }
+
+        @SneakyThrows
+        @Override
+        public <T> long streamList(final Class<T> entityType, final Response response, final Consumer<? super T> elementConsumer) {
+            val isScalar = reprType.isValues()
+                    || reprType.isValue();
+            try(val input = response.readEntity(InputStream.class);
+                val parser = streamingMapper.getFactory().createParser(input)) {
+
+                if(parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw _Exceptions.unrecoverable("expected a JSON array, got %s", parser.currentToken());
+                }
+                long count = 0;
+                while(parser.nextToken() != JsonToken.END_ARRAY) {
+                    // explicit loop, for simpler exception propagation
+                    final T element = isScalar
+                            ? streamingMapper.readValue(parser, ScalarValueDtoV2.class).getValueAs(entityType)
+                            : streamingMapper.readValue(parser, entityType);
+                    elementConsumer.accept(element);
+                    count++;
+                }
+                return count;
+            }
+        }
     }
 
 }
@@ -21,6 +21,13 @@
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 import javax.ws.rs.client.Client;
@@ -30,6 +37,8 @@
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.value.semantics.ValueDecomposition;
 import org.apache.causeway.applib.value.semantics.ValueSemanticsProvider;
 import org.apache.causeway.commons.collections.Can;
@@ -41,6 +50,7 @@
 import org.apache.causeway.viewer.restfulobjects.client.log.ClientConversationLogger;
 
 import lombok.NonNull;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -82,6 +92,20 @@
     System.out.println("result: "+ digest.getValue().orElseThrow().get$$instanceId());
 } else {
     digest.getFailure().get().printStackTrace();
+}
+ * </pre></blockquote>
+ *
+ * For many (concurrent) calls, share a single client with pooled connections, and invoke asynchronously:
+ * <blockquote><pre>{@code
+
+RestfulClientConfig clientConfig = RestfulClientConfig.builder()
+    ...
+    .maxConnections(32)
+    .maxConnectionsPerRoute(32)
+    .asyncThreads(8)
+    .build();
+
+CompletionStage<Try<MyObject>> digest = client.digestAsync(request.rx().post(args), MyObject.class);
 }
  * </pre></blockquote>
  *
@@ -93,6 +117,7 @@ public class RestfulClient implements AutoCloseable {
     private final RestfulClientConfig clientConfig;
     private final AuthorizationHeaderFactory authorizationHeaderFactory;
     private final Client client;
+    private final @Nullable ExecutorService asyncExecutor;
 
     /**
      * @param clientConfig - used to derive authorization (either BASIC or OAUTH)
@@ -133,8 +158,22 @@ private RestfulClient(
         this.clientConfig = clientConfig;
         this.authorizationHeaderFactory = authorizationHeaderFactory;
 
-        final ClientBuilder clientBuilder = configRefiner.apply(ClientBuilder.newBuilder());
-        this.client = clientBuilder.build();
+        final ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+        if(clientConfig.getConnectTimeoutInMillis() > 0) {
+            clientBuilder.connectTimeout(clientConfig.getConnectTimeoutInMillis(), TimeUnit.MILLISECONDS);
+        }
+        if(clientConfig.getReadTimeoutInMillis() > 0) {
+            clientBuilder.readTimeout(clientConfig.getReadTimeoutInMillis(), TimeUnit.MILLISECONDS);
+        }
+        ConnectionPooling.configure(clientConfig, clientBuilder);
+        this.asyncExecutor = clientConfig.getAsyncThreads() > 0
+                ? Executors.newFixedThreadPool(clientConfig.getAsyncThreads(), RestfulClient::newAsyncThread)
+                : null;
+        if(asyncExecutor != null) {
+            clientBuilder.executorService(asyncExecutor);
+        }
+        // applied last, so may override any of the above
+        this.client = configRefiner.apply(clientBuilder).build();
 
         registerDefaultJsonProvider();
         registerAuthFilter(this.authorizationHeaderFactory);
@@ -159,6 +198,9 @@ public void close() {
         } catch (Throwable ex) {
             // just ignore
         }
+        if(asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
     }
 
     // -- REQUEST BUILDER
@@ -193,6 +235,57 @@ public <T> Try<Can<T>> digestList(final Response response, final Class<T> entity
         return Try.failure(listDigest.getFailureCause());
     }
 
+    /**
+     * Digests a list response element by element, passing each to given {@code elementConsumer}
+     * as soon as it is parsed, rather than materializing the entire list (and its JSON) in memory first.
+     * The response is closed when done.
+     * <p>
+     * Only supported for the {@link RestfulClientMediaType#SIMPLE_JSON simplified JSON} representation;
+     * parsing is done with Jackson (rather than with the JAX-RS provider), hence the entity type must be Jackson
+     * compatible.
+     *
+     * @return the number of elements consumed
+     */
+    public <T> Try<Long> digestStreamed(
+            final Response response,
+            final Class<T> entityType,
+            final Consumer<? super T> elementConsumer) {
+        final var streamDigest = ResponseDigest.wrapStreamed(response, entityType, elementConsumer);
+        if(streamDigest.isSuccess()) {
+            return Try.success(streamDigest.getElementCount());
+        }
+        return Try.failure(streamDigest.getFailureCause());
+    }
+
+    // -- ASYNC RESPONSE PROCESSING
+
+    /**
+     * Asynchronous variant of {@link #digest(Response, Class)}, for a response as obtained via
+     * {@link Builder#rx()}, eg. {@code client.request(path).rx().post(args)}.
+     * <p>
+     * Transport failures are digested to a failed {@link Try}, same as non-successful responses.
+     */
+    public <T> CompletionStage<Try<T>> digestAsync(
+            final CompletionStage<Response> responseStage,
+            final Class<T> entityType) {
+        return responseStage.handle((response, ex)->ex != null
+                ? Try.failure(unwrapped(ex))
+                : digest(response, entityType));
+    }
+
+    /**
+     * Asynchronous variant of {@link #digestList(Response, Class, GenericType)}.
+     * @see #digestAsync(CompletionStage, Class)
+     */
+    public <T> CompletionStage<Try<Can<T>>> digestListAsync(
+            final CompletionStage<Response> responseStage,
+            final Class<T> entityType,
+            final GenericType<List<T>> genericType) {
+        return responseStage.handle((response, ex)->ex != null
+                ? Try.failure(unwrapped(ex))
+                : digestList(response, entityType, genericType));
+    }
+
     /**
      * For transport of {@link ValueDecomposition} over REST.
      * @see ActionParameterListBuilder#addActionParameter(String, ValueDecomposition)
@@ -241,6 +334,20 @@ private void registerConversationFilters() {
 
     // -- HELPER OTHER
 
+    private static Thread newAsyncThread(final Runnable runnable) {
+        val thread = new Thread(runnable, "RestfulClient-async-" + ASYNC_THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+    private static final AtomicInteger ASYNC_THREAD_COUNTER = new AtomicInteger();
+
+    private static Throwable unwrapped(final Throwable ex) {
+        return ex instanceof CompletionException
+                && ex.getCause() != null
+                    ? ex.getCause()
+                    : ex;
+    }
+
     private UriBuilder relativePathToUri(String path) {
         final String baseUri = _Strings.suffix(clientConfig.getRestfulBaseUrl(), "/");
         while(path.startsWith("/")) {
@@ -116,6 +116,49 @@ public class RestfulClientConfig {
     @Builder.Default
     private long readTimeoutInMillis = 0L;
 
+    /**
+     * Maximum number of (pooled) connections, shared by all requests of the client.
+     * <p>
+     * Value {@code 0} leaves it to the JAX-RS implementation; with RESTEasy, that is a single connection,
+     * which is not shared between concurrent requests.
+     * <p>
+     * Pooling is only supported if the JAX-RS implementation is RESTEasy, otherwise ignored (with a warning).
+     */
+    @XmlElement(name="maxConnections")
+    @Builder.Default
+    private int maxConnections = 0;
+
+    /**
+     * Maximum number of pooled connections per route (that is, per target host),
+     * used iff {@link #getMaxConnections()} is set.
+     * <p>
+     * Value {@code 0} leaves it to the JAX-RS implementation.
+     * As clients usually talk to just one host, one would typically set this to {@link #getMaxConnections()}.
+     */
+    @XmlElement(name="maxConnectionsPerRoute")
+    @Builder.Default
+    private int maxConnectionsPerRoute = 0;
+
+    /**
+     * Time to live of pooled connections, used iff {@link #getMaxConnections()} is set.
+     * <p>
+     * Value {@code 0} represents infinity.
+     */
+    @XmlElement(name="connectionTtlInMillis")
+    @Builder.Default
+    private long connectionTtlInMillis = 0L;
+
+    /**
+     * Number of threads to process asynchronous (reactive) invocations with,
+     * as obtained via {@link javax.ws.rs.client.Invocation.Builder#rx()}.
+     * <p>
+     * Value {@code 0} leaves it to the JAX-RS implementation.
+     * @see javax.ws.rs.client.ClientBuilder#executorService(java.util.concurrent.ExecutorService)
+     */
+    @XmlElement(name="asyncThreads")
+    @Builder.Default
+    private int asyncThreads = 0;
+
     @XmlTransient
     @Builder.Default
     private final List<ClientConversationFilter> clientConversationFilters = new ArrayList<>();
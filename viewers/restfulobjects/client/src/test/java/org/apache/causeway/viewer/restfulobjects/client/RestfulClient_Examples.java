@@ -18,11 +18,17 @@
  */
 package org.apache.causeway.viewer.restfulobjects.client;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+
 import org.apache.causeway.viewer.restfulobjects.client.auth.AuthorizationHeaderFactory;
 
 @SuppressWarnings("unused")
@@ -107,6 +113,25 @@ void refiner() {
         );
     }
 
+    // single client, shared by concurrent callers
+    void pooled_async() {
 
+        RestfulClient restfulClient = RestfulClient.ofConfig(
+                RestfulClientConfig.builder()
+                        .restfulBaseUrl("localhost:8080")
+                        //...
+                        .maxConnections(32)
+                        .maxConnectionsPerRoute(32)
+                        .asyncThreads(8)
+                        .build());
+
+        CompletionStage<Response> response = restfulClient
+                .request("services/customers.CustomerApi/actions/findAll/invoke")
+                .rx()
+                .get();
+
+        CompletionStage<Try<Can<String>>> digest = restfulClient
+                .digestListAsync(response, String.class, new GenericType<List<String>>() {});
+    }
 
 }
\ No newline at end of file
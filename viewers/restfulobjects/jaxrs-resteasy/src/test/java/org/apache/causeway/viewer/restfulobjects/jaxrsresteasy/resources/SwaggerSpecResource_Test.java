@@ -0,0 +1,190 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.jaxrsresteasy.resources;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.swagger.Format;
+import org.apache.causeway.applib.services.swagger.SwaggerService;
+import org.apache.causeway.applib.services.swagger.SwaggerSpec;
+import org.apache.causeway.applib.services.swagger.Visibility;
+import org.apache.causeway.viewer.restfulobjects.viewer.resources.SwaggerSpecResource;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class SwaggerSpecResource_Test {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\"}";
+
+    private Dispatcher dispatcher;
+    private InteractionService interactionService;
+
+    @BeforeEach
+    void setUp() {
+        val swaggerService = Mockito.mock(SwaggerService.class);
+        when(swaggerService.lookupSwaggerSpec(Visibility.PUBLIC, Format.JSON))
+            .thenReturn(SwaggerSpec.of(Visibility.PUBLIC, Format.JSON, SPEC));
+
+        interactionService = Mockito.mock(InteractionService.class);
+        when(interactionService.callAnonymous(any(Callable.class)))
+            .thenAnswer(invocation->invocation.<Callable<?>>getArgument(0).call());
+
+        dispatchTo(swaggerService);
+    }
+
+    @Test
+    void identity_isTaggedAndVaries() {
+        val response = get(null, null);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(SPEC, contentOf(response));
+        assertTrue(etagOf(response).startsWith("\""));
+        assertVariesByAcceptAndAcceptEncoding(response);
+    }
+
+    @Test
+    void gzip_isTaggedDifferentlyThanIdentity() {
+        val identity = get(null, null);
+        val gzipped = get("gzip, deflate", null);
+
+        assertEquals(Response.Status.OK.getStatusCode(), gzipped.getStatus());
+        assertEquals("gzip", gzipped.getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(SPEC, gunzip(gzipped.getOutput()));
+        assertNotEquals(etagOf(identity), etagOf(gzipped));
+        assertVariesByAcceptAndAcceptEncoding(gzipped);
+    }
+
+    @Test
+    void matchingTag_isNotModified() {
+        val etag = etagOf(get("gzip", null));
+
+        val response = get("gzip", etag);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(0, response.getOutput().length);
+        assertEquals(etag, etagOf(response));
+        assertVariesByAcceptAndAcceptEncoding(response);
+    }
+
+    @Test
+    void tagOfOtherEncoding_isModified() {
+        val gzipEtag = etagOf(get("gzip", null));
+
+        val response = get(null, gzipEtag);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(SPEC, contentOf(response));
+    }
+
+    @Test
+    void gzipWithZeroQValue_isRefused() {
+        val response = get("gzip;q=0, identity", null);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNull(response.getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(SPEC, contentOf(response));
+    }
+
+    @Test
+    void explicitGzip_takesPrecedenceOverWildcard() {
+        assertNull(get("gzip;q=0, *", null).getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", get("*;q=0.5", null).getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(get("*;q=0", null).getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void otherSwaggerService_isServedUsingDefaultLookup() {
+        dispatchTo((visibility, format)->SPEC);
+
+        val identity = get(null, null);
+        val gzipped = get("gzip", null);
+
+        assertEquals(SPEC, contentOf(identity));
+        assertEquals(SPEC, gunzip(gzipped.getOutput()));
+        assertNotEquals(etagOf(identity), etagOf(gzipped));
+    }
+
+    // -- HELPER
+
+    private void dispatchTo(final SwaggerService swaggerService) {
+        dispatcher = MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addSingletonResource(new SwaggerSpecResource(swaggerService, interactionService));
+    }
+
+    @SneakyThrows
+    private MockHttpResponse get(final String acceptEncoding, final String ifNoneMatch) {
+        val request = MockHttpRequest.get("/swagger/public")
+                .accept(MediaType.APPLICATION_JSON);
+        if(acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if(ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        val response = new MockHttpResponse();
+        dispatcher.invoke(request, response);
+        return response;
+    }
+
+    private static String etagOf(final MockHttpResponse response) {
+        return String.valueOf(response.getOutputHeaders().getFirst(HttpHeaders.ETAG));
+    }
+
+    private static String contentOf(final MockHttpResponse response) {
+        return new String(response.getOutput(), StandardCharsets.UTF_8);
+    }
+
+    private static void assertVariesByAcceptAndAcceptEncoding(final MockHttpResponse response) {
+        val vary = String.valueOf(response.getOutputHeaders().getFirst(HttpHeaders.VARY));
+        assertTrue(vary.contains(HttpHeaders.ACCEPT_ENCODING), vary);
+        assertTrue(vary.contains(HttpHeaders.ACCEPT + ","), vary);
+    }
+
+    @SneakyThrows
+    private static String gunzip(final byte[] gzipped) {
+        try(val in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -26,45 +31,152 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
+import org.apache.causeway.applib.services.swagger.SwaggerSpec;
 import org.apache.causeway.applib.services.swagger.Visibility;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.RestEasyConfiguration;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
 
+import lombok.NonNull;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
+/**
+ * Default implementation of {@link SwaggerService}.
+ *
+ * <p>
+ *     Unless disabled (<code>causeway.viewer.restfulobjects.swagger.cache-specs</code>), the generated specs are
+ *     cached as {@link SwaggerSpec}s, until the metamodel is reloaded.  The spec for each {@link Visibility} is
+ *     generated only once (for all {@link Format}s), either on first request, or optionally in the background once
+ *     the metamodel has been loaded.
+ * </p>
+ */
 @Service
 @Named(CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".swaggerServiceDefault")
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
-public class SwaggerServiceDefault implements SwaggerService {
+@Log4j2
+public class SwaggerServiceDefault implements SwaggerService, MetamodelListener {
 
     private final OpenApiSpecGenerator swaggerSpecGenerator;
+    private final InteractionService interactionService;
     private final String basePath;
+    private final boolean cacheSpecs;
+    private final boolean pregenerateSpecs;
+
+    private final Map<Visibility, CompletableFuture<Map<Format, SwaggerSpec>>> specsByVisibility =
+            _Maps.newConcurrentHashMap();
 
     @Inject
     public SwaggerServiceDefault(
             final OpenApiSpecGenerator swaggerSpecGenerator,
+            final InteractionService interactionService,
+            final CausewayConfiguration causewayConfiguration,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.interactionService = interactionService;
 
         val restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         val restfulBase = webAppContextPath.prependContextPath(restfulPath);
 
         this.basePath = _Strings.suffix(restfulBase, "/");
+
+        val swaggerConfig = causewayConfiguration.getViewer().getRestfulobjects().getSwagger();
+        this.cacheSpecs = swaggerConfig.isCacheSpecs();
+        this.pregenerateSpecs = swaggerConfig.isPregenerateSpecs();
     }
 
     @Override
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+        return cacheSpecs
+                ? lookupSwaggerSpec(visibility, format).getContent()
+                : swaggerSpecGenerator.generate(basePath, visibility, format);
+    }
+
+    /**
+     * Returns the (cached, if so configured) spec for given {@link Visibility} and {@link Format},
+     * generating it if required.
+     */
+    @Override
+    public SwaggerSpec lookupSwaggerSpec(
+            final @NonNull Visibility visibility,
+            final @NonNull Format format) {
+        if(!cacheSpecs) {
+            return SwaggerSpec.of(visibility, format,
+                    swaggerSpecGenerator.generate(basePath, visibility, format));
+        }
+        val newSpecs = new CompletableFuture<Map<Format, SwaggerSpec>>();
+        val specs = specsByVisibility.putIfAbsent(visibility, newSpecs);
+        if(specs == null) {
+            generateInto(newSpecs, visibility);
+            return newSpecs.join().get(format);
+        }
+        try {
+            return specs.join().get(format);
+        } catch (CompletionException e) {
+            // generation failed for the first requester; let this request try again
+            specsByVisibility.remove(visibility, specs);
+            throw e;
+        }
+    }
+
+    // -- METAMODEL LIFECYCLE
+
+    @Override
+    public void onMetamodelAboutToBeLoaded() {
+        specsByVisibility.clear();
+    }
+
+    @Override
+    public void onMetamodelLoaded() {
+        specsByVisibility.clear();
+        if(!cacheSpecs
+                || !pregenerateSpecs) {
+            return;
+        }
+        // visibilities are generated concurrently
+        for (val visibility : Visibility.values()) {
+            CompletableFuture.runAsync(()->
+                interactionService.runAnonymous(()->lookupSwaggerSpec(visibility, Format.JSON)))
+            .whenComplete((__, failure)->{
+                if(failure!=null) {
+                    log.warn("failed to pregenerate swagger spec for {}", visibility, failure);
+                }
+            });
+        }
+    }
+
+    // -- HELPER
+
+    private void generateInto(
+            final CompletableFuture<Map<Format, SwaggerSpec>> specs,
+            final Visibility visibility) {
+        try {
+            // the model is generated once, then rendered into each format
+            val openApi = swaggerSpecGenerator.generate(basePath, visibility);
+            final Map<Format, SwaggerSpec> specByFormat = new EnumMap<>(Format.class);
+            for (val format : Format.values()) {
+                specByFormat.put(format, SwaggerSpec.of(visibility, format,
+                        OpenApiSpecGenerator.toString(openApi, format)));
+            }
+            specs.complete(specByFormat);
+        } catch (Throwable e) {
+            specsByVisibility.remove(visibility, specs);
+            specs.completeExceptionally(e);
+            throw e;
+        }
     }
 
 }
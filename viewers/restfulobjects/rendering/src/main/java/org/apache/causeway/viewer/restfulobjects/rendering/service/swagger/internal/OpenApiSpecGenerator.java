@@ -59,9 +59,22 @@ public String generate(
             final String basePath,
             final Visibility visibility,
             final Format format) {
+        return toString(generate(basePath, visibility), format);
+    }
 
+    /**
+     * Generates the OpenAPI model only, so that it can be rendered into multiple formats.
+     */
+    public OpenAPI generate(
+            final String basePath,
+            final Visibility visibility) {
         final _OpenApiModelFactory generation = newGeneration(basePath, visibility);
-        final OpenAPI swagger = generation.generate();
+        return generation.generate();
+    }
+
+    public static String toString(
+            final OpenAPI swagger,
+            final Format format) {
 
         switch (format) {
         case JSON:
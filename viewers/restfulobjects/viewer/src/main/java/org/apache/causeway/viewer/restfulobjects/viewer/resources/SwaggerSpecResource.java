@@ -18,8 +18,9 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Locale;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -28,8 +29,12 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.springframework.stereotype.Component;
 
@@ -37,8 +42,8 @@
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
+import org.apache.causeway.commons.internal.base._Strings;
 
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -52,6 +57,7 @@ public class SwaggerSpecResource {
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
@@ -68,8 +74,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +85,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +96,88 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
-        val callable = new MyCallable(swaggerService, visibility, format);
+        val mediaType = format == Format.YAML
+                ? new MediaType("text", "yaml")
+                : MediaType.APPLICATION_JSON_TYPE;
+
+        val spec = interactionService.callAnonymous(()->
+            swaggerService.lookupSwaggerSpec(visibility, format));
+
+        // the spec only changes with the metamodel, so is identified by its content;
+        // being a strong tag, it also has to tell apart the (gzip or identity) encoded representations
+        val gzip = acceptsGzip();
+        val entityTag = new EntityTag(gzip
+                ? spec.getEtag() + "-gzip"
+                : spec.getEtag());
+        val vary = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+        val notModified = request.evaluatePreconditions(entityTag);
+        if(notModified != null) {
+            return notModified
+                    .tag(entityTag)
+                    .header(HttpHeaders.VARY, vary)
+                    .build();
+        }
+
+        val response = gzip
+                ? Response.ok((StreamingOutput) spec::writeGzippedTo, mediaType)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.CONTENT_LENGTH, spec.getGzippedLength())
+                : Response.ok(spec.getContent(), mediaType);
 
-        val spec = interactionService.callAnonymous(callable);
-        return spec;
+        return response
+                .tag(entityTag)
+                .header(HttpHeaders.VARY, vary)
+                .build();
+    }
+
+    /**
+     * Whether the <code>Accept-Encoding</code> request header allows for gzip, honoring q-values (<code>q=0</code>
+     * meaning not acceptable); an explicit <code>gzip</code> takes precedence over <code>*</code>.
+     */
+    private boolean acceptsGzip() {
+        val acceptEncodings = httpHeaders.getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+        if(acceptEncodings == null) {
+            return false;
+        }
+        val qValueByCoding = new HashMap<String, Double>();
+        acceptEncodings.stream()
+            .flatMap(acceptEncoding->_Strings.splitThenStream(acceptEncoding, ","))
+            .forEach(codingAndParams->{
+                val parts = codingAndParams.split(";");
+                qValueByCoding.put(parts[0].trim().toLowerCase(Locale.ROOT), qValueOf(parts));
+            });
+        val qValue = qValueByCoding.containsKey("gzip")
+                ? qValueByCoding.get("gzip")
+                : qValueByCoding.getOrDefault("*", 0d);
+        return qValue > 0;
+    }
+
+    /**
+     * The <code>q</code> parameter of a content-coding, defaulting to 1; a malformed value is taken as 0.
+     */
+    private static double qValueOf(final String[] codingAndParams) {
+        for (int i = 1; i < codingAndParams.length; i++) {
+            val param = codingAndParams[i].trim();
+            if(param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -124,23 +198,4 @@ private Format deriveFrom(final HttpHeaders httpHeaders) {
         return Format.JSON;
     }
 
-    @RequiredArgsConstructor
-    static class MyCallable implements Callable<String> {
-
-        private final SwaggerService swaggerService;
-        private final Visibility visibility;
-        private final Format format;
-
-        @Override
-        public String call() throws Exception {
-
-//            return format==Format.YAML
-//                    ? _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.yaml", StandardCharsets.UTF_8)
-//                    : _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.json", StandardCharsets.UTF_8);
-
-            return swaggerService.generateSwaggerSpec(visibility, format);
-        }
-
-    }
-
 }
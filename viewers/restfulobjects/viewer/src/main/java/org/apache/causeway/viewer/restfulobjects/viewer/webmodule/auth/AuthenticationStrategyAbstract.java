@@ -27,6 +27,7 @@
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
 import org.apache.causeway.core.security.authentication.manager.AuthenticationManager;
 
 import lombok.val;
@@ -42,19 +43,22 @@
     public static final int STATUS_UNAUTHORIZED = 401;
 
     private AuthenticationManager authenticationManager;
+    private AuthenticationCache authenticationCache;
 
     protected AuthenticationManager getAuthenticationManager(ServletRequest servletRequest) {
         if(authenticationManager==null) {
-            val servletContext = getServletContext(servletRequest);
-            val webApplicationContext = WebApplicationContextUtils.getWebApplicationContext(servletContext);
-            if(webApplicationContext==null) {
-                throw _Exceptions.illegalState("Requires a WebApplicationContext (Spring).");
-            }
-            authenticationManager = webApplicationContext.getBean(AuthenticationManager.class);
+            authenticationManager = getBean(servletRequest, AuthenticationManager.class);
         }
         return authenticationManager;
     }
 
+    protected AuthenticationCache getAuthenticationCache(ServletRequest servletRequest) {
+        if(authenticationCache==null) {
+            authenticationCache = getBean(servletRequest, AuthenticationCache.class);
+        }
+        return authenticationCache;
+    }
+
     protected HttpSession getHttpSession(ServletRequest servletRequest) {
         val httpServletRequest = (HttpServletRequest) servletRequest;
         return httpServletRequest.getSession();
@@ -64,6 +68,15 @@ protected ServletContext getServletContext(ServletRequest servletRequest) {
         return servletRequest.getServletContext();
     }
 
+    private <T> T getBean(ServletRequest servletRequest, Class<T> requiredType) {
+        val servletContext = getServletContext(servletRequest);
+        val webApplicationContext = WebApplicationContextUtils.getWebApplicationContext(servletContext);
+        if(webApplicationContext==null) {
+            throw _Exceptions.illegalState("Requires a WebApplicationContext (Spring).");
+        }
+        return webApplicationContext.getBean(requiredType);
+    }
+
 
     @Override
     public final void invalidate(
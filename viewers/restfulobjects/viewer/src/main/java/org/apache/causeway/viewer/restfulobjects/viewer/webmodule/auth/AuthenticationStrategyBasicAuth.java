@@ -30,12 +30,15 @@
 import org.apache.causeway.commons.internal.base._Bytes;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
+import org.apache.causeway.core.security.authentication.manager.AuthenticationCache;
 
 import lombok.val;
 
 /**
  * Implements the HTTP Basic Auth protocol; does not bind the
  * {@link InteractionContext} onto the {@link HttpSession}.
+ * <p>
+ * Successful authentications are cached (if enabled), see {@link AuthenticationCache}.
  *
  * @since 2.0 {@index}
  */
@@ -75,13 +78,16 @@ public InteractionContext lookupValid(
 
         val authenticationRequestPwd = new AuthenticationRequestPassword(user, password);
         val authenticationManager = super.getAuthenticationManager(httpServletRequest);
-        val authentication = authenticationManager.authenticate(authenticationRequestPwd);
+        val authenticationCache = super.getAuthenticationCache(httpServletRequest);
+        val authentication = authenticationCache.authenticate(
+                authenticationRequestPwd, authenticationManager::authenticate);
         return authentication;
     }
 
     /**
      * This implementation is stateless and so does not support binding the {@link InteractionContext} (aka
-     * authentication) into a store (eg a session); instead each request is authenticated afresh.
+     * authentication) into a store (eg a session); instead each request is authenticated afresh
+     * (unless served by the {@link AuthenticationCache}).
      */
     @Override
     public void bind(
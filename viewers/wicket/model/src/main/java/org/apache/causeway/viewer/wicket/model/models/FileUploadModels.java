@@ -18,10 +18,13 @@
  */
 package org.apache.causeway.viewer.wicket.model.models;
 
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
 
+import javax.activation.MimeType;
+
 import org.apache.wicket.markup.html.form.upload.FileUpload;
 
 import org.springframework.lang.Nullable;
@@ -31,6 +34,7 @@
 
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import lombok.val;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -41,6 +45,7 @@ public ScalarConvertingModel<List<FileUpload>, Blob> blob(final @NonNull ScalarM
 
             private static final long serialVersionUID = 1L;
 
+            @SneakyThrows
             @Override
             protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
 
@@ -52,9 +57,10 @@ protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
                 final FileUpload fileUpload = fileUploads.get(0);
                 final String contentType = fileUpload.getContentType();
                 final String clientFileName = fileUpload.getClientFileName();
-                final byte[] bytes = fileUpload.getBytes();
-                final Blob blob = new Blob(clientFileName, contentType, bytes);
-                return blob;
+                // large uploads are spooled to a temp file, rather than held in memory
+                try(val is = fileUpload.getInputStream()) {
+                    return Blob.spool(clientFileName, new MimeType(contentType), is);
+                }
             }
 
             @Override
@@ -91,9 +97,10 @@ protected Clob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
                 final FileUpload fileUpload = fileUploads.get(0);
                 final String contentType = fileUpload.getContentType();
                 final String clientFileName = fileUpload.getClientFileName();
-                final String str = new String(fileUpload.getBytes(), charsetName);
-                final Clob clob = new Clob(clientFileName, contentType, str);
-                return clob;
+                // large uploads are spooled to a temp file, rather than held in memory
+                try(val reader = new InputStreamReader(fileUpload.getInputStream(), charsetName)) {
+                    return Clob.spool(clientFileName, new MimeType(contentType), reader);
+                }
             }
 
             @Override
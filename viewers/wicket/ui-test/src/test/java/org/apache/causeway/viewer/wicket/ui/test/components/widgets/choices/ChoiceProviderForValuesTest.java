@@ -20,12 +20,15 @@
 
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.wicketstuff.select2.Response;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -85,4 +88,30 @@ void roundtrip() {
 
     }
 
+    @Test
+    void paging() {
+
+        val choices = Can.ofStream(IntStream.range(0, 60).boxed())
+                .map(mmc.getObjectManager()::adapt);
+
+        val isRequired = true;
+        val choiceProvider = new ChoiceProviderDefault(mockScalarModel(choices, isRequired));
+
+        val firstPage = new Response<ObjectMemento>();
+        choiceProvider.query(null, 1, firstPage);
+        assertEquals(25, firstPage.getResults().size());
+        assertTrue(firstPage.getHasMore());
+
+        val lastPage = new Response<ObjectMemento>();
+        choiceProvider.query(null, 3, lastPage);
+        assertEquals(10, lastPage.getResults().size());
+        assertFalse(lastPage.getHasMore());
+
+        // 1, 10..19, 21, 31, 41, 51
+        val filtered = new Response<ObjectMemento>();
+        choiceProvider.query("1", 1, filtered);
+        assertEquals(15, filtered.getResults().size());
+        assertFalse(filtered.getHasMore());
+    }
+
 }
@@ -18,17 +18,21 @@
  */
 package org.apache.causeway.viewer.wicket.ui.actionresponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.handler.resource.ResourceStreamRequestHandler;
 import org.apache.wicket.request.resource.ContentDisposition;
 import org.apache.wicket.util.resource.AbstractResourceStream;
+import org.apache.wicket.util.resource.AbstractResourceStreamWriter;
 import org.apache.wicket.util.resource.IResourceStream;
 import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
+import org.apache.wicket.util.lang.Bytes;
 import org.apache.wicket.util.resource.StringResourceStream;
 
 import org.apache.causeway.applib.value.Blob;
@@ -63,9 +67,17 @@ private IResourceStream resourceStreamFor(final Blob blob) {
 
             private static final long serialVersionUID = 1L;
 
+            private transient InputStream inputStream;
+
             @Override
             public InputStream getInputStream() throws ResourceStreamNotFoundException {
-                return new ByteArrayInputStream(blob.getBytes());
+                // streams the content, which might not be held in memory
+                return inputStream = blob.openInputStream();
+            }
+
+            @Override
+            public Bytes length() {
+                return Bytes.bytes(blob.getLength());
             }
 
             @Override
@@ -75,13 +87,37 @@ public String getContentType() {
 
             @Override
             public void close() throws IOException {
+                if(inputStream!=null) {
+                    inputStream.close();
+                    inputStream = null;
+                }
             }
         };
         return resourceStream;
     }
 
     private IResourceStream resourceStreamFor(final Clob clob) {
-        return new StringResourceStream(clob.getChars(), clob.getMimeType().toString());
+        if(clob.isInMemory()) {
+            return new StringResourceStream(clob.getChars(), clob.getMimeType().toString());
+        }
+        final IResourceStream resourceStream = new AbstractResourceStreamWriter() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void write(final OutputStream output) throws IOException {
+                // streams the content UTF-8 encoded, rather than reading it into memory first
+                val writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                clob.writeCharsTo(writer);
+                writer.flush();
+            }
+
+            @Override
+            public String getContentType() {
+                return clob.getMimeType().getBaseType() + "; charset=UTF-8";
+            }
+        };
+        return resourceStream;
     }
 
     private IRequestHandler handlerFor(
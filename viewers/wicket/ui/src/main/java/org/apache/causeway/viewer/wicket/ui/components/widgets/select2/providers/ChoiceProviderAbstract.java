@@ -21,16 +21,14 @@
 import java.util.Collection;
 import java.util.stream.Collectors;
 
-import org.apache.wicket.util.string.Strings;
 import org.wicketstuff.select2.ChoiceProvider;
 
 import org.springframework.lang.Nullable;
 
-import org.apache.causeway.applib.services.i18n.TranslationContext;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.placeholder.PlaceholderRenderService.PlaceholderLiteral;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.viewer.wicket.model.models.HasCommonContext;
@@ -48,9 +46,10 @@
     protected abstract boolean isRequired();
 
     /**
-     * Get choice candidates with filtering (don't include <code>null</code>).
+     * Get choice candidates with filtering (don't include <code>null</code>),
+     * restricted to given {@link QueryRange}.
      */
-    protected abstract Can<ObjectMemento> query(@Nullable String term);
+    protected abstract Can<ObjectMemento> query(@Nullable String term, QueryRange range);
 
     @Override
     public final String getDisplayValue(final ObjectMemento choiceMemento) {
@@ -79,15 +78,26 @@ public final void query(
             final int page,
             final org.wicketstuff.select2.Response<ObjectMemento> response) {
 
-        val mementosFiltered = query(term);
+        val pageSize = Math.max(1, getWicketViewerSettings().getChoicesPageSize());
+        val pageIndex = Math.max(1, page) - 1; // select2 pages are 1-based
 
-        if(isRequired()) {
-            response.addAll(mementosFiltered.toList());
+        // ask for one more than fits the page, to know whether there are more pages
+        val mementosFiltered = query(term, QueryRange.of((long)pageIndex * pageSize, pageSize + 1L));
+        val hasMore = mementosFiltered.size() > pageSize;
+        val mementosOfPage = hasMore
+                ? mementosFiltered.subCan(0, pageSize)
+                : mementosFiltered;
+
+        response.setHasMore(hasMore);
+
+        if(isRequired()
+                || pageIndex > 0) {
+            response.addAll(mementosOfPage.toList());
             return;
         }
 
-        // else, if not mandatory, prepend null
-        val mementosIncludingNull = mementosFiltered.toArrayList();
+        // else, if not mandatory, prepend null (to the first page only)
+        val mementosIncludingNull = mementosOfPage.toArrayList();
         mementosIncludingNull.add(0, null);
 
         response.addAll(mementosIncludingNull);
@@ -100,35 +110,6 @@ public final Collection<ObjectMemento> toChoices(final Collection<String> ids) {
                 .collect(Collectors.toList());
     }
 
-    // -- UTILITY
-
-    /**
-     * Filters all choices against a term by using their
-     * {@link ManagedObject#getTitle() title string}
-     *
-     * @param term The term entered by the user
-     * @param choiceMementos The collections of choices to filter
-     * @return A list of all matching choices
-     */
-    protected final Can<ObjectMemento> filter(
-            final String term,
-            final Can<ObjectMemento> choiceMementos) {
-
-        if (Strings.isEmpty(term)) {
-            return choiceMementos;
-        }
-
-        val translationContext = TranslationContext.empty();
-        val translator = getTranslationService();
-        val termLower = term.toLowerCase();
-
-        return choiceMementos.filter((final ObjectMemento candidateMemento)->{
-            val title = translator.translate(translationContext, candidateMemento.getTitle());
-            return title.toLowerCase().contains(termLower);
-        });
-
-    }
-
     // -- HELPER
 
     private @Nullable ObjectMemento mementoFromIdWithNullHandling(final String id) {
@@ -18,13 +18,24 @@
  */
 package org.apache.causeway.viewer.wicket.ui.components.widgets.select2.providers;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.util.string.Strings;
+
+import org.apache.causeway.applib.locale.UserLocale;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.causeway.viewer.commons.model.scalar.UiParameter;
 import org.apache.causeway.viewer.commons.model.scalar.UiScalar;
 import org.apache.causeway.viewer.commons.model.scalar.UiScalar.ChoiceProviderSort;
 import org.apache.causeway.viewer.wicket.model.models.ScalarModel;
 
 import lombok.Getter;
+import lombok.val;
 import lombok.experimental.Accessors;
 
 public abstract class ChoiceProviderAbstractForScalarModel
@@ -36,6 +47,13 @@
     private final ScalarModel scalarModel;
     private final UiScalar.ChoiceProviderSort choiceProviderSort;
 
+    /**
+     * Reused across requests for as long as the pending args and the user's locale stay the same, that is, while
+     * the prompt this provider belongs to is open and no other arg has been changed in between.
+     */
+    private transient ChoiceTitleIndex choiceTitleIndex;
+    private transient List<Object> choiceTitleIndexKey;
+
     protected ChoiceProviderAbstractForScalarModel(final ScalarModel scalarModel) {
         super();
         this.scalarModel = scalarModel;
@@ -48,14 +66,14 @@ protected final boolean isRequired() {
     }
 
     @Override
-    protected final Can<ObjectMemento> query(final String term) {
+    protected final Can<ObjectMemento> query(final String term, final QueryRange range) {
         switch(choiceProviderSort) {
         case CHOICES:
-            return super.filter(term, queryAll());
+            return queryChoices(term, range);
         case AUTO_COMPLETE:
-            return queryWithAutoComplete(term);
+            return queryWithAutoComplete(term, range);
         case OBJECT_AUTO_COMPLETE:
-            return queryWithAutoCompleteUsingObjectSpecification(term);
+            return range.slice(queryWithAutoCompleteUsingObjectSpecification(term));
         case NO_CHOICES:
         default:
             // fall through
@@ -64,7 +82,42 @@ protected final Can<ObjectMemento> query(final String term) {
     }
 
     protected abstract Can<ObjectMemento> queryAll();
-    protected abstract Can<ObjectMemento> queryWithAutoComplete(String term);
+    protected abstract Can<ObjectMemento> queryWithAutoComplete(String term, QueryRange range);
     protected abstract Can<ObjectMemento> queryWithAutoCompleteUsingObjectSpecification(String term);
 
+    // -- HELPER
+
+    private Can<ObjectMemento> queryChoices(final String term, final QueryRange range) {
+        val indexKey = choiceTitleIndexKey();
+        if(choiceTitleIndex == null
+                || !indexKey.equals(choiceTitleIndexKey)) {
+            if(Strings.isEmpty(term)) {
+                // not filtering, so no need to translate and normalize any titles
+                return range.slice(queryAll());
+            }
+            val translationContext = TranslationContext.empty();
+            val translator = getTranslationService();
+            choiceTitleIndex = ChoiceTitleIndex.create(queryAll(),
+                    title->translator.translate(translationContext, title));
+            choiceTitleIndexKey = indexKey;
+        }
+        return choiceTitleIndex.filter(term, range);
+    }
+
+    /**
+     * The user's locale (titles are translated) and the pending args (choices may depend on them).
+     */
+    private List<Object> choiceTitleIndexKey() {
+        val indexKey = new ArrayList<Object>();
+        indexKey.add(currentUserLocale()
+                .map(UserLocale::getLanguageLocale)
+                .orElse(null));
+        if(scalarModel.isParameter()) {
+            ((UiParameter)scalarModel).getParameterNegotiationModel().getParamValues()
+                .map(ManagedObject::getMementoElseFail)
+                .forEach(pendingArgMemento->indexKey.add(ObjectMemento.enstringToUrlBase64(pendingArgMemento)));
+        }
+        return indexKey;
+    }
+
 }
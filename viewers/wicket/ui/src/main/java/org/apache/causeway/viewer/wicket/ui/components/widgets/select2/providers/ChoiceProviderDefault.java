@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.viewer.wicket.ui.components.widgets.select2.providers;
 
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -53,7 +54,7 @@ protected Can<ObjectMemento> queryWithAutoCompleteUsingObjectSpecification(final
     }
 
     @Override
-    protected Can<ObjectMemento> queryWithAutoComplete(final String term) {
+    protected Can<ObjectMemento> queryWithAutoComplete(final String term, final QueryRange range) {
         val scalarModel = scalarModel();
         val pendingArgs = scalarModel.isParameter()
                 ? ((UiParameter)scalarModel).getParameterNegotiationModel().getParamValues()
@@ -72,7 +73,7 @@ protected Can<ObjectMemento> queryWithAutoComplete(final String term) {
         }
 
         return scalarModel
-                .getAutoComplete(term)
+                .getAutoComplete(term, range)
                 .map(ManagedObject::getMementoElseFail);
     }
 
@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.ui.components.widgets.select2.providers;
+
+import java.util.ArrayList;
+import java.util.function.UnaryOperator;
+
+import org.apache.wicket.util.string.Strings;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Choices along with their translated and normalized titles,
+ * such that filtering by search term does not have to translate and normalize
+ * every candidate's title over and over again.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ChoiceTitleIndex {
+
+    /**
+     * @param translator - translates a choice's title
+     */
+    static ChoiceTitleIndex create(
+            final @NonNull Can<ObjectMemento> choices,
+            final @NonNull UnaryOperator<String> translator) {
+        val normalizedTitles = new String[choices.size()];
+        int i = 0;
+        for(val choice : choices) {
+            normalizedTitles[i++] = normalize(translator.apply(choice.getTitle()));
+        }
+        return new ChoiceTitleIndex(choices, normalizedTitles);
+    }
+
+    private final Can<ObjectMemento> choices;
+    private final String[] normalizedTitles;
+
+    /**
+     * Returns the choices within given {@link QueryRange}, of those whose title contains given {@code term},
+     * honoring the order of choices.
+     * <p>
+     * Stops matching once the end of the range is reached.
+     */
+    Can<ObjectMemento> filter(final @Nullable String term, final @NonNull QueryRange range) {
+        if (Strings.isEmpty(term)) {
+            return range.slice(choices);
+        }
+        val termNormalized = normalize(term);
+        val start = range.getStartAsInt();
+        val end = range.getEndAsInt();
+        val matches = new ArrayList<ObjectMemento>();
+        int matchCount = 0;
+        for (int i = 0; i < normalizedTitles.length && matchCount < end; i++) {
+            if(normalizedTitles[i].contains(termNormalized)) {
+                if(matchCount >= start) {
+                    matches.add(choices.getElseFail(i));
+                }
+                ++matchCount;
+            }
+        }
+        return Can.ofCollection(matches);
+    }
+
+    // -- HELPER
+
+    private static String normalize(final @Nullable String title) {
+        return title != null
+                ? title.toLowerCase()
+                : "";
+    }
+
+}
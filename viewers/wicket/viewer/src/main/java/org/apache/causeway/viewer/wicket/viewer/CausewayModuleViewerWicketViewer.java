@@ -29,6 +29,7 @@
 import org.apache.causeway.viewer.wicket.viewer.registries.pages.PageNavigationServiceDefault;
 import org.apache.causeway.viewer.wicket.viewer.services.BookmarkUiServiceWicket;
 import org.apache.causeway.viewer.wicket.viewer.services.DeepLinkServiceWicket;
+import org.apache.causeway.viewer.wicket.viewer.services.HintStoreUsingMemory;
 import org.apache.causeway.viewer.wicket.viewer.services.HintStoreUsingWicketSession;
 import org.apache.causeway.viewer.wicket.viewer.services.ImageResourceCacheClassPath;
 import org.apache.causeway.viewer.wicket.viewer.webmodule.WebModuleWicket;
@@ -36,6 +37,7 @@
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.DatatablesNetInitWkt;
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.DebugInitWkt;
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.JQueryInitWkt;
+import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.PageStoreInitWkt;
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.Select2InitWkt;
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.WebjarsInitWkt;
 import org.apache.causeway.viewer.wicket.viewer.wicketapp.config.WicketViewerCssBundleInit;
@@ -56,6 +58,7 @@
         WicketViewerCssBundleInit.class,
         DatatablesNetInitWkt.class,
         DebugInitWkt.class,
+        PageStoreInitWkt.class,
 
         // @Service's
         BookmarkUiServiceWicket.class,
@@ -63,6 +66,7 @@
         ComponentFactoryRegistryDefault.class,
         DeepLinkServiceWicket.class,
         ImageResourceCacheClassPath.class,
+        HintStoreUsingMemory.class,
         HintStoreUsingWicketSession.class,
         PageClassListDefault.class,
         PageClassRegistryDefault.class,
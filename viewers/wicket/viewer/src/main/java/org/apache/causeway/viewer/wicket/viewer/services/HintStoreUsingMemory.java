@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.services;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.hint.HintStore;
+import org.apache.causeway.applib.services.user.UserService;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds the hints of the most recently used objects in memory, per user, rather than in the Wicket session;
+ * enabled using <code>causeway.viewer.wicket.hints.storage=memory</code>.
+ *
+ * <p>
+ *     Hints therefore do not add to the size of the serialized session, but are neither replicated across a
+ *     cluster nor survive a restart.  The hints of a user are discarded once they have not been accessed
+ *     for the configured time-to-live.
+ * </p>
+ *
+ * @see HintStoreUsingWicketSession
+ */
+@Service
+@Named("causeway.viewer.wicket.HintStoreUsingMemory")
+@javax.annotation.Priority(PriorityPrecedence.EARLY)
+@Qualifier("Memory")
+@ConditionalOnProperty(
+        prefix = "causeway.viewer.wicket.hints", name = "storage", havingValue = "memory")
+@Log4j2
+public class HintStoreUsingMemory implements HintStore {
+
+    private final UserService userService;
+    private final int maxObjects;
+    private final long timeToLiveMillis;
+
+    private final Map<String, UserHints> hintsByUser = _Maps.newConcurrentHashMap();
+    private final AtomicLong nextEvictionAt = new AtomicLong();
+
+    @Inject
+    public HintStoreUsingMemory(
+            final UserService userService,
+            final CausewayConfiguration causewayConfiguration) {
+        this.userService = userService;
+        val hintsConfig = causewayConfiguration.getViewer().getWicket().getHints();
+        this.maxObjects = hintsConfig.getMaxObjects();
+        this.timeToLiveMillis = hintsConfig.getTimeToLive().toMillis();
+    }
+
+    @Override
+    public String get(final Bookmark bookmark, final String key) {
+        final String value = hints().get(keyFor(bookmark), key);
+
+        if(log.isDebugEnabled()) {
+            log.debug(String.format("GET %s / %s returns %s", bookmark.toString(), key, value));
+        }
+
+        return value;
+    }
+
+    @Override
+    public void set(final Bookmark bookmark, final String key, final String value) {
+        if(log.isDebugEnabled()) {
+            log.debug(String.format("SET %s / %s to %s", bookmark.toString(), key, value));
+        }
+
+        hints().set(keyFor(bookmark), key, value);
+    }
+
+    @Override
+    public void remove(final Bookmark bookmark, final String key) {
+        if(log.isDebugEnabled()) {
+            log.debug(String.format("REMOVE %s / %s", bookmark.toString(), key));
+        }
+
+        hints().remove(keyFor(bookmark), key);
+    }
+
+    @Override
+    public Set<String> findHintKeys(final Bookmark bookmark) {
+        return hints().keys(keyFor(bookmark));
+    }
+
+    @Override
+    public void removeAll(final Bookmark bookmark) {
+        hints().removeAll(keyFor(bookmark));
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class UserHints {
+        final _BoundedHints hints;
+        volatile long lastAccessedAt;
+    }
+
+    private _BoundedHints hints() {
+        final long now = System.currentTimeMillis();
+        evictExpiredIfDue(now);
+        final UserHints userHints = hintsByUser.computeIfAbsent(
+                userService.currentUserNameElseNobody(),
+                __ -> new UserHints(new _BoundedHints(maxObjects)));
+        userHints.lastAccessedAt = now;
+        return userHints.hints;
+    }
+
+    /**
+     * Sweeps out the hints of users not seen for the time-to-live, at most once per tenth of that period.
+     */
+    private void evictExpiredIfDue(final long now) {
+        final long dueAt = nextEvictionAt.get();
+        if(now < dueAt
+                || !nextEvictionAt.compareAndSet(dueAt, now + timeToLiveMillis / 10)) {
+            return;
+        }
+        final long expiredBefore = now - timeToLiveMillis;
+        hintsByUser.values().removeIf(userHints -> userHints.lastAccessedAt < expiredBefore);
+    }
+
+    private String keyFor(final Bookmark bookmark) {
+        return bookmark.stringifyHonoringHintIfAny();
+    }
+
+}
@@ -18,36 +18,53 @@
  */
 package org.apache.causeway.viewer.wicket.viewer.services;
 
+import java.util.AbstractMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.wicket.Session;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.hint.HintStore;
-import org.apache.causeway.commons.internal.base._Casts;
-import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Holds the hints of the most recently used objects in a single, bounded attribute of the Wicket session.
+ *
+ * @see HintStoreUsingMemory
+ */
 @Service
 @Named("causeway.viewer.wicket.HintStoreUsingWicketSession")
 @javax.annotation.Priority(PriorityPrecedence.EARLY)
 @Qualifier("Wicket")
+@ConditionalOnProperty(
+        prefix = "causeway.viewer.wicket.hints", name = "storage", havingValue = "session", matchIfMissing = true)
 @Log4j2
 public class HintStoreUsingWicketSession implements HintStore {
 
+    private static final String SESSION_ATTRIBUTE = "causeway.viewer.wicket.hints";
+
+    private final int maxObjects;
+
+    @Inject
+    public HintStoreUsingWicketSession(final CausewayConfiguration causewayConfiguration) {
+        this.maxObjects = causewayConfiguration.getViewer().getWicket().getHints().getMaxObjects();
+    }
+
     @Override
     public String get(final Bookmark bookmark, final String key) {
-        final Map<String, String> hintsForBookmark = hintsFor(bookmark);
-        final String value = hintsForBookmark.get(key);
+        final String value = hints().get(sessionAttributeFor(bookmark), key);
 
         if(log.isDebugEnabled()) {
             log.debug(String.format("GET %s / %s returns %s", bookmark.toString(), key, value));
@@ -58,52 +75,97 @@ public String get(final Bookmark bookmark, final String key) {
 
     @Override
     public void set(final Bookmark bookmark, final String key, final String value) {
-        final Map<String, String> hintsForBookmark = hintsFor(bookmark);
-
         if(log.isDebugEnabled()) {
             log.debug(String.format("SET %s / %s to %s", bookmark.toString(), key, value));
         }
 
-        hintsForBookmark.put(key, value);
+        hints().set(sessionAttributeFor(bookmark), key, value);
+        Session.get().dirty();
     }
 
     @Override
     public void remove(final Bookmark bookmark, final String key) {
-        final Map<String, String> hintsForBookmark = hintsFor(bookmark);
-
         if(log.isDebugEnabled()) {
             log.debug(String.format("REMOVE %s / %s", bookmark.toString(), key));
         }
 
-        hintsForBookmark.remove(key);
+        hints().remove(sessionAttributeFor(bookmark), key);
+        Session.get().dirty();
     }
 
     @Override
     public Set<String> findHintKeys(final Bookmark bookmark) {
-        final Map<String, String> hintsForBookmark = hintsFor(bookmark);
-        return hintsForBookmark.keySet();
+        return hints().keys(sessionAttributeFor(bookmark));
     }
 
     @Override
     public void removeAll(final Bookmark bookmark) {
-        final String sessionAttribute = sessionAttributeFor(bookmark);
-        Session.get().removeAttribute(sessionAttribute);
+        hints().removeAll(sessionAttributeFor(bookmark));
+        Session.get().dirty();
     }
 
 
-    protected Map<String, String> hintsFor(final Bookmark bookmark) {
-        final String sessionAttribute = sessionAttributeFor(bookmark);
-        LinkedHashMap<String, String> hints =
-                _Casts.uncheckedCast(Session.get().getAttribute(sessionAttribute));
+    private _BoundedHints hints() {
+        final Session session = Session.get();
+        _BoundedHints hints = (_BoundedHints) session.getAttribute(SESSION_ATTRIBUTE);
         if(hints == null) {
-            hints = _Maps.newLinkedHashMap();
-            Session.get().setAttribute(sessionAttribute, hints);
+            hints = new _BoundedHints(maxObjects);
+            session.setAttribute(SESSION_ATTRIBUTE, hints);
         }
         return hints;
     }
 
+    /**
+     * The key under which the hints of given bookmark are held (within the bounded session attribute);
+     * may be overridden.
+     */
     protected String sessionAttributeFor(final Bookmark bookmark) {
-        return "hint-" + bookmark.stringifyHonoringHintIfAny();
+        return bookmark.stringifyHonoringHintIfAny();
+    }
+
+    /**
+     * A live view of the hints held for given bookmark.
+     *
+     * @deprecated hints are no longer held as a map per bookmark, use {@link #get(Bookmark, String)},
+     * {@link #set(Bookmark, String, String)} and {@link #remove(Bookmark, String)} instead
+     */
+    @Deprecated
+    protected Map<String, String> hintsFor(final Bookmark bookmark) {
+        final String sessionAttribute = sessionAttributeFor(bookmark);
+        return new AbstractMap<String, String>() {
+
+            @Override
+            public String get(final Object key) {
+                return key instanceof String
+                        ? hints().get(sessionAttribute, (String) key)
+                        : null;
+            }
+
+            @Override
+            public String put(final String key, final String value) {
+                final String previous = get(key);
+                hints().set(sessionAttribute, key, value);
+                Session.get().dirty();
+                return previous;
+            }
+
+            @Override
+            public String remove(final Object key) {
+                final String previous = get(key);
+                if(previous != null) {
+                    hints().remove(sessionAttribute, (String) key);
+                    Session.get().dirty();
+                }
+                return previous;
+            }
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                final Map<String, String> snapshot = new LinkedHashMap<>();
+                hints().keys(sessionAttribute).forEach(key->snapshot.put(key, get(key)));
+                return snapshot.entrySet();
+            }
+        };
     }
 
 }
@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.services;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * Hints of (at most) the <i>maxObjects</i> most recently used objects, keyed by stringified bookmark.
+ *
+ * <p>
+ *     The hints of each object are held as a flat array of alternating keys and values, which
+ *     is considerably more compact (both on the heap and when serialized) than a map per object.
+ * </p>
+ */
+final class _BoundedHints implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] NO_HINTS = new String[0];
+
+    private final LeastRecentlyUsedMap hintsByBookmark;
+
+    _BoundedHints(final int maxObjects) {
+        this.hintsByBookmark = new LeastRecentlyUsedMap(maxObjects);
+    }
+
+    synchronized @Nullable String get(final @NonNull String bookmark, final @NonNull String key) {
+        final String[] hints = hintsByBookmark.getOrDefault(bookmark, NO_HINTS);
+        final int index = indexOf(hints, key);
+        return index >= 0 ? hints[index + 1] : null;
+    }
+
+    synchronized void set(final @NonNull String bookmark, final @NonNull String key, final String value) {
+        final String[] hints = hintsByBookmark.getOrDefault(bookmark, NO_HINTS);
+        final int index = indexOf(hints, key);
+        if(index >= 0) {
+            hints[index + 1] = value;
+            return;
+        }
+        final String[] newHints = Arrays.copyOf(hints, hints.length + 2);
+        newHints[hints.length] = key;
+        newHints[hints.length + 1] = value;
+        hintsByBookmark.put(bookmark, newHints);
+    }
+
+    synchronized void remove(final @NonNull String bookmark, final @NonNull String key) {
+        final String[] hints = hintsByBookmark.get(bookmark);
+        final int index = hints != null ? indexOf(hints, key) : -1;
+        if(index < 0) {
+            return;
+        }
+        if(hints.length == 2) {
+            hintsByBookmark.remove(bookmark);
+            return;
+        }
+        final String[] newHints = new String[hints.length - 2];
+        System.arraycopy(hints, 0, newHints, 0, index);
+        System.arraycopy(hints, index + 2, newHints, index, hints.length - index - 2);
+        hintsByBookmark.put(bookmark, newHints);
+    }
+
+    synchronized Set<String> keys(final @NonNull String bookmark) {
+        final String[] hints = hintsByBookmark.getOrDefault(bookmark, NO_HINTS);
+        if(hints.length == 0) {
+            return Collections.emptySet();
+        }
+        final Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < hints.length; i += 2) {
+            keys.add(hints[i]);
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    synchronized void removeAll(final @NonNull String bookmark) {
+        hintsByBookmark.remove(bookmark);
+    }
+
+    synchronized int size() {
+        return hintsByBookmark.size();
+    }
+
+    // -- HELPER
+
+    /**
+     * In access order, discarding the least recently used entry once holding more than <i>maxEntries</i>.
+     */
+    static final class LeastRecentlyUsedMap extends LinkedHashMap<String, String[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LeastRecentlyUsedMap(final int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String[]> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static int indexOf(final String[] hints, final String key) {
+        for (int i = 0; i < hints.length; i += 2) {
+            if(key.equals(hints[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
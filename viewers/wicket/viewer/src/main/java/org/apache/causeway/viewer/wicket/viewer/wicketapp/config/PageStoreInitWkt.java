@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp.config;
+
+import javax.inject.Inject;
+
+import org.apache.wicket.DefaultPageManagerProvider;
+import org.apache.wicket.pageStore.IPageStore;
+import org.apache.wicket.protocol.http.WebApplication;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.wicket.model.causeway.WicketApplicationInitializer;
+import org.apache.causeway.viewer.wicket.viewer.wicketapp.pagestore.OffHeapPageStore;
+import org.apache.causeway.viewer.wicket.viewer.wicketapp.pagestore.PageStoreStatistics;
+
+import lombok.val;
+
+/**
+ * Replaces Wicket's disk page store with the {@link OffHeapPageStore}, if so configured.
+ */
+@Configuration
+public class PageStoreInitWkt implements WicketApplicationInitializer {
+
+    @Inject private CausewayConfiguration configuration;
+
+    @Bean
+    public PageStoreStatistics pageStoreStatistics() {
+        return new PageStoreStatistics();
+    }
+
+    @Override
+    public void init(final WebApplication webApplication) {
+
+        val pageStoreConfig = configuration.getViewer().getWicket().getPageStore();
+        if(pageStoreConfig.getType() != CausewayConfiguration.Viewer.Wicket.PageStore.Type.OFF_HEAP) {
+            return;
+        }
+
+        val statistics = pageStoreStatistics();
+        webApplication.setPageManagerProvider(new DefaultPageManagerProvider(webApplication) {
+            @Override
+            protected IPageStore newPersistentStore() {
+                return new OffHeapPageStore(
+                        application.getName(),
+                        pageStoreConfig.getMaxSize().toBytes(),
+                        pageStoreConfig.getMaxSizePerSession().toBytes(),
+                        pageStoreConfig.getCompressionLevel(),
+                        statistics);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,335 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp.pagestore;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.page.IManageablePage;
+import org.apache.wicket.pageStore.AbstractPersistentPageStore;
+import org.apache.wicket.pageStore.IPersistedPage;
+import org.apache.wicket.pageStore.IPersistentPageStore;
+import org.apache.wicket.pageStore.SerializedPage;
+import org.apache.wicket.util.lang.Bytes;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.collections._Sets;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A persistent {@link org.apache.wicket.pageStore.IPageStore} that holds serialized pages compressed, in
+ * direct (off-heap) buffers.
+ *
+ * <p>
+ *     The size of the store is bounded both per session and overall; in either case the oldest pages are
+ *     evicted first.  As with any persistent store, it sits behind Wicket's serializing (and if enabled,
+ *     asynchronous) stores, so compression happens off the request thread.
+ * </p>
+ *
+ * <p>
+ *     Implements {@link IPersistentPageStore}, so the stored pages can be inspected using Wicket's debug bar.
+ *     Sizes accumulated by page type are available from {@link #getStatistics()}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Log4j2
+public class OffHeapPageStore
+extends AbstractPersistentPageStore
+implements IPersistentPageStore {
+
+    private final long maxSize;
+    private final long maxSizePerSession;
+    private final int compressionLevel;
+    @Getter private final PageStoreStatistics statistics;
+
+    private final Map<String, SessionPages> pagesBySession = _Maps.newConcurrentHashMap();
+    /** all stored pages in the order written, used to evict the oldest when over {@link #maxSize} */
+    private final Queue<StoredPage> pagesInOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong totalSize = new AtomicLong();
+    private final AtomicInteger storedCount = new AtomicInteger();
+    /** number of {@link #pagesInOrder} that have since been released */
+    private final AtomicInteger releasedCount = new AtomicInteger();
+
+    public OffHeapPageStore(
+            final @NonNull String applicationName,
+            final long maxSize,
+            final long maxSizePerSession,
+            final int compressionLevel,
+            final @NonNull PageStoreStatistics statistics) {
+        super(applicationName);
+        this.maxSize = maxSize;
+        this.maxSizePerSession = maxSizePerSession;
+        this.compressionLevel = compressionLevel;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public boolean supportsVersioning() {
+        return true;
+    }
+
+    @Override
+    protected IManageablePage getPersistedPage(final String sessionIdentifier, final int pageId) {
+        val sessionPages = pagesBySession.get(sessionIdentifier);
+        if(sessionPages == null) {
+            return null;
+        }
+        final StoredPage storedPage;
+        synchronized (sessionPages) {
+            storedPage = sessionPages.pages.get(pageId);
+        }
+        final ByteBuffer buffer = storedPage != null ? storedPage.buffer : null;
+        if(buffer == null) {
+            return null;
+        }
+        final byte[] compressed = new byte[buffer.remaining()];
+        buffer.duplicate().get(compressed);
+        return new SerializedPage(pageId, storedPage.pageType, inflate(compressed, storedPage.serializedSize));
+    }
+
+    @Override
+    protected void addPersistedPage(final String sessionIdentifier, final IManageablePage page) {
+        if(!(page instanceof SerializedPage)) {
+            throw new WicketRuntimeException("OffHeapPageStore works with serialized pages only");
+        }
+        val serializedPage = (SerializedPage) page;
+        val data = serializedPage.getData();
+        val compressed = deflate(data);
+        val buffer = ByteBuffer.allocateDirect(compressed.length);
+        buffer.put(compressed).flip();
+
+        statistics.recordWritten(serializedPage.getPageType(), data.length, compressed.length);
+
+        val sessionPages = pagesBySession.computeIfAbsent(sessionIdentifier, __ -> new SessionPages());
+        val storedPage = new StoredPage(sessionPages, page.getPageId(), serializedPage.getPageType(), data.length, buffer);
+        synchronized (sessionPages) {
+            if(pagesBySession.get(sessionIdentifier) != sessionPages) {
+                // all pages of the session were removed concurrently, so this one is not to be kept either
+                return;
+            }
+            // re-inserted, so that a rewritten page counts as the most recent
+            release(sessionPages, sessionPages.pages.remove(storedPage.pageId));
+            sessionPages.pages.put(storedPage.pageId, storedPage);
+            sessionPages.size += storedPage.size();
+            totalSize.addAndGet(storedPage.size());
+            storedCount.incrementAndGet();
+            pagesInOrder.add(storedPage);
+
+            // the page just added is always kept, even if on its own it exceeds the quota
+            val iterator = sessionPages.pages.values().iterator();
+            while(sessionPages.size > maxSizePerSession
+                    && sessionPages.pages.size() > 1) {
+                val eldest = iterator.next();
+                iterator.remove();
+                release(sessionPages, eldest);
+            }
+        }
+
+        evictWhileOverMaxSize();
+    }
+
+    @Override
+    protected void removePersistedPage(final String sessionIdentifier, final IManageablePage page) {
+        val sessionPages = pagesBySession.get(sessionIdentifier);
+        if(sessionPages == null) {
+            return;
+        }
+        synchronized (sessionPages) {
+            release(sessionPages, sessionPages.pages.remove(page.getPageId()));
+        }
+    }
+
+    @Override
+    protected void removeAllPersistedPages(final String sessionIdentifier) {
+        val sessionPages = pagesBySession.remove(sessionIdentifier);
+        if(sessionPages == null) {
+            return;
+        }
+        synchronized (sessionPages) {
+            sessionPages.pages.values().forEach(storedPage -> release(sessionPages, storedPage));
+            sessionPages.pages.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        pagesBySession.keySet().forEach(this::removeAllPersistedPages);
+        pagesInOrder.clear();
+        releasedCount.set(0);
+        if(log.isDebugEnabled()) {
+            statistics.snapshot().forEach(log::debug);
+        }
+    }
+
+    // -- IPersistentPageStore
+
+    @Override
+    public Set<String> getSessionIdentifiers() {
+        return _Sets.newHashSet(pagesBySession.keySet());
+    }
+
+    @Override
+    public List<IPersistedPage> getPersistedPages(final String sessionIdentifier) {
+        val sessionPages = pagesBySession.get(sessionIdentifier);
+        if(sessionPages == null) {
+            return new ArrayList<>();
+        }
+        synchronized (sessionPages) {
+            final List<IPersistedPage> persistedPages = new ArrayList<>(sessionPages.pages.size());
+            sessionPages.pages.values().forEach(storedPage ->
+                persistedPages.add(new PersistedPage(storedPage.pageId, storedPage.pageType, storedPage.size())));
+            return persistedPages;
+        }
+    }
+
+    @Override
+    public Bytes getTotalSize() {
+        return Bytes.bytes(totalSize.get());
+    }
+
+    // -- HELPER
+
+    private static final class SessionPages {
+        /** in the order written */
+        final Map<Integer, StoredPage> pages = new LinkedHashMap<>();
+        long size;
+    }
+
+    private static final class StoredPage {
+        final SessionPages sessionPages;
+        final int pageId;
+        final String pageType;
+        final int serializedSize;
+        /** nulled out once released, so that the direct memory can be reclaimed */
+        volatile ByteBuffer buffer;
+
+        StoredPage(
+                final SessionPages sessionPages,
+                final int pageId,
+                final String pageType,
+                final int serializedSize,
+                final ByteBuffer buffer) {
+            this.sessionPages = sessionPages;
+            this.pageId = pageId;
+            this.pageType = pageType;
+            this.serializedSize = serializedSize;
+            this.buffer = buffer;
+        }
+
+        long size() {
+            final ByteBuffer buffer = this.buffer;
+            return buffer != null ? buffer.capacity() : 0;
+        }
+    }
+
+    /**
+     * Must be called while holding the lock on the {@link SessionPages}, having removed the page from it.
+     */
+    private void release(final SessionPages sessionPages, final StoredPage storedPage) {
+        if(storedPage == null
+                || storedPage.buffer == null) {
+            return;
+        }
+        val size = storedPage.size();
+        sessionPages.size -= size;
+        totalSize.addAndGet(-size);
+        storedPage.buffer = null;
+        val stillStored = storedCount.decrementAndGet();
+
+        // avoid accumulating released pages when the store is not under pressure (amortized over the releases)
+        if(releasedCount.incrementAndGet() > Math.max(stillStored, 1_000)) {
+            releasedCount.set(0);
+            pagesInOrder.removeIf(page -> page.buffer == null);
+        }
+    }
+
+    private void evictWhileOverMaxSize() {
+        while(totalSize.get() > maxSize) {
+            val eldest = pagesInOrder.poll();
+            if(eldest == null) {
+                return;
+            }
+            val sessionPages = eldest.sessionPages;
+            synchronized (sessionPages) {
+                // released regardless of whether its session is still stored, so that its size is accounted for
+                sessionPages.pages.remove(eldest.pageId, eldest);
+                release(sessionPages, eldest);
+            }
+        }
+    }
+
+    private byte[] deflate(final byte[] data) {
+        val deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            val out = new ByteArrayOutputStream(data.length / 4 + 64);
+            val chunk = new byte[8 * 1024];
+            while(!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] compressed, final int serializedSize) {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            val data = new byte[serializedSize];
+            int offset = 0;
+            while(offset < serializedSize
+                    && !inflater.finished()) {
+                val inflated = inflater.inflate(data, offset, serializedSize - offset);
+                if(inflated == 0
+                        && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated");
+                }
+                offset += inflated;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new WicketRuntimeException("Failed to decompress page", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
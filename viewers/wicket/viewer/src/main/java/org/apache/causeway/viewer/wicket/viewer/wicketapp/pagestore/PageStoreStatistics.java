@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp.pagestore;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Accumulates the sizes of the pages written to the {@link OffHeapPageStore}, by page type, so that the
+ * largest contributors to page store traffic can be identified.
+ *
+ * @since 2.0 {@index}
+ */
+public class PageStoreStatistics {
+
+    @Value
+    public static class PageTypeStatistics {
+        /**
+         * Fully qualified class name of the page.
+         */
+        String pageType;
+        /**
+         * Number of times a page of this type has been written to the store.
+         */
+        long pagesWritten;
+        /**
+         * Total size of the serialized pages, before compression.
+         */
+        long serializedBytes;
+        /**
+         * Total size of the pages, as held in the store.
+         */
+        long storedBytes;
+        /**
+         * Size of the largest serialized page, before compression.
+         */
+        long maxSerializedBytes;
+
+        public long getAverageSerializedBytes() {
+            return pagesWritten > 0 ? serializedBytes / pagesWritten : 0;
+        }
+    }
+
+    private final Map<String, Counters> countersByPageType = _Maps.newConcurrentHashMap();
+
+    void recordWritten(final @NonNull String pageType, final int serializedBytes, final int storedBytes) {
+        countersByPageType.computeIfAbsent(pageType, __ -> new Counters())
+            .record(serializedBytes, storedBytes);
+    }
+
+    /**
+     * Returns a snapshot of the statistics, ordered by total serialized size (largest first).
+     */
+    public List<PageTypeStatistics> snapshot() {
+        return countersByPageType.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(PageTypeStatistics::getSerializedBytes).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        countersByPageType.clear();
+    }
+
+    // -- HELPER
+
+    private static final class Counters {
+        final LongAdder pagesWritten = new LongAdder();
+        final LongAdder serializedBytes = new LongAdder();
+        final LongAdder storedBytes = new LongAdder();
+        final AtomicLong maxSerializedBytes = new AtomicLong();
+
+        void record(final int serializedBytes, final int storedBytes) {
+            this.pagesWritten.increment();
+            this.serializedBytes.add(serializedBytes);
+            this.storedBytes.add(storedBytes);
+            this.maxSerializedBytes.accumulateAndGet(serializedBytes, Math::max);
+        }
+
+        PageTypeStatistics snapshot(final String pageType) {
+            return new PageTypeStatistics(
+                    pageType,
+                    pagesWritten.sum(),
+                    serializedBytes.sum(),
+                    storedBytes.sum(),
+                    maxSerializedBytes.get());
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.services;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+
+import lombok.val;
+
+class _BoundedHintsTest {
+
+    @Test
+    void set_thenGet() {
+        val hints = new _BoundedHints(2);
+
+        hints.set("a:1", "k1", "v1");
+        hints.set("a:1", "k2", "v2");
+        hints.set("a:1", "k1", "v1b");
+
+        assertEquals("v1b", hints.get("a:1", "k1"));
+        assertEquals("v2", hints.get("a:1", "k2"));
+        assertNull(hints.get("a:1", "k3"));
+        assertEquals(Set.of("k1", "k2"), hints.keys("a:1"));
+    }
+
+    @Test
+    void evicts_leastRecentlyUsedObject_whenOverBound() {
+        val hints = new _BoundedHints(2);
+        hints.set("a:1", "k", "v1");
+        hints.set("a:2", "k", "v2");
+
+        // when - a:1 is read, so a:2 becomes the least recently used
+        hints.get("a:1", "k");
+        hints.set("a:3", "k", "v3");
+
+        // then
+        assertEquals(2, hints.size());
+        assertEquals("v1", hints.get("a:1", "k"));
+        assertNull(hints.get("a:2", "k"));
+        assertEquals("v3", hints.get("a:3", "k"));
+    }
+
+    @Test
+    void neverHoldsMoreThanBound() {
+        val hints = new _BoundedHints(3);
+
+        for (int i = 0; i < 10; i++) {
+            hints.set("a:" + i, "k", "v" + i);
+            assertEquals(Math.min(i + 1, 3), hints.size());
+        }
+
+        assertNull(hints.get("a:6", "k"));
+        assertEquals("v7", hints.get("a:7", "k"));
+        assertEquals("v9", hints.get("a:9", "k"));
+    }
+
+    @Test
+    void remove_lastHint_removesObject() {
+        val hints = new _BoundedHints(2);
+        hints.set("a:1", "k1", "v1");
+        hints.set("a:1", "k2", "v2");
+
+        hints.remove("a:1", "k1");
+
+        assertNull(hints.get("a:1", "k1"));
+        assertEquals("v2", hints.get("a:1", "k2"));
+        assertEquals(1, hints.size());
+
+        hints.remove("a:1", "k2");
+
+        assertEquals(0, hints.size());
+    }
+
+    @Test
+    void serialization_keepsBoundAndOrder() {
+        val hints = new _BoundedHints(2);
+        hints.set("a:1", "k", "v1");
+        hints.set("a:2", "k", "v2");
+        hints.get("a:1", "k");
+
+        // when
+        val roundtripped = _SerializationTester.roundtrip(hints);
+        roundtripped.set("a:3", "k", "v3");
+
+        // then
+        assertEquals(2, roundtripped.size());
+        assertEquals("v1", roundtripped.get("a:1", "k"));
+        assertNull(roundtripped.get("a:2", "k"));
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp.pagestore;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+
+import org.apache.wicket.pageStore.SerializedPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class OffHeapPageStoreTest {
+
+    /** random, hence incompressible, so each page is stored with slightly more than this */
+    private static final int PAGE_SIZE = 1_000;
+    private static final int ADDING_THREADS = 3;
+
+    private final Random random = new Random(42);
+    private final ExecutorService executor = Executors.newFixedThreadPool(ADDING_THREADS + 1);
+    private OffHeapPageStore store;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if(store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void put_thenGet_roundtrips() {
+        store = newStore(100 * PAGE_SIZE, 100 * PAGE_SIZE);
+        val page = page(1);
+
+        store.addPersistedPage("s1", page);
+
+        val stored = (SerializedPage) store.getPersistedPage("s1", 1);
+        assertNotNull(stored);
+        assertEquals(page.getPageType(), stored.getPageType());
+        assertArrayEquals(page.getData(), stored.getData());
+        assertEquals(1, store.getPersistedPages("s1").size());
+        assertTrue(store.getTotalSize().bytes() > PAGE_SIZE);
+    }
+
+    @Test
+    void evicts_oldestPageOfSession_whenOverSessionQuota() {
+        store = newStore(100 * PAGE_SIZE, (long) (2.5 * PAGE_SIZE));
+
+        store.addPersistedPage("s1", page(1));
+        store.addPersistedPage("s1", page(2));
+        store.addPersistedPage("s2", page(1));
+        store.addPersistedPage("s1", page(3));
+
+        assertNull(store.getPersistedPage("s1", 1));
+        assertNotNull(store.getPersistedPage("s1", 2));
+        assertNotNull(store.getPersistedPage("s1", 3));
+        assertNotNull(store.getPersistedPage("s2", 1));
+    }
+
+    @Test
+    void evicts_oldestPageOverall_whenOverMaxSize() {
+        store = newStore((long) (2.5 * PAGE_SIZE), 100 * PAGE_SIZE);
+
+        store.addPersistedPage("s1", page(1));
+        store.addPersistedPage("s2", page(1));
+        store.addPersistedPage("s1", page(2));
+
+        assertNull(store.getPersistedPage("s1", 1));
+        assertNotNull(store.getPersistedPage("s2", 1));
+        assertNotNull(store.getPersistedPage("s1", 2));
+        assertTrue(store.getTotalSize().bytes() <= 2.5 * PAGE_SIZE);
+    }
+
+    @Test
+    void rewrittenPage_countsAsMostRecent() {
+        store = newStore((long) (2.5 * PAGE_SIZE), 100 * PAGE_SIZE);
+
+        store.addPersistedPage("s1", page(1));
+        store.addPersistedPage("s1", page(2));
+        store.addPersistedPage("s1", page(1));
+        store.addPersistedPage("s1", page(3));
+
+        assertNull(store.getPersistedPage("s1", 2));
+        assertNotNull(store.getPersistedPage("s1", 1));
+        assertNotNull(store.getPersistedPage("s1", 3));
+    }
+
+    @Test
+    void removeAll_releasesAllPagesOfSessionOnly() {
+        store = newStore(100 * PAGE_SIZE, 100 * PAGE_SIZE);
+        store.addPersistedPage("s1", page(1));
+        store.addPersistedPage("s1", page(2));
+        store.addPersistedPage("s2", page(1));
+        val sizeOfS2 = store.getPersistedPages("s2").get(0).getPageSize().bytes();
+
+        store.removeAllPersistedPages("s1");
+
+        assertNull(store.getPersistedPage("s1", 1));
+        assertEquals(0, store.getPersistedPages("s1").size());
+        assertNotNull(store.getPersistedPage("s2", 1));
+        assertEquals(sizeOfS2, store.getTotalSize().bytes());
+    }
+
+    @Test
+    void concurrentRemoval_whileAdding_leavesNoSizeUnaccounted() throws Exception {
+        store = newStore(20 * PAGE_SIZE, 100 * PAGE_SIZE);
+        val pages = new SerializedPage[50];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = page(i);
+        }
+        val start = new CountDownLatch(1);
+
+        val adding = CompletableFuture.allOf(
+                IntStream.range(0, ADDING_THREADS)
+                .mapToObj(__->CompletableFuture.runAsync(()->{
+                    await(start);
+                    for (int round = 0; round < 100; round++) {
+                        for (val page : pages) {
+                            store.addPersistedPage("s1", page);
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new));
+        val removing = CompletableFuture.runAsync(()->{
+            await(start);
+            while(!adding.isDone()) {
+                store.removeAllPersistedPages("s1");
+            }
+        }, executor);
+        start.countDown();
+        CompletableFuture.allOf(adding, removing).get(60, TimeUnit.SECONDS);
+
+        // when - the remaining pages are evicted by another session's pages
+        store.removeAllPersistedPages("s1");
+        for (int i = 0; i < 40; i++) {
+            store.addPersistedPage("s2", page(i));
+        }
+        store.removeAllPersistedPages("s2");
+
+        // then
+        assertEquals(0, store.getTotalSize().bytes());
+    }
+
+    // -- HELPER
+
+    private static OffHeapPageStore newStore(final long maxSize, final long maxSizePerSession) {
+        return new OffHeapPageStore("test-" + UUID.randomUUID(), maxSize, maxSizePerSession,
+                Deflater.BEST_SPEED, new PageStoreStatistics());
+    }
+
+    private SerializedPage page(final int pageId) {
+        val data = new byte[PAGE_SIZE];
+        random.nextBytes(data);
+        return new SerializedPage(pageId, "test.Page", data);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}